@@ -78,12 +78,12 @@ echo "======================================"
 
 cd "$BACKEND_DIR"
 
-# JAR 파일이 없거나 프론트엔드 빌드 후에는 항상 재빌드
+# JAR 파일이 없거나 프론트엔드 빌드 후에는 항상 재빌드 (vector-api: 벡터 검색 SIMD 커널 포함)
 echo "Building backend application..."
 if [ -f "./mvnw" ]; then
-    ./mvnw clean package -DskipTests
+    ./mvnw clean package -DskipTests -Pvector-api
 else
-    mvn clean package -DskipTests
+    mvn clean package -DskipTests -Pvector-api
 fi
 
 if [ $? -ne 0 ]; then
@@ -109,7 +109,7 @@ fi
 echo "Logs will be written to: $LOG_FILE"
 
 # 백엔드 실행 (nohup 사용, 로그 리다이렉션)
-nohup java -Xmx2g -Xms1g -jar "$JAR_FILE" > "$LOG_FILE" 2>&1 &
+nohup java -Xmx2g -Xms1g --add-modules jdk.incubator.vector -jar "$JAR_FILE" > "$LOG_FILE" 2>&1 &
 
 NEW_PID=$!
 echo ""
@@ -33,10 +33,18 @@ echo "Log rotation is handled by the application (server-yyyymmdd.log)"
 # 백엔드 디렉토리로 이동 (로그 파일 상대 경로 생성을 위해)
 cd "$BACKEND_DIR"
 
+# 벡터 검색 SIMD 커널 포함 여부 (vector-api 프로필 빌드 JAR에만 VectorApiSimilarityKernel 클래스가 있음)
+# 포함된 경우에만 --add-modules jdk.incubator.vector 추가 (없으면 스칼라 커널로 동작)
+JAVA_OPTS="-Xmx2g -Xms1g"
+if grep -qa "VectorApiSimilarityKernel.class" "$JAR_FILE"; then
+    JAVA_OPTS="$JAVA_OPTS --add-modules jdk.incubator.vector"
+    echo "Vector API kernel detected: enabling jdk.incubator.vector"
+fi
+
 # 서버 실행
 # -Dspring.profiles.active=prod: 운영 프로필 사용
 # 표준 출력은 버리고(/dev/null), 애플리케이션 내부 로깅 설정(application.yml)에 따라 logs/server.log에 기록
-nohup java -Xmx2g -Xms1g -jar -Dspring.profiles.active=prod "$JAR_FILE" > /dev/null 2>&1 &
+nohup java $JAVA_OPTS -jar -Dspring.profiles.active=prod "$JAR_FILE" > /dev/null 2>&1 &
 
 NEW_PID=$!
 echo "Server started successfully with PID: $NEW_PID"
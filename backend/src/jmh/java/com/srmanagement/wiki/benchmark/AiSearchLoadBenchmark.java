@@ -0,0 +1,139 @@
+package com.srmanagement.wiki.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * AI 검색/일괄 임베딩 API 부하 벤치마크 (실행 중인 애플리케이션 대상, GPU 불필요)
+ * - 애플리케이션을 FakeOllamaServer에 연결하여 기동하면 Ollama 지연을 재현한 상태로 전체 처리량 측정
+ * - aiSearch: POST /api/wiki/search/ai 처리량 (-t 로 동시 사용자 수 지정)
+ * - bulkEmbedding: 전체 임베딩 시작 후 완료까지 시간 (진행 상태 폴링, 병렬도는 애플리케이션의 wiki.embedding.bulk.parallelism)
+ *
+ * 실행 순서:
+ *   1) mvn -Pbenchmark test-compile exec:exec -Dbenchmark.main=com.srmanagement.wiki.benchmark.FakeOllamaServer
+ *          -Djmh.args="port=11435 chat-latency=lognormal:800,0.5 token-delay=fixed:20 parallel=4"
+ *   2) mvn spring-boot:run -Dspring-boot.run.arguments=--spring.ai.ollama.base-url=http://localhost:11435
+ *   3) mvn -Pbenchmark test-compile exec:exec -Djmh.args="AiSearchLoadBenchmark.aiSearch -t 8"
+ *      mvn -Pbenchmark test-compile exec:exec -Djmh.args="AiSearchLoadBenchmark.bulkEmbedding -p resourceType=SR"
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 1, time = 10)
+@Measurement(iterations = 3, time = 30)
+@Fork(1)
+public class AiSearchLoadBenchmark {
+
+    private static final List<String> QUESTIONS = List.of(
+            "연계 서버 인증서 만료 오류 해결 방법",
+            "기관 코드 변경 시 처리 절차",
+            "API 호출 시 타임아웃이 발생하는 원인",
+            "현황조사 제출 후 수정하려면 어떻게 하나요",
+            "SR 처리 상태가 진행중에서 멈춘 경우",
+            "데이터베이스 연결 풀 설정 권장값");
+
+    @Param({"http://localhost:8080"})
+    private String appUrl;
+
+    @Param({"admin"})
+    private String username;
+
+    @Param({"admin123"})
+    private String password;
+
+    @Param({"5"})
+    private int topK;
+
+    @Param({"WIKI"})
+    private String resourceType;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(10)).build();
+    private final AtomicInteger questionIndex = new AtomicInteger();
+    private String accessToken;
+
+    @Setup
+    public void setUp() throws Exception {
+        HttpResponse<String> response = send("POST", "/api/auth/login",
+                Map.of("username", username, "password", password));
+        accessToken = objectMapper.readTree(response.body()).path("accessToken").asText();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MINUTES)
+    public int aiSearch() throws Exception {
+        String question = QUESTIONS.get(Math.floorMod(questionIndex.getAndIncrement(), QUESTIONS.size()));
+        HttpResponse<String> response = send("POST", "/api/wiki/search/ai",
+                Map.of("question", question, "topK", topK));
+        return objectMapper.readTree(response.body()).path("sources").size();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    @Warmup(iterations = 0)
+    @Measurement(iterations = 1)
+    public int bulkEmbedding() throws Exception {
+        String type = resourceType.toUpperCase();
+        String progressPath = "/api/wiki/search/embeddings/bulk/progress/" + type;
+        // 이전 실행의 완료 상태가 남아 있으므로 시작 전 상태와 다른 완료 상태가 나올 때까지 폴링
+        String before = send("GET", progressPath, null).body();
+        HttpResponse<String> started = send("POST", "/api/wiki/search/embeddings/" + type.toLowerCase() + "/all", null);
+        if (started.statusCode() != 200) {
+            // 일시 정지된 작업이 남아 있으면 시작되지 않음 (재개 또는 취소 후 다시 실행)
+            throw new IllegalStateException("일괄 임베딩 시작 실패: " + started.body());
+        }
+        while (true) {
+            TimeUnit.MILLISECONDS.sleep(500);
+            String body = send("GET", progressPath, null).body();
+            if (body.isEmpty() || body.equals(before)) {
+                continue;
+            }
+            JsonNode progress = objectMapper.readTree(body);
+            String status = progress.path("status").asText();
+            if ("FAILED".equals(status) || "PAUSED".equals(status) || "CANCELLED".equals(status)) {
+                throw new IllegalStateException("일괄 임베딩 중단 (" + status + "): " + progress.path("message").asText());
+            }
+            if ("COMPLETED".equals(status)) {
+                return progress.path("successCount").asInt();
+            }
+        }
+    }
+
+    private HttpResponse<String> send(String method, String path, Object body) throws IOException, InterruptedException {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(appUrl + path))
+                .timeout(Duration.ofMinutes(5))
+                .header("Content-Type", "application/json");
+        if (accessToken != null) {
+            request.header("Authorization", "Bearer " + accessToken);
+        }
+        request.method(method, body == null ? HttpRequest.BodyPublishers.noBody()
+                : HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)));
+        HttpResponse<String> response = httpClient.send(request.build(), HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() >= 400) {
+            throw new IllegalStateException(method + " " + path + " 실패: HTTP " + response.statusCode() + " " + response.body());
+        }
+        return response;
+    }
+}
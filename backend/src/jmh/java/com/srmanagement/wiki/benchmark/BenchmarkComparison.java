@@ -0,0 +1,101 @@
+package com.srmanagement.wiki.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 릴리스 간 JMH 결과 비교 (JSON 결과 파일 2개: 기준, 현재)
+ * - 벤치마크 이름 + 파라미터가 같은 항목끼리 점수 비교 (thrpt는 낮아지면, 그 외 모드는 높아지면 악화)
+ * - 변화율이 threshold(%)를 넘고 두 결과의 오차 범위 합보다 크면 회귀로 판정
+ * - 회귀가 있으면 종료 코드 1 (배포 전 확인 스크립트에서 사용)
+ *
+ * 실행: mvn -Pbenchmark test-compile exec:exec -Dbenchmark.main=com.srmanagement.wiki.benchmark.BenchmarkComparison
+ *       -Djmh.args="benchmarks/baseline.json target/jmh-result.json threshold=10"
+ */
+public final class BenchmarkComparison {
+
+    private record Result(String mode, double score, double error, String unit) {
+    }
+
+    private BenchmarkComparison() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        String[] parts = String.join(" ", args).trim().split("\\s+");
+        if (parts.length < 2) {
+            System.err.println("사용법: BenchmarkComparison <기준 결과.json> <현재 결과.json> [threshold=10]");
+            System.exit(2);
+        }
+        double threshold = 10.0;
+        for (int i = 2; i < parts.length; i++) {
+            if (parts[i].startsWith("threshold=")) {
+                threshold = Double.parseDouble(parts[i].substring("threshold=".length()));
+            }
+        }
+
+        Map<String, Result> baseline = read(Path.of(parts[0]));
+        Map<String, Result> current = read(Path.of(parts[1]));
+        int regressions = 0;
+
+        System.out.printf("%-90s %14s %14s %9s%n", "벤치마크", "기준", "현재", "변화");
+        for (Map.Entry<String, Result> entry : current.entrySet()) {
+            Result now = entry.getValue();
+            Result before = baseline.get(entry.getKey());
+            if (before == null) {
+                System.out.printf("%-90s %14s %14s %9s%n", entry.getKey(), "-", format(now), "신규");
+                continue;
+            }
+            // 양수 = 악화 (처리량은 감소, 시간은 증가)
+            double change = (now.score() - before.score()) / before.score() * 100;
+            double worse = "thrpt".equals(now.mode()) ? -change : change;
+            boolean beyondNoise = Math.abs(now.score() - before.score()) > before.error() + now.error();
+            String verdict = "";
+            if (worse > threshold && beyondNoise) {
+                verdict = "  << 회귀";
+                regressions++;
+            } else if (worse < -threshold && beyondNoise) {
+                verdict = "  개선";
+            }
+            System.out.printf("%-90s %14s %14s %+8.1f%%%s%n", entry.getKey(), format(before), format(now),
+                    change, verdict);
+        }
+        baseline.keySet().stream()
+                .filter(key -> !current.containsKey(key))
+                .forEach(key -> System.out.printf("%-90s %14s %14s %9s%n", key, format(baseline.get(key)), "-", "제외"));
+
+        System.out.printf("%n회귀 %d건 (기준 %.1f%%)%n", regressions, threshold);
+        if (regressions > 0) {
+            System.exit(1);
+        }
+    }
+
+    private static Map<String, Result> read(Path file) throws IOException {
+        Map<String, Result> results = new LinkedHashMap<>();
+        for (JsonNode run : new ObjectMapper().readTree(file.toFile())) {
+            Map<String, String> params = new TreeMap<>();
+            Iterator<Map.Entry<String, JsonNode>> fields = run.path("params").fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                params.put(field.getKey(), field.getValue().asText());
+            }
+            String name = run.path("benchmark").asText().replaceFirst("^com\\.srmanagement\\.wiki\\.benchmark\\.", "");
+            String key = params.isEmpty() ? name : name + " " + params;
+            JsonNode metric = run.path("primaryMetric");
+            double error = metric.path("scoreError").asDouble(0);
+            results.put(key, new Result(run.path("mode").asText(), metric.path("score").asDouble(),
+                    Double.isNaN(error) ? 0 : error, metric.path("scoreUnit").asText()));
+        }
+        return results;
+    }
+
+    private static String format(Result result) {
+        return String.format("%.3f %s", result.score(), result.unit());
+    }
+}
@@ -0,0 +1,103 @@
+package com.srmanagement.wiki.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.srmanagement.wiki.util.MarkdownChunker;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 청크 분할 방식별 전체 임베딩 시간 벤치마크 (저장된 PDF 변환 문서 기준, Ollama 필요)
+ * - fixedWindow / markdown 청크를 batchSize 단위로 Ollama /api/embed에 요청하여 전체 소요 시간 비교
+ * - 청크 수가 늘어도 청크당 토큰이 줄면 전체 시간은 비슷하거나 줄어드는지 확인용
+ *
+ * 실행: mvn -Pbenchmark test-compile exec:exec
+ *       -Djmh.args="ChunkEmbeddingBenchmark -p corpus=./uploads -p ollamaUrl=http://localhost:11434"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(1)
+public class ChunkEmbeddingBenchmark {
+
+    @Param({"./uploads"})
+    private String corpus;
+
+    @Param({"http://localhost:11434"})
+    private String ollamaUrl;
+
+    @Param({"snowflake-arctic-embed:latest"})
+    private String model;
+
+    @Param({"400"})
+    private int maxTokens;
+
+    @Param({"16"})
+    private int batchSize;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(10)).build();
+    private List<String> fixedWindowChunks;
+    private List<String> markdownChunks;
+
+    @Setup
+    public void setUp() throws IOException {
+        List<String> documents = StoredPdfCorpus.load(corpus);
+        fixedWindowChunks = documents.stream().flatMap(d -> StoredPdfCorpus.fixedWindow(d).stream()).toList();
+        markdownChunks = documents.stream()
+                .flatMap(d -> MarkdownChunker.texts(MarkdownChunker.split(d, maxTokens)).stream()).toList();
+        System.out.printf("%n문서 %d개: fixedWindow 청크 %d개, markdown(%d) 청크 %d개%n",
+                documents.size(), fixedWindowChunks.size(), maxTokens, markdownChunks.size());
+    }
+
+    @Benchmark
+    public int fixedWindow() throws Exception {
+        return embedAll(fixedWindowChunks);
+    }
+
+    @Benchmark
+    public int markdown() throws Exception {
+        return embedAll(markdownChunks);
+    }
+
+    private int embedAll(List<String> chunks) throws Exception {
+        int embedded = 0;
+        for (int from = 0; from < chunks.size(); from += batchSize) {
+            List<String> batch = chunks.subList(from, Math.min(from + batchSize, chunks.size()));
+            HttpRequest request = HttpRequest.newBuilder(URI.create(ollamaUrl + "/api/embed"))
+                    .header("Content-Type", "application/json")
+                    .timeout(Duration.ofMinutes(5))
+                    .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(
+                            Map.of("model", model, "input", batch))))
+                    .build();
+            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 200) {
+                throw new IllegalStateException("임베딩 요청 실패: HTTP " + response.statusCode() + " " + response.body());
+            }
+            JsonNode embeddings = objectMapper.readTree(response.body()).path("embeddings");
+            embedded += embeddings.size();
+        }
+        return embedded;
+    }
+}
@@ -0,0 +1,96 @@
+package com.srmanagement.wiki.benchmark;
+
+import com.srmanagement.wiki.util.MarkdownChunker;
+import com.srmanagement.wiki.util.TokenEstimator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 임베딩 청크 분할 벤치마크 (저장된 PDF 변환 문서 또는 합성 마크다운 문서 기준)
+ * - fixedWindow: 이전 고정 길이 분할 (2000자, 겹침 200자)
+ * - markdown: 마크다운 구조 기반 분할 ({@link MarkdownChunker}, 토큰 예산 maxTokens)
+ * - 측정값은 전체 문서 분할 시간, 청크 수/토큰 분포는 Setup 시 출력 (임베딩 요청 수 비교용)
+ * - corpus=synthetic:N 이면 시드 고정 합성 문서 N개 (릴리스 간 비교용), 그 외에는 업로드 디렉터리 경로
+ *
+ * 실행: mvn -Pbenchmark test-compile exec:exec -Djmh.args="ChunkingBenchmark -p corpus=./uploads"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ChunkingBenchmark {
+
+    /** 임베딩 모델 입력 한도 (snowflake-arctic-embed 512토큰, 넘으면 잘림) */
+    private static final int MODEL_MAX_TOKENS = 512;
+
+    private static final String SYNTHETIC_PREFIX = "synthetic:";
+
+    @Param({"synthetic:1000"})
+    private String corpus;
+
+    @Param({"256", "400", "800"})
+    private int maxTokens;
+
+    private List<String> documents;
+
+    @Setup
+    public void setUp() throws IOException {
+        documents = corpus.startsWith(SYNTHETIC_PREFIX)
+                ? SyntheticCorpus.markdownDocuments(Integer.parseInt(corpus.substring(SYNTHETIC_PREFIX.length())), 42)
+                : StoredPdfCorpus.load(corpus);
+        report("fixedWindow", documents.stream().flatMap(d -> StoredPdfCorpus.fixedWindow(d).stream()).toList());
+        report("markdown(" + maxTokens + ")", documents.stream()
+                .flatMap(d -> MarkdownChunker.texts(MarkdownChunker.split(d, maxTokens)).stream()).toList());
+    }
+
+    @Benchmark
+    public int fixedWindow() {
+        int chunks = 0;
+        for (String document : documents) {
+            chunks += StoredPdfCorpus.fixedWindow(document).size();
+        }
+        return chunks;
+    }
+
+    @Benchmark
+    public int markdown() {
+        int chunks = 0;
+        for (String document : documents) {
+            chunks += MarkdownChunker.split(document, maxTokens).size();
+        }
+        return chunks;
+    }
+
+    private void report(String name, List<String> chunks) {
+        int[] tokens = chunks.stream().mapToInt(TokenEstimator::estimate).sorted().toArray();
+        long total = 0;
+        int overLimit = 0;
+        for (int t : tokens) {
+            total += t;
+            if (t > MODEL_MAX_TOKENS) {
+                overLimit++;
+            }
+        }
+        System.out.printf("%n[%s] 문서 %d개 → 청크 %d개, 추정 토큰 합계 %d, 청크당 평균 %d / p50 %d / 최대 %d, %d토큰 초과 %d개%n",
+                name, documents.size(), tokens.length, total,
+                tokens.length == 0 ? 0 : total / tokens.length,
+                tokens.length == 0 ? 0 : tokens[tokens.length / 2],
+                tokens.length == 0 ? 0 : tokens[tokens.length - 1],
+                MODEL_MAX_TOKENS, overLimit);
+    }
+}
@@ -0,0 +1,120 @@
+package com.srmanagement.wiki.benchmark;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.srmanagement.util.EmbeddingVectorCodec;
+import com.srmanagement.wiki.util.SimilarityKernel;
+import com.srmanagement.wiki.util.SimilarityKernels;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 저장된 임베딩 디코딩 + 점수 계산 벤치마크 (DB 행 page개 기준)
+ * - legacyJson: 이전 searchUnified 경로 (JSON 문자열 → List&lt;Double&gt; → 박싱 코사인 유사도)
+ * - binary: 현재 경로 (EmbeddingVectorCodec 바이너리 → float[] → 정규화 → 커널 내적)
+ * - 인덱스 적재(재기동, 스냅샷 없음)와 INT8 재정렬 시 DB에서 읽는 비용 추정용
+ *
+ * 실행: mvn -Pbenchmark test-compile exec:exec -Djmh.args="EmbeddingDecodeBenchmark -rf json -rff target/jmh-decode.json"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+public class EmbeddingDecodeBenchmark {
+
+    private static final TypeReference<List<Double>> DOUBLE_LIST = new TypeReference<>() {
+    };
+
+    @Param({"768"})
+    private int dimension;
+
+    @Param({"1000"})
+    private int page;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final SimilarityKernel kernel = SimilarityKernels.select("auto");
+    private String[] jsonRows;
+    private byte[][] binaryRows;
+    private List<Double> boxedQuery;
+    private float[] unitQuery;
+
+    @Setup
+    public void setUp() throws IOException {
+        SyntheticCorpus corpus = new SyntheticCorpus(dimension, 64, 0.6, 42);
+        jsonRows = new String[page];
+        binaryRows = new byte[page][];
+        for (int i = 0; i < page; i++) {
+            float[] vector = corpus.vector(i);
+            jsonRows[i] = objectMapper.writeValueAsString(vector);
+            binaryRows[i] = EmbeddingVectorCodec.encode(vector);
+        }
+        float[] query = corpus.query(0);
+        boxedQuery = objectMapper.readValue(objectMapper.writeValueAsString(query), DOUBLE_LIST);
+        unitQuery = SimilarityKernels.normalize(query);
+        System.out.printf("%n행 %d개: JSON 평균 %d bytes, 바이너리 %d bytes%n", page,
+                Arrays.stream(jsonRows).mapToInt(String::length).sum() / page, binaryRows[0].length);
+    }
+
+    @Benchmark
+    public double legacyJson() throws IOException {
+        double best = -1;
+        for (String row : jsonRows) {
+            List<Double> vector = objectMapper.readValue(row, DOUBLE_LIST);
+            best = Math.max(best, cosineSimilarity(boxedQuery, vector));
+        }
+        return best;
+    }
+
+    @Benchmark
+    public double binary() {
+        double best = -1;
+        for (byte[] row : binaryRows) {
+            float[] vector = SimilarityKernels.normalize(EmbeddingVectorCodec.decode(row));
+            best = Math.max(best, kernel.dot(unitQuery, 0, vector, 0, dimension));
+        }
+        return best;
+    }
+
+    @Benchmark
+    public int decodeOnly() {
+        int total = 0;
+        for (byte[] row : binaryRows) {
+            total += EmbeddingVectorCodec.decode(row).length;
+        }
+        return total;
+    }
+
+    /**
+     * 이전 AiSearchService의 코사인 유사도 계산 (비교 기준)
+     */
+    private static double cosineSimilarity(List<Double> vec1, List<Double> vec2) {
+        double dotProduct = 0.0;
+        double norm1 = 0.0;
+        double norm2 = 0.0;
+        for (int i = 0; i < vec1.size(); i++) {
+            dotProduct += vec1.get(i) * vec2.get(i);
+            norm1 += vec1.get(i) * vec1.get(i);
+            norm2 += vec2.get(i) * vec2.get(i);
+        }
+        if (norm1 == 0.0 || norm2 == 0.0) {
+            return 0.0;
+        }
+        return dotProduct / (Math.sqrt(norm1) * Math.sqrt(norm2));
+    }
+}
@@ -0,0 +1,506 @@
+package com.srmanagement.wiki.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.srmanagement.wiki.util.TokenEstimator;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Ollama 대체 서버 (GPU 없는 환경에서 AI 검색/임베딩 부하 테스트용)
+ * - Spring AI OllamaApi가 사용하는 API만 구현: /api/chat (일반/NDJSON 스트리밍), /api/embed, /api/embeddings
+ * - OllamaGateway 헬스 체크/워밍업용 /api/tags, /api/generate, /api/version 응답
+ * - 임베딩: 단어/문자 bigram 해시 기반 결정적 벡터 (같은 텍스트는 항상 같은 벡터, 단어가 겹치면 유사도 상승)
+ * - 답변: 준비된 답변 중 질문 해시로 선택, 단어 단위로 스트리밍
+ * - 지연: 요청별 지연 분포(고정/균등/로그정규) + 토큰/입력당 지연, parallel 개수만큼만 동시 처리 (GPU 슬롯 흉내)
+ *
+ * 단독 실행 (애플리케이션은 --spring.ai.ollama.base-url=http://localhost:11435 로 기동):
+ *   mvn -Pbenchmark test-compile exec:exec -Dbenchmark.main=com.srmanagement.wiki.benchmark.FakeOllamaServer
+ *       -Djmh.args="port=11435 dimension=1024 chat-latency=lognormal:800,0.5 token-delay=fixed:20"
+ *
+ * 코드에서 사용:
+ *   try (FakeOllamaServer server = FakeOllamaServer.start(FakeOllamaServer.Options.defaults().withPort(0))) {
+ *       String baseUrl = server.baseUrl();
+ *   }
+ */
+public final class FakeOllamaServer implements AutoCloseable {
+
+    private static final Pattern WORD = Pattern.compile("[\\p{L}\\p{N}]+");
+    private static final Pattern TOKEN = Pattern.compile("\\S+\\s*");
+
+    private static final List<String> DEFAULT_ANSWERS = List.of(
+            "참고 문서에 따르면 해당 오류는 연계 서버의 인증서가 만료되어 발생합니다. "
+                    + "인증서를 갱신한 뒤 연계 모듈을 재기동하면 정상적으로 처리됩니다. [참고 문서 1]",
+            "요청하신 절차는 다음과 같습니다.\n\n1. 관리자 화면에서 대상 기관을 선택합니다.\n"
+                    + "2. 설정 탭에서 연계 방식을 확인합니다.\n3. 변경 후 저장하고 적용 여부를 확인합니다.\n\n"
+                    + "자세한 내용은 [참고 문서 2]를 확인하세요.",
+            "제공된 문서에서 질문과 직접 관련된 내용을 찾지 못했습니다. "
+                    + "SR 번호나 기관명을 포함하여 다시 질문해 주세요.");
+
+    private final Options options;
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final Semaphore slots;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<String, AtomicLong> requestCounts = new ConcurrentHashMap<>();
+
+    private FakeOllamaServer(Options options) throws IOException {
+        this.options = options;
+        this.slots = new Semaphore(Math.max(1, options.parallel()), true);
+        this.executor = Executors.newCachedThreadPool(r -> {
+            Thread thread = new Thread(r, "FakeOllama");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.server = HttpServer.create(new InetSocketAddress(options.port()), 256);
+        server.setExecutor(executor);
+        server.createContext("/", this::handle);
+    }
+
+    /**
+     * 서버 기동 (port 0이면 임의 포트)
+     */
+    public static FakeOllamaServer start(Options options) throws IOException {
+        FakeOllamaServer fake = new FakeOllamaServer(options);
+        fake.server.start();
+        return fake;
+    }
+
+    public String baseUrl() {
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    /**
+     * 엔드포인트별 요청 수 (부하 테스트 결과 검증용)
+     */
+    public Map<String, Long> requestCounts() {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        requestCounts.forEach((path, count) -> counts.put(path, count.get()));
+        return counts;
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options = Options.parse(String.join(" ", args).trim());
+        FakeOllamaServer fake = start(options);
+        System.out.printf("Fake Ollama 서버 기동: %s%n%s%n", fake.baseUrl(), options);
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            System.out.println("요청 수: " + fake.requestCounts());
+            fake.close();
+        }));
+        Thread.currentThread().join();
+    }
+
+    // ==================== 요청 처리 ====================
+
+    private void handle(HttpExchange exchange) throws IOException {
+        String path = exchange.getRequestURI().getPath();
+        requestCounts.computeIfAbsent(path, p -> new AtomicLong()).incrementAndGet();
+        try (exchange) {
+            switch (path) {
+                case "/", "/api/version" -> sendJson(exchange, 200, path.equals("/")
+                        ? "Ollama is running" : Map.of("version", "0.0.0-fake"));
+                case "/api/tags" -> sendJson(exchange, 200, Map.of("models", List.of(
+                        Map.of("name", options.chatModel(), "model", options.chatModel()),
+                        Map.of("name", options.embedModel(), "model", options.embedModel()))));
+                case "/api/chat" -> withSlot(exchange, body -> chat(exchange, body));
+                case "/api/generate" -> withSlot(exchange, body -> generate(exchange, body));
+                case "/api/embed" -> withSlot(exchange, body -> embed(exchange, body));
+                case "/api/embeddings" -> withSlot(exchange, body -> legacyEmbeddings(exchange, body));
+                default -> sendJson(exchange, 404, Map.of("error", "not found: " + path));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            // 클라이언트가 먼저 연결을 끊은 경우 (타임아웃, 스트리밍 취소)
+        }
+    }
+
+    private interface BodyHandler {
+        void handle(JsonNode body) throws IOException, InterruptedException;
+    }
+
+    /**
+     * 처리 슬롯을 얻은 뒤 실행 (parallel 초과 요청은 대기, 실제 Ollama의 OLLAMA_NUM_PARALLEL과 같은 효과)
+     */
+    private void withSlot(HttpExchange exchange, BodyHandler handler) throws IOException, InterruptedException {
+        if (!"POST".equals(exchange.getRequestMethod())) {
+            sendJson(exchange, 405, Map.of("error", "method not allowed"));
+            return;
+        }
+        JsonNode body = objectMapper.readTree(exchange.getRequestBody());
+        slots.acquire();
+        try {
+            if (ThreadLocalRandom.current().nextDouble() < options.errorRate()) {
+                sleep(options.requestLatency().sample());
+                sendJson(exchange, 500, Map.of("error", "injected failure"));
+                return;
+            }
+            handler.handle(body);
+        } finally {
+            slots.release();
+        }
+    }
+
+    private void chat(HttpExchange exchange, JsonNode body) throws IOException, InterruptedException {
+        long start = System.nanoTime();
+        String model = body.path("model").asText(options.chatModel());
+        StringBuilder prompt = new StringBuilder();
+        String question = "";
+        for (JsonNode message : body.path("messages")) {
+            String content = message.path("content").asText("");
+            prompt.append(content).append('\n');
+            if ("user".equals(message.path("role").asText())) {
+                question = content;
+            }
+        }
+        List<String> tokens = tokens(answerFor(question));
+        int promptTokens = TokenEstimator.estimate(prompt.toString());
+
+        sleep(options.requestLatency().sample());
+        if (body.path("stream").asBoolean(true)) {
+            exchange.getResponseHeaders().set("Content-Type", "application/x-ndjson");
+            exchange.sendResponseHeaders(200, 0);
+            OutputStream out = exchange.getResponseBody();
+            for (String token : tokens) {
+                sleep(options.tokenDelay().sample());
+                writeLine(out, chatChunk(model, token, false));
+            }
+            Map<String, Object> last = chatChunk(model, "", true);
+            last.putAll(usage(start, promptTokens, tokens.size()));
+            writeLine(out, last);
+            return;
+        }
+
+        for (int i = 0; i < tokens.size(); i++) {
+            sleep(options.tokenDelay().sample());
+        }
+        Map<String, Object> response = chatChunk(model, String.join("", tokens), true);
+        response.putAll(usage(start, promptTokens, tokens.size()));
+        sendJson(exchange, 200, response);
+    }
+
+    /**
+     * 워밍업 요청 (프롬프트 없이 모델만 지정)
+     */
+    private void generate(HttpExchange exchange, JsonNode body) throws IOException, InterruptedException {
+        sleep(options.requestLatency().sample());
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("model", body.path("model").asText(options.chatModel()));
+        response.put("created_at", Instant.now().toString());
+        response.put("response", "");
+        response.put("done", true);
+        response.put("done_reason", "load");
+        sendJson(exchange, 200, response);
+    }
+
+    private void embed(HttpExchange exchange, JsonNode body) throws IOException, InterruptedException {
+        JsonNode input = body.path("input");
+        List<String> texts = new ArrayList<>();
+        if (input.isArray()) {
+            input.forEach(node -> texts.add(node.asText("")));
+        } else {
+            texts.add(input.asText(""));
+        }
+        sleep(embedLatency(texts.size()));
+        List<float[]> embeddings = texts.stream().map(this::embedding).toList();
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("model", body.path("model").asText(options.embedModel()));
+        response.put("embeddings", embeddings);
+        response.put("prompt_eval_count", texts.stream().mapToInt(TokenEstimator::estimate).sum());
+        sendJson(exchange, 200, response);
+    }
+
+    /**
+     * 구 버전 임베딩 API (prompt 1건 → embedding 1개)
+     */
+    private void legacyEmbeddings(HttpExchange exchange, JsonNode body) throws IOException, InterruptedException {
+        sleep(embedLatency(1));
+        sendJson(exchange, 200, Map.of("embedding", embedding(body.path("prompt").asText(""))));
+    }
+
+    private long embedLatency(int inputs) {
+        return options.requestLatency().sample() + inputs * options.embedPerInput().sample();
+    }
+
+    // ==================== 응답 생성 ====================
+
+    /**
+     * 결정적 임베딩: 단어 1-gram(가중치 1)과 단어 내 문자 bigram(가중치 0.5)을 차원에 해시하여 누적 후 정규화
+     * - 한국어 조사가 붙은 단어("서버가", "서버를")도 bigram이 겹쳐 어느 정도 유사하게 나옴
+     */
+    float[] embedding(String text) {
+        int dimension = options.dimension();
+        float[] vector = new float[dimension];
+        Matcher matcher = WORD.matcher(text.toLowerCase(Locale.ROOT));
+        while (matcher.find()) {
+            String word = matcher.group();
+            accumulate(vector, mix(word.hashCode()), 1.0f);
+            for (int i = 0; i + 1 < word.length(); i++) {
+                accumulate(vector, mix(word.charAt(i) * 31L + word.charAt(i + 1) + 0x9E3779B97F4A7C15L), 0.5f);
+            }
+        }
+        // 단어가 없는 텍스트도 0 벡터가 되지 않도록 텍스트 전체 해시로 한 성분 추가
+        accumulate(vector, mix(text.hashCode() ^ 0x5DEECE66DL), 0.1f);
+
+        double norm = 0;
+        for (float v : vector) {
+            norm += v * v;
+        }
+        float scale = (float) (1.0 / Math.sqrt(norm));
+        for (int i = 0; i < dimension; i++) {
+            vector[i] *= scale;
+        }
+        return vector;
+    }
+
+    private void accumulate(float[] vector, long hash, float weight) {
+        int index = (int) Long.remainderUnsigned(hash, vector.length);
+        vector[index] += (hash & (1L << 62)) != 0 ? weight : -weight;
+    }
+
+    private static long mix(long value) {
+        long z = value + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private String answerFor(String question) {
+        List<String> answers = options.answers();
+        return answers.get((int) Long.remainderUnsigned(mix(question.hashCode()), answers.size()));
+    }
+
+    /**
+     * 답변을 스트리밍 단위로 분할 (공백 포함 단어 단위, 실제 LLM 토큰보다 약간 큼)
+     */
+    private static List<String> tokens(String answer) {
+        List<String> tokens = new ArrayList<>();
+        Matcher matcher = TOKEN.matcher(answer);
+        while (matcher.find()) {
+            tokens.add(matcher.group());
+        }
+        return tokens;
+    }
+
+    private static Map<String, Object> chatChunk(String model, String content, boolean done) {
+        Map<String, Object> chunk = new LinkedHashMap<>();
+        chunk.put("model", model);
+        chunk.put("created_at", Instant.now().toString());
+        chunk.put("message", Map.of("role", "assistant", "content", content));
+        chunk.put("done", done);
+        if (done) {
+            chunk.put("done_reason", "stop");
+        }
+        return chunk;
+    }
+
+    private static Map<String, Object> usage(long startNanos, int promptTokens, int evalTokens) {
+        long total = System.nanoTime() - startNanos;
+        Map<String, Object> usage = new LinkedHashMap<>();
+        usage.put("total_duration", total);
+        usage.put("load_duration", 0L);
+        usage.put("prompt_eval_count", promptTokens);
+        usage.put("prompt_eval_duration", total / 10);
+        usage.put("eval_count", evalTokens);
+        usage.put("eval_duration", total - total / 10);
+        return usage;
+    }
+
+    private void writeLine(OutputStream out, Object value) throws IOException {
+        out.write(objectMapper.writeValueAsBytes(value));
+        out.write('\n');
+        out.flush();
+    }
+
+    private void sendJson(HttpExchange exchange, int status, Object value) throws IOException {
+        byte[] bytes = value instanceof String text
+                ? text.getBytes(StandardCharsets.UTF_8) : objectMapper.writeValueAsBytes(value);
+        exchange.getResponseHeaders().set("Content-Type",
+                value instanceof String ? "text/plain; charset=utf-8" : "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        exchange.getResponseBody().write(bytes);
+    }
+
+    private static void sleep(long millis) throws InterruptedException {
+        if (millis > 0) {
+            TimeUnit.MILLISECONDS.sleep(millis);
+        }
+    }
+
+    // ==================== 설정 ====================
+
+    /**
+     * 지연 분포 (밀리초)
+     * - none | fixed:50 | uniform:20,80 | lognormal:800,0.5 (중앙값, 시그마 - 긴 꼬리 지연 재현용)
+     */
+    public record Latency(String kind, double a, double b) {
+
+        public static final Latency NONE = new Latency("none", 0, 0);
+
+        public static Latency fixed(long millis) {
+            return new Latency("fixed", millis, 0);
+        }
+
+        public static Latency parse(String spec) {
+            String[] parts = spec.trim().split(":", 2);
+            String kind = parts[0].toLowerCase(Locale.ROOT);
+            String[] values = parts.length > 1 ? parts[1].split(",") : new String[0];
+            double a = values.length > 0 ? Double.parseDouble(values[0].trim()) : 0;
+            double b = values.length > 1 ? Double.parseDouble(values[1].trim()) : 0;
+            return switch (kind) {
+                case "none" -> NONE;
+                case "fixed" -> new Latency(kind, a, 0);
+                case "uniform" -> new Latency(kind, a, Math.max(a, b));
+                case "lognormal" -> new Latency(kind, a, b);
+                default -> throw new IllegalArgumentException("지원하지 않는 지연 분포: " + spec);
+            };
+        }
+
+        public long sample() {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            return switch (kind) {
+                case "fixed" -> (long) a;
+                case "uniform" -> (long) (a + random.nextDouble() * (b - a));
+                case "lognormal" -> (long) (a * Math.exp(b * random.nextGaussian()));
+                default -> 0L;
+            };
+        }
+
+        @Override
+        public String toString() {
+            return switch (kind) {
+                case "fixed" -> "fixed:" + (long) a;
+                case "uniform", "lognormal" -> kind + ":" + a + "," + b;
+                default -> kind;
+            };
+        }
+    }
+
+    /**
+     * 서버 설정
+     *
+     * @param requestLatency 요청당 지연 (채팅은 첫 토큰까지, 임베딩은 배치 기본 지연)
+     * @param tokenDelay     답변 토큰당 지연
+     * @param embedPerInput  임베딩 입력 1건당 추가 지연
+     * @param parallel       동시 처리 요청 수 (초과 요청은 대기)
+     * @param errorRate      HTTP 500 응답 비율 (0~1, 서킷 브레이커 확인용)
+     */
+    public record Options(int port, int dimension, String chatModel, String embedModel,
+                          Latency requestLatency, Latency tokenDelay, Latency embedPerInput,
+                          int parallel, double errorRate, List<String> answers) {
+
+        public static Options defaults() {
+            return new Options(11435, 1024, "gpt-oss:20b", "snowflake-arctic-embed:latest",
+                    Latency.parse("lognormal:300,0.4"), Latency.fixed(15), Latency.fixed(2),
+                    4, 0.0, DEFAULT_ANSWERS);
+        }
+
+        public Options withPort(int port) {
+            return new Options(port, dimension, chatModel, embedModel, requestLatency, tokenDelay,
+                    embedPerInput, parallel, errorRate, answers);
+        }
+
+        public Options withDimension(int dimension) {
+            return new Options(port, dimension, chatModel, embedModel, requestLatency, tokenDelay,
+                    embedPerInput, parallel, errorRate, answers);
+        }
+
+        public Options withModels(String chatModel, String embedModel) {
+            return new Options(port, dimension, chatModel, embedModel, requestLatency, tokenDelay,
+                    embedPerInput, parallel, errorRate, answers);
+        }
+
+        public Options withLatency(Latency requestLatency, Latency tokenDelay, Latency embedPerInput) {
+            return new Options(port, dimension, chatModel, embedModel, requestLatency, tokenDelay,
+                    embedPerInput, parallel, errorRate, answers);
+        }
+
+        public Options withParallel(int parallel) {
+            return new Options(port, dimension, chatModel, embedModel, requestLatency, tokenDelay,
+                    embedPerInput, parallel, errorRate, answers);
+        }
+
+        public Options withErrorRate(double errorRate) {
+            return new Options(port, dimension, chatModel, embedModel, requestLatency, tokenDelay,
+                    embedPerInput, parallel, errorRate, answers);
+        }
+
+        public Options withAnswers(List<String> answers) {
+            return new Options(port, dimension, chatModel, embedModel, requestLatency, tokenDelay,
+                    embedPerInput, parallel, errorRate, answers.isEmpty() ? DEFAULT_ANSWERS : List.copyOf(answers));
+        }
+
+        @Override
+        public String toString() {
+            return "port=" + port + " dimension=" + dimension + " chat-model=" + chatModel
+                    + " embed-model=" + embedModel + " request-latency=" + requestLatency
+                    + " token-delay=" + tokenDelay + " embed-per-input=" + embedPerInput
+                    + " parallel=" + parallel + " error-rate=" + errorRate + " answers=" + answers.size();
+        }
+
+        /**
+         * "key=value key=value" 형식 인자 해석
+         * - port, dimension, chat-model, embed-model, chat-latency(=request-latency), token-delay,
+         *   embed-per-input, parallel, error-rate, answers-file (빈 줄로 구분된 답변 목록)
+         */
+        public static Options parse(String args) throws IOException {
+            Options options = defaults();
+            if (args.isEmpty()) {
+                return options;
+            }
+            for (String arg : args.split("\\s+")) {
+                String[] kv = arg.replaceFirst("^--", "").split("=", 2);
+                if (kv.length != 2) {
+                    throw new IllegalArgumentException("key=value 형식이 아닌 인자: " + arg);
+                }
+                String value = kv[1];
+                options = switch (kv[0]) {
+                    case "port" -> options.withPort(Integer.parseInt(value));
+                    case "dimension" -> options.withDimension(Integer.parseInt(value));
+                    case "chat-model" -> options.withModels(value, options.embedModel());
+                    case "embed-model" -> options.withModels(options.chatModel(), value);
+                    case "chat-latency", "request-latency" -> options.withLatency(
+                            Latency.parse(value), options.tokenDelay(), options.embedPerInput());
+                    case "token-delay" -> options.withLatency(
+                            options.requestLatency(), Latency.parse(value), options.embedPerInput());
+                    case "embed-per-input" -> options.withLatency(
+                            options.requestLatency(), options.tokenDelay(), Latency.parse(value));
+                    case "parallel" -> options.withParallel(Integer.parseInt(value));
+                    case "error-rate" -> options.withErrorRate(Double.parseDouble(value));
+                    case "answers-file" -> options.withAnswers(List.of(
+                            Files.readString(Path.of(value)).trim().split("\\n\\s*\\n")));
+                    default -> throw new IllegalArgumentException("알 수 없는 설정: " + kv[0]);
+                };
+            }
+            return options;
+        }
+    }
+}
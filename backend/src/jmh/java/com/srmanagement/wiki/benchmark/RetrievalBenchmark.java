@@ -0,0 +1,120 @@
+package com.srmanagement.wiki.benchmark;
+
+import com.srmanagement.wiki.service.HnswGraph;
+import com.srmanagement.wiki.service.VectorFilter;
+import com.srmanagement.wiki.service.VectorIndex;
+import com.srmanagement.wiki.util.SimilarityKernels;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AI 검색 벡터 조회 벤치마크 (합성 코퍼스 10k / 100k / 1M 청크 × 768차원)
+ * - FLAT: FLOAT32 전수 검색 (단일 스레드)
+ * - INT8: 양자화 전수 검색 (1차 후보 선정까지, DB 원본 벡터 재정렬 제외)
+ * - HNSW: FLOAT32 + HNSW 근사 검색 (운영 기본값 m=16, efConstruction=100, efSearch=64)
+ * - search: 필터 없음, searchFiltered: 리소스 유형 필터 (후보 1/3)
+ * - HNSW는 Setup에서 전수 검색 대비 recall@K 출력 (속도만 빨라지고 정확도가 떨어지는 회귀 확인용)
+ * - 1M HNSW는 그래프 구성에 수십 분 걸리고 힙 8GB 이상 필요
+ *
+ * 실행: mvn -Pbenchmark test-compile exec:exec
+ *       -Djmh.args="RetrievalBenchmark -p chunks=10000,100000 -rf json -rff target/jmh-retrieval.json"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx12g", "--add-modules", "jdk.incubator.vector"})
+public class RetrievalBenchmark {
+
+    private static final int QUERY_COUNT = 64;
+    private static final int RECALL_QUERIES = 50;
+
+    @Param({"10000", "100000", "1000000"})
+    private int chunks;
+
+    @Param({"FLAT", "INT8", "HNSW"})
+    private String index;
+
+    @Param({"768"})
+    private int dimension;
+
+    @Param({"10"})
+    private int topK;
+
+    private VectorIndex vectorIndex;
+    private VectorFilter srOnly;
+    private float[][] queries;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        SyntheticCorpus corpus = dimension == SyntheticCorpus.DIMENSION
+                ? SyntheticCorpus.standard() : new SyntheticCorpus(dimension, 256, 0.6, 42);
+        VectorIndex.Options flat = VectorIndex.Options.flat(SimilarityKernels.select("auto"));
+        VectorIndex.Options options = switch (index) {
+            case "FLAT" -> flat;
+            case "INT8" -> new VectorIndex.Options(null, 0, VectorIndex.Precision.INT8, 0, null,
+                    flat.kernel(), null);
+            case "HNSW" -> new VectorIndex.Options(new HnswGraph.Config(16, 100, 64), 2000,
+                    VectorIndex.Precision.FLOAT32, 0, null, flat.kernel(), null);
+            default -> throw new IllegalArgumentException("알 수 없는 인덱스: " + index);
+        };
+
+        long start = System.nanoTime();
+        vectorIndex = corpus.buildIndex("retrieval-benchmark", chunks, options);
+        System.out.printf("%n[%s] 청크 %d개 적재 %.1fs, 벡터 메모리 %dMB%n", index, chunks,
+                (System.nanoTime() - start) / 1e9, vectorIndex.vectorBytes() / (1024 * 1024));
+
+        srOnly = VectorFilter.none().and(VectorFilter.Field.RESOURCE_TYPE, "SR");
+        queries = new float[QUERY_COUNT][];
+        for (int i = 0; i < QUERY_COUNT; i++) {
+            queries[i] = corpus.query(i);
+        }
+        if ("HNSW".equals(index)) {
+            System.out.printf("[HNSW] recall@%d = %.3f (전수 검색 대비, 질문 %d개)%n",
+                    topK, recall(), RECALL_QUERIES);
+        }
+    }
+
+    @Benchmark
+    public List<VectorIndex.Hit> search() {
+        return vectorIndex.search(queries[next++ & (QUERY_COUNT - 1)], topK, -1.0, null);
+    }
+
+    @Benchmark
+    public List<VectorIndex.Hit> searchFiltered() {
+        return vectorIndex.search(queries[next++ & (QUERY_COUNT - 1)], topK, -1.0, srOnly);
+    }
+
+    private double recall() {
+        int found = 0;
+        int total = 0;
+        for (int q = 0; q < RECALL_QUERIES; q++) {
+            float[] query = queries[q % QUERY_COUNT];
+            Set<Long> exact = new HashSet<>();
+            vectorIndex.exactSearch(query, topK, -1.0, null).forEach(hit -> exact.add(hit.entry().embeddingId()));
+            for (VectorIndex.Hit hit : vectorIndex.search(query, topK, -1.0, null)) {
+                if (exact.contains(hit.entry().embeddingId())) {
+                    found++;
+                }
+            }
+            total += exact.size();
+        }
+        return total == 0 ? 0 : (double) found / total;
+    }
+}
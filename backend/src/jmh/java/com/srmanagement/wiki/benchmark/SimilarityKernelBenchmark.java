@@ -0,0 +1,124 @@
+package com.srmanagement.wiki.benchmark;
+
+import com.srmanagement.wiki.util.ScalarSimilarityKernel;
+import com.srmanagement.wiki.util.SimilarityKernel;
+import com.srmanagement.wiki.util.SimilarityKernels;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 벡터 유사도 커널 마이크로벤치마크
+ * - boxed: 기존 List&lt;Double&gt; 코사인 유사도 (JSON 역직렬화 벡터 기준)
+ * - scalar: 정규화 벡터 + 스칼라 내적
+ * - vector: 정규화 벡터 + Vector API 내적
+ *
+ * 실행: mvn -Pbenchmark,vector-api test-compile exec:exec -Djmh.args=SimilarityKernelBenchmark
+ * (vector-api 프로필 없이 실행하면 vector 항목은 스칼라 커널로 측정됨)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+public class SimilarityKernelBenchmark {
+
+    @Param({"768"})
+    private int dimension;
+
+    private List<Double> boxedQuery;
+    private List<Double> boxedDocument;
+    private float[] query;
+    private float[] document;
+    private byte[] queryCodes;
+    private byte[] documentCodes;
+
+    private final SimilarityKernel scalarKernel = ScalarSimilarityKernel.INSTANCE;
+    private SimilarityKernel vectorKernel;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        float[] rawQuery = new float[dimension];
+        float[] rawDocument = new float[dimension];
+        boxedQuery = new ArrayList<>(dimension);
+        boxedDocument = new ArrayList<>(dimension);
+        queryCodes = new byte[dimension];
+        documentCodes = new byte[dimension];
+        for (int i = 0; i < dimension; i++) {
+            rawQuery[i] = (float) random.nextGaussian();
+            rawDocument[i] = (float) random.nextGaussian();
+            boxedQuery.add((double) rawQuery[i]);
+            boxedDocument.add((double) rawDocument[i]);
+            queryCodes[i] = (byte) (random.nextInt(255) - 127);
+            documentCodes[i] = (byte) (random.nextInt(255) - 127);
+        }
+        query = SimilarityKernels.normalize(rawQuery);
+        document = SimilarityKernels.normalize(rawDocument);
+        vectorKernel = SimilarityKernels.select("vector");
+    }
+
+    @Benchmark
+    public double boxed() {
+        return cosineSimilarity(boxedQuery, boxedDocument);
+    }
+
+    @Benchmark
+    public float scalar() {
+        return scalarKernel.dot(query, 0, document, 0, dimension);
+    }
+
+    @Benchmark
+    public float vector() {
+        return vectorKernel.dot(query, 0, document, 0, dimension);
+    }
+
+    @Benchmark
+    public int scalarInt8() {
+        return scalarKernel.dot(queryCodes, 0, documentCodes, 0, dimension);
+    }
+
+    @Benchmark
+    public int vectorInt8() {
+        return vectorKernel.dot(queryCodes, 0, documentCodes, 0, dimension);
+    }
+
+    /**
+     * 기존 AiSearchService의 코사인 유사도 계산 (비교 기준)
+     */
+    private static double cosineSimilarity(List<Double> vec1, List<Double> vec2) {
+        if (vec1.size() != vec2.size()) {
+            throw new IllegalArgumentException("벡터 차원이 일치하지 않습니다");
+        }
+
+        double dotProduct = 0.0;
+        double norm1 = 0.0;
+        double norm2 = 0.0;
+
+        for (int i = 0; i < vec1.size(); i++) {
+            dotProduct += vec1.get(i) * vec2.get(i);
+            norm1 += vec1.get(i) * vec1.get(i);
+            norm2 += vec2.get(i) * vec2.get(i);
+        }
+
+        if (norm1 == 0.0 || norm2 == 0.0) {
+            return 0.0;
+        }
+
+        return dotProduct / (Math.sqrt(norm1) * Math.sqrt(norm2));
+    }
+}
@@ -0,0 +1,94 @@
+package com.srmanagement.wiki.benchmark;
+
+import com.srmanagement.wiki.service.PdfConversionService;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * 청크 분할 벤치마크용 문서 모음 (저장된 PDF 변환 결과)
+ * - *.pdf: 업로드 폴더(wiki.upload.base-path)의 원본 PDF를 업로드 시와 같은 방식으로 마크다운 변환
+ * - *.md: Wiki 문서 내용을 내보낸 파일 (AI 구조 보정까지 거친 변환 결과 비교용)
+ */
+final class StoredPdfCorpus {
+
+    private StoredPdfCorpus() {
+    }
+
+    /**
+     * 폴더 아래 PDF/마크다운 파일을 읽어 마크다운 목록 반환
+     *
+     * @param directory 문서 폴더 (하위 폴더 포함)
+     */
+    static List<String> load(String directory) throws IOException {
+        Path root = Paths.get(directory);
+        if (!Files.isDirectory(root)) {
+            throw new IllegalStateException("문서 폴더가 없습니다: " + root.toAbsolutePath()
+                    + " (-p corpus=<PDF 업로드 폴더 또는 Wiki 문서 내보내기 폴더>)");
+        }
+
+        PdfConversionService converter = new PdfConversionService(null);
+        List<String> documents = new ArrayList<>();
+        try (Stream<Path> files = Files.walk(root)) {
+            for (Path file : files.filter(Files::isRegularFile).sorted().toList()) {
+                String name = file.getFileName().toString();
+                String lower = name.toLowerCase();
+                try {
+                    if (lower.endsWith(".pdf")) {
+                        documents.add(converter.convertPdfToMarkdownWithImages(file.toString(), name).getMarkdown());
+                    } else if (lower.endsWith(".md")) {
+                        documents.add(Files.readString(file, StandardCharsets.UTF_8));
+                    }
+                } catch (Exception e) {
+                    System.err.println("변환 실패, 제외: " + file + " (" + e.getMessage() + ")");
+                }
+            }
+        }
+        if (documents.isEmpty()) {
+            throw new IllegalStateException("PDF/마크다운 파일이 없습니다: " + root.toAbsolutePath());
+        }
+        return documents;
+    }
+
+    /**
+     * 이전 고정 길이 청크 분할 (2000자, 겹침 200자, 줄바꿈/마침표 위치 조정) - 비교 기준
+     */
+    static List<String> fixedWindow(String content) {
+        final int maxLength = 2000;
+        final int overlap = 200;
+        List<String> chunks = new ArrayList<>();
+        if (content == null || content.isEmpty()) {
+            return chunks;
+        }
+        if (content.length() <= maxLength) {
+            chunks.add(content.trim());
+            return chunks;
+        }
+
+        int start = 0;
+        while (start < content.length()) {
+            int end = Math.min(start + maxLength, content.length());
+            if (end < content.length()) {
+                int breakPoint = Math.max(content.lastIndexOf('\n', end), content.lastIndexOf('.', end));
+                if (breakPoint > start + overlap) {
+                    end = breakPoint + 1;
+                }
+            }
+            String chunk = content.substring(start, end).trim();
+            if (!chunk.isEmpty()) {
+                chunks.add(chunk);
+            }
+            if (end >= content.length()) {
+                break;
+            }
+            start = Math.max(0, end - overlap);
+        }
+        return chunks;
+    }
+}
@@ -0,0 +1,181 @@
+package com.srmanagement.wiki.benchmark;
+
+import com.srmanagement.wiki.service.VectorIndex;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * 벤치마크용 합성 코퍼스 (릴리스 간 결과 비교가 가능하도록 시드 고정)
+ * - 벡터: 군집 중심 + 가우시안 잡음 (실제 임베딩처럼 주제별로 뭉쳐 있어야 HNSW/양자화 재현율이 의미 있음)
+ * - 청크 번호만으로 같은 벡터를 다시 만들 수 있어 1M × 768차원도 원본을 메모리에 두지 않고 인덱스에 적재
+ * - 문서: 제목/문단/목록/표/코드 블록이 섞인 마크다운 (청크 분할 벤치마크용)
+ */
+final class SyntheticCorpus {
+
+    /** 표준 코퍼스 크기 (청크 수) */
+    static final int SMALL = 10_000;
+    static final int MEDIUM = 100_000;
+    static final int LARGE = 1_000_000;
+
+    /** 표준 차원 (nomic-embed-text 등 768차원 모델 기준) */
+    static final int DIMENSION = 768;
+
+    private static final String[] RESOURCE_TYPES = {"WIKI", "SR", "SURVEY"};
+
+    private static final String[] WORDS = {
+            "연계", "서버", "인증서", "기관", "오류", "처리", "요청", "설정", "배포", "데이터베이스",
+            "현황조사", "담당자", "로그", "재기동", "타임아웃", "API", "버전", "점검", "백업", "권한",
+            "사용자", "화면", "조회", "등록", "수정", "삭제", "승인", "반려", "완료", "확인",
+            "네트워크", "방화벽", "포트", "계정", "비밀번호", "암호화", "응답", "지연", "장애", "복구"};
+
+    private final int dimension;
+    private final long seed;
+    private final double noise;
+    private final float[][] centroids;
+
+    SyntheticCorpus(int dimension, int clusters, double noise, long seed) {
+        this.dimension = dimension;
+        this.seed = seed;
+        this.noise = noise;
+        SplittableRandom random = new SplittableRandom(seed);
+        centroids = new float[clusters][];
+        for (int c = 0; c < clusters; c++) {
+            centroids[c] = gaussian(random, 1.0);
+        }
+    }
+
+    /**
+     * 표준 설정 (768차원, 군집 256개, 잡음 0.6)
+     */
+    static SyntheticCorpus standard() {
+        return new SyntheticCorpus(DIMENSION, 256, 0.6, 42);
+    }
+
+    int dimension() {
+        return dimension;
+    }
+
+    /**
+     * i번째 청크 벡터 (정규화 전)
+     */
+    float[] vector(int i) {
+        SplittableRandom random = new SplittableRandom(seed ^ (0x9E3779B97F4A7C15L * (i + 1)));
+        return around(centroids[random.nextInt(centroids.length)], random);
+    }
+
+    /**
+     * q번째 질문 벡터 (청크와 다른 난수열, 임의 군집 근처)
+     */
+    float[] query(int q) {
+        SplittableRandom random = new SplittableRandom(~seed ^ (0xC2B2AE3D27D4EB4FL * (q + 1)));
+        return around(centroids[random.nextInt(centroids.length)], random);
+    }
+
+    /**
+     * i번째 청크 메타데이터 (리소스당 청크 8개, 리소스 유형 순환)
+     */
+    static VectorIndex.Entry entry(int i) {
+        return new VectorIndex.Entry(i, RESOURCE_TYPES[(i / 8) % RESOURCE_TYPES.length], i / 8, i % 8,
+                null, null, null);
+    }
+
+    /**
+     * 청크 count개를 적재한 인덱스
+     */
+    VectorIndex buildIndex(String name, int count, VectorIndex.Options options) {
+        VectorIndex index = new VectorIndex(name, options);
+        if (options.precision() == VectorIndex.Precision.INT8) {
+            List<float[]> sample = new ArrayList<>();
+            for (int i = 0; i < Math.min(count, 2_000); i++) {
+                sample.add(vector(i));
+            }
+            index.calibrate(sample);
+        }
+        for (int i = 0; i < count; i++) {
+            index.add(entry(i), vector(i));
+        }
+        return index;
+    }
+
+    /**
+     * 합성 마크다운 문서 (문서당 약 2~6천 자)
+     */
+    static List<String> markdownDocuments(int count, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        List<String> documents = new ArrayList<>(count);
+        for (int d = 0; d < count; d++) {
+            StringBuilder md = new StringBuilder("# ").append(sentence(random, 4)).append("\n\n");
+            int sections = 2 + random.nextInt(4);
+            for (int s = 1; s <= sections; s++) {
+                md.append("## ").append(s).append(". ").append(sentence(random, 3)).append("\n\n");
+                for (int p = 0; p < 1 + random.nextInt(3); p++) {
+                    md.append(sentence(random, 30 + random.nextInt(60))).append("\n\n");
+                }
+                switch (random.nextInt(4)) {
+                    case 0 -> {
+                        for (int l = 0; l < 3 + random.nextInt(5); l++) {
+                            md.append("- ").append(sentence(random, 8)).append('\n');
+                        }
+                    }
+                    case 1 -> {
+                        md.append("| 항목 | 값 | 비고 |\n| --- | --- | --- |\n");
+                        for (int r = 0; r < 3 + random.nextInt(8); r++) {
+                            md.append("| ").append(sentence(random, 2)).append(" | ").append(random.nextInt(1000))
+                                    .append(" | ").append(sentence(random, 4)).append(" |\n");
+                        }
+                    }
+                    case 2 -> {
+                        md.append("```\n");
+                        for (int l = 0; l < 4 + random.nextInt(10); l++) {
+                            md.append("config.").append(WORDS[random.nextInt(WORDS.length)].toLowerCase())
+                                    .append(" = ").append(random.nextInt(10_000)).append('\n');
+                        }
+                        md.append("```\n");
+                    }
+                    default -> md.append("### ").append(sentence(random, 2)).append("\n\n")
+                            .append(sentence(random, 40)).append('\n');
+                }
+                md.append('\n');
+            }
+            documents.add(md.toString());
+        }
+        return documents;
+    }
+
+    private float[] around(float[] centroid, SplittableRandom random) {
+        float[] vector = new float[dimension];
+        for (int d = 0; d < dimension; d++) {
+            vector[d] = centroid[d] + (float) (noise * nextGaussian(random));
+        }
+        return vector;
+    }
+
+    private float[] gaussian(SplittableRandom random, double scale) {
+        float[] vector = new float[dimension];
+        for (int d = 0; d < dimension; d++) {
+            vector[d] = (float) (scale * nextGaussian(random));
+        }
+        return vector;
+    }
+
+    /**
+     * 표준 정규분포 난수 (Box-Muller, SplittableRandom에는 nextGaussian이 없음)
+     */
+    private static double nextGaussian(SplittableRandom random) {
+        double u = 1.0 - random.nextDouble();
+        return Math.sqrt(-2.0 * Math.log(u)) * Math.cos(2 * Math.PI * random.nextDouble());
+    }
+
+    private static String sentence(SplittableRandom random, int words) {
+        StringBuilder sentence = new StringBuilder();
+        for (int w = 0; w < words; w++) {
+            if (w > 0) {
+                sentence.append(' ');
+            }
+            sentence.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return sentence.append('.').toString();
+    }
+}
@@ -0,0 +1,86 @@
+package com.srmanagement.wiki.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Top-K 선택 벤치마크 (점수 계산 이후 단계만 측정)
+ * - sortAll: 이전 방식 (전체 결과 객체 생성 → 정렬 → limit)
+ * - boundedHeap: VectorIndex 방식 (크기 K 최소 힙, 힙 최솟값보다 큰 점수만 객체 생성)
+ * - 점수 분포는 코사인 유사도처럼 [-1, 1] 구간, 청크 수는 합성 코퍼스 표준 크기
+ *
+ * 실행: mvn -Pbenchmark test-compile exec:exec -Djmh.args="TopKSelectionBenchmark -rf json -rff target/jmh-topk.json"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TopKSelectionBenchmark {
+
+    private record Scored(int slot, double score) {
+    }
+
+    @Param({"10000", "100000", "1000000"})
+    private int chunks;
+
+    @Param({"10", "200"})
+    private int topK;
+
+    private double[] scores;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        scores = new double[chunks];
+        for (int i = 0; i < chunks; i++) {
+            scores[i] = random.nextDouble() * 2 - 1;
+        }
+    }
+
+    @Benchmark
+    public List<Scored> sortAll() {
+        List<Scored> all = new ArrayList<>(chunks);
+        for (int i = 0; i < chunks; i++) {
+            all.add(new Scored(i, scores[i]));
+        }
+        return all.stream()
+                .sorted(Comparator.comparingDouble(Scored::score).reversed())
+                .limit(topK)
+                .toList();
+    }
+
+    @Benchmark
+    public List<Scored> boundedHeap() {
+        PriorityQueue<Scored> heap = new PriorityQueue<>(topK + 1, Comparator.comparingDouble(Scored::score));
+        for (int i = 0; i < chunks; i++) {
+            double score = scores[i];
+            if (heap.size() < topK) {
+                heap.add(new Scored(i, score));
+            } else if (score > heap.peek().score()) {
+                heap.poll();
+                heap.add(new Scored(i, score));
+            }
+        }
+        List<Scored> top = new ArrayList<>(heap);
+        top.sort(Comparator.comparingDouble(Scored::score).reversed());
+        return top;
+    }
+}
@@ -0,0 +1,97 @@
+package com.srmanagement.wiki.benchmark;
+
+import com.srmanagement.wiki.service.VectorIndex;
+import com.srmanagement.wiki.util.SimilarityKernels;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 전수 검색 병렬 샤드 계산 벤치마크
+ * - 청크 수(100k, 1M)별로 병렬도 1~N 코어의 Top-K 전수 검색 지연시간 비교
+ * - parallelism=1은 기존 단일 스레드 스캔 (샤드 분할 없음)
+ * - 1M × 384차원 FLOAT32 슬랩은 약 1.5GB (차원을 올리면 -Xmx도 함께 조정)
+ *
+ * 실행: mvn -Pbenchmark test-compile exec:exec -Djmh.args="VectorScanBenchmark -p parallelism=1,2,4,8"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx6g", "--add-modules", "jdk.incubator.vector"})
+public class VectorScanBenchmark {
+
+    private static final int QUERY_COUNT = 64;
+
+    @Param({"100000", "1000000"})
+    private int chunks;
+
+    @Param({"1", "2", "4", "8"})
+    private int parallelism;
+
+    @Param({"384"})
+    private int dimension;
+
+    @Param({"10"})
+    private int topK;
+
+    private VectorIndex index;
+    private ForkJoinPool pool;
+    private float[][] queries;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        VectorIndex.Options options = VectorIndex.Options.flat(SimilarityKernels.select("auto"));
+        if (parallelism > 1) {
+            pool = new ForkJoinPool(parallelism);
+            options = options.withParallelScan(new VectorIndex.ParallelScan(pool, 16_384));
+        }
+        index = new VectorIndex("scan-benchmark", options);
+
+        Random random = new Random(42);
+        for (int i = 0; i < chunks; i++) {
+            index.add(new VectorIndex.Entry(i, "WIKI", i / 8, i % 8, null, null, null), randomVector(random));
+        }
+        queries = new float[QUERY_COUNT][];
+        for (int i = 0; i < QUERY_COUNT; i++) {
+            queries[i] = randomVector(random);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (pool != null) {
+            pool.shutdown();
+        }
+    }
+
+    @Benchmark
+    public List<VectorIndex.Hit> exactSearch() {
+        float[] query = queries[next++ & (QUERY_COUNT - 1)];
+        return index.exactSearch(query, topK, -1.0, null);
+    }
+
+    private float[] randomVector(Random random) {
+        float[] vector = new float[dimension];
+        for (int d = 0; d < dimension; d++) {
+            vector[d] = (float) random.nextGaussian();
+        }
+        return vector;
+    }
+}
@@ -1,22 +1,64 @@
 package com.srmanagement.config;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.scheduling.annotation.AsyncConfigurer;
 import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
 
 /**
  * 비동기 작업 설정
  * - 임베딩 생성 등 시간이 오래 걸리는 작업을 비동기로 처리
+ * - AI 답변 스트리밍은 별도 스레드 풀 사용 (임베딩 작업과 서로 대기하지 않도록)
+ * - 리소스 단위 임베딩은 임베딩 작업 큐(embedding_job) 워커가 처리 (스케줄링으로 폴링)
+ * - Ollama 동기 호출은 전용 스레드 풀에서 실행 (호출 측은 타임아웃까지만 대기)
+ * - 실행기를 지정하지 않은 @Async(알림, 검색 이력, LLM 사용량 기록)는 기본 풀(taskExecutor) 사용
+ *   (Executor 빈이 여러 개이면 Spring이 호출마다 새 스레드를 만드는 SimpleAsyncTaskExecutor로 대체하므로 명시)
  */
 @Configuration
 @EnableAsync
+@EnableScheduling
 @Slf4j
-public class AsyncConfig {
+public class AsyncConfig implements AsyncConfigurer {
 
+    /**
+     * 기본 비동기 스레드 풀 (실행기를 지정하지 않은 @Async)
+     * - 짧은 DB 저장/알림 작업용, 큐가 가득 차면 호출 스레드가 직접 실행 (작업 유실 없음)
+     */
+    @Bean(name = "taskExecutor")
+    public ThreadPoolTaskExecutor taskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(4);      // 기본 스레드 수
+        executor.setMaxPoolSize(8);       // 최대 스레드 수
+        executor.setQueueCapacity(500);   // 대기 큐 크기
+        executor.setThreadNamePrefix("Async-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    @Override
+    public Executor getAsyncExecutor() {
+        return taskExecutor();
+    }
+
+    @Override
+    public AsyncUncaughtExceptionHandler getAsyncUncaughtExceptionHandler() {
+        return (e, method, params) -> log.error("비동기 작업 실패: {}", method.getName(), e);
+    }
+
+    /**
+     * 백그라운드 임베딩/요약 스레드 풀 (레거시 벡터 백필, 문서 AI 요약)
+     * - 큐가 가득 차면 TaskRejectedException 발생 (호출 측에서 오류 응답, 작업을 조용히 버리지 않음)
+     */
     @Bean(name = "embeddingTaskExecutor")
     public Executor embeddingTaskExecutor() {
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
@@ -24,8 +66,94 @@ public class AsyncConfig {
         executor.setMaxPoolSize(4);       // 최대 스레드 수
         executor.setQueueCapacity(10);    // 대기 큐 크기
         executor.setThreadNamePrefix("Embedding-");
-        executor.setRejectedExecutionHandler((r, e) ->
-            log.warn("임베딩 작업 거부됨 - 큐가 가득 참"));
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * AI 답변 스트리밍 스레드 풀
+     * - LLM 답변 생성 동안 스레드를 점유하므로 동시 스트림 수만큼 필요
+     * - 큐가 가득 차면 예외 발생 (호출 측에서 SSE error 이벤트 전송)
+     */
+    @Bean(name = "aiStreamTaskExecutor")
+    public Executor aiStreamTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(4);      // 기본 스레드 수
+        executor.setMaxPoolSize(8);       // 최대 스레드 수
+        executor.setQueueCapacity(20);    // 대기 큐 크기
+        executor.setThreadNamePrefix("AiStream-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 임베딩 작업 큐 워커 스레드 풀
+     * - 워커가 빈 스레드 수만큼만 작업을 선점하므로 큐에 쌓이지 않음 (대기 작업은 DB에 보관)
+     */
+    @Bean(name = "embeddingJobExecutor")
+    public Executor embeddingJobExecutor(
+            @Value("${wiki.embedding.queue.workers:2}") int workers) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(Math.max(workers, 1));
+        executor.setMaxPoolSize(Math.max(workers, 1));
+        executor.setQueueCapacity(Math.max(workers, 1));
+        executor.setThreadNamePrefix("EmbeddingJob-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 일괄 임베딩 작업 실행 스레드 풀 (BulkEmbeddingJobService, 작업 하나가 끝날 때까지 스레드 점유)
+     * - 리소스 타입별로 진행 중 작업이 하나뿐이므로 타입 수만큼 스레드 확보 (다른 비동기 작업과 공유하지 않음)
+     * - 거부 시 작업 선점을 해제하고 실행 인스턴스 복구 스케줄에서 다시 실행 (작업 유실 없음)
+     */
+    @Bean(name = "bulkEmbeddingJobExecutor")
+    public Executor bulkEmbeddingJobExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(3);      // 리소스 타입 수 (WIKI, SR, SURVEY)
+        executor.setMaxPoolSize(3);
+        executor.setQueueCapacity(3);
+        executor.setThreadNamePrefix("BulkEmbeddingJob-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 일괄 임베딩 그룹 실행 스레드 풀 (BulkEmbeddingJobService)
+     * - 스레드 수 = 일괄 임베딩 중 Ollama 동시 임베딩 요청 수 (리소스 타입별 작업이 함께 실행되어도 합산 한도)
+     * - 큐가 가득 차면 작업 실행 스레드가 직접 처리 (페이지 처리 속도가 자연스럽게 제한됨)
+     */
+    @Bean(name = "bulkEmbeddingExecutor")
+    public Executor bulkEmbeddingExecutor(
+            @Value("${wiki.embedding.bulk.parallelism:2}") int parallelism) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(Math.max(parallelism, 1));
+        executor.setMaxPoolSize(Math.max(parallelism, 1));
+        executor.setQueueCapacity(Math.max(parallelism, 1) * 4);
+        executor.setThreadNamePrefix("BulkEmbedding-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Ollama 동기 호출 스레드 풀 (OllamaGateway)
+     * - 호출 스레드(Tomcat, 임베딩 워커)는 작업별 타임아웃까지만 기다리고 실제 HTTP 호출은 이 풀에서 실행
+     * - 대기 큐 없이 동시 실행 한도를 넘으면 즉시 거부 (응답 없는 서버 앞에 요청이 쌓이지 않도록)
+     */
+    @Bean(name = "ollamaCallExecutor")
+    public AsyncTaskExecutor ollamaCallExecutor(
+            @Value("${wiki.ollama.max-concurrent-calls:16}") int maxConcurrentCalls) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(Math.max(maxConcurrentCalls, 1));
+        executor.setMaxPoolSize(Math.max(maxConcurrentCalls, 1));
+        executor.setQueueCapacity(0);
+        executor.setThreadNamePrefix("Ollama-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
         executor.initialize();
         return executor;
     }
@@ -39,6 +39,10 @@ public class CacheConfig {
                 "documentSummary"       // 문서 요약 (10분)
         ));
 
+        // 전용 설정이 있는 캐시는 해당 Caffeine 설정으로 등록
+        cacheManager.registerCustomCache("aiSearchResults", aiSearchCaffeine().build());
+        cacheManager.registerCustomCache("embeddingStatus", embeddingStatusCaffeine().build());
+
         return cacheManager;
     }
 
@@ -0,0 +1,39 @@
+package com.srmanagement.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestClientCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.stream.LongStream;
+
+/**
+ * Ollama HTTP 클라이언트 타임아웃 설정
+ * - Spring AI OllamaApi는 컨텍스트의 RestClient.Builder로 클라이언트를 만들므로 여기서 연결/읽기 타임아웃 지정
+ * - 기본 클라이언트(HttpURLConnection)는 타임아웃이 없어 서버가 응답하지 않으면 스레드가 무한정 대기함
+ * - 읽기 타임아웃은 작업별 타임아웃(OllamaGateway) 중 가장 긴 값: 호출자가 먼저 포기한 요청도 결국 스레드를 반환하도록 하는 상한
+ */
+@Configuration
+public class OllamaClientConfig {
+
+    @Bean
+    public RestClientCustomizer ollamaRestClientCustomizer(
+            @Value("${wiki.ollama.connect-timeout-seconds:5}") long connectTimeoutSeconds,
+            @Value("${wiki.ollama.timeout.chat-seconds:120}") long chatSeconds,
+            @Value("${wiki.ollama.timeout.background-chat-seconds:600}") long backgroundChatSeconds,
+            @Value("${wiki.ollama.timeout.embedding-seconds:120}") long embeddingSeconds,
+            @Value("${wiki.ollama.timeout.query-embedding-seconds:10}") long queryEmbeddingSeconds) {
+        Duration connectTimeout = Duration.ofSeconds(connectTimeoutSeconds);
+        Duration readTimeout = Duration.ofSeconds(LongStream.of(
+                chatSeconds, backgroundChatSeconds, embeddingSeconds, queryEmbeddingSeconds).max().orElse(600));
+        return builder -> {
+            JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(
+                    HttpClient.newBuilder().connectTimeout(connectTimeout).build());
+            requestFactory.setReadTimeout(readTimeout);
+            builder.requestFactory(requestFactory);
+        };
+    }
+}
@@ -2,6 +2,7 @@ package com.srmanagement.config;
 
 import com.srmanagement.security.CustomUserDetailsService;
 import com.srmanagement.security.JwtAuthenticationFilter;
+import jakarta.servlet.DispatcherType;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -84,6 +85,8 @@ public class SecurityConfig {
 
                 // 요청 권한 설정
                 .authorizeHttpRequests(auth -> auth
+                        // 비동기 응답 재전송(SSE 스트리밍 완료 등)은 최초 요청에서 인가됨
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         // 인증 API는 허용
                         .requestMatchers("/api/auth/**").permitAll()
                         .requestMatchers("/api/surveys/template").permitAll()  // CSV 템플릿 다운로드 허용
@@ -112,6 +115,7 @@ public class SecurityConfig {
                         .requestMatchers("/*.js", "/*.mjs", "/*.css", "/*.png", "/*.svg", "/*.ico").permitAll()
                         // ADMIN 전용 API
                         .requestMatchers(HttpMethod.GET, "/api/users").hasRole("ADMIN")
+                        .requestMatchers("/actuator/**").hasRole("ADMIN")
                         // .requestMatchers(HttpMethod.DELETE, "/api/sr/**").hasRole("ADMIN") // 서비스 계층에서 권한 체크
                         // 나머지는 인증 필요
                         .anyRequest().authenticated()
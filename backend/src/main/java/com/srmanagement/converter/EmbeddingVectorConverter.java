@@ -0,0 +1,23 @@
+package com.srmanagement.converter;
+
+import com.srmanagement.util.EmbeddingVectorCodec;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * 임베딩 벡터 컨버터
+ * - float[] ↔ 바이너리 (헤더 + little-endian float32)
+ */
+@Converter
+public class EmbeddingVectorConverter implements AttributeConverter<float[], byte[]> {
+
+    @Override
+    public byte[] convertToDatabaseColumn(float[] attribute) {
+        return EmbeddingVectorCodec.encode(attribute);
+    }
+
+    @Override
+    public float[] convertToEntityAttribute(byte[] dbData) {
+        return EmbeddingVectorCodec.decode(dbData);
+    }
+}
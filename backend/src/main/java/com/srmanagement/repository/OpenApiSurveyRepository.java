@@ -1,13 +1,17 @@
 package com.srmanagement.repository;
 
 import com.srmanagement.entity.OpenApiSurvey;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Optional;
+
 @Repository
 public interface OpenApiSurveyRepository extends JpaRepository<OpenApiSurvey, Long> {
     
@@ -25,4 +29,9 @@ public interface OpenApiSurveyRepository extends JpaRepository<OpenApiSurvey, Lo
                                 @Param("currentMethod") String currentMethod,
                                 @Param("desiredMethod") String desiredMethod,
                                 Pageable pageable);
+
+    // 잠금 조회 (임베딩 저장 중 삭제되지 않도록)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM OpenApiSurvey s WHERE s.id = :id")
+    Optional<OpenApiSurvey> findByIdForUpdate(@Param("id") Long id);
 }
@@ -3,14 +3,17 @@ package com.srmanagement.repository;
 import com.srmanagement.entity.Priority;
 import com.srmanagement.entity.Sr;
 import com.srmanagement.entity.SrStatus;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 /**
  * SR 레포지토리
@@ -178,4 +181,13 @@ public interface SrRepository extends JpaRepository<Sr, Long> {
             @Param("assigneeId") Long assigneeId,
             @Param("search") String search,
             Pageable pageable);
+
+    /**
+     * SR 잠금 조회 (임베딩 저장 중 삭제되지 않도록)
+     * @param id SR ID
+     * @return Optional<Sr>
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM Sr s WHERE s.id = :id")
+    Optional<Sr> findByIdForUpdate(@Param("id") Long id);
 }
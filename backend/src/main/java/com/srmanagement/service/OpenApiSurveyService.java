@@ -22,9 +22,12 @@ import com.srmanagement.dto.response.UserResponse;
 import com.opencsv.CSVReader;
 import com.opencsv.exceptions.CsvValidationException;
 import com.srmanagement.util.CryptoUtil;
+import com.srmanagement.wiki.entity.ContentEmbedding.ResourceType;
 import com.srmanagement.wiki.service.ContentEmbeddingService;
+import com.srmanagement.wiki.service.ResourceChangedEvent;
 import com.srmanagement.wiki.service.WikiNotificationService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
@@ -32,8 +35,6 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.transaction.support.TransactionSynchronization;
-import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
@@ -75,6 +76,9 @@ public class OpenApiSurveyService {
     @Autowired(required = false)
     private ContentEmbeddingService contentEmbeddingService;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     @Transactional(readOnly = true)
     public Page<OpenApiSurveyResponse> getSurveys(String keyword, String currentMethod, String desiredMethod, Pageable pageable) {
         // keyword: LIKE 검색용 (평문 유지)
@@ -189,7 +193,7 @@ public class OpenApiSurveyService {
     /**
      * 현황조사 생성 (임베딩 생성 여부 선택)
      * @param request 생성 요청
-     * @param generateEmbedding 임베딩 생성 여부 (일괄 등록 시 false)
+     * @param generateEmbedding 임베딩 즉시 생성 여부 (일괄 등록 시 false: 낮은 우선순위로 작업 등록)
      */
     @Transactional
     public OpenApiSurveyResponse createSurvey(OpenApiSurveyCreateRequest request, boolean generateEmbedding) {
@@ -268,18 +272,12 @@ public class OpenApiSurveyService {
             );
         }
 
-        // 현황조사 임베딩 비동기 생성 (AI 검색용) - 트랜잭션 커밋 후 실행
-        // 일괄 등록 시에는 generateEmbedding=false로 호출하여 임베딩 생성 생략
-        // (나중에 관리자 패널에서 일괄 생성)
-        if (generateEmbedding && contentEmbeddingService != null) {
-            final Long surveyId = savedSurvey.getId();
-            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
-                @Override
-                public void afterCommit() {
-                    contentEmbeddingService.generateSurveyEmbeddingAsync(surveyId);
-                }
-            });
-        }
+        // 현황조사 생성 이벤트 (AI 검색용 임베딩 작업 등록) - 트랜잭션 커밋 후 워커가 처리
+        // 일괄 등록 시에는 generateEmbedding=false로 호출하여 낮은 우선순위로 등록
+        // (편집 중인 리소스의 임베딩이 일괄 등록 작업 뒤로 밀리지 않도록)
+        eventPublisher.publishEvent(generateEmbedding
+                ? ResourceChangedEvent.created(ResourceType.SURVEY, savedSurvey.getId())
+                : ResourceChangedEvent.bulkCreated(ResourceType.SURVEY, savedSurvey.getId()));
 
         return convertToResponse(savedSurvey);
     }
@@ -289,10 +287,11 @@ public class OpenApiSurveyService {
         OpenApiSurvey survey = openApiSurveyRepository.findById(id)
                 .orElseThrow(() -> new CustomException("Survey not found with id: " + id, HttpStatus.NOT_FOUND));
 
-        // 연관된 임베딩 삭제
+        // 연관된 임베딩 삭제 및 삭제 이벤트 (대기 중인 임베딩 작업 취소)
         if (contentEmbeddingService != null) {
             contentEmbeddingService.deleteSurveyEmbeddings(id);
         }
+        eventPublisher.publishEvent(ResourceChangedEvent.deleted(ResourceType.SURVEY, id));
 
         // 현황조사 삭제
         openApiSurveyRepository.delete(survey);
@@ -381,16 +380,8 @@ public class OpenApiSurveyService {
             );
         }
 
-        // 현황조사 임베딩 비동기 재생성 (AI 검색용) - 트랜잭션 커밋 후 실행
-        if (contentEmbeddingService != null) {
-            final Long surveyId = survey.getId();
-            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
-                @Override
-                public void afterCommit() {
-                    contentEmbeddingService.generateSurveyEmbeddingAsync(surveyId);
-                }
-            });
-        }
+        // 현황조사 변경 이벤트 (AI 검색용 임베딩 재생성) - 트랜잭션 커밋 후 워커가 처리
+        eventPublisher.publishEvent(ResourceChangedEvent.updated(ResourceType.SURVEY, survey.getId()));
 
         return convertToResponse(survey);
     }
@@ -731,7 +722,7 @@ public class OpenApiSurveyService {
      * 현황조사 생성 시 SR 자동 생성
      * @param survey 현황조사
      * @param requester 요청자
-     * @param generateEmbedding SR 임베딩 생성 여부 (일괄 등록 시 false)
+     * @param generateEmbedding SR 임베딩 즉시 생성 여부 (일괄 등록 시 false: 낮은 우선순위로 작업 등록)
      */
     private void createSrForNewSurvey(OpenApiSurvey survey, User requester, boolean generateEmbedding) {
         try {
@@ -11,16 +11,16 @@ import com.srmanagement.exception.CustomException;
 import com.srmanagement.repository.SrHistoryRepository;
 import com.srmanagement.repository.SrRepository;
 import com.srmanagement.repository.UserRepository;
-import com.srmanagement.wiki.service.ContentEmbeddingService;
+import com.srmanagement.wiki.entity.ContentEmbedding.ResourceType;
+import com.srmanagement.wiki.service.ResourceChangedEvent;
 import com.srmanagement.wiki.service.WikiNotificationService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.transaction.support.TransactionSynchronization;
-import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
@@ -47,8 +47,8 @@ public class SrService {
     @Autowired
     private WikiNotificationService notificationService;
 
-    @Autowired(required = false)
-    private ContentEmbeddingService contentEmbeddingService;
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
 
     /**
      * SR ID 생성 (SR-YYMM-XXXX)
@@ -163,7 +163,7 @@ public class SrService {
      * SR 생성 (임베딩 생성 여부 지정 가능)
      * @param request SR 생성 요청 DTO
      * @param username 요청자 사용자명
-     * @param generateEmbedding 임베딩 생성 여부 (일괄 등록 시 false)
+     * @param generateEmbedding 임베딩 즉시 생성 여부 (일괄 등록 시 false: 낮은 우선순위로 작업 등록)
      * @return SrResponse
      */
     @Transactional
@@ -200,17 +200,11 @@ public class SrService {
             notificationService.notifySrCreated(savedSr.getId(), savedSr.getTitle(), assignee, requester);
         }
 
-        // SR 임베딩 비동기 생성 (AI 검색용) - 트랜잭션 커밋 후 실행
-        // 일괄 등록 시에는 generateEmbedding=false로 호출하여 임베딩 생성 생략
-        if (generateEmbedding && contentEmbeddingService != null) {
-            final Long srId = savedSr.getId();
-            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
-                @Override
-                public void afterCommit() {
-                    contentEmbeddingService.generateSrEmbeddingAsync(srId);
-                }
-            });
-        }
+        // SR 생성 이벤트 (AI 검색용 임베딩 작업 등록) - 트랜잭션 커밋 후 워커가 처리
+        // 일괄 등록 시에는 generateEmbedding=false로 호출하여 낮은 우선순위로 등록
+        eventPublisher.publishEvent(generateEmbedding
+                ? ResourceChangedEvent.created(ResourceType.SR, savedSr.getId())
+                : ResourceChangedEvent.bulkCreated(ResourceType.SR, savedSr.getId()));
 
         return SrResponse.from(savedSr);
     }
@@ -328,16 +322,8 @@ public class SrService {
                 modifier
         );
 
-        // SR 임베딩 비동기 재생성 (AI 검색용) - 트랜잭션 커밋 후 실행
-        if (contentEmbeddingService != null) {
-            final Long srId = updatedSr.getId();
-            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
-                @Override
-                public void afterCommit() {
-                    contentEmbeddingService.generateSrEmbeddingAsync(srId);
-                }
-            });
-        }
+        // SR 변경 이벤트 (AI 검색용 임베딩 재생성) - 트랜잭션 커밋 후 워커가 처리
+        eventPublisher.publishEvent(ResourceChangedEvent.updated(ResourceType.SR, updatedSr.getId()));
 
         return SrResponse.from(updatedSr);
     }
@@ -368,16 +354,8 @@ public class SrService {
         // 삭제 이력 기록
         createHistory(sr, "SR이 삭제되었습니다.", SrHistoryType.INFO_CHANGE, user);
 
-        // SR 임베딩 제거 (삭제된 SR은 검색에서 제외) - 트랜잭션 커밋 후 실행
-        if (contentEmbeddingService != null) {
-            final Long srId = sr.getId();
-            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
-                @Override
-                public void afterCommit() {
-                    contentEmbeddingService.generateSrEmbeddingAsync(srId);
-                }
-            });
-        }
+        // SR 변경 이벤트 (소프트 삭제: 임베딩 작업에서 삭제된 SR의 임베딩 제거) - 트랜잭션 커밋 후 워커가 처리
+        eventPublisher.publishEvent(ResourceChangedEvent.updated(ResourceType.SR, sr.getId()));
     }
 
     /**
@@ -411,6 +389,9 @@ public class SrService {
         // 복구 이력 기록
         createHistory(sr, "SR이 복구되었습니다.", SrHistoryType.INFO_CHANGE, user);
 
+        // SR 변경 이벤트 (복구된 SR 임베딩 재생성) - 트랜잭션 커밋 후 워커가 처리
+        eventPublisher.publishEvent(ResourceChangedEvent.updated(ResourceType.SR, restoredSr.getId()));
+
         return SrResponse.from(restoredSr);
     }
 
@@ -446,6 +427,9 @@ public class SrService {
                     modifier
             );
 
+            // SR 변경 이벤트 (임베딩 상태 메타데이터 갱신, 청크 내용이 같으면 기존 벡터 재사용)
+            eventPublisher.publishEvent(ResourceChangedEvent.updated(ResourceType.SR, updatedSr.getId()));
+
             return SrResponse.from(updatedSr);
         }
 
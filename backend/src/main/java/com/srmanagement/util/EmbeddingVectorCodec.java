@@ -0,0 +1,125 @@
+package com.srmanagement.util;
+
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32;
+
+/**
+ * 임베딩 벡터 바이너리 인코딩 유틸리티
+ *
+ * 저장 형식 (little-endian):
+ * <pre>
+ * [0..1]  매직 넘버 'E','V'
+ * [2]     포맷 버전 (1)
+ * [3]     요소 타입 (1 = float32)
+ * [4..7]  차원 수 (int32)
+ * [8..11] 임베딩 모델 ID (모델명의 CRC32)
+ * [12..]  벡터 값 (float32 x 차원 수)
+ * </pre>
+ * 768차원 기준 약 3KB (JSON TEXT 대비 약 1/5)
+ */
+@Component
+public class EmbeddingVectorCodec {
+
+    public static final int HEADER_BYTES = 12;
+
+    private static final byte MAGIC_0 = 'E';
+    private static final byte MAGIC_1 = 'V';
+    private static final byte FORMAT_VERSION = 1;
+    private static final byte TYPE_FLOAT32 = 1;
+
+    @Value("${spring.ai.ollama.embedding.options.model:unknown}")
+    private String embeddingModelName;
+
+    private static EmbeddingVectorCodec instance;
+
+    private int currentModelId;
+
+    @PostConstruct
+    public void init() {
+        currentModelId = modelId(embeddingModelName);
+        instance = this;
+    }
+
+    /**
+     * 현재 설정된 임베딩 모델 ID
+     */
+    public static int currentModelId() {
+        return instance != null ? instance.currentModelId : 0;
+    }
+
+    /**
+     * 모델명 → 모델 ID (CRC32)
+     */
+    public static int modelId(String modelName) {
+        CRC32 crc = new CRC32();
+        crc.update((modelName != null ? modelName : "").getBytes(StandardCharsets.UTF_8));
+        return (int) crc.getValue();
+    }
+
+    /**
+     * float 벡터를 바이너리로 인코딩 (현재 임베딩 모델 ID 기록)
+     */
+    public static byte[] encode(float[] vector) {
+        return encode(vector, currentModelId());
+    }
+
+    /**
+     * float 벡터를 바이너리로 인코딩
+     */
+    public static byte[] encode(float[] vector, int modelId) {
+        if (vector == null) {
+            return null;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES + vector.length * Float.BYTES)
+                .order(ByteOrder.LITTLE_ENDIAN);
+        buffer.put(MAGIC_0).put(MAGIC_1).put(FORMAT_VERSION).put(TYPE_FLOAT32);
+        buffer.putInt(vector.length);
+        buffer.putInt(modelId);
+        buffer.asFloatBuffer().put(vector);
+        return buffer.array();
+    }
+
+    /**
+     * 바이너리를 float 벡터로 디코딩
+     */
+    public static float[] decode(byte[] data) {
+        if (data == null) {
+            return null;
+        }
+        ByteBuffer buffer = header(data);
+        int dimension = buffer.getInt(4);
+        float[] vector = new float[dimension];
+        buffer.position(HEADER_BYTES);
+        buffer.asFloatBuffer().get(vector);
+        return vector;
+    }
+
+    /**
+     * 바이너리 헤더의 임베딩 모델 ID
+     */
+    public static int readModelId(byte[] data) {
+        return header(data).getInt(8);
+    }
+
+    private static ByteBuffer header(byte[] data) {
+        if (data.length < HEADER_BYTES || data[0] != MAGIC_0 || data[1] != MAGIC_1) {
+            throw new IllegalArgumentException("임베딩 벡터 바이너리 형식이 아닙니다");
+        }
+        if (data[2] != FORMAT_VERSION || data[3] != TYPE_FLOAT32) {
+            throw new IllegalArgumentException(String.format(
+                    "지원하지 않는 임베딩 벡터 형식입니다: version=%d, type=%d", data[2], data[3]));
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(data).order(ByteOrder.LITTLE_ENDIAN);
+        int dimension = buffer.getInt(4);
+        if (dimension < 0 || data.length != HEADER_BYTES + dimension * Float.BYTES) {
+            throw new IllegalArgumentException("임베딩 벡터 길이가 헤더와 일치하지 않습니다: dimension=" + dimension);
+        }
+        return buffer;
+    }
+}
@@ -1,5 +1,7 @@
 package com.srmanagement.wiki.controller;
 
+import com.srmanagement.exception.CustomException;
+import com.srmanagement.wiki.dto.AiSearchExplainResponse;
 import com.srmanagement.wiki.dto.AiSearchHistoryResponse;
 import com.srmanagement.wiki.dto.AiSearchRequest;
 import com.srmanagement.wiki.dto.AiSearchResponse;
@@ -7,19 +9,32 @@ import com.srmanagement.wiki.dto.BulkEmbeddingProgressEvent;
 import com.srmanagement.wiki.dto.EmbeddingProgressEvent;
 import com.srmanagement.wiki.dto.EmbeddingStatusResponse;
 import com.srmanagement.wiki.dto.SummaryResponse;
+import com.srmanagement.wiki.entity.BulkEmbeddingJob;
+import com.srmanagement.wiki.entity.ContentEmbedding.ResourceType;
+import com.srmanagement.wiki.entity.EmbeddingJob;
 import com.srmanagement.wiki.service.AiSearchHistoryService;
 import com.srmanagement.wiki.service.AiSearchService;
+import com.srmanagement.wiki.service.AiSearchStreamService;
+import com.srmanagement.wiki.service.BulkEmbeddingJobService;
 import com.srmanagement.wiki.service.BulkEmbeddingProgressService;
 import com.srmanagement.wiki.service.ContentEmbeddingService;
+import com.srmanagement.wiki.service.EmbeddingJobService;
 import com.srmanagement.wiki.service.EmbeddingProgressService;
+import com.srmanagement.wiki.service.LlmUsageService;
+import com.srmanagement.wiki.service.OllamaGateway;
+import com.srmanagement.wiki.service.QueryEmbeddingCache;
+import com.srmanagement.wiki.service.StaleEmbeddingService;
+import com.srmanagement.wiki.service.VectorIndexService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
@@ -37,10 +52,18 @@ import java.util.Map;
 public class WikiSearchController {
 
     private final AiSearchService aiSearchService;
+    private final AiSearchStreamService aiSearchStreamService;
     private final AiSearchHistoryService historyService;
     private final ContentEmbeddingService contentEmbeddingService;
     private final EmbeddingProgressService progressService;
+    private final EmbeddingJobService embeddingJobService;
     private final BulkEmbeddingProgressService bulkProgressService;
+    private final BulkEmbeddingJobService bulkEmbeddingJobService;
+    private final VectorIndexService vectorIndexService;
+    private final QueryEmbeddingCache queryEmbeddingCache;
+    private final OllamaGateway ollamaGateway;
+    private final LlmUsageService llmUsageService;
+    private final StaleEmbeddingService staleEmbeddingService;
 
     /**
      * AI 기반 자연어 검색 (RAG)
@@ -68,6 +91,38 @@ public class WikiSearchController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * AI 기반 자연어 검색 (RAG, 답변 스트리밍)
+     * - SSE 이벤트: sources (참고 문서) → token (답변 조각) → done (소요 시간, 이력 ID) / error
+     * - 검색 이력은 전체 답변 기준으로 저장
+     *
+     * @param request 검색 요청 (질문, topK, 카테고리 필터 등)
+     * @param authentication 인증 정보
+     * @return SSE Emitter
+     */
+    @PostMapping(value = "/ai/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter aiSearchStream(
+            @Valid @RequestBody AiSearchRequest request,
+            Authentication authentication) {
+        log.info("AI 검색 요청 (스트리밍): {}", request.getQuestion());
+        String username = authentication != null ? authentication.getName() : null;
+        return aiSearchStreamService.stream(request, username);
+    }
+
+    /**
+     * AI 검색 실행 계획/추적 (관리자용, LLM 호출 없음)
+     * - 단계별 소요 시간(embed/score/load/pack), 검색 대상 청크 수, 검색 결과 청크, 프롬프트 전문
+     *
+     * @param request 검색 요청 (질문, topK, 카테고리 필터 등)
+     * @return 검색 추적 결과
+     */
+    @PostMapping("/explain")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<AiSearchExplainResponse> explainAiSearch(@Valid @RequestBody AiSearchRequest request) {
+        log.info("AI 검색 실행 계획 요청: {}", request.getQuestion());
+        return ResponseEntity.ok(aiSearchService.explain(request));
+    }
+
     /**
      * 문서 임베딩 생성 (수동 트리거용)
      *
@@ -97,6 +152,7 @@ public class WikiSearchController {
 
     /**
      * 비동기 임베딩 생성 (진행률 SSE 전송)
+     * - 임베딩 작업 큐에 최우선 순위로 등록
      *
      * @param documentId Wiki 문서 ID
      * @return 비동기 작업 시작 확인 메시지
@@ -110,7 +166,7 @@ public class WikiSearchController {
         }
 
         log.info("비동기 임베딩 생성 요청: documentId={}", documentId);
-        aiSearchService.generateEmbeddingsAsync(documentId);
+        embeddingJobService.enqueue(ResourceType.WIKI, documentId, EmbeddingJob.PRIORITY_MANUAL);
         return ResponseEntity.ok("임베딩 생성이 시작되었습니다");
     }
 
@@ -178,83 +234,115 @@ public class WikiSearchController {
     // ==================== 통합 임베딩 API (비동기) ====================
 
     /**
-     * 전체 Wiki 문서 임베딩 생성 (비동기)
+     * 전체 Wiki 문서 임베딩 생성 (비동기, 일괄 임베딩 작업)
      *
      * @return 시작 메시지
      */
     @PostMapping("/embeddings/wiki/all")
     public ResponseEntity<Map<String, Object>> generateAllWikiEmbeddings() {
-        // 이미 진행 중인지 확인
-        if (bulkProgressService.isInProgress("WIKI")) {
-            log.warn("이미 Wiki 임베딩 생성 중");
-            return ResponseEntity.badRequest().body(Map.of(
-                    "message", "이미 Wiki 임베딩 생성이 진행 중입니다",
-                    "status", "IN_PROGRESS"
-            ));
-        }
-
-        log.info("전체 Wiki 문서 임베딩 생성 시작 (비동기)");
-        int totalCount = contentEmbeddingService.getWikiDocumentCount();
-        contentEmbeddingService.generateAllWikiEmbeddingsAsync(bulkProgressService);
-        return ResponseEntity.ok(Map.of(
-                "message", "Wiki 문서 임베딩 생성이 시작되었습니다",
-                "totalCount", totalCount,
-                "status", "STARTED"
-        ));
+        return startBulkEmbedding(ResourceType.WIKI, "Wiki 문서");
     }
 
     /**
-     * 전체 SR 임베딩 생성 (비동기)
+     * 전체 SR 임베딩 생성 (비동기, 일괄 임베딩 작업)
      *
      * @return 시작 메시지
      */
     @PostMapping("/embeddings/sr/all")
     public ResponseEntity<Map<String, Object>> generateAllSrEmbeddings() {
-        // 이미 진행 중인지 확인
-        if (bulkProgressService.isInProgress("SR")) {
-            log.warn("이미 SR 임베딩 생성 중");
-            return ResponseEntity.badRequest().body(Map.of(
-                    "message", "이미 SR 임베딩 생성이 진행 중입니다",
-                    "status", "IN_PROGRESS"
-            ));
-        }
-
-        log.info("전체 SR 임베딩 생성 시작 (비동기)");
-        int totalCount = contentEmbeddingService.getSrCount();
-        contentEmbeddingService.generateAllSrEmbeddingsAsync(bulkProgressService);
-        return ResponseEntity.ok(Map.of(
-                "message", "SR 임베딩 생성이 시작되었습니다",
-                "totalCount", totalCount,
-                "status", "STARTED"
-        ));
+        return startBulkEmbedding(ResourceType.SR, "SR");
     }
 
     /**
-     * 전체 현황조사 임베딩 생성 (비동기)
+     * 전체 현황조사 임베딩 생성 (비동기, 일괄 임베딩 작업)
      *
      * @return 시작 메시지
      */
     @PostMapping("/embeddings/survey/all")
     public ResponseEntity<Map<String, Object>> generateAllSurveyEmbeddings() {
-        // 이미 진행 중인지 확인
-        if (bulkProgressService.isInProgress("SURVEY")) {
-            log.warn("이미 현황조사 임베딩 생성 중");
+        return startBulkEmbedding(ResourceType.SURVEY, "현황조사");
+    }
+
+    private ResponseEntity<Map<String, Object>> startBulkEmbedding(ResourceType resourceType, String name) {
+        // 이미 진행 중(실행/일시 정지)인지 확인
+        BulkEmbeddingJobService.JobView active = bulkEmbeddingJobService.findActive(resourceType);
+        if (active != null) {
+            log.warn("이미 {} 일괄 임베딩 작업 있음: jobId={}, {}", resourceType, active.id(), active.status());
             return ResponseEntity.badRequest().body(Map.of(
-                    "message", "이미 현황조사 임베딩 생성이 진행 중입니다",
-                    "status", "IN_PROGRESS"
+                    "message", active.status() == BulkEmbeddingJob.Status.PAUSED
+                            ? "일시 정지된 " + name + " 임베딩 작업이 있습니다 (재개 또는 취소)"
+                            : "이미 " + name + " 임베딩 생성이 진행 중입니다",
+                    "jobId", active.id(),
+                    "status", active.status() == BulkEmbeddingJob.Status.PAUSED ? "PAUSED" : "IN_PROGRESS"
             ));
         }
 
-        log.info("전체 현황조사 임베딩 생성 시작 (비동기)");
-        int totalCount = contentEmbeddingService.getSurveyCount();
-        contentEmbeddingService.generateAllSurveyEmbeddingsAsync(bulkProgressService);
+        log.info("전체 {} 임베딩 생성 시작 (비동기)", resourceType);
+        BulkEmbeddingJobService.JobView job = bulkEmbeddingJobService.start(resourceType);
         return ResponseEntity.ok(Map.of(
-                "message", "현황조사 임베딩 생성이 시작되었습니다",
-                "totalCount", totalCount,
+                "message", name + " 임베딩 생성이 시작되었습니다",
+                "jobId", job.id(),
+                "totalCount", job.totalCount(),
                 "status", "STARTED"
         ));
     }
 
+    /**
+     * 일괄 임베딩 일시 정지 (관리자, 실행 중인 페이지가 끝나면 멈춤)
+     *
+     * @param resourceType 리소스 타입 (WIKI, SR, SURVEY)
+     * @return 작업 상태
+     */
+    @PostMapping("/embeddings/bulk/{resourceType}/pause")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<BulkEmbeddingJobService.JobView> pauseBulkEmbedding(@PathVariable String resourceType) {
+        return ResponseEntity.ok(bulkEmbeddingJobService.pause(parseResourceType(resourceType)));
+    }
+
+    /**
+     * 일괄 임베딩 재개 (관리자, 마지막 저장 커서 다음 리소스부터)
+     *
+     * @param resourceType 리소스 타입 (WIKI, SR, SURVEY)
+     * @return 작업 상태
+     */
+    @PostMapping("/embeddings/bulk/{resourceType}/resume")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<BulkEmbeddingJobService.JobView> resumeBulkEmbedding(@PathVariable String resourceType) {
+        return ResponseEntity.ok(bulkEmbeddingJobService.resume(parseResourceType(resourceType)));
+    }
+
+    /**
+     * 일괄 임베딩 취소 (관리자, 이미 저장한 임베딩은 유지)
+     *
+     * @param resourceType 리소스 타입 (WIKI, SR, SURVEY)
+     * @return 작업 상태
+     */
+    @PostMapping("/embeddings/bulk/{resourceType}/cancel")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<BulkEmbeddingJobService.JobView> cancelBulkEmbedding(@PathVariable String resourceType) {
+        return ResponseEntity.ok(bulkEmbeddingJobService.cancel(parseResourceType(resourceType)));
+    }
+
+    private ResourceType parseResourceType(String resourceType) {
+        try {
+            return ResourceType.valueOf(resourceType.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new CustomException("지원하지 않는 리소스 타입입니다: " + resourceType,
+                    HttpStatus.BAD_REQUEST, "INVALID_RESOURCE_TYPE");
+        }
+    }
+
+    /**
+     * 최근 일괄 임베딩 작업 목록 (관리자, 커서/카운터/상태)
+     *
+     * @return 최신순 20건
+     */
+    @GetMapping("/embeddings/bulk/jobs")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<List<BulkEmbeddingJobService.JobView>> getBulkEmbeddingJobs() {
+        return ResponseEntity.ok(bulkEmbeddingJobService.getRecentJobs());
+    }
+
     /**
      * 일괄 임베딩 진행 상태 조회 (폴링용)
      *
@@ -355,6 +443,181 @@ public class WikiSearchController {
         ));
     }
 
+    // ==================== 임베딩 작업 큐 API ====================
+
+    /**
+     * 임베딩 작업 큐 상태 조회
+     *
+     * @return 대기/실행 가능/실행 중/실패 작업 수
+     */
+    @GetMapping("/embeddings/queue/stats")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<EmbeddingJobService.QueueStats> getEmbeddingQueueStats() {
+        return ResponseEntity.ok(embeddingJobService.getStats());
+    }
+
+    /**
+     * 오래된/누락 임베딩 현황 조회
+     *
+     * @return 리소스 타입별 임베딩이 없거나 오래된 리소스 수, 마지막 보충 주기 결과
+     */
+    @GetMapping("/embeddings/stale/stats")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<StaleEmbeddingService.Stats> getStaleEmbeddingStats() {
+        return ResponseEntity.ok(staleEmbeddingService.getStats());
+    }
+
+    /**
+     * 오래된/누락 임베딩 보충 즉시 실행 (1주기, batch-size 한도 적용)
+     *
+     * @return 실행 후 현황
+     */
+    @PostMapping("/embeddings/stale/backfill")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<StaleEmbeddingService.Stats> runStaleEmbeddingBackfill() {
+        StaleEmbeddingService.Stats stats = staleEmbeddingService.runNow();
+        log.info("오래된 임베딩 보충 수동 실행: {}건 등록, 백로그 {}건", stats.lastEnqueued(), stats.total());
+        return ResponseEntity.ok(stats);
+    }
+
+    /**
+     * Ollama 연결 상태 조회
+     *
+     * @return 헬스 체크 결과, 서킷 브레이커 상태, 작업별 지연시간 백분위수(p50/p95/p99)
+     */
+    @GetMapping("/ollama/status")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<OllamaGateway.Status> getOllamaStatus() {
+        return ResponseEntity.ok(ollamaGateway.getStatus());
+    }
+
+    /**
+     * LLM 토큰 사용량 리포트
+     *
+     * @param minutes 조회 기간 (분, 기본값: 60, 최대 1440)
+     * @return 용도별 분당 토큰 수/지연시간 백분위수, 분 단위 추이
+     */
+    @GetMapping("/llm-usage/report")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<LlmUsageService.UsageReport> getLlmUsageReport(
+            @RequestParam(defaultValue = "60") int minutes) {
+        return ResponseEntity.ok(llmUsageService.getReport(minutes));
+    }
+
+    /**
+     * 재시도 한도를 넘긴 임베딩 작업 전체 재시도
+     *
+     * @return 재시도 등록한 작업 수
+     */
+    @PostMapping("/embeddings/queue/retry-failed")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, Object>> retryFailedEmbeddingJobs() {
+        int retried = embeddingJobService.retryFailed();
+        log.info("실패한 임베딩 작업 재시도 등록: {}건", retried);
+        return ResponseEntity.ok(Map.of(
+                "message", "실패한 임베딩 작업을 다시 등록했습니다",
+                "retriedCount", retried
+        ));
+    }
+
+    // ==================== 벡터 인덱스 API ====================
+
+    /**
+     * 벡터 인덱스 통계 조회
+     *
+     * @return 인덱스 적재 여부, 청크 수, 메모리 사용량
+     */
+    @GetMapping("/index/stats")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<VectorIndexService.IndexStats> getIndexStats() {
+        return ResponseEntity.ok(vectorIndexService.getStats());
+    }
+
+    /**
+     * 통합 검색 인덱스 HNSW recall@K / 지연시간 측정
+     *
+     * @param sampleSize 샘플 질문 수 (기본값: 100)
+     * @param topK K (기본값: 5)
+     * @param efValues 측정할 ef 값 목록 (기본값: 16,32,64,128,256)
+     * @return ef 값별 recall@K 및 평균/p95 지연시간 (전수 검색 대비)
+     */
+    @GetMapping("/index/hnsw-report")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<VectorIndexService.HnswReport> getHnswReport(
+            @RequestParam(defaultValue = "100") int sampleSize,
+            @RequestParam(defaultValue = "5") int topK,
+            @RequestParam(defaultValue = "16,32,64,128,256") List<Integer> efValues) {
+        log.info("HNSW 측정 요청: sampleSize={}, topK={}, efValues={}", sampleSize, topK, efValues);
+        return ResponseEntity.ok(vectorIndexService.evaluateContentIndex(
+                Math.min(Math.max(sampleSize, 1), 1000), Math.max(topK, 1), efValues));
+    }
+
+    /**
+     * 통합 검색 인덱스 FLOAT32 / INT8 양자화 비교 측정
+     *
+     * @param sampleSize 샘플 질문 수 (기본값: 50)
+     * @param topK K (기본값: 5)
+     * @return 메모리, 지연시간, Top-K 일치율 비교 결과
+     */
+    @GetMapping("/index/quantization-report")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<VectorIndexService.QuantizationReport> getQuantizationReport(
+            @RequestParam(defaultValue = "50") int sampleSize,
+            @RequestParam(defaultValue = "5") int topK) {
+        log.info("양자화 측정 요청: sampleSize={}, topK={}", sampleSize, topK);
+        return ResponseEntity.ok(vectorIndexService.evaluateQuantization(
+                Math.min(Math.max(sampleSize, 1), 500), Math.max(topK, 1)));
+    }
+
+    /**
+     * 벡터 인덱스 스냅샷 즉시 저장 (재기동 시 DB 재적재 생략)
+     *
+     * @return 처리 결과 메시지
+     */
+    @PostMapping("/index/snapshot")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<String> saveIndexSnapshot() {
+        int saved = vectorIndexService.saveSnapshots();
+        log.info("벡터 인덱스 스냅샷 저장 요청: {}개 저장", saved);
+        return ResponseEntity.ok(saved > 0 ? "스냅샷 저장 완료: " + saved + "개" : "변경 사항이 없거나 스냅샷이 비활성화되어 있습니다");
+    }
+
+    /**
+     * 벡터 인덱스 재구성 (스냅샷 무시, DB에서 전체 재적재)
+     *
+     * @return 처리 결과 메시지
+     */
+    @PostMapping("/index/rebuild")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<String> rebuildIndex() {
+        log.info("벡터 인덱스 재구성 요청");
+        vectorIndexService.rebuild();
+        return ResponseEntity.ok("벡터 인덱스 재구성 완료");
+    }
+
+    /**
+     * 질문 임베딩 캐시 통계 조회
+     *
+     * @return 캐시 크기, 적중/미스 수, 적중률
+     */
+    @GetMapping("/query-cache/stats")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<QueryEmbeddingCache.Stats> getQueryCacheStats() {
+        return ResponseEntity.ok(queryEmbeddingCache.getStats());
+    }
+
+    /**
+     * 질문 임베딩 캐시 초기화
+     *
+     * @return 처리 결과 메시지
+     */
+    @DeleteMapping("/query-cache")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<String> clearQueryCache() {
+        queryEmbeddingCache.invalidateAll();
+        return ResponseEntity.ok("질문 임베딩 캐시 초기화 완료");
+    }
+
     // ==================== 검색 이력 API ====================
 
     /**
@@ -0,0 +1,126 @@
+package com.srmanagement.wiki.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * AI 검색 실행 계획/추적 응답 DTO (관리자용, LLM 호출 없음)
+ * - 질문 임베딩 → 벡터 검색 → 본문 조회 → 컨텍스트 구성까지 실제 검색과 같은 경로로 실행한 결과
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AiSearchExplainResponse {
+
+    /**
+     * 검색 질문
+     */
+    private String question;
+
+    /**
+     * 통합 검색 여부 (false면 Wiki 전용 인덱스)
+     */
+    private Boolean unifiedSearch;
+
+    /**
+     * 검색한 벡터 인덱스 이름
+     */
+    private String index;
+
+    /**
+     * 인덱스 전체 청크 수
+     */
+    private Integer indexSize;
+
+    /**
+     * 인덱스 벡터 저장 정밀도 (FLOAT32, INT8)
+     */
+    private String precision;
+
+    /**
+     * 적용된 메타데이터 필터
+     */
+    private String filter;
+
+    /**
+     * 단계별 소요 시간/처리 규모 (generate 제외)
+     */
+    private AiSearchResponse.StageTimings stages;
+
+    /**
+     * 벡터 검색 결과 (유사도 순)
+     */
+    @Builder.Default
+    private List<Hit> hits = new ArrayList<>();
+
+    /**
+     * 답변 생성 시 참고 문서로 전달될 목록
+     */
+    @Builder.Default
+    private List<AiSearchResponse.SourceDocument> sources = new ArrayList<>();
+
+    /**
+     * 프롬프트 컨텍스트 패킹 통계
+     */
+    private AiSearchResponse.ContextStats context;
+
+    /**
+     * LLM에 전달될 프롬프트 전문
+     */
+    private String prompt;
+
+    /**
+     * 벡터 검색 결과 청크 DTO
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Hit {
+        /**
+         * 리소스 타입 (WIKI, SR, SURVEY)
+         */
+        private String resourceType;
+
+        /**
+         * 리소스 ID
+         */
+        private Long resourceId;
+
+        /**
+         * 임베딩(청크) ID
+         */
+        private Long embeddingId;
+
+        /**
+         * 청크 순서
+         */
+        private Integer chunkIndex;
+
+        /**
+         * 리소스 제목
+         */
+        private String title;
+
+        /**
+         * 청크 섹션 경로
+         */
+        private String sectionPath;
+
+        /**
+         * 유사도 점수
+         */
+        private Double score;
+
+        /**
+         * 프롬프트 컨텍스트 포함 여부 (리소스 단위, 토큰 예산 초과 시 false)
+         */
+        private Boolean included;
+    }
+}
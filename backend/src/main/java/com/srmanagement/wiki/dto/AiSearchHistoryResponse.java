@@ -25,6 +25,7 @@ public class AiSearchHistoryResponse {
     private Integer sourceCount;
     private List<String> resourceTypes;
     private Long processingTimeMs;
+    private AiSearchResponse.StageTimings stages;
     private LocalDateTime createdAt;
     private String username;
 
@@ -46,8 +47,31 @@ public class AiSearchHistoryResponse {
                 .sourceCount(history.getSourceCount())
                 .resourceTypes(types)
                 .processingTimeMs(history.getProcessingTimeMs())
+                .stages(stagesOf(history))
                 .createdAt(history.getCreatedAt())
                 .username(history.getUser() != null ? history.getUser().getUsername() : null)
                 .build();
     }
+
+    /**
+     * 저장된 단계별 소요 시간 (단계 기록 이전 이력이나 캐시된 답변은 null)
+     */
+    private static AiSearchResponse.StageTimings stagesOf(AiSearchHistory history) {
+        if (history.getEmbedTimeMs() == null && history.getGenerateTimeMs() == null) {
+            return null;
+        }
+        return AiSearchResponse.StageTimings.builder()
+                .embedMs(history.getEmbedTimeMs())
+                .scoreMs(history.getScoreTimeMs())
+                .loadMs(history.getLoadTimeMs())
+                .packMs(history.getPackTimeMs())
+                .generateMs(history.getGenerateTimeMs())
+                .chunksScanned(history.getChunksScanned())
+                .promptChars(history.getPromptChars())
+                .promptTokens(history.getPromptTokens())
+                .generatedTokens(history.getGeneratedTokens())
+                .promptEvalMs(history.getPromptEvalMs())
+                .evalMs(history.getEvalMs())
+                .build();
+    }
 }
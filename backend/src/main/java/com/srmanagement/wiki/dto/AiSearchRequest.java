@@ -46,6 +46,19 @@ public class AiSearchRequest {
      */
     private List<String> resourceTypes;
 
+    /**
+     * 카테고리 필터 (선택적, 통합 검색만 적용, null이면 전체)
+     * Wiki: 카테고리명, SR: 분류, Survey: 기관명
+     */
+    private List<String> categories;
+
+    /**
+     * 상태 필터 (선택적, 통합 검색만 적용, null이면 전체)
+     * SR: OPEN, IN_PROGRESS, RESOLVED, CLOSED
+     * Survey: PENDING, IN_PROGRESS, COMPLETED
+     */
+    private List<String> statuses;
+
     /**
      * 통합 검색 사용 여부 (기본값: true)
      * true: ContentEmbedding 테이블 사용 (Wiki, SR, Survey 통합)
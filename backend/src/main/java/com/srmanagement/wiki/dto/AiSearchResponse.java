@@ -33,6 +33,32 @@ public class AiSearchResponse {
      */
     private Long processingTimeMs;
 
+    /**
+     * 캐시된 답변 여부 (LLM 호출 생략)
+     */
+    @Builder.Default
+    private Boolean cached = false;
+
+    /**
+     * 참고 문서 검색 소요 시간 (ms, 질문 임베딩 + 벡터 검색 + 컨텍스트 구성)
+     */
+    private Long retrievalTimeMs;
+
+    /**
+     * LLM 답변 생성 소요 시간 (ms)
+     */
+    private Long generationTimeMs;
+
+    /**
+     * 프롬프트 컨텍스트 패킹 통계
+     */
+    private ContextStats context;
+
+    /**
+     * 단계별 소요 시간/처리 규모 (캐시된 답변은 null)
+     */
+    private StageTimings stages;
+
     /**
      * 참고 문서 정보 DTO
      */
@@ -86,4 +112,159 @@ public class AiSearchResponse {
          */
         private Double relevanceScore;
     }
+
+    /**
+     * 프롬프트 컨텍스트 패킹 통계 DTO
+     * - 토큰 수는 토크나이저 없이 추정한 값 (llmPromptTokens만 LLM 보고값)
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class ContextStats {
+        /**
+         * 패킹 사용 여부 (false면 검색된 청크를 그대로 사용)
+         */
+        private Boolean packingEnabled;
+
+        /**
+         * 벡터 검색으로 찾은 청크 수
+         */
+        private Integer candidateChunks;
+
+        /**
+         * 중복으로 제외한 청크 수
+         */
+        private Integer duplicateChunks;
+
+        /**
+         * 인접 청크와 병합된 청크 수
+         */
+        private Integer mergedChunks;
+
+        /**
+         * 프롬프트에 포함된 컨텍스트 블록 수
+         */
+        private Integer blocks;
+
+        /**
+         * 토큰 예산 초과로 제외한 블록 수
+         */
+        private Integer overBudgetBlocks;
+
+        /**
+         * 토큰 예산에 맞게 잘린 블록 수
+         */
+        private Integer truncatedBlocks;
+
+        /**
+         * 컨텍스트 토큰 예산
+         */
+        private Integer tokenBudget;
+
+        /**
+         * 패킹 전 예상 프롬프트 토큰 수
+         */
+        private Integer originalPromptTokens;
+
+        /**
+         * 패킹 후 예상 프롬프트 토큰 수
+         */
+        private Integer packedPromptTokens;
+
+        /**
+         * 프롬프트 토큰 감소율 (%)
+         */
+        private Double reductionPercent;
+
+        /**
+         * LLM이 보고한 실제 프롬프트 토큰 수 (보고하지 않으면 null)
+         */
+        private Long llmPromptTokens;
+    }
+
+    /**
+     * AI 검색 단계별 소요 시간/처리 규모 DTO
+     * - 단계 순서: embed → score → load → pack → generate (실행하지 않은 단계는 null)
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class StageTimings {
+        /**
+         * 질문 임베딩 소요 시간 (ms)
+         */
+        private Long embedMs;
+
+        /**
+         * 벡터 인덱스 Top-K 검색 소요 시간 (ms)
+         */
+        private Long scoreMs;
+
+        /**
+         * 청크 본문 DB 조회 소요 시간 (ms)
+         */
+        private Long loadMs;
+
+        /**
+         * 컨텍스트/프롬프트 구성 소요 시간 (ms)
+         */
+        private Long packMs;
+
+        /**
+         * LLM 답변 생성 소요 시간 (ms)
+         */
+        private Long generateMs;
+
+        /**
+         * 질문 임베딩 캐시 적중 여부
+         */
+        private Boolean queryEmbeddingCached;
+
+        /**
+         * 검색 대상 청크 수 (메타데이터 필터 적용 후)
+         */
+        private Integer chunksScanned;
+
+        /**
+         * HNSW 근사 검색 사용 여부 (false면 대상 청크 전수 계산)
+         */
+        private Boolean approximateSearch;
+
+        /**
+         * 벡터 검색 결과 수
+         */
+        private Integer hitCount;
+
+        /**
+         * 본문을 조회한 청크 수
+         */
+        private Integer loadedChunks;
+
+        /**
+         * LLM 프롬프트 문자 수
+         */
+        private Integer promptChars;
+
+        /**
+         * LLM 프롬프트 토큰 수 (Ollama 보고값)
+         */
+        private Long promptTokens;
+
+        /**
+         * LLM 생성 토큰 수
+         */
+        private Long generatedTokens;
+
+        /**
+         * LLM 프롬프트 처리 시간 (밀리초, Ollama 보고값)
+         */
+        private Long promptEvalMs;
+
+        /**
+         * LLM 토큰 생성 시간 (밀리초, Ollama 보고값)
+         */
+        private Long evalMs;
+    }
 }
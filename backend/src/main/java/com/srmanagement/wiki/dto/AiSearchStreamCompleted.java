@@ -0,0 +1,62 @@
+package com.srmanagement.wiki.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * AI 검색 스트리밍 완료 이벤트 DTO
+ * - SSE done 이벤트로 전송 (답변 본문은 token 이벤트로 이미 전송됨)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AiSearchStreamCompleted {
+
+    /**
+     * 전체 소요 시간 (ms)
+     */
+    private Long processingTimeMs;
+
+    /**
+     * 참고 문서 검색 소요 시간 (ms, 질문 임베딩 + 벡터 검색)
+     */
+    private Long retrievalTimeMs;
+
+    /**
+     * 첫 답변 토큰까지 소요 시간 (ms)
+     */
+    private Long firstTokenMs;
+
+    /**
+     * LLM 답변 생성 소요 시간 (ms)
+     */
+    private Long generationTimeMs;
+
+    /**
+     * 참고 문서 수
+     */
+    private Integer sourceCount;
+
+    /**
+     * 캐시된 답변 여부 (LLM 호출 생략)
+     */
+    private Boolean cached;
+
+    /**
+     * 저장된 검색 이력 ID (비로그인 또는 저장 실패 시 null)
+     */
+    private Long historyId;
+
+    /**
+     * 프롬프트 컨텍스트 패킹 통계
+     */
+    private AiSearchResponse.ContextStats context;
+
+    /**
+     * 단계별 소요 시간/처리 규모 (캐시된 답변은 null)
+     */
+    private AiSearchResponse.StageTimings stages;
+}
@@ -14,13 +14,18 @@ import lombok.NoArgsConstructor;
 @Builder
 public class BulkEmbeddingProgressEvent {
 
+    /**
+     * 일괄 임베딩 작업 ID (일시 정지/재개/취소 대상)
+     */
+    private Long jobId;
+
     /**
      * 리소스 타입 (WIKI, SR, SURVEY)
      */
     private String resourceType;
 
     /**
-     * 상태 (STARTED, IN_PROGRESS, COMPLETED, FAILED)
+     * 상태 (STARTED, IN_PROGRESS, PAUSED, CANCELLED, COMPLETED, FAILED)
      */
     private String status;
 
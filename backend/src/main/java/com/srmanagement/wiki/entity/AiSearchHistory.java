@@ -64,6 +64,58 @@ public class AiSearchHistory {
     @Column(name = "processing_time_ms")
     private Long processingTimeMs;
 
+    /**
+     * 단계별 소요 시간 (밀리초, 캐시된 답변은 NULL)
+     * - 질문 임베딩 / 벡터 검색 / 청크 본문 조회 / 컨텍스트 구성 / LLM 답변 생성
+     */
+    @Column(name = "embed_time_ms")
+    private Long embedTimeMs;
+
+    @Column(name = "score_time_ms")
+    private Long scoreTimeMs;
+
+    @Column(name = "load_time_ms")
+    private Long loadTimeMs;
+
+    @Column(name = "pack_time_ms")
+    private Long packTimeMs;
+
+    @Column(name = "generate_time_ms")
+    private Long generateTimeMs;
+
+    /**
+     * 벡터 검색 대상 청크 수 (메타데이터 필터 적용 후)
+     */
+    @Column(name = "chunks_scanned")
+    private Integer chunksScanned;
+
+    /**
+     * LLM 프롬프트 문자 수
+     */
+    @Column(name = "prompt_chars")
+    private Integer promptChars;
+
+    /**
+     * LLM 프롬프트 토큰 수 (Ollama prompt_eval_count)
+     */
+    @Column(name = "prompt_tokens")
+    private Long promptTokens;
+
+    /**
+     * LLM 생성 토큰 수
+     */
+    @Column(name = "generated_tokens")
+    private Long generatedTokens;
+
+    /**
+     * LLM 프롬프트 처리 / 토큰 생성 시간 (밀리초, Ollama prompt_eval_duration / eval_duration)
+     */
+    @Column(name = "prompt_eval_ms")
+    private Long promptEvalMs;
+
+    @Column(name = "eval_ms")
+    private Long evalMs;
+
     /**
      * 검색 시간
      */
@@ -0,0 +1,126 @@
+package com.srmanagement.wiki.entity;
+
+import com.srmanagement.wiki.entity.ContentEmbedding.ResourceType;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 일괄 임베딩 작업 엔티티 (리소스 타입 전체 재임베딩 1회 = 1행)
+ * - 리소스 ID 오름차순으로 페이지 단위 처리, 페이지가 끝날 때마다 커서(lastProcessedId)와 카운터를 저장
+ * - 서버가 중간에 종료되어도 커서 다음 리소스부터 이어서 실행 (heartbeatAt 만료 후 다른/재기동 인스턴스가 선점)
+ * - 일시 정지/취소는 상태만 바꾸고 실행 스레드가 다음 페이지 시작 전에 확인하여 멈춤
+ */
+@Entity
+@Table(name = "bulk_embedding_job",
+       indexes = {
+           @Index(name = "idx_bulk_embedding_job_type", columnList = "resourceType, status")
+       })
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkEmbeddingJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * 리소스 유형 (WIKI, SR, SURVEY)
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private ResourceType resourceType;
+
+    /**
+     * 작업 상태
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Status status;
+
+    /**
+     * 마지막으로 처리 완료한 리소스 ID (이 값보다 큰 ID부터 이어서 처리, 시작 시 0)
+     */
+    @Column(nullable = false)
+    private Long lastProcessedId;
+
+    /**
+     * 작업 시작 시점의 대상 리소스 수
+     */
+    @Column(nullable = false)
+    private Integer totalCount;
+
+    /**
+     * 처리한 리소스 수 (성공 + 실패)
+     */
+    @Column(nullable = false)
+    private Integer processedCount;
+
+    @Column(nullable = false)
+    private Integer successCount;
+
+    @Column(nullable = false)
+    private Integer failureCount;
+
+    /**
+     * 저장한 청크 수
+     */
+    @Column(nullable = false)
+    private Long chunkCount;
+
+    /**
+     * 실행 중인 인스턴스 식별자
+     */
+    @Column(length = 100)
+    private String lockedBy;
+
+    /**
+     * 실행 인스턴스의 마지막 생존 신호 (만료되면 다른 인스턴스가 이어서 실행)
+     */
+    private LocalDateTime heartbeatAt;
+
+    /**
+     * 실패/자동 일시 정지 사유
+     */
+    @Column(length = 1000)
+    private String lastError;
+
+    /**
+     * 종료 시각 (완료, 실패, 취소)
+     */
+    private LocalDateTime finishedAt;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        updatedAt = LocalDateTime.now();
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 작업 상태 Enum
+     */
+    public enum Status {
+        RUNNING,    // 실행 중 (또는 실행 인스턴스 종료 후 재개 대기)
+        PAUSED,     // 일시 정지 (재개 시 커서 다음부터)
+        CANCELLED,  // 취소
+        COMPLETED,  // 완료
+        FAILED      // 실패 (예상치 못한 오류)
+    }
+}
@@ -1,10 +1,12 @@
 package com.srmanagement.wiki.entity;
 
+import com.srmanagement.converter.EmbeddingVectorConverter;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.Length;
 
 import java.time.LocalDateTime;
 
@@ -62,12 +64,39 @@ public class ContentEmbedding {
     private String content;
 
     /**
-     * 임베딩 벡터 (JSON 배열 형태로 저장)
-     * Snowflake Arctic Embed 모델: 768차원
+     * 임베딩 벡터 (바이너리: 헤더 + little-endian float32)
+     * Snowflake Arctic Embed 모델: 768차원 (약 3KB)
+     * 차원 수 제한이 없도록 대용량 바이너리 타입 사용 (MySQL LONGBLOB, PostgreSQL BYTEA)
      */
-    @Column(columnDefinition = "TEXT", nullable = false)
+    @Convert(converter = EmbeddingVectorConverter.class)
+    @Column(name = "embedding_data", length = Length.LONG32)
+    private float[] embeddingData;
+
+    /**
+     * 임베딩 벡터 (JSON 배열 형태, 레거시)
+     * - 바이너리 컬럼(embeddingData) 도입 이전 데이터
+     * - 백그라운드 백필 완료 후 NULL로 정리됨
+     */
+    @Column(columnDefinition = "TEXT")
     private String embeddingVector;
 
+    /**
+     * 청크 텍스트 해시 (SHA-256, 재임베딩 시 변경되지 않은 청크 판별)
+     */
+    @Column(length = 64)
+    private String contentHash;
+
+    /**
+     * 벡터를 생성한 임베딩 모델 ID (모델명의 CRC32, 모델 변경 시 재사용하지 않음)
+     */
+    private Integer embeddingModelId;
+
+    /**
+     * 청크가 속한 마크다운 섹션 경로 (예: "설치 > 요구사항", 제목 없는 영역이면 빈 문자열)
+     */
+    @Column(length = 500)
+    private String sectionPath;
+
     /**
      * 문서 청크 순서 (긴 문서를 여러 청크로 나눈 경우)
      */
@@ -0,0 +1,141 @@
+package com.srmanagement.wiki.entity;
+
+import com.srmanagement.wiki.entity.ContentEmbedding.ResourceType;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 임베딩 작업 큐 엔티티
+ * - 리소스 저장 트랜잭션에서 함께 기록되어 서버 재기동/큐 포화 시에도 유실되지 않음
+ * - 같은 리소스의 대기(PENDING) 작업은 하나로 합침 (pendingKey UNIQUE, 실행 중/실패 작업은 NULL)
+ * - 워커는 조건부 UPDATE로 작업을 선점 (H2, MySQL, PostgreSQL, CUBRID 공통)
+ * - 성공한 작업은 삭제, 재시도 한도를 넘긴 작업은 FAILED로 보관
+ */
+@Entity
+@Table(name = "embedding_job",
+       indexes = {
+           @Index(name = "idx_embedding_job_runnable", columnList = "status, nextRunAt"),
+           @Index(name = "uk_embedding_job_pending_key", columnList = "pendingKey", unique = true),
+           @Index(name = "idx_embedding_job_resource", columnList = "resourceType, resourceId")
+       })
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EmbeddingJob {
+
+    /** 수동 임베딩 요청 (관리 화면/문서 화면 버튼) */
+    public static final int PRIORITY_MANUAL = 100;
+
+    /** 리소스 생성/수정 */
+    public static final int PRIORITY_EDIT = 50;
+
+    /** 일괄 등록 (CSV 업로드 등) */
+    public static final int PRIORITY_BULK = 10;
+
+    /** 오래된/누락 임베딩 백그라운드 보충 */
+    public static final int PRIORITY_BACKFILL = 1;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * 리소스 유형 (WIKI, SR, SURVEY)
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private ResourceType resourceType;
+
+    /**
+     * 리소스 ID
+     */
+    @Column(nullable = false)
+    private Long resourceId;
+
+    /**
+     * 우선순위 (클수록 먼저 처리)
+     */
+    @Column(nullable = false)
+    private Integer priority;
+
+    /**
+     * 작업 상태
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Status status;
+
+    /**
+     * 대기 작업 중복 제거 키 (리소스 유형:ID, PENDING 상태일 때만 값 있음)
+     */
+    @Column(length = 50)
+    private String pendingKey;
+
+    /**
+     * 실행 시도 횟수
+     */
+    @Column(nullable = false)
+    private Integer attempts;
+
+    /**
+     * 다음 실행 가능 시각 (재시도 백오프)
+     */
+    @Column(nullable = false)
+    private LocalDateTime nextRunAt;
+
+    /**
+     * 작업을 선점한 워커 (인스턴스 식별자)
+     */
+    @Column(length = 100)
+    private String lockedBy;
+
+    /**
+     * 선점 시각 (임대 만료 판단용)
+     */
+    private LocalDateTime lockedAt;
+
+    /**
+     * 마지막 실패 사유
+     */
+    @Column(length = 1000)
+    private String lastError;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        updatedAt = LocalDateTime.now();
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 대기 작업 중복 제거 키
+     */
+    public static String pendingKeyOf(ResourceType resourceType, Long resourceId) {
+        return resourceType.name() + ":" + resourceId;
+    }
+
+    /**
+     * 작업 상태 Enum
+     */
+    public enum Status {
+        PENDING,  // 실행 대기 (재시도 대기 포함)
+        RUNNING,  // 워커가 선점하여 실행 중
+        FAILED    // 재시도 한도 초과 (관리자 재시도 대기)
+    }
+}
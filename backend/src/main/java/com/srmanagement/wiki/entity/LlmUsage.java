@@ -0,0 +1,105 @@
+package com.srmanagement.wiki.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * LLM 호출 사용량 엔티티 (호출 1건당 1행)
+ * - 토큰 수/소요 시간은 Ollama가 응답에 보고한 값 (prompt_eval_count, eval_count, *_duration)
+ * - 호출 지연시간은 서버에서 측정한 값 (대기열, 네트워크 포함)
+ * - GPU 용량 계획용 분당 토큰 수/지연시간 집계에 사용
+ */
+@Entity
+@Table(name = "llm_usage",
+       indexes = {
+           @Index(name = "idx_llm_usage_created", columnList = "createdAt"),
+           @Index(name = "idx_llm_usage_purpose", columnList = "purpose, createdAt")
+       })
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LlmUsage {
+
+    /**
+     * LLM 호출 용도
+     */
+    public enum Purpose {
+        AI_SEARCH,             // AI 검색 답변 (일괄 응답)
+        AI_SEARCH_STREAM,      // AI 검색 답변 (스트리밍)
+        DOCUMENT_SUMMARY,      // Wiki 문서 요약
+        STRUCTURE_ENHANCEMENT, // PDF 변환 구조 보정 (표 변환, 구조 분석)
+        VISION                 // PDF 표 이미지 분석
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * 호출 용도
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 30)
+    private Purpose purpose;
+
+    /**
+     * 모델명
+     */
+    @Column(length = 100)
+    private String model;
+
+    /**
+     * 관련 리소스 ID (문서 요약: 문서 ID, AI 검색: 없음)
+     */
+    private Long resourceId;
+
+    /**
+     * 프롬프트 토큰 수 (prompt_eval_count, Ollama 프롬프트 캐시 적중 시 적게 보고될 수 있음)
+     */
+    private Long promptTokens;
+
+    /**
+     * 생성 토큰 수 (eval_count)
+     */
+    private Long generatedTokens;
+
+    /**
+     * 프롬프트 처리 시간 (밀리초, prompt_eval_duration)
+     */
+    private Long promptEvalMs;
+
+    /**
+     * 토큰 생성 시간 (밀리초, eval_duration)
+     */
+    private Long evalMs;
+
+    /**
+     * 모델 로드 시간 (밀리초, load_duration)
+     */
+    private Long loadMs;
+
+    /**
+     * Ollama 처리 시간 (밀리초, total_duration)
+     */
+    private Long totalMs;
+
+    /**
+     * 호출 지연시간 (밀리초, 서버 측정)
+     */
+    @Column(nullable = false)
+    private Long latencyMs;
+
+    /**
+     * 호출 시각
+     */
+    @CreationTimestamp
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
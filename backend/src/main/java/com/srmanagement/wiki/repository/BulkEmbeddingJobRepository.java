@@ -0,0 +1,129 @@
+package com.srmanagement.wiki.repository;
+
+import com.srmanagement.wiki.entity.BulkEmbeddingJob;
+import com.srmanagement.wiki.entity.BulkEmbeddingJob.Status;
+import com.srmanagement.wiki.entity.ContentEmbedding.ResourceType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 일괄 임베딩 작업 Repository
+ * - 실행 스레드는 상태 컬럼을 덮어쓰지 않도록 커서/카운터를 조건부 UPDATE로만 저장
+ *   (일시 정지/취소 요청과 동시에 저장되어도 요청한 상태가 유지됨)
+ */
+@Repository
+public interface BulkEmbeddingJobRepository extends JpaRepository<BulkEmbeddingJob, Long> {
+
+    /**
+     * 리소스 유형의 진행 중(실행/일시 정지) 작업
+     */
+    Optional<BulkEmbeddingJob> findFirstByResourceTypeAndStatusInOrderByIdDesc(
+            ResourceType resourceType, Collection<Status> statuses);
+
+    /**
+     * 최근 작업 목록
+     */
+    List<BulkEmbeddingJob> findTop20ByOrderByIdDesc();
+
+    /**
+     * 실행 인스턴스가 없는 실행 중 작업 (생존 신호 만료: 인스턴스 종료/재기동, 없음: 재개 직후 선점 전)
+     */
+    @Query("SELECT j FROM BulkEmbeddingJob j WHERE j.status = 'RUNNING' " +
+           "AND (j.heartbeatAt IS NULL OR j.heartbeatAt < :expiredBefore)")
+    List<BulkEmbeddingJob> findOrphaned(@Param("expiredBefore") LocalDateTime expiredBefore);
+
+    @Query("SELECT j.status FROM BulkEmbeddingJob j WHERE j.id = :id")
+    Optional<Status> findStatusById(@Param("id") Long id);
+
+    /**
+     * 실행 선점 (조건부 UPDATE: 다른 인스턴스가 실행 중이면 0 반환)
+     *
+     * @param expiredBefore 이 시각 이전 생존 신호는 만료로 봄
+     * @return 선점한 행 수 (1: 성공, 0: 이미 실행 중이거나 실행 상태 아님)
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE BulkEmbeddingJob j SET j.lockedBy = :owner, j.heartbeatAt = :now, j.updatedAt = :now " +
+           "WHERE j.id = :id AND j.status = 'RUNNING' " +
+           "AND (j.heartbeatAt IS NULL OR j.heartbeatAt < :expiredBefore)")
+    int claim(@Param("id") Long id, @Param("owner") String owner, @Param("now") LocalDateTime now,
+              @Param("expiredBefore") LocalDateTime expiredBefore);
+
+    /**
+     * 페이지 완료 시 커서/카운터 저장 (선점한 인스턴스만)
+     *
+     * @return 갱신된 행 수 (0이면 다른 인스턴스가 선점함)
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE BulkEmbeddingJob j SET j.lastProcessedId = :cursor, j.processedCount = :processed, " +
+           "j.successCount = :success, j.failureCount = :failure, j.chunkCount = :chunks, " +
+           "j.heartbeatAt = :now, j.updatedAt = :now " +
+           "WHERE j.id = :id AND j.lockedBy = :owner")
+    int checkpoint(@Param("id") Long id, @Param("owner") String owner, @Param("cursor") Long cursor,
+                   @Param("processed") int processed, @Param("success") int success,
+                   @Param("failure") int failure, @Param("chunks") long chunks,
+                   @Param("now") LocalDateTime now);
+
+    /**
+     * 생존 신호 갱신 (페이지 처리가 길어져도 다른 인스턴스가 선점하지 않도록)
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE BulkEmbeddingJob j SET j.heartbeatAt = :now " +
+           "WHERE j.id IN :ids AND j.lockedBy = :owner AND j.status = 'RUNNING'")
+    int heartbeat(@Param("ids") Collection<Long> ids, @Param("owner") String owner, @Param("now") LocalDateTime now);
+
+    /**
+     * 실행 종료 시 선점 해제 (재개/복구 시 바로 다시 선점할 수 있도록)
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE BulkEmbeddingJob j SET j.lockedBy = NULL, j.heartbeatAt = NULL " +
+           "WHERE j.id = :id AND j.lockedBy = :owner")
+    int release(@Param("id") Long id, @Param("owner") String owner);
+
+    /**
+     * 상태 전환 (현재 상태가 from 중 하나일 때만, 선점 정보는 실행 스레드가 종료하며 해제)
+     *
+     * @return 갱신된 행 수 (0이면 이미 다른 상태)
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE BulkEmbeddingJob j SET j.status = :to, j.lastError = :error, j.finishedAt = :finishedAt, " +
+           "j.updatedAt = :now " +
+           "WHERE j.id = :id AND j.status IN :from")
+    int transition(@Param("id") Long id, @Param("from") Collection<Status> from, @Param("to") Status to,
+                   @Param("error") String error, @Param("finishedAt") LocalDateTime finishedAt,
+                   @Param("now") LocalDateTime now);
+
+    // ========== 대상 리소스 ID (ID 오름차순 키셋 페이지, 엔티티를 읽지 않음) ==========
+
+    @Query("SELECT d.id FROM WikiDocument d WHERE d.id > :afterId ORDER BY d.id")
+    List<Long> findWikiIdsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("SELECT s.id FROM Sr s WHERE s.deleted = false AND s.id > :afterId ORDER BY s.id")
+    List<Long> findSrIdsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("SELECT s.id FROM OpenApiSurvey s WHERE s.id > :afterId ORDER BY s.id")
+    List<Long> findSurveyIdsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("SELECT COUNT(d) FROM WikiDocument d")
+    long countWikiTargets();
+
+    @Query("SELECT COUNT(s) FROM Sr s WHERE s.deleted = false")
+    long countSrTargets();
+
+    @Query("SELECT COUNT(s) FROM OpenApiSurvey s")
+    long countSurveyTargets();
+}
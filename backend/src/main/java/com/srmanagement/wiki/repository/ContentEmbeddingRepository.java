@@ -2,12 +2,14 @@ package com.srmanagement.wiki.repository;
 
 import com.srmanagement.wiki.entity.ContentEmbedding;
 import com.srmanagement.wiki.entity.ContentEmbedding.ResourceType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -48,6 +50,62 @@ public interface ContentEmbeddingRepository extends JpaRepository<ContentEmbeddi
     @Query("SELECT e FROM ContentEmbedding e")
     List<ContentEmbedding> findAllForSearch();
 
+    /**
+     * 벡터 인덱스 적재용 조회 (본문 제외, ID 기준 키셋 페이징)
+     * - [id, resourceType, resourceId, chunkIndex, category, status, embeddingData, embeddingVector]
+     * - embeddingVector는 바이너리 백필 전 레거시 행에만 존재
+     */
+    @Query("SELECT e.id, e.resourceType, e.resourceId, e.chunkIndex, e.category, e.status, " +
+           "e.embeddingData, e.embeddingVector " +
+           "FROM ContentEmbedding e WHERE e.id > :lastId ORDER BY e.id")
+    List<Object[]> findIndexRowsAfter(@Param("lastId") Long lastId, Pageable pageable);
+
+    /**
+     * 벡터 인덱스 스냅샷 최신 여부 판단용 지문 [청크 수, 최대 ID, ID 합계] (벡터가 있는 행만)
+     */
+    @Query("SELECT COUNT(e), MAX(e.id), SUM(e.id) FROM ContentEmbedding e " +
+           "WHERE e.embeddingData IS NOT NULL OR e.embeddingVector IS NOT NULL")
+    List<Object[]> fingerprint();
+
+    /**
+     * 임베딩 ID 목록으로 벡터만 조회 (INT8 인덱스 재정렬용)
+     * - [id, embeddingData, embeddingVector]
+     */
+    @Query("SELECT e.id, e.embeddingData, e.embeddingVector FROM ContentEmbedding e WHERE e.id IN :ids")
+    List<Object[]> findVectorsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 재사용 가능한 청크 벡터 조회 (같은 임베딩 모델로 생성된 행만)
+     * - [contentHash, embeddingData]
+     */
+    @Query("SELECT e.contentHash, e.embeddingData FROM ContentEmbedding e " +
+           "WHERE e.resourceType = :resourceType AND e.resourceId = :resourceId " +
+           "AND e.embeddingModelId = :modelId AND e.contentHash IS NOT NULL AND e.embeddingData IS NOT NULL")
+    List<Object[]> findReusableVectors(@Param("resourceType") ResourceType resourceType,
+                                       @Param("resourceId") Long resourceId,
+                                       @Param("modelId") Integer modelId);
+
+    /**
+     * 바이너리 백필 대상 조회 (JSON 벡터만 있는 레거시 행)
+     * - [id, embeddingVector]
+     */
+    @Query("SELECT e.id, e.embeddingVector FROM ContentEmbedding e " +
+           "WHERE e.id > :lastId AND e.embeddingData IS NULL AND e.embeddingVector IS NOT NULL ORDER BY e.id")
+    List<Object[]> findLegacyVectorsAfter(@Param("lastId") Long lastId, Pageable pageable);
+
+    /**
+     * 바이너리 백필 대상 개수
+     */
+    @Query("SELECT COUNT(e) FROM ContentEmbedding e WHERE e.embeddingData IS NULL AND e.embeddingVector IS NOT NULL")
+    long countLegacyVectors();
+
+    /**
+     * 바이너리 벡터 저장 및 JSON 벡터 정리
+     */
+    @Modifying
+    @Query("UPDATE ContentEmbedding e SET e.embeddingData = :embeddingData, e.embeddingVector = NULL WHERE e.id = :id")
+    int updateEmbeddingData(@Param("id") Long id, @Param("embeddingData") float[] embeddingData);
+
     /**
      * 특정 리소스 타입의 임베딩 조회
      */
@@ -77,4 +135,77 @@ public interface ContentEmbeddingRepository extends JpaRepository<ContentEmbeddi
      */
     @Query("SELECT COUNT(DISTINCT e.resourceId) FROM ContentEmbedding e WHERE e.resourceType = :resourceType")
     long countDistinctResourcesByType(@Param("resourceType") ResourceType resourceType);
+
+    /**
+     * 임베딩이 없거나 오래된 Wiki 문서 ID (내용이 없는 문서 제외)
+     * - 오래됨: 청크의 sourceUpdatedAt이 NULL이거나 원본 수정 시각보다 이전
+     * - 임베딩 작업 큐에 작업(대기/실행/실패)이 있는 리소스 제외, 최근 수정 순
+     */
+    @Query("SELECT d.id FROM WikiDocument d WHERE d.content IS NOT NULL AND " +
+           "NOT EXISTS (SELECT j.id FROM EmbeddingJob j WHERE j.resourceType = 'WIKI' AND j.resourceId = d.id) AND " +
+           "(NOT EXISTS (SELECT e.id FROM ContentEmbedding e WHERE e.resourceType = 'WIKI' AND e.resourceId = d.id) " +
+           "OR EXISTS (SELECT e.id FROM ContentEmbedding e WHERE e.resourceType = 'WIKI' AND e.resourceId = d.id " +
+           "AND (e.sourceUpdatedAt IS NULL OR e.sourceUpdatedAt < d.updatedAt))) " +
+           "ORDER BY d.updatedAt DESC")
+    List<Long> findStaleWikiIds(Pageable pageable);
+
+    /**
+     * 임베딩이 없거나 오래된 Wiki 문서 수 (작업 큐 등록 여부 무관)
+     */
+    @Query("SELECT COUNT(d) FROM WikiDocument d WHERE d.content IS NOT NULL AND " +
+           "(NOT EXISTS (SELECT e.id FROM ContentEmbedding e WHERE e.resourceType = 'WIKI' AND e.resourceId = d.id) " +
+           "OR EXISTS (SELECT e.id FROM ContentEmbedding e WHERE e.resourceType = 'WIKI' AND e.resourceId = d.id " +
+           "AND (e.sourceUpdatedAt IS NULL OR e.sourceUpdatedAt < d.updatedAt)))")
+    long countStaleWiki();
+
+    /**
+     * 임베딩이 없거나 오래된 SR ID (삭제된 SR 제외)
+     * - 오래됨: 청크의 sourceUpdatedAt이 NULL이거나 원본 수정 시각보다 이전
+     * - 임베딩 작업 큐에 작업(대기/실행/실패)이 있는 리소스 제외, 최근 수정 순
+     */
+    @Query("SELECT s.id FROM Sr s WHERE s.deleted = false AND " +
+           "NOT EXISTS (SELECT j.id FROM EmbeddingJob j WHERE j.resourceType = 'SR' AND j.resourceId = s.id) AND " +
+           "(NOT EXISTS (SELECT e.id FROM ContentEmbedding e WHERE e.resourceType = 'SR' AND e.resourceId = s.id) " +
+           "OR EXISTS (SELECT e.id FROM ContentEmbedding e WHERE e.resourceType = 'SR' AND e.resourceId = s.id " +
+           "AND (e.sourceUpdatedAt IS NULL OR e.sourceUpdatedAt < s.updatedAt))) " +
+           "ORDER BY s.updatedAt DESC")
+    List<Long> findStaleSrIds(Pageable pageable);
+
+    /**
+     * 임베딩이 없거나 오래된 SR 수 (작업 큐 등록 여부 무관)
+     */
+    @Query("SELECT COUNT(s) FROM Sr s WHERE s.deleted = false AND " +
+           "(NOT EXISTS (SELECT e.id FROM ContentEmbedding e WHERE e.resourceType = 'SR' AND e.resourceId = s.id) " +
+           "OR EXISTS (SELECT e.id FROM ContentEmbedding e WHERE e.resourceType = 'SR' AND e.resourceId = s.id " +
+           "AND (e.sourceUpdatedAt IS NULL OR e.sourceUpdatedAt < s.updatedAt)))")
+    long countStaleSr();
+
+    /**
+     * 임베딩이 없거나 오래된 현황조사 ID
+     * - 오래됨: 청크의 sourceUpdatedAt이 NULL이거나 원본 수정 시각보다 이전
+     * - 임베딩 작업 큐에 작업(대기/실행/실패)이 있는 리소스 제외, 최근 수정 순
+     */
+    @Query("SELECT o.id FROM OpenApiSurvey o WHERE " +
+           "NOT EXISTS (SELECT j.id FROM EmbeddingJob j WHERE j.resourceType = 'SURVEY' AND j.resourceId = o.id) AND " +
+           "(NOT EXISTS (SELECT e.id FROM ContentEmbedding e WHERE e.resourceType = 'SURVEY' AND e.resourceId = o.id) " +
+           "OR EXISTS (SELECT e.id FROM ContentEmbedding e WHERE e.resourceType = 'SURVEY' AND e.resourceId = o.id " +
+           "AND (e.sourceUpdatedAt IS NULL OR e.sourceUpdatedAt < o.updatedAt))) " +
+           "ORDER BY o.updatedAt DESC")
+    List<Long> findStaleSurveyIds(Pageable pageable);
+
+    /**
+     * 임베딩이 없거나 오래된 현황조사 수 (작업 큐 등록 여부 무관)
+     */
+    @Query("SELECT COUNT(o) FROM OpenApiSurvey o WHERE " +
+           "(NOT EXISTS (SELECT e.id FROM ContentEmbedding e WHERE e.resourceType = 'SURVEY' AND e.resourceId = o.id) " +
+           "OR EXISTS (SELECT e.id FROM ContentEmbedding e WHERE e.resourceType = 'SURVEY' AND e.resourceId = o.id " +
+           "AND (e.sourceUpdatedAt IS NULL OR e.sourceUpdatedAt < o.updatedAt)))")
+    long countStaleSurvey();
+
+    /**
+     * 특정 리소스의 청크 수와 마지막 임베딩 일시 (청크 엔티티 조회 없이 상태 확인)
+     */
+    @Query("SELECT COUNT(e), MAX(e.createdAt) FROM ContentEmbedding e " +
+           "WHERE e.resourceType = :resourceType AND e.resourceId = :resourceId")
+    List<Object[]> summarizeResource(@Param("resourceType") ResourceType resourceType, @Param("resourceId") Long resourceId);
 }
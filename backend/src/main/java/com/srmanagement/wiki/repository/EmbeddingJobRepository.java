@@ -0,0 +1,142 @@
+package com.srmanagement.wiki.repository;
+
+import com.srmanagement.wiki.entity.ContentEmbedding.ResourceType;
+import com.srmanagement.wiki.entity.EmbeddingJob;
+import com.srmanagement.wiki.entity.EmbeddingJob.Status;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 임베딩 작업 큐 Repository
+ */
+@Repository
+public interface EmbeddingJobRepository extends JpaRepository<EmbeddingJob, Long> {
+
+    /**
+     * 같은 리소스의 대기 작업 조회 (중복 제거용)
+     */
+    Optional<EmbeddingJob> findFirstByPendingKey(String pendingKey);
+
+    /**
+     * 같은 리소스의 대기 작업 잠금 조회 (등록 시 병합용, 동시에 커밋된 행도 확인)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT j FROM EmbeddingJob j WHERE j.pendingKey = :pendingKey")
+    Optional<EmbeddingJob> findPendingForUpdate(@Param("pendingKey") String pendingKey);
+
+    /**
+     * 대기 작업 등록 - H2 (MERGE: 같은 pending_key가 있으면 아무것도 하지 않음)
+     * - 다른 트랜잭션이 등록 중인 행과 겹치면 H2가 그 트랜잭션이 끝날 때까지 문장을 재시도
+     *
+     * @return 등록한 행 수 (0: 이미 대기 작업이 있음)
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "MERGE INTO embedding_job j " +
+                   "USING (SELECT CAST(:pendingKey AS VARCHAR(50)) AS pending_key) s ON j.pending_key = s.pending_key " +
+                   "WHEN NOT MATCHED THEN INSERT " +
+                   "(resource_type, resource_id, priority, status, pending_key, attempts, next_run_at, created_at, updated_at) " +
+                   "VALUES (:resourceType, :resourceId, :priority, 'PENDING', s.pending_key, 0, :now, :now, :now)",
+           nativeQuery = true)
+    int mergePending(@Param("resourceType") String resourceType, @Param("resourceId") Long resourceId,
+                     @Param("priority") int priority, @Param("pendingKey") String pendingKey,
+                     @Param("now") LocalDateTime now);
+
+    /**
+     * 대기 작업 등록 - PostgreSQL (pending_key 중복이면 아무것도 하지 않음)
+     *
+     * @return 등록한 행 수 (0: 이미 대기 작업이 있음)
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO embedding_job " +
+                   "(resource_type, resource_id, priority, status, pending_key, attempts, next_run_at, created_at, updated_at) " +
+                   "VALUES (:resourceType, :resourceId, :priority, 'PENDING', :pendingKey, 0, :now, :now, :now) " +
+                   "ON CONFLICT (pending_key) DO NOTHING",
+           nativeQuery = true)
+    int insertPendingOnConflict(@Param("resourceType") String resourceType, @Param("resourceId") Long resourceId,
+                                @Param("priority") int priority, @Param("pendingKey") String pendingKey,
+                                @Param("now") LocalDateTime now);
+
+    /**
+     * 대기 작업 등록 - MySQL/CUBRID (pending_key 중복이면 값을 바꾸지 않는 UPDATE로 대체)
+     *
+     * @return 등록한 행 수 (0: 이미 대기 작업이 있음)
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO embedding_job " +
+                   "(resource_type, resource_id, priority, status, pending_key, attempts, next_run_at, created_at, updated_at) " +
+                   "VALUES (:resourceType, :resourceId, :priority, 'PENDING', :pendingKey, 0, :now, :now, :now) " +
+                   "ON DUPLICATE KEY UPDATE pending_key = pending_key",
+           nativeQuery = true)
+    int insertPendingOnDuplicateKey(@Param("resourceType") String resourceType, @Param("resourceId") Long resourceId,
+                                    @Param("priority") int priority, @Param("pendingKey") String pendingKey,
+                                    @Param("now") LocalDateTime now);
+
+    /**
+     * 리소스의 대기 작업 삭제 (리소스 삭제 시)
+     */
+    @Modifying
+    @Query("DELETE FROM EmbeddingJob j WHERE j.pendingKey = :pendingKey")
+    int deleteByPendingKey(@Param("pendingKey") String pendingKey);
+
+    /**
+     * 실행 가능한 대기 작업 후보 (우선순위 → 실행 시각 순)
+     * - 같은 리소스가 실행 중이면 제외 (동시 임베딩으로 청크가 중복 저장되지 않도록)
+     */
+    @Query("SELECT j.id FROM EmbeddingJob j " +
+           "WHERE j.status = 'PENDING' AND j.nextRunAt <= :now " +
+           "AND NOT EXISTS (SELECT r.id FROM EmbeddingJob r " +
+           "  WHERE r.status = 'RUNNING' " +
+           "  AND r.resourceType = j.resourceType AND r.resourceId = j.resourceId) " +
+           "ORDER BY j.priority DESC, j.nextRunAt ASC, j.id ASC")
+    List<Long> findRunnableIds(@Param("now") LocalDateTime now, Pageable pageable);
+
+    /**
+     * 작업 선점 (조건부 UPDATE: 다른 워커가 먼저 선점했으면 0 반환)
+     * - SELECT ... FOR UPDATE SKIP LOCKED 대신 H2/CUBRID에서도 동작하는 방식
+     *
+     * @return 선점한 행 수 (1: 성공, 0: 이미 선점됨)
+     */
+    @Modifying
+    @Query("UPDATE EmbeddingJob j SET j.status = :running, " +
+           "j.pendingKey = NULL, j.attempts = j.attempts + 1, j.lockedBy = :owner, j.lockedAt = :now, j.updatedAt = :now " +
+           "WHERE j.id = :id AND j.status = 'PENDING'")
+    int claim(@Param("id") Long id, @Param("owner") String owner, @Param("now") LocalDateTime now,
+              @Param("running") Status running);
+
+    /**
+     * 임대 시간이 지난 실행 중 작업 (워커 비정상 종료 등)
+     */
+    List<EmbeddingJob> findByStatusAndLockedAtBefore(Status status, LocalDateTime lockedBefore);
+
+    List<EmbeddingJob> findByStatus(Status status);
+
+    /**
+     * 워커가 실행 중인 리소스 ID (일괄 임베딩이 같은 리소스를 동시에 저장하지 않도록 제외)
+     */
+    @Query("SELECT j.resourceId FROM EmbeddingJob j " +
+           "WHERE j.status = 'RUNNING' AND j.resourceType = :resourceType AND j.resourceId IN :resourceIds")
+    List<Long> findRunningResourceIds(@Param("resourceType") ResourceType resourceType,
+                                      @Param("resourceIds") Collection<Long> resourceIds);
+
+    long countByStatus(Status status);
+
+    /**
+     * 실행 가능 시각이 지난 대기 작업 수 (처리 지연 모니터링)
+     */
+    long countByStatusAndNextRunAtBefore(Status status, LocalDateTime now);
+}
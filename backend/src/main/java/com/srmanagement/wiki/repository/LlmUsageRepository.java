@@ -0,0 +1,30 @@
+package com.srmanagement.wiki.repository;
+
+import com.srmanagement.wiki.entity.LlmUsage;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * LLM 호출 사용량 Repository
+ */
+@Repository
+public interface LlmUsageRepository extends JpaRepository<LlmUsage, Long> {
+
+    /**
+     * 기간 내 호출 목록 (시간순, 집계 리포트용)
+     */
+    List<LlmUsage> findByCreatedAtGreaterThanEqualOrderByCreatedAtAsc(LocalDateTime from);
+
+    /**
+     * 특정 시각 이전의 사용량 삭제 (보관 기간 정리)
+     */
+    @Modifying
+    @Query("DELETE FROM LlmUsage u WHERE u.createdAt < :before")
+    int deleteByCreatedAtBefore(@Param("before") LocalDateTime before);
+}
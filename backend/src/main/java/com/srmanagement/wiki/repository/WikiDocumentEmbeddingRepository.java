@@ -1,6 +1,7 @@
 package com.srmanagement.wiki.repository;
 
 import com.srmanagement.wiki.entity.WikiDocumentEmbedding;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -32,6 +33,15 @@ public interface WikiDocumentEmbeddingRepository extends JpaRepository<WikiDocum
     @Query("DELETE FROM WikiDocumentEmbedding we WHERE we.documentId = :documentId")
     void deleteByDocumentId(@Param("documentId") Long documentId);
 
+    /**
+     * 재사용 가능한 청크 벡터 조회 (같은 임베딩 모델로 생성된 행만)
+     * - [contentHash, embeddingData]
+     */
+    @Query("SELECT we.contentHash, we.embeddingData FROM WikiDocumentEmbedding we " +
+           "WHERE we.documentId = :documentId " +
+           "AND we.embeddingModelId = :modelId AND we.contentHash IS NOT NULL AND we.embeddingData IS NOT NULL")
+    List<Object[]> findReusableVectors(@Param("documentId") Long documentId, @Param("modelId") Integer modelId);
+
     /**
      * 카테고리 ID로 임베딩 조회
      */
@@ -42,4 +52,42 @@ public interface WikiDocumentEmbeddingRepository extends JpaRepository<WikiDocum
      */
     @Query("SELECT we FROM WikiDocumentEmbedding we ORDER BY we.documentId, we.chunkIndex")
     List<WikiDocumentEmbedding> findAllForSearch();
+
+    /**
+     * 벡터 인덱스 적재용 조회 (본문 제외, ID 기준 키셋 페이징)
+     * - [id, documentId, chunkIndex, categoryId, categoryName, embeddingData, embeddingVector]
+     * - embeddingVector는 바이너리 백필 전 레거시 행에만 존재
+     */
+    @Query("SELECT we.id, we.documentId, we.chunkIndex, we.categoryId, we.categoryName, " +
+           "we.embeddingData, we.embeddingVector " +
+           "FROM WikiDocumentEmbedding we WHERE we.id > :lastId ORDER BY we.id")
+    List<Object[]> findIndexRowsAfter(@Param("lastId") Long lastId, Pageable pageable);
+
+    /**
+     * 벡터 인덱스 스냅샷 최신 여부 판단용 지문 [청크 수, 최대 ID, ID 합계] (벡터가 있는 행만)
+     */
+    @Query("SELECT COUNT(we), MAX(we.id), SUM(we.id) FROM WikiDocumentEmbedding we " +
+           "WHERE we.embeddingData IS NOT NULL OR we.embeddingVector IS NOT NULL")
+    List<Object[]> fingerprint();
+
+    /**
+     * 바이너리 백필 대상 조회 (JSON 벡터만 있는 레거시 행)
+     * - [id, embeddingVector]
+     */
+    @Query("SELECT we.id, we.embeddingVector FROM WikiDocumentEmbedding we " +
+           "WHERE we.id > :lastId AND we.embeddingData IS NULL AND we.embeddingVector IS NOT NULL ORDER BY we.id")
+    List<Object[]> findLegacyVectorsAfter(@Param("lastId") Long lastId, Pageable pageable);
+
+    /**
+     * 바이너리 백필 대상 개수
+     */
+    @Query("SELECT COUNT(we) FROM WikiDocumentEmbedding we WHERE we.embeddingData IS NULL AND we.embeddingVector IS NOT NULL")
+    long countLegacyVectors();
+
+    /**
+     * 바이너리 벡터 저장 및 JSON 벡터 정리
+     */
+    @Modifying
+    @Query("UPDATE WikiDocumentEmbedding we SET we.embeddingData = :embeddingData, we.embeddingVector = NULL WHERE we.id = :id")
+    int updateEmbeddingData(@Param("id") Long id, @Param("embeddingData") float[] embeddingData);
 }
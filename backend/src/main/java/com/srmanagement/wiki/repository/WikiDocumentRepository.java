@@ -1,9 +1,11 @@
 package com.srmanagement.wiki.repository;
 
 import com.srmanagement.wiki.entity.WikiDocument;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -73,4 +75,9 @@ public interface WikiDocumentRepository extends JpaRepository<WikiDocument, Long
     @Modifying
     @Query("UPDATE WikiDocument wd SET wd.aiSummary = :summary, wd.summaryGeneratedAt = :generatedAt WHERE wd.id = :id")
     void updateAiSummary(@Param("id") Long id, @Param("summary") String summary, @Param("generatedAt") java.time.LocalDateTime generatedAt);
+
+    // 잠금 조회 (임베딩 저장 중 문서가 삭제되지 않도록)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT wd FROM WikiDocument wd WHERE wd.id = :id")
+    Optional<WikiDocument> findByIdForUpdate(@Param("id") Long id);
 }
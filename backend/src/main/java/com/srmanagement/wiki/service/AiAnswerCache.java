@@ -0,0 +1,225 @@
+package com.srmanagement.wiki.service;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.srmanagement.wiki.dto.AiSearchRequest;
+import com.srmanagement.wiki.dto.AiSearchResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * AI 검색 답변 캐시 (aiSearchResults)
+ * - 같은 질문(정규화) + 같은 필터 조건이면 LLM 호출 없이 캐시된 답변 반환
+ * - 항목마다 생성 시점의 인덱스 변경 세대와 인용한 출처 리소스를 기록
+ * - 인용한 리소스가 재임베딩/삭제되면 ({@link VectorIndexChangedEvent}) 해당 답변 즉시 무효화
+ * - 출처가 없는 답변은 새 문서가 추가되면 달라질 수 있으므로 캐시하지 않음
+ */
+@Service
+@Slf4j
+public class AiAnswerCache {
+
+    private static final String CACHE_NAME = "aiSearchResults";
+
+    private static final String ALL = "*";
+
+    private final Cache cache;
+
+    /** 만료/삭제 확인용 (조회 통계에 포함되지 않음) */
+    private final Map<Object, Object> entries;
+
+    /** 인덱스 변경 세대 (변경 이벤트마다 증가) */
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * 출처 키 (인덱스:타입:ID) → 마지막 변경 세대
+     * - 답변 캐시와 같은 TTL로 만료 (변경 후 TTL이 지나면 그 이전에 저장된 답변은 이미 만료됨)
+     */
+    private final ConcurrentMap<String, Long> changedAt;
+
+    /** 출처 키 → 해당 출처를 인용한 답변 캐시 키 */
+    private final ConcurrentMap<String, Set<Key>> keysBySource = new ConcurrentHashMap<>();
+
+    public AiAnswerCache(CacheManager cacheManager) {
+        this.cache = cacheManager.getCache(CACHE_NAME);
+        @SuppressWarnings("unchecked")
+        com.github.benmanes.caffeine.cache.Cache<Object, Object> nativeCache =
+                (com.github.benmanes.caffeine.cache.Cache<Object, Object>) cache.getNativeCache();
+        this.entries = nativeCache.asMap();
+
+        Caffeine<Object, Object> changedAtBuilder = Caffeine.newBuilder();
+        nativeCache.policy().expireAfterWrite().ifPresent(expiration -> changedAtBuilder.expireAfterWrite(
+                expiration.getExpiresAfter(TimeUnit.NANOSECONDS), TimeUnit.NANOSECONDS));
+        this.changedAt = changedAtBuilder.<String, Long>build().asMap();
+    }
+
+    /**
+     * 답변 캐시 키 (질문 정규화 + 검색 조건)
+     */
+    public record Key(
+            String question,
+            boolean unified,
+            List<String> resourceTypes,
+            List<String> categories,
+            List<String> statuses,
+            Long categoryId,
+            Integer topK,
+            Double similarityThreshold
+    ) {
+
+        public static Key of(AiSearchRequest request) {
+            return new Key(
+                    QueryEmbeddingCache.normalize(request.getQuestion()),
+                    Boolean.TRUE.equals(request.getUseUnifiedSearch()),
+                    sorted(request.getResourceTypes()),
+                    sorted(request.getCategories()),
+                    sorted(request.getStatuses()),
+                    request.getCategoryId(),
+                    request.getTopK(),
+                    request.getSimilarityThreshold()
+            );
+        }
+
+        /**
+         * 답변이 참조한 인덱스 (통합 검색: content, Wiki 전용: wiki)
+         */
+        String indexName() {
+            return unified ? VectorIndexService.CONTENT_INDEX : VectorIndexService.WIKI_INDEX;
+        }
+
+        private static List<String> sorted(List<String> values) {
+            return values == null || values.isEmpty() ? List.of() : values.stream().sorted().distinct().toList();
+        }
+    }
+
+    /**
+     * 캐시 항목
+     *
+     * @param response 답변
+     * @param generation 검색 시작 시점의 인덱스 변경 세대
+     * @param sources 인용한 출처 키
+     */
+    private record Entry(AiSearchResponse response, long generation, Set<String> sources) {
+    }
+
+    /**
+     * 검색 시작 전 현재 세대 (put 시 전달)
+     */
+    public long currentGeneration() {
+        return generation.get();
+    }
+
+    /**
+     * 캐시된 답변 조회 (인용 출처가 이후 변경되었으면 무효화 후 null)
+     */
+    public AiSearchResponse get(Key key) {
+        Entry entry = cache.get(key, Entry.class);
+        if (entry == null) {
+            return null;
+        }
+        if (isStale(key.indexName(), entry)) {
+            cache.evict(key);
+            return null;
+        }
+        return entry.response();
+    }
+
+    /**
+     * 답변 캐시 저장
+     *
+     * @param key 캐시 키
+     * @param startGeneration 검색 시작 전 {@link #currentGeneration()} 값
+     * @param response 답변
+     */
+    public void put(Key key, long startGeneration, AiSearchResponse response) {
+        if (response.getSources() == null || response.getSources().isEmpty()) {
+            return;
+        }
+        String indexName = key.indexName();
+        Set<String> sources = response.getSources().stream()
+                .map(source -> sourceKey(indexName, source.getResourceType(), source.getResourceId()))
+                .collect(Collectors.toUnmodifiableSet());
+        Entry entry = new Entry(response, startGeneration, sources);
+
+        // 역방향 맵을 먼저 등록한 뒤 변경 여부 확인 (검색 중 변경된 출처가 있으면 저장 취소)
+        for (String source : sources) {
+            Set<Key> keys = keysBySource.computeIfAbsent(source, s -> ConcurrentHashMap.newKeySet());
+            keys.removeIf(k -> !entries.containsKey(k));
+            keys.add(key);
+        }
+        cache.put(key, entry);
+        if (isStale(indexName, entry)) {
+            cache.evict(key);
+        }
+    }
+
+    /**
+     * 인덱스 변경 시 해당 출처를 인용한 답변 무효화
+     */
+    @EventListener
+    public void onIndexChanged(VectorIndexChangedEvent event) {
+        long changed = generation.incrementAndGet();
+        String source = event.isFullReload()
+                ? sourceKey(event.indexName(), ALL, null)
+                : sourceKey(event.indexName(), event.resourceType(), event.resourceId());
+        changedAt.put(source, changed);
+
+        if (event.isFullReload()) {
+            cache.clear();
+            keysBySource.clear();
+            log.debug("[{}] 인덱스 전체 변경, AI 답변 캐시 초기화", event.indexName());
+            return;
+        }
+
+        if (event.resourceId() == null) {
+            // 리소스 타입 전체 삭제: 해당 타입을 인용한 모든 답변
+            String prefix = event.indexName() + ":" + event.resourceType() + ":";
+            keysBySource.entrySet().removeIf(e -> {
+                if (e.getKey().startsWith(prefix)) {
+                    e.getValue().forEach(cache::evict);
+                    return true;
+                }
+                return false;
+            });
+            return;
+        }
+
+        Set<Key> keys = keysBySource.remove(source);
+        if (keys != null) {
+            keys.forEach(cache::evict);
+            log.debug("출처 변경으로 AI 답변 캐시 {}건 무효화: {}", keys.size(), source);
+        }
+    }
+
+    private boolean isStale(String indexName, Entry entry) {
+        if (isChangedAfter(sourceKey(indexName, ALL, null), entry.generation())) {
+            return true;
+        }
+        for (String source : entry.sources()) {
+            String typeKey = source.substring(0, source.lastIndexOf(':') + 1) + ALL;
+            if (isChangedAfter(source, entry.generation()) || isChangedAfter(typeKey, entry.generation())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isChangedAfter(String source, long generation) {
+        Long changed = changedAt.get(source);
+        return changed != null && changed > generation;
+    }
+
+    private static String sourceKey(String indexName, String resourceType, Long resourceId) {
+        return indexName + ":" + resourceType + ":" + (resourceId != null ? resourceId : ALL);
+    }
+}
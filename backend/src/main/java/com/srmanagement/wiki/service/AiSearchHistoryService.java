@@ -47,9 +47,11 @@ public class AiSearchHistoryService {
 
     /**
      * 검색 이력 저장
+     *
+     * @return 저장된 이력 ID
      */
     @Transactional
-    public void saveSearchHistory(String username, String question, AiSearchResponse response, List<String> resourceTypes) {
+    public Long saveSearchHistory(String username, String question, AiSearchResponse response, List<String> resourceTypes) {
         User user = userRepository.findByUsername(username)
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다: " + username));
 
@@ -63,6 +65,9 @@ public class AiSearchHistoryService {
             resourceTypesStr = String.join(",", resourceTypes);
         }
 
+        AiSearchResponse.StageTimings stages = response.getStages() != null
+                ? response.getStages() : new AiSearchResponse.StageTimings();
+
         AiSearchHistory history = AiSearchHistory.builder()
                 .user(user)
                 .question(question)
@@ -70,10 +75,22 @@ public class AiSearchHistoryService {
                 .sourceCount(response.getSources() != null ? response.getSources().size() : 0)
                 .resourceTypes(resourceTypesStr)
                 .processingTimeMs(response.getProcessingTimeMs())
+                .embedTimeMs(stages.getEmbedMs())
+                .scoreTimeMs(stages.getScoreMs())
+                .loadTimeMs(stages.getLoadMs())
+                .packTimeMs(stages.getPackMs())
+                .generateTimeMs(stages.getGenerateMs())
+                .chunksScanned(stages.getChunksScanned())
+                .promptChars(stages.getPromptChars())
+                .promptTokens(stages.getPromptTokens())
+                .generatedTokens(stages.getGeneratedTokens())
+                .promptEvalMs(stages.getPromptEvalMs())
+                .evalMs(stages.getEvalMs())
                 .build();
 
-        historyRepository.save(history);
+        AiSearchHistory saved = historyRepository.save(history);
         log.debug("검색 이력 저장 완료: userId={}, question={}", user.getId(), question);
+        return saved.getId();
     }
 
     /**
@@ -1,42 +1,47 @@
 package com.srmanagement.wiki.service;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.srmanagement.exception.CustomException;
+import com.srmanagement.wiki.dto.AiSearchExplainResponse;
 import com.srmanagement.wiki.dto.AiSearchRequest;
 import com.srmanagement.wiki.dto.AiSearchResponse;
 import com.srmanagement.wiki.dto.EmbeddingProgressEvent;
 import com.srmanagement.wiki.dto.SummaryResponse;
 import com.srmanagement.wiki.entity.ContentEmbedding;
 import com.srmanagement.wiki.entity.ContentEmbedding.ResourceType;
+import com.srmanagement.wiki.entity.LlmUsage;
 import com.srmanagement.wiki.entity.WikiDocument;
 import com.srmanagement.wiki.entity.WikiDocumentEmbedding;
 import com.srmanagement.wiki.repository.ContentEmbeddingRepository;
 import com.srmanagement.wiki.repository.WikiDocumentEmbeddingRepository;
 import com.srmanagement.wiki.repository.WikiDocumentRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.ai.chat.model.ChatResponse;
 import org.springframework.ai.chat.prompt.Prompt;
-import org.springframework.ai.embedding.EmbeddingResponse;
-import org.springframework.ai.ollama.OllamaChatModel;
-import org.springframework.ai.ollama.OllamaEmbeddingModel;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 
 /**
  * AI 검색 서비스
- * - Wiki 문서 임베딩 생성
- * - RAG 기반 자연어 검색
+ * - Wiki 문서 임베딩 생성 (WikiEmbeddingPipeline 위임)
+ * - RAG 기반 자연어 검색 (일괄 응답 / 답변 스트리밍)
  * - 코사인 유사도 기반 문서 검색
  *
- * Spring AI (Ollama) 사용
+ * Spring AI (Ollama) 사용 - 호출은 {@link OllamaGateway} 경유 (타임아웃, 서킷 브레이커)
  */
 @Service
 @Slf4j
@@ -46,86 +51,35 @@ public class AiSearchService {
     private final WikiDocumentRepository documentRepository;
     private final WikiDocumentEmbeddingRepository embeddingRepository;
     private final ContentEmbeddingRepository contentEmbeddingRepository;
-    private final OllamaChatModel chatModel;
-    private final OllamaEmbeddingModel embeddingModel;
-    private final ObjectMapper objectMapper;
+    private final OllamaGateway ollamaGateway;
+    private final QueryEmbeddingCache queryEmbeddingCache;
+    private final AiAnswerCache answerCache;
     private final EmbeddingProgressService progressService;
+    private final VectorIndexService vectorIndexService;
+    private final WikiEmbeddingPipeline wikiEmbeddingPipeline;
+    private final RagContextPacker contextPacker;
+    private final MeterRegistry meterRegistry;
+    private final LlmUsageService llmUsageService;
 
-    private static final int MAX_CHUNK_LENGTH = 2000; // 청크 최대 길이 (문자 수)
-    private static final int OVERLAP_LENGTH = 200; // 청크 간 겹치는 영역 (문자 수)
+    // @Async 요약 생성용 (같은 클래스 내부 호출은 프록시를 거치지 않음)
+    @Autowired
+    @Lazy
+    private AiSearchService self;
 
     /**
      * Wiki 문서 임베딩 생성
      * - 긴 문서는 청크로 분할하여 각각 임베딩 생성
+     * - Wiki 전용 임베딩과 통합 검색 임베딩을 한 번에 생성 ({@link WikiEmbeddingPipeline})
      * - 생성 완료 후 임베딩 상태 캐시 무효화
+     * - 트랜잭션 없이 실행 (파이프라인이 임베딩 요청 동안 DB 연결을 점유하지 않도록 저장만 트랜잭션 처리)
      *
      * @param documentId Wiki 문서 ID
      */
     @CacheEvict(value = "embeddingStatus", key = "#documentId")
-    @Transactional
     public void generateEmbeddings(Long documentId) {
         long startTime = System.currentTimeMillis();
 
-        // 1. 기존 임베딩 삭제
-        embeddingRepository.deleteByDocumentId(documentId);
-
-        // 2. 문서 조회
-        WikiDocument document = documentRepository.findById(documentId)
-                .orElseThrow(() -> new RuntimeException("문서를 찾을 수 없습니다: " + documentId));
-        log.info("🔍 [문서 {}] 문서 조회 완료 - 제목: {}, 내용 길이: {}자",
-                documentId, document.getTitle(),
-                document.getContent() != null ? document.getContent().length() : 0);
-
-        // 3. 문서 내용을 청크로 분할
-        List<String> chunks = splitIntoChunks(document.getContent());
-        int totalChunks = chunks.size();
-        log.info("📊 [문서 {}] 임베딩 생성 시작 - 총 {}개 청크로 분할됨", documentId, totalChunks);
-
-        // 4. 각 청크에 대해 임베딩 생성
-        for (int i = 0; i < chunks.size(); i++) {
-            String chunk = chunks.get(i);
-            int currentChunk = i + 1;
-
-            try {
-                long chunkStartTime = System.currentTimeMillis();
-
-                // 임베딩 벡터 생성 (Spring AI - Ollama Embedding API 호출)
-                EmbeddingResponse response = embeddingModel.embedForResponse(List.of(chunk));
-                float[] embeddingArray = response.getResults().get(0).getOutput();
-
-                // float[] -> List<Double> 변환
-                List<Double> embedding = new ArrayList<>();
-                for (float value : embeddingArray) {
-                    embedding.add((double) value);
-                }
-
-                // JSON 배열로 직렬화
-                String embeddingJson = objectMapper.writeValueAsString(embedding);
-
-                // DB에 저장 (sourceDocumentUpdatedAt에 현재 문서의 updatedAt 저장)
-                WikiDocumentEmbedding embeddingEntity = WikiDocumentEmbedding.builder()
-                        .documentId(documentId)
-                        .content(chunk)
-                        .embeddingVector(embeddingJson)
-                        .chunkIndex(i)
-                        .documentTitle(document.getTitle())
-                        .categoryId(document.getCategory() != null ? document.getCategory().getId() : null)
-                        .categoryName(document.getCategory() != null ? document.getCategory().getName() : null)
-                        .sourceDocumentUpdatedAt(document.getUpdatedAt())
-                        .build();
-
-                embeddingRepository.save(embeddingEntity);
-
-                long chunkElapsedTime = System.currentTimeMillis() - chunkStartTime;
-                int progressPercent = (currentChunk * 100) / totalChunks;
-                log.info("⏳ [문서 {}] 진행중 {}/{} ({}%) - 청크 처리 시간: {}ms",
-                        documentId, currentChunk, totalChunks, progressPercent, chunkElapsedTime);
-
-            } catch (JsonProcessingException e) {
-                log.error("임베딩 벡터 직렬화 실패", e);
-                throw new RuntimeException("임베딩 생성 실패", e);
-            }
-        }
+        int totalChunks = wikiEmbeddingPipeline.embed(documentId);
 
         long elapsedTime = System.currentTimeMillis() - startTime;
         double avgTimePerChunk = totalChunks > 0 ? (double) elapsedTime / totalChunks : 0;
@@ -134,132 +88,21 @@ public class AiSearchService {
     }
 
     /**
-     * 비동기 임베딩 생성 (문서 저장 시 자동 호출)
+     * 진행률을 보고하며 임베딩 생성 (임베딩 작업 큐 워커에서 호출)
      * - 진행률을 SSE로 실시간 전송
      * - 생성 완료 후 임베딩 상태 캐시 무효화
+     * - 실패 시 FAILED 이벤트를 한 번만 전송 후 예외를 다시 던짐 (작업 큐에서 재시도)
+     * - 트랜잭션 없이 실행 (저장만 트랜잭션 처리)
      *
      * @param documentId Wiki 문서 ID
      */
     @CacheEvict(value = "embeddingStatus", key = "#documentId")
-    @Async("embeddingTaskExecutor")
-    @Transactional
-    public void generateEmbeddingsAsync(Long documentId) {
+    public void generateEmbeddingsWithProgress(Long documentId) {
         long startTime = System.currentTimeMillis();
+        ProgressReporter reporter = new ProgressReporter(startTime);
 
         try {
-            // 호출자의 트랜잭션이 커밋될 때까지 대기 (문서 저장 후 updatedAt 반영)
-            try {
-                Thread.sleep(500);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                log.warn("임베딩 생성 대기 중 인터럽트 발생", e);
-            }
-
-            // 1. 기존 임베딩 삭제
-            embeddingRepository.deleteByDocumentId(documentId);
-
-            // 2. 문서 조회
-            WikiDocument document = documentRepository.findById(documentId)
-                    .orElseThrow(() -> new RuntimeException("문서를 찾을 수 없습니다: " + documentId));
-
-            String docTitle = document.getTitle();
-            log.info("🔍 [문서 {}] 비동기 임베딩 시작 - 제목: {}, 내용 길이: {}자",
-                    documentId, docTitle,
-                    document.getContent() != null ? document.getContent().length() : 0);
-
-            // 3. 문서 내용을 청크로 분할
-            List<String> chunks = splitIntoChunks(document.getContent());
-            int totalChunks = chunks.size();
-
-            // 시작 이벤트 전송
-            progressService.sendProgress(EmbeddingProgressEvent.builder()
-                    .documentId(documentId)
-                    .documentTitle(docTitle)
-                    .status("STARTED")
-                    .currentChunk(0)
-                    .totalChunks(totalChunks)
-                    .progressPercent(0)
-                    .elapsedTimeMs(0)
-                    .message("임베딩 생성을 시작합니다")
-                    .build());
-
-            log.info("📊 [문서 {}] 임베딩 생성 시작 - 총 {}개 청크로 분할됨", documentId, totalChunks);
-
-            // 4. 각 청크에 대해 임베딩 생성
-            long totalChunkTime = 0;
-            for (int i = 0; i < chunks.size(); i++) {
-                String chunk = chunks.get(i);
-                int currentChunk = i + 1;
-
-                try {
-                    long chunkStartTime = System.currentTimeMillis();
-
-                    // 임베딩 벡터 생성 (Spring AI - Ollama Embedding API 호출)
-                    EmbeddingResponse response = embeddingModel.embedForResponse(List.of(chunk));
-                    float[] embeddingArray = response.getResults().get(0).getOutput();
-
-                    // float[] -> List<Double> 변환
-                    List<Double> embedding = new ArrayList<>();
-                    for (float value : embeddingArray) {
-                        embedding.add((double) value);
-                    }
-
-                    // JSON 배열로 직렬화
-                    String embeddingJson = objectMapper.writeValueAsString(embedding);
-
-                    // DB에 저장 (sourceDocumentUpdatedAt에 현재 문서의 updatedAt 저장)
-                    WikiDocumentEmbedding embeddingEntity = WikiDocumentEmbedding.builder()
-                            .documentId(documentId)
-                            .content(chunk)
-                            .embeddingVector(embeddingJson)
-                            .chunkIndex(i)
-                            .documentTitle(docTitle)
-                            .categoryId(document.getCategory() != null ? document.getCategory().getId() : null)
-                            .categoryName(document.getCategory() != null ? document.getCategory().getName() : null)
-                            .sourceDocumentUpdatedAt(document.getUpdatedAt())
-                            .build();
-
-                    embeddingRepository.save(embeddingEntity);
-
-                    long chunkElapsedTime = System.currentTimeMillis() - chunkStartTime;
-                    totalChunkTime += chunkElapsedTime;
-                    long elapsedTime = System.currentTimeMillis() - startTime;
-                    int progressPercent = (currentChunk * 100) / totalChunks;
-
-                    // 예상 남은 시간 계산
-                    double avgTime = (double) totalChunkTime / currentChunk;
-                    long estimatedRemaining = (long) (avgTime * (totalChunks - currentChunk));
-
-                    // 진행률 이벤트 전송
-                    progressService.sendProgress(EmbeddingProgressEvent.builder()
-                            .documentId(documentId)
-                            .documentTitle(docTitle)
-                            .status("IN_PROGRESS")
-                            .currentChunk(currentChunk)
-                            .totalChunks(totalChunks)
-                            .progressPercent(progressPercent)
-                            .chunkProcessingTimeMs(chunkElapsedTime)
-                            .elapsedTimeMs(elapsedTime)
-                            .estimatedRemainingMs(estimatedRemaining)
-                            .message(String.format("청크 %d/%d 처리 완료", currentChunk, totalChunks))
-                            .build());
-
-                    log.info("⏳ [문서 {}] 진행중 {}/{} ({}%) - 청크 처리 시간: {}ms",
-                            documentId, currentChunk, totalChunks, progressPercent, chunkElapsedTime);
-
-                } catch (JsonProcessingException e) {
-                    log.error("임베딩 벡터 직렬화 실패", e);
-                    progressService.sendProgress(EmbeddingProgressEvent.builder()
-                            .documentId(documentId)
-                            .documentTitle(docTitle)
-                            .status("FAILED")
-                            .currentChunk(currentChunk)
-                            .totalChunks(totalChunks)
-                            .message("임베딩 생성 실패: " + e.getMessage())
-                            .build());
-                    throw new RuntimeException("임베딩 생성 실패", e);
-                }
-            }
+            int totalChunks = wikiEmbeddingPipeline.embed(documentId, reporter);
 
             long elapsedTime = System.currentTimeMillis() - startTime;
             double avgTimePerChunk = totalChunks > 0 ? (double) elapsedTime / totalChunks : 0;
@@ -267,7 +110,6 @@ public class AiSearchService {
             // 완료 이벤트 전송
             progressService.sendProgress(EmbeddingProgressEvent.builder()
                     .documentId(documentId)
-                    .documentTitle(docTitle)
                     .status("COMPLETED")
                     .currentChunk(totalChunks)
                     .totalChunks(totalChunks)
@@ -280,13 +122,80 @@ public class AiSearchService {
             log.info("✅ [문서 {}] 비동기 임베딩 완료 - 총 {}개 청크, 전체 소요시간: {}ms, 청크당 평균: {}ms",
                     documentId, totalChunks, elapsedTime, String.format("%.1f", avgTimePerChunk));
 
-        } catch (Exception e) {
-            log.error("비동기 임베딩 생성 실패: documentId={}", documentId, e);
+        } catch (RuntimeException e) {
+            // 조회/임베딩/저장 어느 단계의 실패든 여기서만 전송 (청크 분할 후면 제목/청크 수 포함)
+            log.error("[문서 {}] 임베딩 생성 실패", documentId, e);
+            WikiEmbeddingPipeline.Source source = reporter.source;
             progressService.sendProgress(EmbeddingProgressEvent.builder()
                     .documentId(documentId)
+                    .documentTitle(source != null ? source.title() : null)
                     .status("FAILED")
+                    .totalChunks(source != null ? source.chunks().size() : 0)
                     .message("임베딩 생성 실패: " + e.getMessage())
                     .build());
+            throw e;
+        }
+    }
+
+    /**
+     * 임베딩 파이프라인 진행 상황을 SSE 진행률 이벤트로 전송
+     */
+    private class ProgressReporter implements WikiEmbeddingPipeline.ProgressListener {
+
+        private final long startTime;
+
+        /** 청크 분할 완료된 문서 (분할 전 실패면 null) */
+        private WikiEmbeddingPipeline.Source source;
+
+        ProgressReporter(long startTime) {
+            this.startTime = startTime;
+        }
+
+        @Override
+        public void onStart(WikiEmbeddingPipeline.Source source) {
+            this.source = source;
+            log.info("🔍 [문서 {}] 비동기 임베딩 시작 - 제목: {}, 내용 길이: {}자",
+                    source.documentId(), source.title(), source.contentLength());
+
+            // 시작 이벤트 전송
+            progressService.sendProgress(EmbeddingProgressEvent.builder()
+                    .documentId(source.documentId())
+                    .documentTitle(source.title())
+                    .status("STARTED")
+                    .currentChunk(0)
+                    .totalChunks(source.chunks().size())
+                    .progressPercent(0)
+                    .elapsedTimeMs(0)
+                    .message("임베딩 생성을 시작합니다")
+                    .build());
+        }
+
+        @Override
+        public void onProgress(WikiEmbeddingPipeline.Source source, int completedChunks, long batchElapsedMs) {
+            int totalChunks = source.chunks().size();
+            long elapsedTime = System.currentTimeMillis() - startTime;
+            int progressPercent = (completedChunks * 100) / totalChunks;
+
+            // 예상 남은 시간 계산
+            double avgTime = (double) elapsedTime / completedChunks;
+            long estimatedRemaining = (long) (avgTime * (totalChunks - completedChunks));
+
+            // 진행률 이벤트 전송 (배치 단위)
+            progressService.sendProgress(EmbeddingProgressEvent.builder()
+                    .documentId(source.documentId())
+                    .documentTitle(source.title())
+                    .status("IN_PROGRESS")
+                    .currentChunk(completedChunks)
+                    .totalChunks(totalChunks)
+                    .progressPercent(progressPercent)
+                    .chunkProcessingTimeMs(batchElapsedMs)
+                    .elapsedTimeMs(elapsedTime)
+                    .estimatedRemainingMs(estimatedRemaining)
+                    .message(String.format("청크 %d/%d 처리 완료", completedChunks, totalChunks))
+                    .build());
+
+            log.info("⏳ [문서 {}] 진행중 {}/{} ({}%) - 배치 처리 시간: {}ms",
+                    source.documentId(), completedChunks, totalChunks, progressPercent, batchElapsedMs);
         }
     }
 
@@ -353,238 +262,448 @@ public class AiSearchService {
      * RAG 기반 자연어 검색
      * - useUnifiedSearch=true: Wiki, SR, Survey 통합 검색
      * - useUnifiedSearch=false: Wiki만 검색 (기존 호환)
+     * - 같은 질문/조건의 답변은 캐시 사용 (인용 출처 변경 시 무효화)
+     * - LLM 응답을 기다리는 동안 DB 커넥션을 점유하지 않도록 트랜잭션 없이 실행 (본문 조회만 짧은 조회 트랜잭션)
      *
      * @param request 검색 요청
      * @return AI 답변 및 참고 문서
      */
-    @Transactional(readOnly = true)
     public AiSearchResponse search(AiSearchRequest request) {
-        // 통합 검색 사용 여부에 따라 분기
-        if (Boolean.TRUE.equals(request.getUseUnifiedSearch())) {
-            return searchUnified(request);
-        } else {
-            return searchWikiOnly(request);
-        }
-    }
-
-    /**
-     * 통합 검색 (Wiki, SR, Survey)
-     */
-    private AiSearchResponse searchUnified(AiSearchRequest request) {
         long startTime = System.currentTimeMillis();
 
-        try {
-            // 1. 사용자 질문 임베딩 생성
-            EmbeddingResponse queryEmbeddingResponse = embeddingModel.embedForResponse(List.of(request.getQuestion()));
-            float[] queryEmbeddingArray = queryEmbeddingResponse.getResults().get(0).getOutput();
-
-            List<Double> queryEmbedding = new ArrayList<>();
-            for (float value : queryEmbeddingArray) {
-                queryEmbedding.add((double) value);
-            }
-
-            log.debug("질문 임베딩 생성 완료: {}차원", queryEmbedding.size());
-
-            // 2. 콘텐츠 임베딩 조회
-            List<ContentEmbedding> allEmbeddings;
-
-            // 리소스 타입 필터링
-            if (request.getResourceTypes() != null && !request.getResourceTypes().isEmpty()) {
-                List<ResourceType> resourceTypes = request.getResourceTypes().stream()
-                        .map(ResourceType::valueOf)
-                        .collect(Collectors.toList());
-                allEmbeddings = contentEmbeddingRepository.findByResourceTypeIn(resourceTypes);
-            } else {
-                allEmbeddings = contentEmbeddingRepository.findAllForSearch();
-            }
+        // 같은 질문 + 같은 조건의 답변이 캐시되어 있으면 LLM 호출 생략
+        AiAnswerCache.Key cacheKey = AiAnswerCache.Key.of(request);
+        AiSearchResponse cached = answerCache.get(cacheKey);
+        if (cached != null) {
+            log.info("AI 답변 캐시 적중: {} sources", cached.getSources().size());
+            return cachedResponse(cached, startTime);
+        }
+        long generation = answerCache.currentGeneration();
 
-            log.debug("전체 임베딩 개수: {}", allEmbeddings.size());
-
-            // 3. 코사인 유사도 계산 및 정렬
-            List<ScoredContentEmbedding> scoredEmbeddings = allEmbeddings.stream()
-                    .map(embedding -> {
-                        try {
-                            List<Double> docEmbedding = objectMapper.readValue(
-                                    embedding.getEmbeddingVector(),
-                                    objectMapper.getTypeFactory().constructCollectionType(List.class, Double.class)
-                            );
-                            double similarity = cosineSimilarity(queryEmbedding, docEmbedding);
-                            return new ScoredContentEmbedding(embedding, similarity);
-                        } catch (JsonProcessingException e) {
-                            log.error("임베딩 역직렬화 실패", e);
-                            return null;
-                        }
-                    })
-                    .filter(Objects::nonNull)
-                    .filter(se -> se.score >= request.getSimilarityThreshold())
-                    .sorted(Comparator.comparingDouble(ScoredContentEmbedding::getScore).reversed())
-                    .limit(request.getTopK())
-                    .collect(Collectors.toList());
-
-            log.info("유사도 Top-{}: {}", request.getTopK(), scoredEmbeddings.stream()
-                    .map(se -> String.format("[%s] %.3f", se.embedding.getResourceType(), se.score))
-                    .collect(Collectors.joining(", ")));
-
-            // 4. 참고 문서 컨텍스트 생성
-            StringBuilder contextBuilder = new StringBuilder();
-            List<AiSearchResponse.SourceDocument> sources = new ArrayList<>();
-
-            for (ScoredContentEmbedding scored : scoredEmbeddings) {
-                ContentEmbedding embedding = scored.embedding;
-
-                // 리소스 타입별 컨텍스트 라벨 생성
-                String typeLabel = switch (embedding.getResourceType()) {
-                    case WIKI -> "Wiki 문서";
-                    case SR -> "SR (Service Request)";
-                    case SURVEY -> "OPEN API 현황조사";
-                };
-
-                contextBuilder.append("## [").append(typeLabel).append("] ")
-                        .append(embedding.getTitle()).append("\n");
-                contextBuilder.append(embedding.getContent()).append("\n\n");
-
-                // 중복 제거 (같은 리소스의 다른 청크)
-                String uniqueKey = embedding.getResourceType() + "-" + embedding.getResourceId();
-                boolean exists = sources.stream()
-                        .anyMatch(s -> (s.getResourceType() + "-" + s.getResourceId()).equals(uniqueKey));
-
-                if (!exists) {
-                    sources.add(AiSearchResponse.SourceDocument.builder()
-                            .resourceType(embedding.getResourceType().name())
-                            .resourceId(embedding.getResourceId())
-                            .resourceIdentifier(embedding.getResourceIdentifier())
-                            .documentId(embedding.getResourceType() == ResourceType.WIKI ? embedding.getResourceId() : null)
-                            .title(embedding.getTitle())
-                            .categoryName(embedding.getCategory())
-                            .status(embedding.getStatus())
-                            .snippet(truncate(embedding.getContent(), 200))
-                            .relevanceScore(scored.score)
-                            .build());
-                }
-            }
+        AiSearchResponse response;
+        AiSearchTrace trace = new AiSearchTrace();
+        try {
+            // 1~4. 질문 임베딩 → 벡터 검색 → 본문 조회 → 참고 문서 컨텍스트 패킹
+            Retrieval retrieval = retrieve(request, trace);
+            long retrievalTime = System.currentTimeMillis() - startTime;
 
-            // 5. LLM에 프롬프트 전송
-            String promptText = buildUnifiedPrompt(request.getQuestion(), contextBuilder.toString());
-            Prompt prompt = new Prompt(promptText);
-            ChatResponse chatResponse = chatModel.call(prompt);
+            // 5. LLM에 프롬프트 전송 (Spring AI)
+            ChatResponse chatResponse = trace.time(AiSearchTrace.Stage.GENERATE,
+                    () -> ollamaGateway.call(new Prompt(retrieval.prompt()), OllamaGateway.Operation.CHAT));
             String answer = chatResponse.getResult().getOutput().getContent();
+            LlmUsageService.TokenUsage usage = LlmUsageService.TokenUsage.of(chatResponse);
+            retrieval.context().setLlmPromptTokens(usage.promptTokens());
+            trace.applyUsage(usage);
 
             long elapsedTime = System.currentTimeMillis() - startTime;
-            log.info("통합 검색 완료: {}ms, {} sources", elapsedTime, sources.size());
-
-            return AiSearchResponse.builder()
+            recordGeneration(elapsedTime - retrievalTime);
+            trace.publish(meterRegistry);
+            llmUsageService.recordAsync(LlmUsage.Purpose.AI_SEARCH, usage, elapsedTime - retrievalTime, null);
+            log.info("검색 완료: {}ms (검색 {}ms, 생성 {}ms), {} sources, 프롬프트 ~{} 토큰, 단계 {}",
+                    elapsedTime, retrievalTime, elapsedTime - retrievalTime, retrieval.sources().size(),
+                    retrieval.context().getPackedPromptTokens(), trace.toStageTimings());
+
+            response = AiSearchResponse.builder()
                     .answer(answer)
-                    .sources(sources)
+                    .sources(retrieval.sources())
                     .processingTimeMs(elapsedTime)
+                    .retrievalTimeMs(retrievalTime)
+                    .generationTimeMs(elapsedTime - retrievalTime)
+                    .context(retrieval.context())
+                    .stages(trace.toStageTimings())
                     .build();
 
+        } catch (CustomException e) {
+            // Ollama 차단/타임아웃은 상태 코드(503/504)와 메시지를 그대로 전달
+            log.warn("AI 검색 실패: {}", e.getMessage());
+            throw e;
         } catch (Exception e) {
-            log.error("통합 AI 검색 실패", e);
+            log.error("AI 검색 실패", e);
             throw new RuntimeException("AI 검색 중 오류가 발생했습니다: " + e.getMessage(), e);
         }
+
+        answerCache.put(cacheKey, generation, response);
+        return response;
     }
 
     /**
-     * Wiki만 검색 (기존 호환)
+     * 답변 스트리밍 리스너 (SSE 전송용)
+     */
+    public interface StreamListener {
+
+        /**
+         * 참고 문서 확정 (LLM 호출 전)
+         *
+         * @param sources 참고 문서 목록
+         * @param retrievalTimeMs 질문 임베딩 + 벡터 검색 소요 시간
+         */
+        void onSources(List<AiSearchResponse.SourceDocument> sources, long retrievalTimeMs);
+
+        /**
+         * 답변 조각 수신 (예외를 던지면 LLM 스트리밍 중단)
+         */
+        void onToken(String token);
+    }
+
+    /**
+     * RAG 기반 자연어 검색 (답변 스트리밍)
+     * - 참고 문서를 먼저 전달한 뒤 LLM 답변을 토큰 단위로 전달
+     * - LLM 응답을 기다리는 동안 DB 커넥션을 점유하지 않도록 트랜잭션 없이 실행
+     * - 캐시 적중 시 참고 문서와 전체 답변을 한 번에 전달
+     *
+     * @param request 검색 요청
+     * @param listener 스트리밍 리스너
+     * @return 전체 답변 (이력 저장용)
      */
-    private AiSearchResponse searchWikiOnly(AiSearchRequest request) {
+    public AiSearchResponse searchStream(AiSearchRequest request, StreamListener listener) {
         long startTime = System.currentTimeMillis();
 
+        AiAnswerCache.Key cacheKey = AiAnswerCache.Key.of(request);
+        AiSearchResponse cached = answerCache.get(cacheKey);
+        if (cached != null) {
+            log.info("AI 답변 캐시 적중 (스트리밍): {} sources", cached.getSources().size());
+            listener.onSources(cached.getSources(), System.currentTimeMillis() - startTime);
+            listener.onToken(cached.getAnswer());
+            return cachedResponse(cached, startTime);
+        }
+        long generation = answerCache.currentGeneration();
+
+        AiSearchTrace trace = new AiSearchTrace();
+        Retrieval retrieval;
         try {
-            // 1. 사용자 질문 임베딩 생성 (Spring AI)
-            EmbeddingResponse queryEmbeddingResponse = embeddingModel.embedForResponse(List.of(request.getQuestion()));
-            float[] queryEmbeddingArray = queryEmbeddingResponse.getResults().get(0).getOutput();
-
-            // float[] -> List<Double> 변환
-            List<Double> queryEmbedding = new ArrayList<>();
-            for (float value : queryEmbeddingArray) {
-                queryEmbedding.add((double) value);
-            }
+            retrieval = retrieve(request, trace);
+        } catch (CustomException e) {
+            log.warn("AI 검색 실패: {}", e.getMessage());
+            throw e;
+        } catch (Exception e) {
+            log.error("AI 검색 실패", e);
+            throw new RuntimeException("AI 검색 중 오류가 발생했습니다: " + e.getMessage(), e);
+        }
+        long retrievalTime = System.currentTimeMillis() - startTime;
+        listener.onSources(retrieval.sources(), retrievalTime);
+
+        // LLM 스트리밍 (응답 조각을 받는 즉시 전달, 전체 답변은 이력/캐시용으로 누적)
+        StringBuilder answer = new StringBuilder();
+        long[] pieces = {0};
+        LlmUsageService.TokenUsage[] reportedUsage = {LlmUsageService.TokenUsage.EMPTY};
+        long generateStart = System.nanoTime();
+        ollamaGateway.stream(new Prompt(retrieval.prompt()))
+                .doOnNext(chunk -> {
+                    // 토큰 수/처리 시간은 마지막 조각(done)의 메타데이터에만 있음
+                    LlmUsageService.TokenUsage usage = LlmUsageService.TokenUsage.of(chunk);
+                    if (!usage.isEmpty()) {
+                        reportedUsage[0] = usage;
+                    }
+                })
+                .mapNotNull(this::contentOf)
+                .doOnNext(token -> {
+                    pieces[0]++;
+                    answer.append(token);
+                    listener.onToken(token);
+                })
+                .blockLast();
+        trace.record(AiSearchTrace.Stage.GENERATE, System.nanoTime() - generateStart);
+        LlmUsageService.TokenUsage usage = reportedUsage[0];
+        retrieval.context().setLlmPromptTokens(usage.promptTokens());
+        trace.applyUsage(usage);
+        if (usage.generatedTokens() == null) {
+            trace.setGeneratedTokens(pieces[0]);
+        }
 
-            log.debug("질문 임베딩 생성 완료: {}차원", queryEmbedding.size());
+        long elapsedTime = System.currentTimeMillis() - startTime;
+        recordGeneration(elapsedTime - retrievalTime);
+        trace.publish(meterRegistry);
+        llmUsageService.recordAsync(LlmUsage.Purpose.AI_SEARCH_STREAM, usage, elapsedTime - retrievalTime, null);
+        log.info("검색 완료 (스트리밍): {}ms (검색 {}ms, 생성 {}ms), {} sources, 프롬프트 ~{} 토큰, 단계 {}",
+                elapsedTime, retrievalTime, elapsedTime - retrievalTime, retrieval.sources().size(),
+                retrieval.context().getPackedPromptTokens(), trace.toStageTimings());
+
+        AiSearchResponse response = AiSearchResponse.builder()
+                .answer(answer.toString())
+                .sources(retrieval.sources())
+                .processingTimeMs(elapsedTime)
+                .retrievalTimeMs(retrievalTime)
+                .generationTimeMs(elapsedTime - retrievalTime)
+                .context(retrieval.context())
+                .stages(trace.toStageTimings())
+                .build();
+        answerCache.put(cacheKey, generation, response);
+        return response;
+    }
 
-            // 2. 모든 문서 임베딩 조회
-            List<WikiDocumentEmbedding> allEmbeddings = embeddingRepository.findAllForSearch();
-            log.debug("전체 임베딩 개수: {}", allEmbeddings.size());
+    /**
+     * AI 검색 실행 계획/추적 (관리자용)
+     * - 질문 임베딩 → 벡터 검색 → 본문 조회 → 컨텍스트 구성까지 실제 검색과 같은 경로로 실행
+     * - LLM 호출, 답변 캐시, 단계별 Micrometer 기록은 하지 않음
+     * - 질문 임베딩 동안 DB 커넥션을 점유하지 않도록 트랜잭션 없이 실행
+     *
+     * @param request 검색 요청
+     * @return 단계별 소요 시간, 검색 결과 청크, 프롬프트 전문
+     */
+    public AiSearchExplainResponse explain(AiSearchRequest request) {
+        AiSearchTrace trace = new AiSearchTrace();
+        Retrieval retrieval = retrieve(request, trace);
+        return AiSearchExplainResponse.builder()
+                .question(request.getQuestion())
+                .unifiedSearch(Boolean.TRUE.equals(request.getUseUnifiedSearch()))
+                .index(retrieval.plan().index())
+                .indexSize(retrieval.plan().indexSize())
+                .precision(retrieval.plan().precision())
+                .filter(retrieval.filter().toString())
+                .stages(trace.toStageTimings())
+                .hits(retrieval.hits())
+                .sources(retrieval.sources())
+                .context(retrieval.context())
+                .prompt(retrieval.prompt())
+                .build();
+    }
 
-            // 카테고리 필터링 (선택적)
-            if (request.getCategoryId() != null) {
-                allEmbeddings = allEmbeddings.stream()
-                        .filter(e -> request.getCategoryId().equals(e.getCategoryId()))
-                        .collect(Collectors.toList());
-                log.debug("카테고리 필터 적용 후: {} 개", allEmbeddings.size());
-            }
+    /**
+     * 캐시된 답변 응답 (소요 시간만 현재 요청 기준)
+     */
+    private AiSearchResponse cachedResponse(AiSearchResponse cached, long startTime) {
+        return AiSearchResponse.builder()
+                .answer(cached.getAnswer())
+                .sources(cached.getSources())
+                .processingTimeMs(System.currentTimeMillis() - startTime)
+                .cached(true)
+                .context(cached.getContext())
+                .build();
+    }
 
-            // 3. 코사인 유사도 계산 및 정렬
-            List<ScoredEmbedding> scoredEmbeddings = allEmbeddings.stream()
-                    .map(embedding -> {
-                        try {
-                            List<Double> docEmbedding = objectMapper.readValue(
-                                    embedding.getEmbeddingVector(),
-                                    objectMapper.getTypeFactory().constructCollectionType(List.class, Double.class)
-                            );
-                            double similarity = cosineSimilarity(queryEmbedding, docEmbedding);
-                            return new ScoredEmbedding(embedding, similarity);
-                        } catch (JsonProcessingException e) {
-                            log.error("임베딩 역직렬화 실패", e);
-                            return null;
-                        }
-                    })
-                    .filter(Objects::nonNull)
-                    .filter(se -> se.score >= request.getSimilarityThreshold())
-                    .sorted(Comparator.comparingDouble(ScoredEmbedding::getScore).reversed())
-                    .limit(request.getTopK())
-                    .collect(Collectors.toList());
-
-            log.info("유사도 Top-{}: {}", request.getTopK(), scoredEmbeddings.stream()
-                    .map(se -> String.format("%.3f", se.score))
-                    .collect(Collectors.joining(", ")));
-
-            // 4. 참고 문서 컨텍스트 생성
-            StringBuilder contextBuilder = new StringBuilder();
-            List<AiSearchResponse.SourceDocument> sources = new ArrayList<>();
-
-            for (ScoredEmbedding scored : scoredEmbeddings) {
-                WikiDocumentEmbedding embedding = scored.embedding;
-                contextBuilder.append("## ").append(embedding.getDocumentTitle()).append("\n");
-                contextBuilder.append(embedding.getContent()).append("\n\n");
-
-                // 중복 제거 (같은 문서의 다른 청크)
-                boolean exists = sources.stream()
-                        .anyMatch(s -> s.getDocumentId().equals(embedding.getDocumentId()));
-
-                if (!exists) {
-                    sources.add(AiSearchResponse.SourceDocument.builder()
-                            .resourceType("WIKI")
-                            .resourceId(embedding.getDocumentId())
-                            .documentId(embedding.getDocumentId())
-                            .title(embedding.getDocumentTitle())
-                            .categoryName(embedding.getCategoryName())
-                            .snippet(truncate(embedding.getContent(), 200))
-                            .relevanceScore(scored.score)
-                            .build());
-                }
+    /**
+     * LLM 답변 생성 시간 기록 (패킹 사용 여부별, 전후 지연시간 비교용)
+     * - Micrometer: ai.search.generation{context.packing=on|off}
+     */
+    private void recordGeneration(long generationMs) {
+        Timer.builder("ai.search.generation")
+                .description("AI 검색 LLM 답변 생성 시간")
+                .tag("context.packing", contextPacker.isEnabled() ? "on" : "off")
+                .register(meterRegistry)
+                .record(generationMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 스트리밍 응답 조각의 텍스트 (빈 조각은 null)
+     */
+    private String contentOf(ChatResponse chunk) {
+        if (chunk.getResult() == null || chunk.getResult().getOutput() == null) {
+            return null;
+        }
+        String content = chunk.getResult().getOutput().getContent();
+        return content == null || content.isEmpty() ? null : content;
+    }
+
+    /**
+     * 검색 단계 결과 (LLM 호출 전)
+     *
+     * @param sources 참고 문서 (리소스 단위 중복 제거, 컨텍스트에 포함된 리소스만)
+     * @param prompt 패킹된 참고 문서 컨텍스트를 포함한 LLM 프롬프트
+     * @param context 컨텍스트 패킹 통계
+     * @param hits 벡터 검색 결과 청크 (실행 계획 설명용)
+     * @param plan 벡터 인덱스 검색 계획
+     * @param filter 적용된 메타데이터 필터
+     */
+    private record Retrieval(List<AiSearchResponse.SourceDocument> sources, String prompt,
+                             AiSearchResponse.ContextStats context, List<AiSearchExplainResponse.Hit> hits,
+                             VectorIndexService.SearchPlan plan, VectorFilter filter) {
+    }
+
+    /**
+     * 컨텍스트 패킹 후 프롬프트에 포함된 리소스만 참고 문서로 남김
+     */
+    private Retrieval packed(List<RagContextPacker.Chunk> chunks, List<AiSearchResponse.SourceDocument> sources,
+                             List<AiSearchExplainResponse.Hit> hits, UnaryOperator<String> promptTemplate,
+                             VectorIndexService.SearchPlan plan, VectorFilter filter, AiSearchTrace trace) {
+        RagContextPacker.Packed packed = contextPacker.pack(chunks, promptTemplate);
+        List<AiSearchResponse.SourceDocument> included = sources.stream()
+                .filter(s -> packed.resourceKeys().contains(s.getResourceType() + "-" + s.getResourceId()))
+                .toList();
+        hits.forEach(hit -> hit.setIncluded(packed.resourceKeys().contains(hit.getResourceType() + "-" + hit.getResourceId())));
+        trace.setPromptChars(packed.prompt().length());
+        return new Retrieval(included, packed.prompt(), packed.stats(), hits, plan, filter);
+    }
+
+    /**
+     * 검색 단계 (통합 검색 사용 여부에 따라 분기)
+     */
+    private Retrieval retrieve(AiSearchRequest request, AiSearchTrace trace) {
+        if (Boolean.TRUE.equals(request.getUseUnifiedSearch())) {
+            return retrieveUnified(request, trace);
+        }
+        return retrieveWikiOnly(request, trace);
+    }
+
+    /**
+     * 통합 검색 (Wiki, SR, Survey)
+     */
+    private Retrieval retrieveUnified(AiSearchRequest request, AiSearchTrace trace) {
+        // 1. 사용자 질문 임베딩 (같은 질문은 캐시 사용)
+        trace.setQueryEmbeddingCached(queryEmbeddingCache.isCached(request.getQuestion()));
+        float[] queryEmbedding = trace.time(AiSearchTrace.Stage.EMBED,
+                () -> queryEmbeddingCache.embed(request.getQuestion()));
+
+        log.debug("질문 임베딩 생성 완료: {}차원", queryEmbedding.length);
+
+        // 2. 벡터 인덱스에서 Top-K 조회 (메타데이터 필터로 후보 축소 후 계산)
+        VectorFilter filter = toContentFilter(request);
+        VectorIndexService.SearchPlan plan = vectorIndexService.planContent(filter);
+        trace.setChunksScanned(plan.candidates());
+        trace.setApproximateSearch(plan.approximate());
+        List<VectorIndex.Hit> hits = trace.time(AiSearchTrace.Stage.SCORE, () -> vectorIndexService.searchContent(
+                queryEmbedding, request.getTopK(), request.getSimilarityThreshold(), filter));
+        trace.setHitCount(hits.size());
+
+        // 3. Top-K 청크 본문 조회
+        List<ScoredContentEmbedding> scoredEmbeddings = trace.time(AiSearchTrace.Stage.LOAD,
+                () -> loadScoredContentEmbeddings(hits));
+        trace.setLoadedChunks(scoredEmbeddings.size());
+
+        log.info("유사도 Top-{}: {}", request.getTopK(), scoredEmbeddings.stream()
+                .map(se -> String.format("[%s] %.3f", se.embedding.getResourceType(), se.score))
+                .collect(Collectors.joining(", ")));
+
+        // 4. 참고 문서 컨텍스트 생성 (패킹: 인접 청크 병합, 중복 제거, 토큰 예산)
+        long packStart = System.nanoTime();
+        List<RagContextPacker.Chunk> chunks = new ArrayList<>();
+        List<AiSearchResponse.SourceDocument> sources = new ArrayList<>();
+        List<AiSearchExplainResponse.Hit> explainedHits = new ArrayList<>();
+
+        for (ScoredContentEmbedding scored : scoredEmbeddings) {
+            ContentEmbedding embedding = scored.embedding;
+
+            // 리소스 타입별 컨텍스트 라벨 생성
+            String typeLabel = switch (embedding.getResourceType()) {
+                case WIKI -> "Wiki 문서";
+                case SR -> "SR (Service Request)";
+                case SURVEY -> "OPEN API 현황조사";
+            };
+
+            // 중복 제거 (같은 리소스의 다른 청크)
+            String uniqueKey = embedding.getResourceType() + "-" + embedding.getResourceId();
+            chunks.add(new RagContextPacker.Chunk(uniqueKey,
+                    "## [" + typeLabel + "] " + withSection(embedding.getTitle(), embedding.getSectionPath()),
+                    embedding.getChunkIndex() != null ? embedding.getChunkIndex() : 0,
+                    embedding.getContent(), scored.score));
+            explainedHits.add(AiSearchExplainResponse.Hit.builder()
+                    .resourceType(embedding.getResourceType().name())
+                    .resourceId(embedding.getResourceId())
+                    .embeddingId(embedding.getId())
+                    .chunkIndex(embedding.getChunkIndex())
+                    .title(embedding.getTitle())
+                    .sectionPath(embedding.getSectionPath())
+                    .score(scored.score)
+                    .build());
+            boolean exists = sources.stream()
+                    .anyMatch(s -> (s.getResourceType() + "-" + s.getResourceId()).equals(uniqueKey));
+
+            if (!exists) {
+                sources.add(AiSearchResponse.SourceDocument.builder()
+                        .resourceType(embedding.getResourceType().name())
+                        .resourceId(embedding.getResourceId())
+                        .resourceIdentifier(embedding.getResourceIdentifier())
+                        .documentId(embedding.getResourceType() == ResourceType.WIKI ? embedding.getResourceId() : null)
+                        .title(embedding.getTitle())
+                        .categoryName(embedding.getCategory())
+                        .status(embedding.getStatus())
+                        .snippet(truncate(embedding.getContent(), 200))
+                        .relevanceScore(scored.score)
+                        .build());
             }
+        }
 
-            // 5. LLM에 프롬프트 전송 (Spring AI)
-            String promptText = buildPrompt(request.getQuestion(), contextBuilder.toString());
-            Prompt prompt = new Prompt(promptText);
-            ChatResponse chatResponse = chatModel.call(prompt);
-            String answer = chatResponse.getResult().getOutput().getContent();
+        Retrieval retrieval = packed(chunks, sources, explainedHits,
+                context -> buildUnifiedPrompt(request.getQuestion(), context), plan, filter, trace);
+        trace.record(AiSearchTrace.Stage.PACK, System.nanoTime() - packStart);
+        return retrieval;
+    }
 
-            long elapsedTime = System.currentTimeMillis() - startTime;
-            log.info("검색 완료: {}ms, {} sources", elapsedTime, sources.size());
+    /**
+     * 통합 검색 요청 → 메타데이터 필터
+     * - 새 필터 조건은 요청 필드와 {@link VectorFilter.Field}만 추가하면 됨 (리포지토리 쿼리 불필요)
+     */
+    private VectorFilter toContentFilter(AiSearchRequest request) {
+        List<ResourceType> resourceTypes = request.getResourceTypes() == null ? null
+                : request.getResourceTypes().stream().map(ResourceType::valueOf).toList();
+        return VectorFilter.none()
+                .and(VectorFilter.Field.RESOURCE_TYPE, resourceTypes)
+                .and(VectorFilter.Field.CATEGORY, request.getCategories())
+                .and(VectorFilter.Field.STATUS, request.getStatuses());
+    }
 
-            return AiSearchResponse.builder()
-                    .answer(answer)
-                    .sources(sources)
-                    .processingTimeMs(elapsedTime)
-                    .build();
+    /**
+     * Wiki만 검색 (기존 호환)
+     */
+    private Retrieval retrieveWikiOnly(AiSearchRequest request, AiSearchTrace trace) {
+        // 1. 사용자 질문 임베딩 (같은 질문은 캐시 사용)
+        trace.setQueryEmbeddingCached(queryEmbeddingCache.isCached(request.getQuestion()));
+        float[] queryEmbedding = trace.time(AiSearchTrace.Stage.EMBED,
+                () -> queryEmbeddingCache.embed(request.getQuestion()));
+
+        log.debug("질문 임베딩 생성 완료: {}차원", queryEmbedding.length);
+
+        // 2. 벡터 인덱스에서 Top-K 조회 (카테고리 필터링)
+        VectorFilter filter = VectorFilter.none()
+                .and(VectorFilter.Field.CATEGORY_ID, request.getCategoryId());
+        VectorIndexService.SearchPlan plan = vectorIndexService.planWiki(filter);
+        trace.setChunksScanned(plan.candidates());
+        trace.setApproximateSearch(plan.approximate());
+        List<VectorIndex.Hit> hits = trace.time(AiSearchTrace.Stage.SCORE, () -> vectorIndexService.searchWiki(
+                queryEmbedding, request.getTopK(), request.getSimilarityThreshold(), filter));
+        trace.setHitCount(hits.size());
+
+        // 3. Top-K 청크 본문 조회
+        List<ScoredEmbedding> scoredEmbeddings = trace.time(AiSearchTrace.Stage.LOAD,
+                () -> loadScoredWikiEmbeddings(hits));
+        trace.setLoadedChunks(scoredEmbeddings.size());
+
+        log.info("유사도 Top-{}: {}", request.getTopK(), scoredEmbeddings.stream()
+                .map(se -> String.format("%.3f", se.score))
+                .collect(Collectors.joining(", ")));
+
+        // 4. 참고 문서 컨텍스트 생성 (패킹: 인접 청크 병합, 중복 제거, 토큰 예산)
+        long packStart = System.nanoTime();
+        List<RagContextPacker.Chunk> chunks = new ArrayList<>();
+        List<AiSearchResponse.SourceDocument> sources = new ArrayList<>();
+        List<AiSearchExplainResponse.Hit> explainedHits = new ArrayList<>();
+
+        for (ScoredEmbedding scored : scoredEmbeddings) {
+            WikiDocumentEmbedding embedding = scored.embedding;
+            chunks.add(new RagContextPacker.Chunk("WIKI-" + embedding.getDocumentId(),
+                    "## " + withSection(embedding.getDocumentTitle(), embedding.getSectionPath()),
+                    embedding.getChunkIndex() != null ? embedding.getChunkIndex() : 0,
+                    embedding.getContent(), scored.score));
+            explainedHits.add(AiSearchExplainResponse.Hit.builder()
+                    .resourceType("WIKI")
+                    .resourceId(embedding.getDocumentId())
+                    .embeddingId(embedding.getId())
+                    .chunkIndex(embedding.getChunkIndex())
+                    .title(embedding.getDocumentTitle())
+                    .sectionPath(embedding.getSectionPath())
+                    .score(scored.score)
+                    .build());
 
-        } catch (Exception e) {
-            log.error("AI 검색 실패", e);
-            throw new RuntimeException("AI 검색 중 오류가 발생했습니다: " + e.getMessage(), e);
+            // 중복 제거 (같은 문서의 다른 청크)
+            boolean exists = sources.stream()
+                    .anyMatch(s -> s.getDocumentId().equals(embedding.getDocumentId()));
+
+            if (!exists) {
+                sources.add(AiSearchResponse.SourceDocument.builder()
+                        .resourceType("WIKI")
+                        .resourceId(embedding.getDocumentId())
+                        .documentId(embedding.getDocumentId())
+                        .title(embedding.getDocumentTitle())
+                        .categoryName(embedding.getCategoryName())
+                        .snippet(truncate(embedding.getContent(), 200))
+                        .relevanceScore(scored.score)
+                        .build());
+            }
         }
+
+        Retrieval retrieval = packed(chunks, sources, explainedHits,
+                context -> buildPrompt(request.getQuestion(), context), plan, filter, trace);
+        trace.record(AiSearchTrace.Stage.PACK, System.nanoTime() - packStart);
+        return retrieval;
     }
 
     /**
@@ -644,76 +763,53 @@ public class AiSearchService {
     }
 
     /**
-     * 문서를 청크로 분할
+     * 인덱스 검색 결과의 ContentEmbedding 본문 조회 (유사도 순서 유지)
      */
-    private List<String> splitIntoChunks(String content) {
-        List<String> chunks = new ArrayList<>();
-        if (content == null || content.isEmpty()) {
-            return chunks;
-        }
-
-        // 문서가 청크 크기보다 작으면 전체를 하나의 청크로
-        if (content.length() <= MAX_CHUNK_LENGTH) {
-            chunks.add(content.trim());
-            return chunks;
-        }
-
-        int start = 0;
-        while (start < content.length()) {
-            int end = Math.min(start + MAX_CHUNK_LENGTH, content.length());
-
-            // 청크가 문장 중간에서 끊기지 않도록 조정
-            if (end < content.length()) {
-                // 마지막 줄바꿈이나 마침표 위치 찾기
-                int lastNewline = content.lastIndexOf('\n', end);
-                int lastPeriod = content.lastIndexOf('.', end);
-                int breakPoint = Math.max(lastNewline, lastPeriod);
-
-                if (breakPoint > start + OVERLAP_LENGTH) {
-                    end = breakPoint + 1; // 줄바꿈/마침표 포함
-                }
-            }
-
-            String chunk = content.substring(start, end).trim();
-            if (!chunk.isEmpty()) {
-                chunks.add(chunk);
+    private List<ScoredContentEmbedding> loadScoredContentEmbeddings(List<VectorIndex.Hit> hits) {
+        Map<Long, ContentEmbedding> byId = contentEmbeddingRepository.findAllById(
+                        hits.stream().map(hit -> hit.entry().embeddingId()).toList())
+                .stream()
+                .collect(Collectors.toMap(ContentEmbedding::getId, e -> e));
+
+        List<ScoredContentEmbedding> scored = new ArrayList<>();
+        for (VectorIndex.Hit hit : hits) {
+            ContentEmbedding embedding = byId.get(hit.entry().embeddingId());
+            if (embedding != null) {
+                scored.add(new ScoredContentEmbedding(embedding, hit.score()));
             }
-
-            // 마지막 청크면 종료
-            if (end >= content.length()) {
-                break;
-            }
-
-            start = end - OVERLAP_LENGTH; // 겹치는 영역 추가
-            if (start < 0) start = 0;
         }
-
-        return chunks;
+        return scored;
     }
 
     /**
-     * 코사인 유사도 계산
+     * 인덱스 검색 결과의 WikiDocumentEmbedding 본문 조회 (유사도 순서 유지)
      */
-    private double cosineSimilarity(List<Double> vec1, List<Double> vec2) {
-        if (vec1.size() != vec2.size()) {
-            throw new IllegalArgumentException("벡터 차원이 일치하지 않습니다");
-        }
-
-        double dotProduct = 0.0;
-        double norm1 = 0.0;
-        double norm2 = 0.0;
-
-        for (int i = 0; i < vec1.size(); i++) {
-            dotProduct += vec1.get(i) * vec2.get(i);
-            norm1 += vec1.get(i) * vec1.get(i);
-            norm2 += vec2.get(i) * vec2.get(i);
+    private List<ScoredEmbedding> loadScoredWikiEmbeddings(List<VectorIndex.Hit> hits) {
+        Map<Long, WikiDocumentEmbedding> byId = embeddingRepository.findAllById(
+                        hits.stream().map(hit -> hit.entry().embeddingId()).toList())
+                .stream()
+                .collect(Collectors.toMap(WikiDocumentEmbedding::getId, e -> e));
+
+        List<ScoredEmbedding> scored = new ArrayList<>();
+        for (VectorIndex.Hit hit : hits) {
+            WikiDocumentEmbedding embedding = byId.get(hit.entry().embeddingId());
+            if (embedding != null) {
+                scored.add(new ScoredEmbedding(embedding, hit.score()));
+            }
         }
+        return scored;
+    }
 
-        if (norm1 == 0.0 || norm2 == 0.0) {
-            return 0.0;
+    /**
+     * 컨텍스트 제목에 청크 섹션 경로 추가 (예: "설치 가이드 > 설치 > 요구사항")
+     */
+    private String withSection(String title, String sectionPath) {
+        if (sectionPath == null || sectionPath.isBlank() || sectionPath.equals(title)) {
+            return title;
         }
-
-        return dotProduct / (Math.sqrt(norm1) * Math.sqrt(norm2));
+        // 문서 첫 제목(H1)이 문서 제목과 같으면 중복 생략
+        String path = sectionPath.startsWith(title + " > ") ? sectionPath.substring(title.length() + 3) : sectionPath;
+        return title + " > " + path;
     }
 
     /**
@@ -824,7 +920,16 @@ public class AiSearchService {
         }
 
         // 5. 비동기 생성 시작
-        generateSummaryAsync(documentId, document.getTitle(), content);
+        try {
+            self.generateSummaryAsync(documentId, document.getTitle(), content);
+        } catch (TaskRejectedException e) {
+            log.warn("📋 [문서 {}] 요약 생성 거부됨 - 백그라운드 작업 큐가 가득 참", documentId);
+            return SummaryResponse.builder()
+                    .documentId(documentId)
+                    .status("FAILED")
+                    .message("요약 요청이 많습니다. 잠시 후 다시 시도해주세요.")
+                    .build();
+        }
 
         return SummaryResponse.builder()
                 .documentId(documentId)
@@ -853,7 +958,11 @@ public class AiSearchService {
             // 요약 생성용 프롬프트
             String promptText = buildSummaryPrompt(title, content);
             Prompt prompt = new Prompt(promptText);
-            ChatResponse chatResponse = chatModel.call(prompt);
+            long callStart = System.currentTimeMillis();
+            ChatResponse chatResponse = ollamaGateway.call(prompt, OllamaGateway.Operation.BACKGROUND_CHAT);
+            LlmUsageService.TokenUsage usage = LlmUsageService.TokenUsage.of(chatResponse);
+            llmUsageService.recordAsync(LlmUsage.Purpose.DOCUMENT_SUMMARY, usage,
+                    System.currentTimeMillis() - callStart, documentId);
             String summary = chatResponse.getResult().getOutput().getContent();
 
             // 요약 저장 (updatedAt을 변경하지 않도록 네이티브 쿼리 사용)
@@ -861,7 +970,8 @@ public class AiSearchService {
             documentRepository.updateAiSummary(documentId, summary, now);
 
             long elapsedTime = System.currentTimeMillis() - startTime;
-            log.info("✅ [문서 {}] AI 요약 비동기 생성 완료 - {}ms", documentId, elapsedTime);
+            log.info("✅ [문서 {}] AI 요약 비동기 생성 완료 - {}ms, 프롬프트 {} 토큰, 생성 {} 토큰",
+                    documentId, elapsedTime, usage.promptTokens(), usage.generatedTokens());
 
         } catch (Exception e) {
             log.error("AI 요약 비동기 생성 실패: documentId={}", documentId, e);
@@ -0,0 +1,141 @@
+package com.srmanagement.wiki.service;
+
+import com.srmanagement.wiki.dto.AiSearchRequest;
+import com.srmanagement.wiki.dto.AiSearchResponse;
+import com.srmanagement.wiki.dto.AiSearchStreamCompleted;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * AI 검색 답변 스트리밍 서비스 (SSE)
+ * - 이벤트 순서: sources (참고 문서) → token (답변 조각, 여러 번) → done (소요 시간, 이력 ID)
+ * - 실패 시 error 이벤트 후 종료
+ * - 요청 스레드는 SseEmitter만 반환하고 검색/LLM 스트리밍은 aiStreamTaskExecutor에서 실행
+ * - 클라이언트 연결이 끊기면 전송 실패로 LLM 스트리밍도 중단
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class AiSearchStreamService {
+
+    /** 스트림 최대 유지 시간 (긴 답변 생성 대응) */
+    private static final long STREAM_TIMEOUT_MS = 300_000L;
+
+    private final AiSearchService aiSearchService;
+    private final AiSearchHistoryService historyService;
+
+    // Self-injection for @Async to work when called from stream()
+    @Autowired
+    @Lazy
+    private AiSearchStreamService self;
+
+    /**
+     * 스트리밍 검색 시작
+     *
+     * @param request 검색 요청
+     * @param username 검색 이력 저장 사용자 (null이면 저장 안 함)
+     * @return SSE Emitter
+     */
+    public SseEmitter stream(AiSearchRequest request, String username) {
+        SseEmitter emitter = new SseEmitter(STREAM_TIMEOUT_MS);
+        try {
+            self.run(emitter, request, username);
+        } catch (TaskRejectedException e) {
+            log.warn("AI 답변 스트리밍 거부됨 - 동시 요청 초과");
+            sendError(emitter, "동시 AI 검색 요청이 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+        return emitter;
+    }
+
+    /**
+     * 검색 → 답변 스트리밍 → 이력 저장 (비동기)
+     */
+    @Async("aiStreamTaskExecutor")
+    public void run(SseEmitter emitter, AiSearchRequest request, String username) {
+        long startTime = System.currentTimeMillis();
+        long[] retrievalTimeMs = {0};
+        long[] firstTokenMs = {-1};
+
+        try {
+            AiSearchResponse response = aiSearchService.searchStream(request, new AiSearchService.StreamListener() {
+                @Override
+                public void onSources(List<AiSearchResponse.SourceDocument> sources, long elapsedMs) {
+                    retrievalTimeMs[0] = elapsedMs;
+                    send(emitter, "sources", sources);
+                }
+
+                @Override
+                public void onToken(String token) {
+                    if (firstTokenMs[0] < 0) {
+                        firstTokenMs[0] = System.currentTimeMillis() - startTime;
+                    }
+                    send(emitter, "token", Map.of("content", token));
+                }
+            });
+
+            // 이력은 전체 답변 기준으로 저장 (done 이벤트에 이력 ID 포함)
+            Long historyId = null;
+            if (username != null) {
+                try {
+                    historyId = historyService.saveSearchHistory(
+                            username, request.getQuestion(), response, request.getResourceTypes());
+                } catch (Exception e) {
+                    log.error("검색 이력 저장 실패: {}", e.getMessage(), e);
+                }
+            }
+
+            send(emitter, "done", AiSearchStreamCompleted.builder()
+                    .processingTimeMs(response.getProcessingTimeMs())
+                    .retrievalTimeMs(retrievalTimeMs[0])
+                    .firstTokenMs(firstTokenMs[0] >= 0 ? firstTokenMs[0] : null)
+                    .generationTimeMs(response.getGenerationTimeMs())
+                    .sourceCount(response.getSources().size())
+                    .cached(response.getCached())
+                    .historyId(historyId)
+                    .context(response.getContext())
+                    .stages(response.getStages())
+                    .build());
+            emitter.complete();
+
+            log.info("AI 답변 스트리밍 완료: {}ms (검색 {}ms, 첫 토큰 {}ms), {} sources",
+                    response.getProcessingTimeMs(), retrievalTimeMs[0], firstTokenMs[0], response.getSources().size());
+
+        } catch (UncheckedIOException e) {
+            log.info("AI 답변 스트리밍 중단 - 클라이언트 연결 종료: {}", request.getQuestion());
+            emitter.completeWithError(e.getCause());
+        } catch (Exception e) {
+            log.error("AI 답변 스트리밍 실패", e);
+            sendError(emitter, e.getMessage());
+        }
+    }
+
+    private void send(SseEmitter emitter, String name, Object data) {
+        try {
+            emitter.send(SseEmitter.event().name(name).data(data));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void sendError(SseEmitter emitter, String message) {
+        try {
+            emitter.send(SseEmitter.event()
+                    .name("error")
+                    .data(Map.of("message", message != null ? message : "AI 검색 중 오류가 발생했습니다")));
+            emitter.complete();
+        } catch (IOException | IllegalStateException e) {
+            emitter.completeWithError(e);
+        }
+    }
+}
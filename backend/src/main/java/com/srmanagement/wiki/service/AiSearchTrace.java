@@ -0,0 +1,136 @@
+package com.srmanagement.wiki.service;
+
+import com.srmanagement.wiki.dto.AiSearchResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * AI 검색 단계별 소요 시간/처리 규모 기록 (요청 1건용, 스레드 안전하지 않음)
+ * - embed: 질문 임베딩 (캐시 적중 시 거의 0)
+ * - score: 벡터 인덱스 Top-K 검색 (유사도 계산 + 선택)
+ * - load: Top-K 청크 본문 DB 조회
+ * - pack: 참고 문서 컨텍스트/프롬프트 구성
+ * - generate: LLM 답변 생성 (스트리밍은 마지막 토큰까지)
+ * - Micrometer: ai.search.stage{stage=embed|score|load|pack|generate}
+ */
+@Getter
+@Setter
+public class AiSearchTrace {
+
+    public enum Stage {
+        EMBED, SCORE, LOAD, PACK, GENERATE;
+
+        public String tag() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    private final Map<Stage, Long> stageNanos = new EnumMap<>(Stage.class);
+
+    /** 질문 임베딩 캐시 적중 여부 */
+    private Boolean queryEmbeddingCached;
+
+    /** 검색 대상 청크 수 (필터 적용 후) */
+    private Integer chunksScanned;
+
+    /** HNSW 근사 검색 사용 여부 (false면 전수 계산) */
+    private Boolean approximateSearch;
+
+    /** 벡터 검색 결과 수 */
+    private Integer hitCount;
+
+    /** DB에서 본문을 조회한 청크 수 */
+    private Integer loadedChunks;
+
+    /** LLM 프롬프트 문자 수 */
+    private Integer promptChars;
+
+    /** LLM 프롬프트 토큰 수 (Ollama 보고값) */
+    private Long promptTokens;
+
+    /** LLM 생성 토큰 수 (보고하지 않으면 스트리밍 조각 수) */
+    private Long generatedTokens;
+
+    /** LLM 프롬프트 처리 시간 (밀리초, Ollama 보고값) */
+    private Long promptEvalMs;
+
+    /** LLM 토큰 생성 시간 (밀리초, Ollama 보고값) */
+    private Long evalMs;
+
+    /**
+     * 단계 실행 + 소요 시간 기록
+     */
+    public <T> T time(Stage stage, Supplier<T> work) {
+        long start = System.nanoTime();
+        try {
+            return work.get();
+        } finally {
+            record(stage, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * 단계 소요 시간 기록 (같은 단계를 여러 번 기록하면 합산)
+     */
+    public void record(Stage stage, long elapsedNanos) {
+        stageNanos.merge(stage, elapsedNanos, Long::sum);
+    }
+
+    /**
+     * LLM이 보고한 토큰 수/처리 시간 반영
+     */
+    public void applyUsage(LlmUsageService.TokenUsage usage) {
+        promptTokens = usage.promptTokens();
+        generatedTokens = usage.generatedTokens();
+        promptEvalMs = usage.promptEvalMs();
+        evalMs = usage.evalMs();
+    }
+
+    /**
+     * 단계별 Micrometer 타이머 기록 (실행된 단계만)
+     */
+    public void publish(MeterRegistry meterRegistry) {
+        stageNanos.forEach((stage, nanos) -> Timer.builder("ai.search.stage")
+                .description("AI 검색 단계별 소요 시간")
+                .tag("stage", stage.tag())
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry)
+                .record(nanos, TimeUnit.NANOSECONDS));
+    }
+
+    /**
+     * 응답/이력용 단계별 통계
+     */
+    public AiSearchResponse.StageTimings toStageTimings() {
+        return AiSearchResponse.StageTimings.builder()
+                .embedMs(millis(Stage.EMBED))
+                .scoreMs(millis(Stage.SCORE))
+                .loadMs(millis(Stage.LOAD))
+                .packMs(millis(Stage.PACK))
+                .generateMs(millis(Stage.GENERATE))
+                .queryEmbeddingCached(queryEmbeddingCached)
+                .chunksScanned(chunksScanned)
+                .approximateSearch(approximateSearch)
+                .hitCount(hitCount)
+                .loadedChunks(loadedChunks)
+                .promptChars(promptChars)
+                .promptTokens(promptTokens)
+                .generatedTokens(generatedTokens)
+                .promptEvalMs(promptEvalMs)
+                .evalMs(evalMs)
+                .build();
+    }
+
+    private Long millis(Stage stage) {
+        Long nanos = stageNanos.get(stage);
+        return nanos != null ? TimeUnit.NANOSECONDS.toMillis(nanos) : null;
+    }
+}
@@ -0,0 +1,414 @@
+package com.srmanagement.wiki.service;
+
+import com.srmanagement.exception.CustomException;
+import com.srmanagement.wiki.entity.BulkEmbeddingJob;
+import com.srmanagement.wiki.entity.BulkEmbeddingJob.Status;
+import com.srmanagement.wiki.entity.ContentEmbedding.ResourceType;
+import com.srmanagement.wiki.repository.BulkEmbeddingJobRepository;
+import com.srmanagement.wiki.repository.EmbeddingJobRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 일괄 임베딩 작업 서비스 (리소스 타입 전체 재임베딩)
+ * - 대상 리소스를 ID 오름차순 키셋 페이지(page-size)로 읽어 처리하고, 페이지마다 커서/카운터를 DB에 저장
+ * - 페이지 안의 임베딩 그룹은 bulkEmbeddingExecutor에서 동시에 실행 (wiki.embedding.bulk.parallelism)
+ * - 일시 정지/취소는 다음 페이지 시작 전에 반영, 재개하면 저장된 커서 다음 리소스부터 실행
+ * - 실행 인스턴스가 종료되면 생존 신호(heartbeatAt) 만료 후 재기동/다른 인스턴스가 이어서 실행
+ * - 진행률은 실행 중 카운터로만 계산 ({@link BulkEmbeddingProgressService}, 제목은 청크 분할한 리소스에서)
+ * - 임베딩 작업 큐 워커가 실행 중인 리소스는 건너뜀 (같은 리소스 청크를 동시에 삭제/저장하지 않도록, 최신 내용은 큐 작업이 반영)
+ */
+@Service
+@Slf4j
+public class BulkEmbeddingJobService {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private static final List<Status> ACTIVE = List.of(Status.RUNNING, Status.PAUSED);
+
+    private final BulkEmbeddingJobRepository jobRepository;
+    private final EmbeddingJobRepository embeddingJobRepository;
+    private final ContentEmbeddingService contentEmbeddingService;
+    private final BulkEmbeddingProgressService progressService;
+    private final OllamaGateway ollamaGateway;
+    private final Executor executor;
+
+    // @Async 실행용 (같은 클래스 내부 호출은 프록시를 거치지 않음)
+    @Autowired
+    @Lazy
+    private BulkEmbeddingJobService self;
+
+    @Value("${wiki.embedding.bulk.page-size:100}")
+    private int pageSize;
+
+    @Value("${wiki.embedding.bulk.heartbeat-timeout-seconds:120}")
+    private long heartbeatTimeoutSeconds;
+
+    /** 실행 인스턴스 식별자 */
+    private final String owner = ManagementFactory.getRuntimeMXBean().getName();
+
+    /** 이 인스턴스에서 실행 중인 작업 ID (생존 신호 대상) */
+    private final Set<Long> running = ConcurrentHashMap.newKeySet();
+
+    public BulkEmbeddingJobService(BulkEmbeddingJobRepository jobRepository,
+                                   EmbeddingJobRepository embeddingJobRepository,
+                                   ContentEmbeddingService contentEmbeddingService,
+                                   BulkEmbeddingProgressService progressService,
+                                   OllamaGateway ollamaGateway,
+                                   @Qualifier("bulkEmbeddingExecutor") Executor executor) {
+        this.jobRepository = jobRepository;
+        this.embeddingJobRepository = embeddingJobRepository;
+        this.contentEmbeddingService = contentEmbeddingService;
+        this.progressService = progressService;
+        this.ollamaGateway = ollamaGateway;
+        this.executor = executor;
+    }
+
+    /**
+     * 일괄 임베딩 작업 현황
+     */
+    public record JobView(Long id, ResourceType resourceType, Status status, Long lastProcessedId,
+                          int totalCount, int processedCount, int successCount, int failureCount, long chunkCount,
+                          String lockedBy, String lastError,
+                          LocalDateTime createdAt, LocalDateTime updatedAt, LocalDateTime finishedAt) {
+
+        static JobView from(BulkEmbeddingJob job) {
+            return new JobView(job.getId(), job.getResourceType(), job.getStatus(), job.getLastProcessedId(),
+                    job.getTotalCount(), job.getProcessedCount(), job.getSuccessCount(), job.getFailureCount(),
+                    job.getChunkCount(), job.getLockedBy(), job.getLastError(),
+                    job.getCreatedAt(), job.getUpdatedAt(), job.getFinishedAt());
+        }
+    }
+
+    /**
+     * 리소스 유형의 진행 중(실행/일시 정지) 작업
+     */
+    public JobView findActive(ResourceType resourceType) {
+        return jobRepository.findFirstByResourceTypeAndStatusInOrderByIdDesc(resourceType, ACTIVE)
+                .map(JobView::from)
+                .orElse(null);
+    }
+
+    /**
+     * 최근 작업 목록 (최신순 20건)
+     */
+    public List<JobView> getRecentJobs() {
+        return jobRepository.findTop20ByOrderByIdDesc().stream()
+                .map(JobView::from)
+                .toList();
+    }
+
+    /**
+     * 일괄 임베딩 시작
+     * - 같은 리소스 유형의 진행 중(실행/일시 정지) 작업이 있으면 409
+     */
+    public synchronized JobView start(ResourceType resourceType) {
+        JobView active = findActive(resourceType);
+        if (active != null) {
+            throw new CustomException(String.format("이미 %s 일괄 임베딩 작업이 있습니다 (jobId=%d, %s)",
+                    resourceType, active.id(), active.status()), HttpStatus.CONFLICT, "BULK_EMBEDDING_IN_PROGRESS");
+        }
+
+        BulkEmbeddingJob job = jobRepository.save(BulkEmbeddingJob.builder()
+                .resourceType(resourceType)
+                .status(Status.RUNNING)
+                .lastProcessedId(0L)
+                .totalCount((int) countTargets(resourceType))
+                .processedCount(0)
+                .successCount(0)
+                .failureCount(0)
+                .chunkCount(0L)
+                .build());
+        log.info("일괄 임베딩 작업 생성: {} (jobId={}, 총 {}건)", resourceType, job.getId(), job.getTotalCount());
+
+        launch(job.getId());
+        return JobView.from(job);
+    }
+
+    /**
+     * 일시 정지 (실행 중인 페이지가 끝나면 멈춤)
+     */
+    public JobView pause(ResourceType resourceType) {
+        JobView active = requireActive(resourceType);
+        if (jobRepository.transition(active.id(), List.of(Status.RUNNING), Status.PAUSED,
+                "관리자 일시 정지", null, LocalDateTime.now()) == 0) {
+            throw new CustomException("실행 중인 작업이 아닙니다: " + active.status(),
+                    HttpStatus.CONFLICT, "BULK_EMBEDDING_NOT_RUNNING");
+        }
+        log.info("일괄 임베딩 일시 정지 요청: {} (jobId={})", resourceType, active.id());
+        return view(active.id());
+    }
+
+    /**
+     * 재개 (저장된 커서 다음 리소스부터)
+     * - 일시 정지 요청 후 실행 중이던 페이지가 아직 끝나지 않았으면 그 실행이 그대로 계속됨
+     */
+    public JobView resume(ResourceType resourceType) {
+        JobView active = requireActive(resourceType);
+        if (jobRepository.transition(active.id(), List.of(Status.PAUSED), Status.RUNNING,
+                null, null, LocalDateTime.now()) == 0) {
+            throw new CustomException("일시 정지된 작업이 아닙니다: " + active.status(),
+                    HttpStatus.CONFLICT, "BULK_EMBEDDING_NOT_PAUSED");
+        }
+        log.info("일괄 임베딩 재개: {} (jobId={}, 커서 {})", resourceType, active.id(), active.lastProcessedId());
+        launch(active.id());
+        return view(active.id());
+    }
+
+    /**
+     * 취소 (실행 중이면 실행 중인 페이지가 끝나면 멈춤, 이미 저장한 임베딩은 유지)
+     */
+    public JobView cancel(ResourceType resourceType) {
+        JobView active = requireActive(resourceType);
+        LocalDateTime now = LocalDateTime.now();
+        if (jobRepository.transition(active.id(), ACTIVE, Status.CANCELLED, "관리자 취소", now, now) == 0) {
+            throw new CustomException("진행 중인 작업이 아닙니다", HttpStatus.CONFLICT, "BULK_EMBEDDING_NOT_ACTIVE");
+        }
+        log.info("일괄 임베딩 취소: {} (jobId={})", resourceType, active.id());
+        if (!running.contains(active.id())) {
+            // 일시 정지 상태였으면 실행 스레드가 없으므로 진행률 바로 반영
+            progressService.stopProgress(resourceType.name(), "CANCELLED", "일괄 임베딩이 취소되었습니다");
+        }
+        return view(active.id());
+    }
+
+    /**
+     * 생존 신호 갱신 (이 인스턴스에서 실행 중인 작업)
+     */
+    @Scheduled(initialDelay = 30_000, fixedDelay = 30_000)
+    public void heartbeat() {
+        if (running.isEmpty()) {
+            return;
+        }
+        try {
+            jobRepository.heartbeat(Set.copyOf(running), owner, LocalDateTime.now());
+        } catch (Exception e) {
+            log.warn("일괄 임베딩 생존 신호 갱신 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 실행 인스턴스가 사라진 작업 이어서 실행 (서버 재기동, 다른 인스턴스 종료)
+     */
+    @Scheduled(initialDelay = 60_000, fixedDelay = 60_000)
+    public void recoverOrphaned() {
+        try {
+            LocalDateTime expiredBefore = LocalDateTime.now().minusSeconds(heartbeatTimeoutSeconds);
+            for (BulkEmbeddingJob job : jobRepository.findOrphaned(expiredBefore)) {
+                log.warn("일괄 임베딩 작업 이어서 실행: {} (jobId={}, 이전 실행 {}, 커서 {})",
+                        job.getResourceType(), job.getId(), job.getLockedBy(), job.getLastProcessedId());
+                launch(job.getId());
+            }
+        } catch (Exception e) {
+            log.error("일괄 임베딩 작업 복구 실패", e);
+        }
+    }
+
+    /**
+     * 실행 선점 후 비동기 실행 (다른 인스턴스가 실행 중이면 무시)
+     * - 실행 스레드 풀이 거부하면 선점을 해제 (실행 인스턴스 복구 스케줄에서 다시 실행)
+     */
+    private void launch(Long jobId) {
+        LocalDateTime now = LocalDateTime.now();
+        if (running.contains(jobId)
+                || jobRepository.claim(jobId, owner, now, now.minusSeconds(heartbeatTimeoutSeconds)) == 0) {
+            return;
+        }
+        try {
+            self.runAsync(jobId);
+        } catch (TaskRejectedException e) {
+            jobRepository.release(jobId, owner);
+            log.warn("일괄 임베딩 실행 스레드 부족, 복구 스케줄에서 다시 실행: jobId={}", jobId);
+        }
+    }
+
+    /**
+     * 작업 실행 (커서 다음 페이지부터 끝까지, 일시 정지/취소 시 중단)
+     */
+    @Async("bulkEmbeddingJobExecutor")
+    public void runAsync(Long jobId) {
+        if (!running.add(jobId)) {
+            return;
+        }
+        try {
+            run(jobRepository.findById(jobId)
+                    .orElseThrow(() -> new RuntimeException("일괄 임베딩 작업을 찾을 수 없습니다: " + jobId)));
+        } finally {
+            running.remove(jobId);
+            jobRepository.release(jobId, owner);
+        }
+    }
+
+    private void run(BulkEmbeddingJob job) {
+        ResourceType type = job.getResourceType();
+        String progressType = type.name();
+        Counters counters = new Counters(job, progressService);
+        long cursor = job.getLastProcessedId();
+        long startTime = System.currentTimeMillis();
+        progressService.startProgress(progressType, job.getId(), job.getTotalCount(),
+                job.getProcessedCount(), job.getSuccessCount(), job.getFailureCount());
+
+        try {
+            while (true) {
+                Status status = jobRepository.findStatusById(job.getId()).orElse(Status.CANCELLED);
+                if (status != Status.RUNNING) {
+                    progressService.stopProgress(progressType, status.name(), status == Status.PAUSED
+                            ? "일괄 임베딩이 일시 정지되었습니다" : "일괄 임베딩이 취소되었습니다");
+                    log.info("일괄 임베딩 중단: {} (jobId={}, {}, 커서 {})", type, job.getId(), status, cursor);
+                    return;
+                }
+
+                // Ollama 장애 중에는 전 리소스가 실패로 기록되지 않도록 일시 정지 (복구 후 관리자가 재개)
+                if (!ollamaGateway.isEmbeddingAvailable()) {
+                    String reason = "Ollama 임베딩 호출 불가로 일시 정지 (헬스 체크 실패 또는 서킷 브레이커 OPEN)";
+                    jobRepository.transition(job.getId(), List.of(Status.RUNNING), Status.PAUSED,
+                            reason, null, LocalDateTime.now());
+                    progressService.stopProgress(progressType, Status.PAUSED.name(), reason);
+                    log.warn("일괄 임베딩 일시 정지: {} (jobId={}) - {}", type, job.getId(), reason);
+                    return;
+                }
+
+                List<Long> ids = findIdsAfter(type, cursor);
+                if (ids.isEmpty()) {
+                    break;
+                }
+
+                contentEmbeddingService.embedBulkPage(type, excludeRunning(type, ids, counters), executor, counters);
+                cursor = ids.get(ids.size() - 1);
+
+                if (!counters.checkpoint(jobRepository, job.getId(), owner, cursor)) {
+                    log.warn("일괄 임베딩 실행권 상실, 중단: {} (jobId={}, 커서 {})", type, job.getId(), cursor);
+                    return;
+                }
+            }
+
+            LocalDateTime now = LocalDateTime.now();
+            jobRepository.transition(job.getId(), List.of(Status.RUNNING), Status.COMPLETED, null, now, now);
+            progressService.completeProgress(progressType, counters.success.get(), counters.failure.get());
+
+            long elapsedTime = System.currentTimeMillis() - startTime;
+            log.info("✅ 전체 {} 임베딩 완료: 성공 {}건, 실패 {}건, {}개 청크 (이번 실행 {}ms, {} chunks/s)",
+                    type, counters.success.get(), counters.failure.get(), counters.chunks.get(), elapsedTime,
+                    EmbeddingBatcher.formatThroughput(counters.chunks.get() - job.getChunkCount(), elapsedTime));
+        } catch (Exception e) {
+            log.error("일괄 임베딩 실패: {} (jobId={}, 커서 {})", type, job.getId(), cursor, e);
+            LocalDateTime now = LocalDateTime.now();
+            jobRepository.transition(job.getId(), List.of(Status.RUNNING), Status.FAILED,
+                    truncate(e.getMessage()), now, now);
+            progressService.failProgress(progressType, "일괄 임베딩 실패: " + e.getMessage());
+        }
+    }
+
+    private List<Long> findIdsAfter(ResourceType type, long cursor) {
+        PageRequest page = PageRequest.of(0, pageSize);
+        return switch (type) {
+            case WIKI -> jobRepository.findWikiIdsAfter(cursor, page);
+            case SR -> jobRepository.findSrIdsAfter(cursor, page);
+            case SURVEY -> jobRepository.findSurveyIdsAfter(cursor, page);
+        };
+    }
+
+    /**
+     * 임베딩 작업 큐 워커가 실행 중인 리소스 제외 (다른 인스턴스 워커 포함, 처리 건수에는 포함)
+     */
+    private List<Long> excludeRunning(ResourceType type, List<Long> ids, Counters counters) {
+        Set<Long> busy = new HashSet<>(embeddingJobRepository.findRunningResourceIds(type, ids));
+        if (busy.isEmpty()) {
+            return ids;
+        }
+        busy.forEach(id -> counters.skipped(type + "-" + id));
+        return ids.stream().filter(id -> !busy.contains(id)).toList();
+    }
+
+    private long countTargets(ResourceType type) {
+        return switch (type) {
+            case WIKI -> jobRepository.countWikiTargets();
+            case SR -> jobRepository.countSrTargets();
+            case SURVEY -> jobRepository.countSurveyTargets();
+        };
+    }
+
+    private JobView requireActive(ResourceType resourceType) {
+        JobView active = findActive(resourceType);
+        if (active == null) {
+            throw new CustomException("진행 중인 " + resourceType + " 일괄 임베딩 작업이 없습니다",
+                    HttpStatus.NOT_FOUND, "BULK_EMBEDDING_NOT_FOUND");
+        }
+        return active;
+    }
+
+    private JobView view(Long jobId) {
+        return jobRepository.findById(jobId).map(JobView::from).orElse(null);
+    }
+
+    private static String truncate(String message) {
+        if (message == null) {
+            return null;
+        }
+        return message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message;
+    }
+
+    /**
+     * 실행 중 카운터 (그룹 임베딩 스레드에서 동시에 갱신, 페이지 완료 시 DB에 저장)
+     */
+    private static final class Counters implements ContentEmbeddingService.BulkListener {
+
+        private final String type;
+        private final BulkEmbeddingProgressService progressService;
+        private final AtomicInteger processed;
+        private final AtomicInteger success;
+        private final AtomicInteger failure;
+        private final AtomicLong chunks;
+
+        private Counters(BulkEmbeddingJob job, BulkEmbeddingProgressService progressService) {
+            this.type = job.getResourceType().name();
+            this.progressService = progressService;
+            this.processed = new AtomicInteger(job.getProcessedCount());
+            this.success = new AtomicInteger(job.getSuccessCount());
+            this.failure = new AtomicInteger(job.getFailureCount());
+            this.chunks = new AtomicLong(job.getChunkCount());
+        }
+
+        @Override
+        public void succeeded(String label, int chunkCount) {
+            success.incrementAndGet();
+            chunks.addAndGet(chunkCount);
+            progressService.updateProgress(type, processed.incrementAndGet(), label, success.get(), failure.get());
+        }
+
+        @Override
+        public void failed(String label) {
+            failure.incrementAndGet();
+            progressService.updateProgress(type, processed.incrementAndGet(), label, success.get(), failure.get());
+        }
+
+        @Override
+        public void skipped(String label) {
+            progressService.updateProgress(type, processed.incrementAndGet(), label, success.get(), failure.get());
+        }
+
+        private boolean checkpoint(BulkEmbeddingJobRepository repository, Long jobId, String owner, long cursor) {
+            return repository.checkpoint(jobId, owner, cursor, processed.get(), success.get(), failure.get(),
+                    chunks.get(), LocalDateTime.now()) == 1;
+        }
+    }
+}
@@ -9,6 +9,7 @@ import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * 일괄 임베딩 진행 상태 관리 서비스
+ * - 실행 중인 작업의 메모리 카운터 기준 진행률 (영속 상태는 {@link BulkEmbeddingJobService})
  */
 @Service
 @Slf4j
@@ -20,6 +21,9 @@ public class BulkEmbeddingProgressService {
     // 리소스 타입별 시작 시간
     private final Map<String, Long> startTimeMap = new ConcurrentHashMap<>();
 
+    // 리소스 타입별 시작 시점의 처리 항목 수 (재개한 작업의 남은 시간 계산용)
+    private final Map<String, Integer> startIndexMap = new ConcurrentHashMap<>();
+
     /**
      * 진행 중인지 확인
      */
@@ -30,28 +34,34 @@ public class BulkEmbeddingProgressService {
     }
 
     /**
-     * 진행 시작
+     * 진행 시작 (재개 시 이전 실행까지의 카운터부터)
+     *
+     * @param jobId 일괄 임베딩 작업 ID
+     * @param processedCount 이전 실행에서 처리한 항목 수 (새 작업이면 0)
      */
-    public void startProgress(String resourceType, int totalCount) {
+    public void startProgress(String resourceType, Long jobId, int totalCount,
+                              int processedCount, int successCount, int failureCount) {
         long startTime = System.currentTimeMillis();
         startTimeMap.put(resourceType, startTime);
+        startIndexMap.put(resourceType, processedCount);
 
         BulkEmbeddingProgressEvent event = BulkEmbeddingProgressEvent.builder()
+                .jobId(jobId)
                 .resourceType(resourceType)
                 .status("STARTED")
-                .currentIndex(0)
+                .currentIndex(processedCount)
                 .totalCount(totalCount)
-                .successCount(0)
-                .failureCount(0)
-                .progressPercent(0)
+                .successCount(successCount)
+                .failureCount(failureCount)
+                .progressPercent(totalCount > 0 ? (int) ((processedCount * 100.0) / totalCount) : 0)
                 .currentTitle("")
                 .elapsedTimeMs(0L)
                 .estimatedRemainingMs(null)
-                .message(getResourceTypeName(resourceType) + " 임베딩 생성 시작")
+                .message(getResourceTypeName(resourceType) + (processedCount > 0 ? " 임베딩 생성 재개" : " 임베딩 생성 시작"))
                 .build();
 
         progressMap.put(resourceType, event);
-        log.info("일괄 임베딩 시작: {} (총 {}건)", resourceType, totalCount);
+        log.info("일괄 임베딩 시작: {} (jobId={}, 총 {}건, 처리 완료 {}건)", resourceType, jobId, totalCount, processedCount);
     }
 
     /**
@@ -68,15 +78,17 @@ public class BulkEmbeddingProgressService {
         int totalCount = current.getTotalCount();
         int progressPercent = totalCount > 0 ? (int) ((currentIndex * 100.0) / totalCount) : 0;
 
-        // 예상 남은 시간 계산
+        // 예상 남은 시간 계산 (이번 실행에서 처리한 항목 기준)
         Long estimatedRemainingMs = null;
-        if (currentIndex > 0 && elapsedMs > 0) {
-            long avgTimePerItem = elapsedMs / currentIndex;
+        int processedThisRun = currentIndex - startIndexMap.getOrDefault(resourceType, 0);
+        if (processedThisRun > 0 && elapsedMs > 0) {
+            long avgTimePerItem = elapsedMs / processedThisRun;
             int remainingItems = totalCount - currentIndex;
             estimatedRemainingMs = avgTimePerItem * remainingItems;
         }
 
         BulkEmbeddingProgressEvent event = BulkEmbeddingProgressEvent.builder()
+                .jobId(current.getJobId())
                 .resourceType(resourceType)
                 .status("IN_PROGRESS")
                 .currentIndex(currentIndex)
@@ -105,6 +117,7 @@ public class BulkEmbeddingProgressService {
         int totalCount = current != null ? current.getTotalCount() : successCount + failureCount;
 
         BulkEmbeddingProgressEvent event = BulkEmbeddingProgressEvent.builder()
+                .jobId(current != null ? current.getJobId() : null)
                 .resourceType(resourceType)
                 .status("COMPLETED")
                 .currentIndex(totalCount)
@@ -128,14 +141,24 @@ public class BulkEmbeddingProgressService {
      * 진행 실패
      */
     public void failProgress(String resourceType, String errorMessage) {
+        stopProgress(resourceType, "FAILED", errorMessage);
+        log.error("일괄 임베딩 실패: {} - {}", resourceType, errorMessage);
+    }
+
+    /**
+     * 진행 중단 (일시 정지: PAUSED, 취소: CANCELLED, 실패: FAILED)
+     * - 카운터와 진행률은 중단 시점 값 유지
+     */
+    public void stopProgress(String resourceType, String status, String message) {
         Long startTime = startTimeMap.get(resourceType);
         long elapsedMs = startTime != null ? System.currentTimeMillis() - startTime : 0;
 
         BulkEmbeddingProgressEvent current = progressMap.get(resourceType);
 
         BulkEmbeddingProgressEvent event = BulkEmbeddingProgressEvent.builder()
+                .jobId(current != null ? current.getJobId() : null)
                 .resourceType(resourceType)
-                .status("FAILED")
+                .status(status)
                 .currentIndex(current != null ? current.getCurrentIndex() : 0)
                 .totalCount(current != null ? current.getTotalCount() : 0)
                 .successCount(current != null ? current.getSuccessCount() : 0)
@@ -144,11 +167,10 @@ public class BulkEmbeddingProgressService {
                 .currentTitle("")
                 .elapsedTimeMs(elapsedMs)
                 .estimatedRemainingMs(null)
-                .message(errorMessage)
+                .message(message)
                 .build();
 
         progressMap.put(resourceType, event);
-        log.error("일괄 임베딩 실패: {} - {}", resourceType, errorMessage);
     }
 
     /**
@@ -164,6 +186,7 @@ public class BulkEmbeddingProgressService {
     public void clearProgress(String resourceType) {
         progressMap.remove(resourceType);
         startTimeMap.remove(resourceType);
+        startIndexMap.remove(resourceType);
     }
 
     /**
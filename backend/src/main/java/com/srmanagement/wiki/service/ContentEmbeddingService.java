@@ -1,32 +1,39 @@
 package com.srmanagement.wiki.service;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.srmanagement.entity.OpenApiSurvey;
 import com.srmanagement.entity.Sr;
 import com.srmanagement.repository.OpenApiSurveyRepository;
 import com.srmanagement.repository.SrRepository;
+import com.srmanagement.util.EmbeddingVectorCodec;
 import com.srmanagement.wiki.entity.ContentEmbedding;
 import com.srmanagement.wiki.entity.ContentEmbedding.ResourceType;
 import com.srmanagement.wiki.entity.WikiDocument;
 import com.srmanagement.wiki.repository.ContentEmbeddingRepository;
 import com.srmanagement.wiki.repository.WikiDocumentRepository;
+import com.srmanagement.wiki.util.ChunkHash;
+import com.srmanagement.wiki.util.MarkdownChunker;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.ai.embedding.EmbeddingResponse;
-import org.springframework.ai.ollama.OllamaEmbeddingModel;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.context.annotation.Lazy;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
 
 /**
  * 통합 콘텐츠 임베딩 서비스
  * - Wiki 문서, SR, OPEN API 현황조사 임베딩 생성
+ * - 임베딩 요청은 트랜잭션 밖에서 수행하고 대상 조회/저장만 각각 짧은 트랜잭션으로 처리 (임베딩 동안 DB 연결 점유 없음)
  */
 @Service
 @Slf4j
@@ -37,64 +44,69 @@ public class ContentEmbeddingService {
     private final WikiDocumentRepository wikiDocumentRepository;
     private final SrRepository srRepository;
     private final OpenApiSurveyRepository surveyRepository;
-    private final OllamaEmbeddingModel embeddingModel;
-    private final ObjectMapper objectMapper;
+    private final EmbeddingBatcher embeddingBatcher;
+    private final VectorIndexService vectorIndexService;
+    private final WikiEmbeddingPipeline wikiEmbeddingPipeline;
+    private final EmbeddingResourceGuard resourceGuard;
 
-    // Self-injection for @Transactional to work in async bulk methods
+    @Value("${wiki.embedding.chunk-max-tokens:400}")
+    private int chunkMaxTokens;
+
+    // Self-injection: 조회/저장 트랜잭션과 일괄 처리 메서드가 프록시를 거치도록
     @Autowired
     @Lazy
     private ContentEmbeddingService self;
 
-    private static final int MAX_CHUNK_LENGTH = 2000;
-    private static final int OVERLAP_LENGTH = 200;
-
     /**
      * Wiki 문서 임베딩 생성
+     * - Wiki 전용 임베딩(wiki_document_embedding)과 함께 생성 ({@link WikiEmbeddingPipeline})
      */
-    @Transactional
+    @CacheEvict(value = "embeddingStatus", key = "#documentId")
     public void generateWikiEmbedding(Long documentId) {
-        WikiDocument document = wikiDocumentRepository.findById(documentId)
-                .orElseThrow(() -> new RuntimeException("문서를 찾을 수 없습니다: " + documentId));
-
-        // 기존 임베딩 삭제
-        embeddingRepository.deleteByResourceTypeAndResourceId(ResourceType.WIKI, documentId);
-
-        // 임베딩할 텍스트 생성: 제목 + 내용
-        String fullContent = document.getTitle() + "\n\n" +
-                (document.getContent() != null ? document.getContent() : "");
-
-        generateEmbeddings(
-                ResourceType.WIKI,
-                documentId,
-                document.getTitle(),
-                document.getTitle(),
-                fullContent,
-                document.getCategory() != null ? document.getCategory().getName() : null,
-                null,
-                document.getUpdatedAt()
-        );
+        int chunkCount = wikiEmbeddingPipeline.embed(documentId);
 
-        log.info("✅ Wiki 문서 임베딩 완료: {} (ID: {})", document.getTitle(), documentId);
+        log.info("✅ Wiki 문서 임베딩 완료: documentId={}, {}개 청크", documentId, chunkCount);
     }
 
     /**
      * SR 임베딩 생성
      */
-    @Transactional
     public void generateSrEmbedding(Long srId) {
+        EmbeddingSource source = self.prepareSrSource(srId);
+
+        // 삭제된 SR은 임베딩 제거 (빈 청크 목록 저장)
+        if (source.chunks().isEmpty()) {
+            self.saveEmbeddings(source, List.of());
+            log.info("🗑️ 삭제된 SR 임베딩 제거: {}", source.resourceIdentifier());
+            return;
+        }
+
+        self.saveEmbeddings(source, embeddingBatcher.embed(source.chunks(), reusableVectors(ResourceType.SR, srId), null));
+
+        log.info("✅ SR 임베딩 완료: {} (ID: {})", source.resourceIdentifier(), srId);
+    }
+
+    /**
+     * SR 임베딩 대상 조회 및 청크 분할 (일괄 생성용, 임베딩 호출 없음)
+     * - 삭제된 SR은 빈 청크 목록 (저장 시 기존 임베딩 제거)
+     */
+    @Transactional(readOnly = true)
+    public EmbeddingSource prepareSrSource(Long srId) {
         Sr sr = srRepository.findById(srId)
                 .orElseThrow(() -> new RuntimeException("SR을 찾을 수 없습니다: " + srId));
+        return buildSrSource(sr);
+    }
 
-        // 삭제된 SR은 임베딩 제거
+    /**
+     * SR 임베딩 텍스트 생성 및 청크 분할
+     */
+    private EmbeddingSource buildSrSource(Sr sr) {
+        String title = sr.getSrId() + " - " + sr.getTitle();
         if (Boolean.TRUE.equals(sr.getDeleted())) {
-            embeddingRepository.deleteByResourceTypeAndResourceId(ResourceType.SR, srId);
-            log.info("🗑️ 삭제된 SR 임베딩 제거: {}", sr.getSrId());
-            return;
+            return new EmbeddingSource(ResourceType.SR, sr.getId(), sr.getSrId(), title,
+                    sr.getCategory(), null, sr.getUpdatedAt(), List.of(), List.of());
         }
 
-        // 기존 임베딩 삭제
-        embeddingRepository.deleteByResourceTypeAndResourceId(ResourceType.SR, srId);
-
         // 임베딩할 텍스트 생성
         StringBuilder content = new StringBuilder();
         content.append("SR ID: ").append(sr.getSrId()).append("\n");
@@ -116,31 +128,38 @@ public class ContentEmbeddingService {
             content.append("\n요청구분: ").append(sr.getRequestType());
         }
 
-        generateEmbeddings(
+        List<MarkdownChunker.Chunk> chunks = MarkdownChunker.split(content.toString(), chunkMaxTokens);
+        return new EmbeddingSource(
                 ResourceType.SR,
-                srId,
+                sr.getId(),
                 sr.getSrId(),
-                sr.getSrId() + " - " + sr.getTitle(),
-                content.toString(),
+                title,
                 sr.getCategory(),
                 sr.getStatus() != null ? sr.getStatus().name() : null,
-                sr.getUpdatedAt()
+                sr.getUpdatedAt(),
+                MarkdownChunker.texts(chunks),
+                MarkdownChunker.sectionPaths(chunks)
         );
-
-        log.info("✅ SR 임베딩 완료: {} (ID: {})", sr.getSrId(), srId);
     }
 
     /**
      * OPEN API 현황조사 임베딩 생성
      */
-    @Transactional
     public void generateSurveyEmbedding(Long surveyId) {
+        EmbeddingSource source = self.prepareSurveySource(surveyId);
+        self.saveEmbeddings(source, embeddingBatcher.embed(source.chunks(), reusableVectors(ResourceType.SURVEY, surveyId), null));
+
+        log.info("✅ 현황조사 임베딩 완료: {} (ID: {})", source.title(), surveyId);
+    }
+
+    /**
+     * 현황조사 임베딩 대상 조회 및 청크 분할 (일괄 생성용, 임베딩 호출 없음)
+     */
+    @Transactional(readOnly = true)
+    public EmbeddingSource prepareSurveySource(Long surveyId) {
         OpenApiSurvey survey = surveyRepository.findById(surveyId)
                 .orElseThrow(() -> new RuntimeException("현황조사를 찾을 수 없습니다: " + surveyId));
 
-        // 기존 임베딩 삭제
-        embeddingRepository.deleteByResourceTypeAndResourceId(ResourceType.SURVEY, surveyId);
-
         // 임베딩할 텍스트 생성
         StringBuilder content = new StringBuilder();
         content.append("시스템명: ").append(survey.getSystemName()).append("\n");
@@ -207,103 +226,30 @@ public class ContentEmbeddingService {
         String orgName = survey.getOrganization() != null ? survey.getOrganization().getName() : "";
         String title = survey.getSystemName() + " (" + orgName + ")";
 
-        generateEmbeddings(
+        List<MarkdownChunker.Chunk> chunks = MarkdownChunker.split(content.toString(), chunkMaxTokens);
+        return new EmbeddingSource(
                 ResourceType.SURVEY,
                 surveyId,
                 "SURVEY-" + surveyId,
                 title,
-                content.toString(),
                 orgName,
                 survey.getStatus() != null ? survey.getStatus().name() : null,
-                survey.getUpdatedAt()
+                survey.getUpdatedAt(),
+                MarkdownChunker.texts(chunks),
+                MarkdownChunker.sectionPaths(chunks)
         );
-
-        log.info("✅ 현황조사 임베딩 완료: {} (ID: {})", survey.getSystemName(), surveyId);
-    }
-
-    /**
-     * 비동기 Wiki 문서 임베딩 생성
-     */
-    @Async("embeddingTaskExecutor")
-    @Transactional
-    public void generateWikiEmbeddingAsync(Long documentId) {
-        try {
-            Thread.sleep(500); // 트랜잭션 커밋 대기
-            generateWikiEmbedding(documentId);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            log.warn("Wiki 임베딩 생성 대기 중 인터럽트 발생", e);
-        } catch (Exception e) {
-            log.error("Wiki 임베딩 생성 실패: documentId={}", documentId, e);
-        }
     }
 
     /**
-     * 비동기 SR 임베딩 생성
+     * 전체 Wiki 문서 임베딩 생성 (일괄 - 동기, 리소스별로 저장 트랜잭션 분리)
      */
-    @Async("embeddingTaskExecutor")
-    @Transactional
-    public void generateSrEmbeddingAsync(Long srId) {
-        try {
-            Thread.sleep(500); // 트랜잭션 커밋 대기
-            generateSrEmbedding(srId);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            log.warn("SR 임베딩 생성 대기 중 인터럽트 발생", e);
-        } catch (Exception e) {
-            log.error("SR 임베딩 생성 실패: srId={}", srId, e);
-        }
-    }
-
-    /**
-     * 비동기 현황조사 임베딩 생성
-     */
-    @Async("embeddingTaskExecutor")
-    @Transactional
-    public void generateSurveyEmbeddingAsync(Long surveyId) {
-        try {
-            Thread.sleep(500); // 트랜잭션 커밋 대기
-            generateSurveyEmbedding(surveyId);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            log.warn("현황조사 임베딩 생성 대기 중 인터럽트 발생", e);
-        } catch (Exception e) {
-            log.error("현황조사 임베딩 생성 실패: surveyId={}", surveyId, e);
-        }
-    }
-
-    /**
-     * 전체 Wiki 문서 수 조회
-     */
-    public int getWikiDocumentCount() {
-        return (int) wikiDocumentRepository.count();
-    }
-
-    /**
-     * 전체 SR 수 조회 (삭제되지 않은 것)
-     */
-    public int getSrCount() {
-        return srRepository.findByDeletedFalse().size();
-    }
-
-    /**
-     * 전체 현황조사 수 조회
-     */
-    public int getSurveyCount() {
-        return (int) surveyRepository.count();
-    }
-
-    /**
-     * 전체 Wiki 문서 임베딩 생성 (일괄 - 동기)
-     */
-    @Transactional
     public int generateAllWikiEmbeddings() {
         List<WikiDocument> allDocuments = wikiDocumentRepository.findAll();
         int count = 0;
 
         for (WikiDocument doc : allDocuments) {
             try {
-                generateWikiEmbedding(doc.getId());
+                self.generateWikiEmbedding(doc.getId());
                 count++;
             } catch (Exception e) {
                 log.error("Wiki 임베딩 생성 실패: {}", doc.getTitle(), e);
@@ -315,44 +261,15 @@ public class ContentEmbeddingService {
     }
 
     /**
-     * 전체 Wiki 문서 임베딩 생성 (일괄 - 비동기, 진행률 추적)
+     * 전체 SR 임베딩 생성 (일괄 - 동기, 리소스별로 저장 트랜잭션 분리)
      */
-    @Async("embeddingTaskExecutor")
-    public void generateAllWikiEmbeddingsAsync(BulkEmbeddingProgressService progressService) {
-        List<WikiDocument> allDocuments = wikiDocumentRepository.findAll();
-        int totalCount = allDocuments.size();
-        int successCount = 0;
-        int failureCount = 0;
-
-        progressService.startProgress("WIKI", totalCount);
-
-        for (int i = 0; i < allDocuments.size(); i++) {
-            WikiDocument doc = allDocuments.get(i);
-            try {
-                self.generateWikiEmbedding(doc.getId());
-                successCount++;
-                progressService.updateProgress("WIKI", i + 1, doc.getTitle(), successCount, failureCount);
-            } catch (Exception e) {
-                log.error("Wiki 임베딩 생성 실패: {}", doc.getTitle(), e);
-                failureCount++;
-                progressService.updateProgress("WIKI", i + 1, doc.getTitle(), successCount, failureCount);
-            }
-        }
-
-        progressService.completeProgress("WIKI", successCount, failureCount);
-    }
-
-    /**
-     * 전체 SR 임베딩 생성 (일괄 - 동기)
-     */
-    @Transactional
     public int generateAllSrEmbeddings() {
         List<Sr> allSrs = srRepository.findByDeletedFalse();
         int count = 0;
 
         for (Sr sr : allSrs) {
             try {
-                generateSrEmbedding(sr.getId());
+                self.generateSrEmbedding(sr.getId());
                 count++;
             } catch (Exception e) {
                 log.error("SR 임베딩 생성 실패: {}", sr.getSrId(), e);
@@ -364,53 +281,15 @@ public class ContentEmbeddingService {
     }
 
     /**
-     * 전체 SR 임베딩 생성 (일괄 - 비동기, 진행률 추적)
+     * 전체 현황조사 임베딩 생성 (일괄 - 동기, 리소스별로 저장 트랜잭션 분리)
      */
-    @Async("embeddingTaskExecutor")
-    public void generateAllSrEmbeddingsAsync(BulkEmbeddingProgressService progressService) {
-        // ID만 가져와서 LazyInitializationException 방지
-        List<Long> srIds = srRepository.findByDeletedFalse().stream()
-                .map(Sr::getId)
-                .toList();
-        int totalCount = srIds.size();
-        int successCount = 0;
-        int failureCount = 0;
-
-        progressService.startProgress("SR", totalCount);
-
-        for (int i = 0; i < srIds.size(); i++) {
-            Long srId = srIds.get(i);
-            String title = "SR-" + srId;
-            try {
-                self.generateSrEmbedding(srId);
-                // 성공 후 제목 업데이트를 위해 다시 조회
-                Sr sr = srRepository.findById(srId).orElse(null);
-                if (sr != null) {
-                    title = sr.getSrId() + " - " + sr.getTitle();
-                }
-                successCount++;
-                progressService.updateProgress("SR", i + 1, title, successCount, failureCount);
-            } catch (Exception e) {
-                log.error("SR 임베딩 생성 실패: srId={}", srId, e);
-                failureCount++;
-                progressService.updateProgress("SR", i + 1, title, successCount, failureCount);
-            }
-        }
-
-        progressService.completeProgress("SR", successCount, failureCount);
-    }
-
-    /**
-     * 전체 현황조사 임베딩 생성 (일괄 - 동기)
-     */
-    @Transactional
     public int generateAllSurveyEmbeddings() {
         List<OpenApiSurvey> allSurveys = surveyRepository.findAll();
         int count = 0;
 
         for (OpenApiSurvey survey : allSurveys) {
             try {
-                generateSurveyEmbedding(survey.getId());
+                self.generateSurveyEmbedding(survey.getId());
                 count++;
             } catch (Exception e) {
                 log.error("현황조사 임베딩 생성 실패: {}", survey.getSystemName(), e);
@@ -421,45 +300,6 @@ public class ContentEmbeddingService {
         return count;
     }
 
-    /**
-     * 전체 현황조사 임베딩 생성 (일괄 - 비동기, 진행률 추적)
-     */
-    @Async("embeddingTaskExecutor")
-    public void generateAllSurveyEmbeddingsAsync(BulkEmbeddingProgressService progressService) {
-        // ID만 가져와서 LazyInitializationException 방지
-        List<Long> surveyIds = surveyRepository.findAll().stream()
-                .map(OpenApiSurvey::getId)
-                .toList();
-        int totalCount = surveyIds.size();
-        int successCount = 0;
-        int failureCount = 0;
-
-        progressService.startProgress("SURVEY", totalCount);
-
-        for (int i = 0; i < surveyIds.size(); i++) {
-            Long surveyId = surveyIds.get(i);
-            String title = "Survey-" + surveyId;
-            try {
-                // 트랜잭션 내에서 다시 조회하여 임베딩 생성
-                self.generateSurveyEmbedding(surveyId);
-                // 성공 후 제목 업데이트를 위해 다시 조회
-                OpenApiSurvey survey = surveyRepository.findById(surveyId).orElse(null);
-                if (survey != null) {
-                    title = survey.getSystemName() + " (" +
-                            (survey.getOrganization() != null ? survey.getOrganization().getName() : "") + ")";
-                }
-                successCount++;
-                progressService.updateProgress("SURVEY", i + 1, title, successCount, failureCount);
-            } catch (Exception e) {
-                log.error("현황조사 임베딩 생성 실패: surveyId={}", surveyId, e);
-                failureCount++;
-                progressService.updateProgress("SURVEY", i + 1, title, successCount, failureCount);
-            }
-        }
-
-        progressService.completeProgress("SURVEY", successCount, failureCount);
-    }
-
     /**
      * 임베딩 통계 조회
      */
@@ -481,6 +321,7 @@ public class ContentEmbeddingService {
         List<ContentEmbedding> embeddings = embeddingRepository.findByResourceType(resourceType);
         int count = embeddings.size();
         embeddingRepository.deleteAll(embeddings);
+        vectorIndexService.removeContentResourceType(resourceType);
         log.info("🗑️ {} 타입 임베딩 전체 삭제: {}개", resourceType, count);
         return count;
     }
@@ -491,103 +332,228 @@ public class ContentEmbeddingService {
     @Transactional
     public void deleteSurveyEmbeddings(Long surveyId) {
         embeddingRepository.deleteByResourceTypeAndResourceId(ResourceType.SURVEY, surveyId);
+        vectorIndexService.removeContentResource(ResourceType.SURVEY, surveyId);
         log.info("🗑️ 현황조사 임베딩 삭제: surveyId={}", surveyId);
     }
 
     /**
-     * 공통 임베딩 생성 로직
+     * 재사용 가능한 기존 청크 벡터 (청크 해시 → 벡터, 현재 임베딩 모델로 생성된 것만)
      */
-    private void generateEmbeddings(
-            ResourceType resourceType,
-            Long resourceId,
-            String resourceIdentifier,
-            String title,
-            String content,
-            String category,
-            String status,
-            java.time.LocalDateTime sourceUpdatedAt) {
+    public Map<String, float[]> reusableVectors(ResourceType resourceType, Long resourceId) {
+        return EmbeddingBatcher.reusableVectors(embeddingRepository.findReusableVectors(
+                resourceType, resourceId, EmbeddingVectorCodec.currentModelId()));
+    }
 
-        List<String> chunks = splitIntoChunks(content);
+    private Map<String, float[]> reusableVectors(EmbeddingSource source) {
+        return reusableVectors(source.resourceType(), source.resourceId());
+    }
 
-        for (int i = 0; i < chunks.size(); i++) {
-            String chunk = chunks.get(i);
+    /**
+     * 공통 임베딩 저장 로직
+     * - 기존 청크 삭제 후 새 청크 저장 (빈 청크 목록이면 삭제와 동일)
+     * - 리소스 행을 잠근 뒤 저장 (임베딩 도중 삭제된 리소스면 기존 청크만 지우고 저장하지 않음)
+     *
+     * @param source 청크 분할된 리소스
+     * @param vectors 청크 순서와 같은 정규화 벡터
+     */
+    @Transactional
+    public void saveEmbeddings(EmbeddingSource source, List<float[]> vectors) {
+        List<String> chunks = source.chunks();
+        if (vectors.size() != chunks.size()) {
+            throw new IllegalArgumentException(String.format(
+                    "청크와 벡터 개수가 다릅니다: 청크 %d개, 벡터 %d개", chunks.size(), vectors.size()));
+        }
+        if (!chunks.isEmpty() && !lockResource(source.resourceType(), source.resourceId())) {
+            log.info("임베딩 도중 삭제된 리소스 - 청크 저장 생략: {} {}", source.resourceType(), source.resourceIdentifier());
+            chunks = List.of();
+            vectors = List.of();
+        }
 
-            try {
-                // 임베딩 벡터 생성
-                EmbeddingResponse response = embeddingModel.embedForResponse(List.of(chunk));
-                float[] embeddingArray = response.getResults().get(0).getOutput();
-
-                List<Double> embedding = new ArrayList<>();
-                for (float value : embeddingArray) {
-                    embedding.add((double) value);
-                }
-
-                String embeddingJson = objectMapper.writeValueAsString(embedding);
-
-                ContentEmbedding embeddingEntity = ContentEmbedding.builder()
-                        .resourceType(resourceType)
-                        .resourceId(resourceId)
-                        .resourceIdentifier(resourceIdentifier)
-                        .title(title)
-                        .content(chunk)
-                        .embeddingVector(embeddingJson)
-                        .chunkIndex(i)
-                        .category(category)
-                        .status(status)
-                        .sourceUpdatedAt(sourceUpdatedAt)
-                        .build();
-
-                embeddingRepository.save(embeddingEntity);
-
-            } catch (JsonProcessingException e) {
-                log.error("임베딩 벡터 직렬화 실패", e);
-                throw new RuntimeException("임베딩 생성 실패", e);
-            }
+        // 기존 임베딩 삭제
+        embeddingRepository.deleteByResourceTypeAndResourceId(source.resourceType(), source.resourceId());
+
+        List<ContentEmbedding> savedChunks = new ArrayList<>(chunks.size());
+        int modelId = EmbeddingVectorCodec.currentModelId();
+        for (int i = 0; i < chunks.size(); i++) {
+            ContentEmbedding embeddingEntity = ContentEmbedding.builder()
+                    .resourceType(source.resourceType())
+                    .resourceId(source.resourceId())
+                    .resourceIdentifier(source.resourceIdentifier())
+                    .title(source.title())
+                    .content(chunks.get(i))
+                    .embeddingData(vectors.get(i))
+                    .contentHash(ChunkHash.of(chunks.get(i)))
+                    .embeddingModelId(modelId)
+                    .sectionPath(source.sectionPaths().get(i))
+                    .chunkIndex(i)
+                    .category(source.category())
+                    .status(source.status())
+                    .sourceUpdatedAt(source.sourceUpdatedAt())
+                    .build();
+
+            savedChunks.add(embeddingRepository.save(embeddingEntity));
         }
+
+        // 벡터 인덱스 반영 (커밋 후, 기존 청크 교체)
+        vectorIndexService.indexContentResource(source.resourceType(), source.resourceId(), savedChunks, vectors);
     }
 
     /**
-     * 텍스트를 청크로 분할
+     * 리소스 행 잠금 (저장 트랜잭션이 끝날 때까지 삭제 대기)
+     *
+     * @return 리소스가 남아 있으면 true (삭제 표시된 SR은 false)
      */
-    private List<String> splitIntoChunks(String content) {
-        List<String> chunks = new ArrayList<>();
-        if (content == null || content.isEmpty()) {
-            return chunks;
-        }
+    private boolean lockResource(ResourceType resourceType, Long resourceId) {
+        return switch (resourceType) {
+            case WIKI -> wikiDocumentRepository.findByIdForUpdate(resourceId).isPresent();
+            case SR -> srRepository.findByIdForUpdate(resourceId)
+                    .filter(sr -> !Boolean.TRUE.equals(sr.getDeleted()))
+                    .isPresent();
+            case SURVEY -> surveyRepository.findByIdForUpdate(resourceId).isPresent();
+        };
+    }
 
-        if (content.length() <= MAX_CHUNK_LENGTH) {
-            chunks.add(content.trim());
-            return chunks;
-        }
+    /**
+     * Wiki 문서 임베딩 저장 (일괄 생성용, 임베딩 상태 캐시 무효화)
+     */
+    @CacheEvict(value = "embeddingStatus", key = "#source.documentId()")
+    @Transactional
+    public void saveWikiEmbeddings(WikiEmbeddingPipeline.Source source, List<float[]> vectors) {
+        wikiEmbeddingPipeline.save(source, vectors);
+    }
+
+    /**
+     * 일괄 임베딩 결과 수신 ({@link BulkEmbeddingJobService}, 그룹 임베딩 스레드에서 동시에 호출됨)
+     */
+    public interface BulkListener {
 
-        int start = 0;
-        while (start < content.length()) {
-            int end = Math.min(start + MAX_CHUNK_LENGTH, content.length());
+        void succeeded(String label, int chunks);
 
-            if (end < content.length()) {
-                int lastNewline = content.lastIndexOf('\n', end);
-                int lastPeriod = content.lastIndexOf('.', end);
-                int breakPoint = Math.max(lastNewline, lastPeriod);
+        void failed(String label);
 
-                if (breakPoint > start + OVERLAP_LENGTH) {
-                    end = breakPoint + 1;
-                }
-            }
+        /**
+         * 같은 리소스를 임베딩 작업 큐가 저장 중이라 건너뜀 (최신 내용은 큐 작업이 반영)
+         */
+        void skipped(String label);
+    }
+
+    /**
+     * 일괄 임베딩 한 페이지 처리
+     * - 리소스를 청크 분할한 뒤 리소스 경계를 넘어 batch-size만큼 모아 그룹 단위로 임베딩
+     * - 그룹은 executor에서 동시에 임베딩하고 저장 (동시 실행 수 = executor 스레드 수), 모든 그룹이 끝나면 반환
+     * - 임베딩 요청은 트랜잭션 밖에서 수행하고 저장만 리소스별 트랜잭션으로 처리
+     * - 내용이 바뀌지 않은 청크는 기존 벡터 재사용
+     * - 임베딩 작업 큐 워커가 같은 리소스를 저장 중이면 저장하지 않고 건너뜀 ({@link EmbeddingResourceGuard})
+     *
+     * @param type 리소스 유형
+     * @param ids 대상 리소스 ID (한 페이지)
+     * @param executor 그룹 임베딩 실행 스레드 풀
+     * @param listener 리소스별 결과 수신
+     */
+    public void embedBulkPage(ResourceType type, List<Long> ids, Executor executor, BulkListener listener) {
+        switch (type) {
+            case WIKI -> embedBulkPage(type, ids, wikiEmbeddingPipeline::prepare,
+                    source -> wikiEmbeddingPipeline.reusableVectors(source.documentId()),
+                    self::saveWikiEmbeddings, executor, listener);
+            case SR -> embedBulkPage(type, ids, self::prepareSrSource, this::reusableVectors,
+                    self::saveEmbeddings, executor, listener);
+            case SURVEY -> embedBulkPage(type, ids, self::prepareSurveySource, this::reusableVectors,
+                    self::saveEmbeddings, executor, listener);
+        }
+    }
 
-            String chunk = content.substring(start, end).trim();
-            if (!chunk.isEmpty()) {
-                chunks.add(chunk);
+    /**
+     * @param preparer 리소스 조회 및 청크 분할
+     * @param reuser 리소스의 재사용 가능한 기존 벡터 조회
+     * @param saver 임베딩 저장 (리소스별 트랜잭션)
+     */
+    private <T extends EmbeddingBatcher.Source> void embedBulkPage(
+            ResourceType type,
+            List<Long> ids,
+            Function<Long, T> preparer,
+            Function<T, Map<String, float[]>> reuser,
+            BiConsumer<T, List<float[]>> saver,
+            Executor executor,
+            BulkListener listener) {
+
+        List<CompletableFuture<Void>> flushes = new ArrayList<>();
+        List<Long> groupIds = new ArrayList<>();
+        List<T> group = new ArrayList<>();
+        List<Map<String, float[]>> reusable = new ArrayList<>();
+        int groupChunks = 0;
+
+        for (Long id : ids) {
+            T source;
+            Map<String, float[]> sourceReusable;
+            try {
+                source = preparer.apply(id);
+                sourceReusable = reuser.apply(source);
+            } catch (Exception e) {
+                log.error("{} 임베딩 대상 조회 실패: id={}", type, id, e);
+                listener.failed(type + "-" + id);
+                continue;
             }
 
-            if (end >= content.length()) {
-                break;
+            groupIds.add(id);
+            group.add(source);
+            reusable.add(sourceReusable);
+            groupChunks += source.chunks().size();
+            if (groupChunks >= embeddingBatcher.getBatchSize()) {
+                flushes.add(flushBulkGroupAsync(type, groupIds, group, reusable, saver, executor, listener));
+                groupIds = new ArrayList<>();
+                group = new ArrayList<>();
+                reusable = new ArrayList<>();
+                groupChunks = 0;
             }
+        }
+        if (!group.isEmpty()) {
+            flushes.add(flushBulkGroupAsync(type, groupIds, group, reusable, saver, executor, listener));
+        }
+
+        CompletableFuture.allOf(flushes.toArray(CompletableFuture[]::new)).join();
+    }
+
+    private <T extends EmbeddingBatcher.Source> CompletableFuture<Void> flushBulkGroupAsync(
+            ResourceType type, List<Long> ids, List<T> group, List<Map<String, float[]>> reusable,
+            BiConsumer<T, List<float[]>> saver, Executor executor, BulkListener listener) {
+        return CompletableFuture.runAsync(
+                () -> flushBulkGroup(type, ids, group, reusable, saver, listener), executor);
+    }
 
-            start = end - OVERLAP_LENGTH;
-            if (start < 0) start = 0;
+    /**
+     * 모인 리소스의 청크를 한 번에 임베딩 후 리소스별 저장
+     */
+    private <T extends EmbeddingBatcher.Source> void flushBulkGroup(
+            ResourceType type, List<Long> ids, List<T> group, List<Map<String, float[]>> reusable,
+            BiConsumer<T, List<float[]>> saver, BulkListener listener) {
+        List<List<float[]>> vectors = null;
+        try {
+            vectors = embeddingBatcher.embedSources(group, reusable);
+        } catch (RuntimeException e) {
+            // 특정 리소스 입력 때문에 배치 전체가 실패할 수 있으므로 리소스별로 재시도
+            log.warn("{} 배치 임베딩 실패, 리소스별로 재시도: {}건", type, group.size(), e);
         }
 
-        return chunks;
+        for (int i = 0; i < group.size(); i++) {
+            Long id = ids.get(i);
+            T source = group.get(i);
+            if (!resourceGuard.tryAcquire(type, id)) {
+                log.debug("{} 임베딩 큐 작업 실행 중, 일괄 저장 건너뜀: {}", type, source.label());
+                listener.skipped(source.label());
+                continue;
+            }
+            try {
+                List<float[]> sourceVectors = vectors != null ? vectors.get(i)
+                        : embeddingBatcher.embed(source.chunks(), reusable.get(i), null);
+                saver.accept(source, sourceVectors);
+                listener.succeeded(source.label(), sourceVectors.size());
+            } catch (Exception e) {
+                log.error("{} 임베딩 생성 실패: {}", type, source.label(), e);
+                listener.failed(source.label());
+            } finally {
+                resourceGuard.release(type, id);
+            }
+        }
     }
 
     /**
@@ -598,14 +564,11 @@ public class ContentEmbeddingService {
         Sr sr = srRepository.findById(srId)
                 .orElseThrow(() -> new RuntimeException("SR을 찾을 수 없습니다: " + srId));
 
-        List<ContentEmbedding> embeddings = embeddingRepository.findByResourceTypeAndResourceId(ResourceType.SR, srId);
-
-        boolean hasEmbedding = !embeddings.isEmpty();
-        int chunkCount = embeddings.size();
-        java.time.LocalDateTime lastEmbeddingDate = embeddings.stream()
-                .map(ContentEmbedding::getCreatedAt)
-                .max(java.time.LocalDateTime::compareTo)
-                .orElse(null);
+        // 청크 엔티티를 읽지 않고 개수/마지막 임베딩 일시만 집계
+        Object[] summary = embeddingRepository.summarizeResource(ResourceType.SR, srId).get(0);
+        int chunkCount = ((Number) summary[0]).intValue();
+        boolean hasEmbedding = chunkCount > 0;
+        java.time.LocalDateTime lastEmbeddingDate = (java.time.LocalDateTime) summary[1];
         java.time.LocalDateTime sourceUpdatedAt = sr.getUpdatedAt();
 
         // 임베딩이 최신인지 확인 (source 업데이트 시간과 비교)
@@ -632,14 +595,11 @@ public class ContentEmbeddingService {
         OpenApiSurvey survey = surveyRepository.findById(surveyId)
                 .orElseThrow(() -> new RuntimeException("현황조사를 찾을 수 없습니다: " + surveyId));
 
-        List<ContentEmbedding> embeddings = embeddingRepository.findByResourceTypeAndResourceId(ResourceType.SURVEY, surveyId);
-
-        boolean hasEmbedding = !embeddings.isEmpty();
-        int chunkCount = embeddings.size();
-        java.time.LocalDateTime lastEmbeddingDate = embeddings.stream()
-                .map(ContentEmbedding::getCreatedAt)
-                .max(java.time.LocalDateTime::compareTo)
-                .orElse(null);
+        // 청크 엔티티를 읽지 않고 개수/마지막 임베딩 일시만 집계
+        Object[] summary = embeddingRepository.summarizeResource(ResourceType.SURVEY, surveyId).get(0);
+        int chunkCount = ((Number) summary[0]).intValue();
+        boolean hasEmbedding = chunkCount > 0;
+        java.time.LocalDateTime lastEmbeddingDate = (java.time.LocalDateTime) summary[1];
         java.time.LocalDateTime sourceUpdatedAt = survey.getUpdatedAt();
 
         // 임베딩이 최신인지 확인
@@ -660,6 +620,27 @@ public class ContentEmbeddingService {
         );
     }
 
+    /**
+     * 임베딩 대상 리소스 (청크 분할 완료 시점의 리소스 정보)
+     */
+    public record EmbeddingSource(
+            ResourceType resourceType,
+            Long resourceId,
+            String resourceIdentifier,
+            String title,
+            String category,
+            String status,
+            LocalDateTime sourceUpdatedAt,
+            List<String> chunks,
+            List<String> sectionPaths
+    ) implements EmbeddingBatcher.Source {
+
+        @Override
+        public String label() {
+            return title;
+        }
+    }
+
     /**
      * 임베딩 통계 DTO
      */
@@ -0,0 +1,161 @@
+package com.srmanagement.wiki.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.srmanagement.wiki.repository.ContentEmbeddingRepository;
+import com.srmanagement.wiki.repository.WikiDocumentEmbeddingRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 임베딩 바이너리 백필 서비스
+ * - 레거시 JSON 벡터(embedding_vector)를 바이너리 컬럼(embedding_data)으로 변환
+ * - 애플리케이션 기동 후 백그라운드에서 배치 단위로 처리 (배치마다 별도 트랜잭션)
+ * - 변환된 행은 JSON 컬럼을 NULL로 정리하여 테이블 크기 축소
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class EmbeddingBackfillService {
+
+    private final ContentEmbeddingRepository contentEmbeddingRepository;
+    private final WikiDocumentEmbeddingRepository wikiEmbeddingRepository;
+    private final ObjectMapper objectMapper;
+
+    // Self-injection for @Transactional to work in batch loop
+    @Autowired
+    @Lazy
+    private EmbeddingBackfillService self;
+
+    @Value("${wiki.embedding.backfill.enabled:true}")
+    private boolean enabled;
+
+    @Value("${wiki.embedding.backfill.batch-size:200}")
+    private int batchSize;
+
+    /**
+     * 애플리케이션 기동 완료 시 백필 시작
+     */
+    @Async("embeddingTaskExecutor")
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!enabled) {
+            return;
+        }
+        backfillAll();
+    }
+
+    /**
+     * 전체 레거시 벡터 백필
+     */
+    public void backfillAll() {
+        long contentRemaining = contentEmbeddingRepository.countLegacyVectors();
+        long wikiRemaining = wikiEmbeddingRepository.countLegacyVectors();
+        if (contentRemaining == 0 && wikiRemaining == 0) {
+            return;
+        }
+
+        log.info("🔄 임베딩 바이너리 백필 시작 - content: {}개, wiki: {}개 (배치 크기: {})",
+                contentRemaining, wikiRemaining, batchSize);
+        long startTime = System.currentTimeMillis();
+
+        BackfillResult content = runBatches(true);
+        BackfillResult wiki = runBatches(false);
+
+        log.info("✅ 임베딩 바이너리 백필 완료 - content: {}개 (실패 {}), wiki: {}개 (실패 {}), {}ms",
+                content.converted(), content.failed(), wiki.converted(), wiki.failed(),
+                System.currentTimeMillis() - startTime);
+    }
+
+    private BackfillResult runBatches(boolean contentTable) {
+        int converted = 0;
+        int failed = 0;
+        long lastId = 0L;
+        while (true) {
+            BatchResult batch;
+            try {
+                batch = contentTable
+                        ? self.backfillContentBatch(lastId)
+                        : self.backfillWikiBatch(lastId);
+            } catch (Exception e) {
+                log.error("임베딩 바이너리 백필 중단: table={}, lastId={}",
+                        contentTable ? "content_embedding" : "wiki_document_embedding", lastId, e);
+                break;
+            }
+            if (batch.processed() == 0) {
+                break;
+            }
+            converted += batch.converted();
+            failed += batch.processed() - batch.converted();
+            lastId = batch.lastId();
+        }
+        return new BackfillResult(converted, failed);
+    }
+
+    /**
+     * content_embedding 한 배치 변환
+     */
+    @Transactional
+    public BatchResult backfillContentBatch(long afterId) {
+        List<Object[]> rows = contentEmbeddingRepository.findLegacyVectorsAfter(afterId, PageRequest.of(0, batchSize));
+        int converted = 0;
+        long lastId = afterId;
+        for (Object[] row : rows) {
+            Long id = (Long) row[0];
+            lastId = id;
+            float[] vector = parseVector(id, (String) row[1]);
+            if (vector != null) {
+                converted += contentEmbeddingRepository.updateEmbeddingData(id, vector);
+            }
+        }
+        return new BatchResult(rows.size(), converted, lastId);
+    }
+
+    /**
+     * wiki_document_embedding 한 배치 변환
+     */
+    @Transactional
+    public BatchResult backfillWikiBatch(long afterId) {
+        List<Object[]> rows = wikiEmbeddingRepository.findLegacyVectorsAfter(afterId, PageRequest.of(0, batchSize));
+        int converted = 0;
+        long lastId = afterId;
+        for (Object[] row : rows) {
+            Long id = (Long) row[0];
+            lastId = id;
+            float[] vector = parseVector(id, (String) row[1]);
+            if (vector != null) {
+                converted += wikiEmbeddingRepository.updateEmbeddingData(id, vector);
+            }
+        }
+        return new BatchResult(rows.size(), converted, lastId);
+    }
+
+    private float[] parseVector(Long embeddingId, String json) {
+        try {
+            return objectMapper.readValue(json, float[].class);
+        } catch (JsonProcessingException e) {
+            log.warn("레거시 임베딩 역직렬화 실패 (백필 제외): embeddingId={}", embeddingId);
+            return null;
+        }
+    }
+
+    /**
+     * 배치 처리 결과
+     */
+    public record BatchResult(int processed, int converted, long lastId) {
+    }
+
+    private record BackfillResult(int converted, int failed) {
+    }
+}
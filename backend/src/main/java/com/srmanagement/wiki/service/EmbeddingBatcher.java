@@ -0,0 +1,257 @@
+package com.srmanagement.wiki.service;
+
+import com.srmanagement.wiki.util.ChunkHash;
+import com.srmanagement.wiki.util.SimilarityKernels;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.ai.embedding.Embedding;
+import org.springframework.ai.embedding.EmbeddingResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 임베딩 배치 요청 서비스
+ * - 여러 청크를 batch-size 단위로 묶어 embedForResponse 1회로 요청 (HTTP 왕복 감소)
+ * - 응답은 입력 순서대로 매핑 후 L2 정규화하여 반환
+ * - 일괄 생성 시 여러 리소스의 청크를 한 배치로 묶을 수 있도록 {@link Source} 단위 요청 지원
+ * - 재임베딩 시 청크 해시가 같은 기존 벡터는 재사용하고 바뀐 청크만 요청
+ *
+ * batch-size를 1로 설정하면 청크별 개별 요청 (이전 방식과 처리량 비교용)
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class EmbeddingBatcher {
+
+    private final OllamaGateway ollamaGateway;
+
+    @Value("${wiki.embedding.batch-size:16}")
+    private int batchSize;
+
+    @Value("${wiki.embedding.reuse-unchanged-chunks:true}")
+    private boolean reuseUnchangedChunks;
+
+    /**
+     * 임베딩 대상 리소스 (청크 목록 보유)
+     */
+    public interface Source {
+
+        /**
+         * 로그/진행률 표시용 이름
+         */
+        String label();
+
+        /**
+         * 임베딩할 청크 목록
+         */
+        List<String> chunks();
+    }
+
+    /**
+     * 배치 진행 콜백
+     */
+    @FunctionalInterface
+    public interface BatchListener {
+
+        /**
+         * 배치 1회 완료
+         *
+         * @param completedChunks 지금까지 완료한 청크 수
+         * @param totalChunks 전체 청크 수
+         * @param batchElapsedMs 이번 배치 요청 시간
+         */
+        void onBatch(int completedChunks, int totalChunks, long batchElapsedMs);
+    }
+
+    public int getBatchSize() {
+        return Math.max(1, batchSize);
+    }
+
+    /**
+     * 텍스트 목록 임베딩 (입력 순서 유지, L2 정규화)
+     */
+    public List<float[]> embed(List<String> texts) {
+        return embed(texts, null);
+    }
+
+    /**
+     * 텍스트 목록 임베딩 (배치마다 진행 콜백)
+     *
+     * @param texts 임베딩할 텍스트 목록
+     * @param listener 배치 진행 콜백 (null 가능)
+     * @return 입력 순서와 같은 정규화 벡터 목록
+     */
+    public List<float[]> embed(List<String> texts, BatchListener listener) {
+        int total = texts.size();
+        List<float[]> vectors = new ArrayList<>(total);
+        if (total == 0) {
+            return vectors;
+        }
+
+        int size = getBatchSize();
+        long startTime = System.currentTimeMillis();
+        int requests = 0;
+        for (int from = 0; from < total; from += size) {
+            List<String> batch = texts.subList(from, Math.min(from + size, total));
+            long batchStartTime = System.currentTimeMillis();
+
+            vectors.addAll(embedBatch(batch));
+            requests++;
+
+            if (listener != null) {
+                listener.onBatch(vectors.size(), total, System.currentTimeMillis() - batchStartTime);
+            }
+        }
+
+        long elapsedTime = System.currentTimeMillis() - startTime;
+        log.debug("임베딩 완료 - {}개 청크, {}회 요청, {}ms ({} chunks/s)",
+                total, requests, elapsedTime, formatThroughput(total, elapsedTime));
+        return vectors;
+    }
+
+    /**
+     * 텍스트 목록 임베딩 (기존 벡터 재사용)
+     * - 청크 해시가 reusable에 있으면 임베딩 요청 없이 기존 벡터 사용
+     *
+     * @param texts 임베딩할 텍스트 목록
+     * @param reusable 청크 해시 → 기존 벡터 ({@link #reusableVectors})
+     * @param listener 배치 진행 콜백 (재사용 청크는 완료로 계산, null 가능)
+     * @return 입력 순서와 같은 정규화 벡터 목록
+     */
+    public List<float[]> embed(List<String> texts, Map<String, float[]> reusable, BatchListener listener) {
+        List<Map<String, float[]>> perText = new ArrayList<>(texts.size());
+        for (int i = 0; i < texts.size(); i++) {
+            perText.add(reusable);
+        }
+        return embedReusing(texts, perText, listener);
+    }
+
+    /**
+     * 여러 리소스의 청크를 한 번에 임베딩 (리소스 경계를 넘어 배치 구성)
+     *
+     * @return 리소스 순서와 같은 리소스별 벡터 목록
+     */
+    public <T extends Source> List<List<float[]>> embedSources(List<T> sources) {
+        return embedSources(sources, null);
+    }
+
+    /**
+     * 여러 리소스의 청크를 한 번에 임베딩 (리소스별 기존 벡터 재사용)
+     *
+     * @param sources 임베딩 대상 리소스
+     * @param reusable 리소스 순서와 같은 청크 해시 → 기존 벡터 (null이면 재사용 없음)
+     * @return 리소스 순서와 같은 리소스별 벡터 목록
+     */
+    public <T extends Source> List<List<float[]>> embedSources(List<T> sources, List<Map<String, float[]>> reusable) {
+        List<String> texts = new ArrayList<>();
+        List<Map<String, float[]>> perText = new ArrayList<>();
+        for (int s = 0; s < sources.size(); s++) {
+            Map<String, float[]> sourceReusable = reusable != null ? reusable.get(s) : Map.of();
+            for (String chunk : sources.get(s).chunks()) {
+                texts.add(chunk);
+                perText.add(sourceReusable);
+            }
+        }
+
+        List<float[]> vectors = embedReusing(texts, perText, null);
+
+        List<List<float[]>> result = new ArrayList<>(sources.size());
+        int offset = 0;
+        for (T source : sources) {
+            int count = source.chunks().size();
+            result.add(vectors.subList(offset, offset + count));
+            offset += count;
+        }
+        return result;
+    }
+
+    /**
+     * 재사용 벡터 조회 결과 → 청크 해시별 벡터
+     *
+     * @param rows [contentHash, embeddingData] 행 목록
+     */
+    public static Map<String, float[]> reusableVectors(List<Object[]> rows) {
+        Map<String, float[]> vectors = new HashMap<>(rows.size() * 2);
+        for (Object[] row : rows) {
+            vectors.putIfAbsent((String) row[0], (float[]) row[1]);
+        }
+        return vectors;
+    }
+
+    /**
+     * 처리량 표기 (chunks/s)
+     */
+    public static String formatThroughput(long chunks, long elapsedMs) {
+        return String.format("%.1f", elapsedMs > 0 ? chunks * 1000.0 / elapsedMs : 0.0);
+    }
+
+    /**
+     * 재사용할 수 없는 청크만 임베딩한 뒤 입력 순서대로 합침
+     */
+    private List<float[]> embedReusing(List<String> texts, List<Map<String, float[]>> reusable, BatchListener listener) {
+        if (!reuseUnchangedChunks) {
+            return embed(texts, listener);
+        }
+
+        int total = texts.size();
+        float[][] result = new float[total][];
+        List<String> missing = new ArrayList<>();
+        List<Integer> missingPositions = new ArrayList<>();
+        for (int i = 0; i < total; i++) {
+            Map<String, float[]> candidates = reusable.get(i);
+            float[] vector = candidates.isEmpty() ? null : candidates.get(ChunkHash.of(texts.get(i)));
+            if (vector != null) {
+                result[i] = vector;
+            } else {
+                missing.add(texts.get(i));
+                missingPositions.add(i);
+            }
+        }
+
+        int reused = total - missing.size();
+        if (reused == 0) {
+            return embed(texts, listener);
+        }
+
+        List<float[]> embedded = embed(missing, listener == null ? null
+                : (completed, ignored, elapsedMs) -> listener.onBatch(reused + completed, total, elapsedMs));
+        for (int i = 0; i < embedded.size(); i++) {
+            result[missingPositions.get(i)] = embedded.get(i);
+        }
+
+        log.info("임베딩 청크 재사용 - 전체 {}개 중 {}개 재사용, {}개 임베딩 요청", total, reused, missing.size());
+        return Arrays.asList(result);
+    }
+
+    /**
+     * 배치 1회 요청 후 입력 순서대로 매핑
+     */
+    private List<float[]> embedBatch(List<String> batch) {
+        EmbeddingResponse response = ollamaGateway.embed(batch, OllamaGateway.Operation.EMBEDDING);
+        List<Embedding> results = response.getResults();
+        if (results.size() != batch.size()) {
+            throw new IllegalStateException(String.format(
+                    "임베딩 응답 개수가 요청과 다릅니다: 요청 %d개, 응답 %d개", batch.size(), results.size()));
+        }
+
+        // 응답 index 기준으로 정렬 (index가 없으면 응답 순서)
+        float[][] ordered = new float[batch.size()][];
+        for (int i = 0; i < results.size(); i++) {
+            Embedding embedding = results.get(i);
+            Integer index = embedding.getIndex();
+            int position = index != null && index >= 0 && index < ordered.length && ordered[index] == null ? index : i;
+            if (ordered[position] != null) {
+                throw new IllegalStateException("임베딩 응답 index가 중복되었습니다: " + position);
+            }
+            // L2 정규화하여 저장 (검색 시 코사인 유사도 = 내적)
+            ordered[position] = SimilarityKernels.normalize(embedding.getOutput());
+        }
+        return Arrays.asList(ordered);
+    }
+}
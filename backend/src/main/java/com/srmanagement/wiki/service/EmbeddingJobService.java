@@ -0,0 +1,411 @@
+package com.srmanagement.wiki.service;
+
+import com.srmanagement.wiki.entity.ContentEmbedding.ResourceType;
+import com.srmanagement.wiki.entity.EmbeddingJob;
+import com.srmanagement.wiki.entity.EmbeddingJob.Status;
+import com.srmanagement.wiki.repository.EmbeddingJobRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 임베딩 작업 큐 서비스
+ * - 리소스 변경 이벤트({@link ResourceChangedEvent})를 받아 같은 트랜잭션 안에서 작업을 기록 (롤백되면 작업도 사라짐)
+ * - 같은 리소스의 대기 작업은 하나로 합침 (우선순위는 높은 쪽 유지, pending_key UNIQUE)
+ * - 새 작업은 DB별 충돌 없는 등록문(MERGE / ON CONFLICT / ON DUPLICATE KEY)으로 INSERT 후 잠금 조회로 합침
+ * - 실패 시 지수 백오프로 재시도, 한도를 넘기면 FAILED로 보관
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class EmbeddingJobService {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    /** 등록 후 병합 재시도 횟수 (등록과 잠금 조회 사이에 워커가 작업을 선점한 경우) */
+    private static final int MAX_SAVE_ATTEMPTS = 3;
+
+    private final EmbeddingJobRepository jobRepository;
+    private final DataSource dataSource;
+
+    // 커밋 후 워커 깨우기 (순환 의존 방지)
+    @Autowired
+    @Lazy
+    private EmbeddingJobWorker worker;
+
+    @Value("${wiki.embedding.queue.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${wiki.embedding.queue.retry-base-seconds:10}")
+    private long retryBaseSeconds;
+
+    @Value("${wiki.embedding.queue.retry-max-seconds:1800}")
+    private long retryMaxSeconds;
+
+    /** DB별 충돌 없는 대기 작업 등록문 */
+    private InsertSyntax insertSyntax;
+
+    /**
+     * 대기 작업 등록문 종류 (pending_key가 이미 있으면 아무것도 하지 않음)
+     */
+    private enum InsertSyntax {
+        MERGE,
+        ON_CONFLICT,
+        ON_DUPLICATE_KEY
+    }
+
+    @PostConstruct
+    public void init() {
+        String product;
+        try (Connection connection = dataSource.getConnection()) {
+            product = connection.getMetaData().getDatabaseProductName();
+        } catch (SQLException e) {
+            throw new IllegalStateException("임베딩 작업 큐 DB 종류 확인 실패", e);
+        }
+        if ("H2".equalsIgnoreCase(product)) {
+            insertSyntax = InsertSyntax.MERGE;
+        } else if ("PostgreSQL".equalsIgnoreCase(product)) {
+            insertSyntax = InsertSyntax.ON_CONFLICT;
+        } else {
+            // MySQL, MariaDB, CUBRID
+            insertSyntax = InsertSyntax.ON_DUPLICATE_KEY;
+        }
+        log.info("임베딩 작업 큐 등록 방식 - database: {}, syntax: {}", product, insertSyntax);
+    }
+
+    /**
+     * 선점한 작업
+     *
+     * @param id 작업 ID
+     * @param resourceType 리소스 유형
+     * @param resourceId 리소스 ID
+     * @param attempts 이번 실행을 포함한 시도 횟수
+     */
+    public record ClaimedJob(Long id, ResourceType resourceType, Long resourceId, int attempts) {
+    }
+
+    /**
+     * 큐 상태
+     */
+    public record QueueStats(long pending, long due, long running, long failed) {
+    }
+
+    /**
+     * 임베딩 작업 직접 등록 (수동 요청 등, 호출자의 트랜잭션에 참여)
+     * - 같은 리소스의 대기 작업이 있으면 새로 만들지 않고 합침
+     * - 커밋 후 워커를 깨움
+     *
+     * @param resourceType 리소스 유형
+     * @param resourceId 리소스 ID
+     * @param priority 우선순위 ({@link EmbeddingJob#PRIORITY_EDIT} 등)
+     */
+    @Transactional
+    public void enqueue(ResourceType resourceType, Long resourceId, int priority) {
+        save(resourceType, resourceId, priority);
+        wakeUpAfterCommit();
+    }
+
+    /**
+     * 리소스 변경 시 임베딩 작업 등록/취소 (커밋 직전, 리소스 변경과 같은 트랜잭션)
+     * - 작업 행이 리소스 변경과 함께 커밋되므로 커밋 직후 서버가 종료되어도 유실되지 않음
+     * - 워커는 커밋 후 깨어남 ({@link EmbeddingJobWorker#onResourceChanged})
+     * - 이벤트는 리소스를 변경하는 트랜잭션 안에서 발행해야 함 (트랜잭션 밖에서 발행하면 무시됨)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onResourceChanged(ResourceChangedEvent event) {
+        if (event.change() == ResourceChangedEvent.Change.DELETED) {
+            cancel(event.resourceType(), event.resourceId());
+            return;
+        }
+        save(event.resourceType(), event.resourceId(),
+                event.bulk() ? EmbeddingJob.PRIORITY_BULK : EmbeddingJob.PRIORITY_EDIT);
+    }
+
+    /**
+     * 작업 저장 (같은 리소스의 대기 작업이 있으면 합침)
+     * - 대기 작업이 없으면 pending_key 충돌 시 아무것도 하지 않는 등록문으로 INSERT 후 다시 잠금 조회해 합침
+     * - 동시에 같은 리소스를 등록해도 등록문이 실패하지 않으므로 호출자의 리소스 저장 트랜잭션은 계속 진행
+     *   (다른 트랜잭션이 등록 중이면 DB가 그 트랜잭션이 끝날 때까지 기다린 뒤 그 작업에 합침)
+     */
+    private void save(ResourceType resourceType, Long resourceId, int priority) {
+        String pendingKey = EmbeddingJob.pendingKeyOf(resourceType, resourceId);
+        LocalDateTime now = LocalDateTime.now();
+
+        for (int attempt = 0; attempt < MAX_SAVE_ATTEMPTS; attempt++) {
+            if (merge(pendingKey, priority, now)) {
+                return;
+            }
+            insertIfAbsent(resourceType, resourceId, priority, pendingKey, now);
+        }
+        log.warn("임베딩 작업 등록 실패 (등록 직후 계속 선점됨): {}", pendingKey);
+    }
+
+    private void insertIfAbsent(ResourceType resourceType, Long resourceId, int priority, String pendingKey,
+                                LocalDateTime now) {
+        String type = resourceType.name();
+        switch (insertSyntax) {
+            case MERGE -> jobRepository.mergePending(type, resourceId, priority, pendingKey, now);
+            case ON_CONFLICT -> jobRepository.insertPendingOnConflict(type, resourceId, priority, pendingKey, now);
+            case ON_DUPLICATE_KEY -> jobRepository.insertPendingOnDuplicateKey(type, resourceId, priority, pendingKey, now);
+        }
+    }
+
+    /**
+     * 같은 리소스의 대기 작업에 합침 (잠금 조회: 동시 등록된 최신 커밋 행까지 확인)
+     *
+     * @return 대기 작업이 있어 합쳤으면 true
+     */
+    private boolean merge(String pendingKey, int priority, LocalDateTime now) {
+        Optional<EmbeddingJob> pending = jobRepository.findPendingForUpdate(pendingKey);
+        if (pending.isEmpty()) {
+            return false;
+        }
+        // 재시도 대기 중이던 작업도 내용이 바뀌었으므로 즉시 실행 대상으로
+        EmbeddingJob job = pending.get();
+        job.setPriority(Math.max(job.getPriority(), priority));
+        job.setNextRunAt(now);
+        job.setAttempts(0);
+        log.debug("임베딩 작업 병합: {} (jobId={})", pendingKey, job.getId());
+        return true;
+    }
+
+    /**
+     * 리소스의 대기 작업 취소 (리소스 삭제 시, 호출자의 트랜잭션에 참여)
+     */
+    @Transactional
+    public void cancel(ResourceType resourceType, Long resourceId) {
+        jobRepository.deleteByPendingKey(EmbeddingJob.pendingKeyOf(resourceType, resourceId));
+    }
+
+    /**
+     * 실행 가능한 작업 선점
+     * - 후보를 조회한 뒤 조건부 UPDATE로 하나씩 선점 (다른 워커/인스턴스가 먼저 가져간 작업은 건너뜀)
+     *
+     * @param limit 최대 선점 수
+     * @param owner 워커 식별자
+     * @return 선점한 작업
+     */
+    @Transactional
+    public List<ClaimedJob> claim(int limit, String owner) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        LocalDateTime now = LocalDateTime.now();
+        // 경쟁으로 일부를 놓칠 수 있으므로 여유 있게 조회
+        List<Long> candidates = jobRepository.findRunnableIds(now, PageRequest.of(0, limit * 2));
+
+        List<Long> claimedIds = new ArrayList<>();
+        for (Long id : candidates) {
+            if (claimedIds.size() >= limit) {
+                break;
+            }
+            if (jobRepository.claim(id, owner, now, Status.RUNNING) == 1) {
+                claimedIds.add(id);
+            }
+        }
+        if (claimedIds.isEmpty()) {
+            return List.of();
+        }
+
+        // 같은 리소스의 작업이 동시에 두 개 선점되지 않도록 (후보 조회와 선점 사이에 등록된 경우)
+        List<ClaimedJob> claimed = new ArrayList<>();
+        List<String> resources = new ArrayList<>();
+        for (EmbeddingJob job : jobRepository.findAllById(claimedIds)) {
+            String resource = EmbeddingJob.pendingKeyOf(job.getResourceType(), job.getResourceId());
+            if (resources.contains(resource)) {
+                release(job);
+                continue;
+            }
+            resources.add(resource);
+            claimed.add(new ClaimedJob(job.getId(), job.getResourceType(), job.getResourceId(), job.getAttempts()));
+        }
+        return claimed;
+    }
+
+    /**
+     * 작업 완료 (행 삭제)
+     */
+    @Transactional
+    public void complete(Long jobId) {
+        jobRepository.deleteById(jobId);
+    }
+
+    /**
+     * 작업 연기 (시도 횟수 증가 없이 대기 상태로 되돌림)
+     * - 일괄 임베딩이 같은 리소스를 저장 중이라 지금 실행할 수 없을 때
+     *
+     * @param jobId 작업 ID
+     * @param delay 다시 실행할 때까지 대기 시간
+     */
+    @Transactional
+    public void postpone(Long jobId, Duration delay) {
+        jobRepository.findById(jobId).ifPresent(job -> {
+            release(job);
+            if (job.getStatus() == Status.PENDING) {
+                job.setNextRunAt(LocalDateTime.now().plus(delay));
+            }
+        });
+    }
+
+    /**
+     * 작업 실패 처리
+     * - 재시도 한도 이내: base × 2^(시도-1) 후 재실행 (최대 retry-max-seconds)
+     * - 한도 초과: FAILED로 보관
+     * - 실행 중 같은 리소스의 새 작업이 등록되었으면 그 작업이 대신 처리하므로 삭제
+     *
+     * @param jobId 작업 ID
+     * @param error 실패 원인
+     */
+    @Transactional
+    public void fail(Long jobId, Throwable error) {
+        EmbeddingJob job = jobRepository.findById(jobId).orElse(null);
+        if (job == null) {
+            return;
+        }
+        String pendingKey = EmbeddingJob.pendingKeyOf(job.getResourceType(), job.getResourceId());
+        if (jobRepository.findFirstByPendingKey(pendingKey).isPresent()) {
+            jobRepository.delete(job);
+            log.info("임베딩 작업 실패 - 같은 리소스의 대기 작업이 있어 삭제: {} (jobId={})", pendingKey, jobId);
+            return;
+        }
+
+        job.setLastError(truncate(error.getMessage() != null ? error.getMessage() : error.getClass().getName()));
+        job.setLockedBy(null);
+        job.setLockedAt(null);
+
+        if (job.getAttempts() >= maxAttempts) {
+            job.setStatus(Status.FAILED);
+            log.error("❌ 임베딩 작업 재시도 한도 초과: {} (jobId={}, {}회 시도)", pendingKey, jobId, job.getAttempts(), error);
+            return;
+        }
+
+        Duration delay = backoff(job.getAttempts());
+        job.setStatus(Status.PENDING);
+        job.setPendingKey(pendingKey);
+        job.setNextRunAt(LocalDateTime.now().plus(delay));
+        log.warn("임베딩 작업 실패, {}초 후 재시도: {} (jobId={}, {}/{}회) - {}",
+                delay.toSeconds(), pendingKey, jobId, job.getAttempts(), maxAttempts, error.getMessage());
+    }
+
+    /**
+     * 임대 시간이 지난 실행 중 작업을 대기 상태로 되돌림 (워커 비정상 종료, 서버 재기동)
+     *
+     * @param lease 임대 시간
+     * @return 되돌린 작업 수
+     */
+    @Transactional
+    public int recoverExpired(Duration lease) {
+        List<EmbeddingJob> expired = jobRepository.findByStatusAndLockedAtBefore(
+                Status.RUNNING, LocalDateTime.now().minus(lease));
+        for (EmbeddingJob job : expired) {
+            log.warn("임베딩 작업 임대 만료, 대기 상태로 복구: {}:{} (jobId={}, worker={})",
+                    job.getResourceType(), job.getResourceId(), job.getId(), job.getLockedBy());
+            release(job);
+        }
+        if (!expired.isEmpty()) {
+            wakeUpAfterCommit();
+        }
+        return expired.size();
+    }
+
+    /**
+     * 실패한 작업 전체 재시도 (관리자)
+     *
+     * @return 재시도 등록한 작업 수
+     */
+    @Transactional
+    public int retryFailed() {
+        List<EmbeddingJob> failed = jobRepository.findByStatus(Status.FAILED);
+        for (EmbeddingJob job : failed) {
+            String pendingKey = EmbeddingJob.pendingKeyOf(job.getResourceType(), job.getResourceId());
+            if (jobRepository.findFirstByPendingKey(pendingKey).isPresent()) {
+                jobRepository.delete(job);
+                continue;
+            }
+            job.setStatus(Status.PENDING);
+            job.setPendingKey(pendingKey);
+            job.setAttempts(0);
+            job.setNextRunAt(LocalDateTime.now());
+        }
+        if (!failed.isEmpty()) {
+            wakeUpAfterCommit();
+        }
+        return failed.size();
+    }
+
+    /**
+     * 큐 상태 조회
+     */
+    @Transactional(readOnly = true)
+    public QueueStats getStats() {
+        return new QueueStats(
+                jobRepository.countByStatus(Status.PENDING),
+                jobRepository.countByStatusAndNextRunAtBefore(Status.PENDING, LocalDateTime.now()),
+                jobRepository.countByStatus(Status.RUNNING),
+                jobRepository.countByStatus(Status.FAILED)
+        );
+    }
+
+    /**
+     * 재시도 대기 시간 (지수 백오프)
+     */
+    Duration backoff(int attempts) {
+        int exponent = Math.min(Math.max(attempts - 1, 0), 30);
+        long seconds = Math.min(retryMaxSeconds, retryBaseSeconds << exponent);
+        return Duration.ofSeconds(seconds > 0 ? seconds : retryMaxSeconds);
+    }
+
+    /**
+     * 선점한 작업을 시도 횟수 증가 없이 대기 상태로 되돌림
+     * - 같은 리소스의 대기 작업이 이미 있으면 삭제
+     */
+    private void release(EmbeddingJob job) {
+        String pendingKey = EmbeddingJob.pendingKeyOf(job.getResourceType(), job.getResourceId());
+        if (jobRepository.findFirstByPendingKey(pendingKey).isPresent()) {
+            jobRepository.delete(job);
+            return;
+        }
+        job.setStatus(Status.PENDING);
+        job.setPendingKey(pendingKey);
+        job.setAttempts(Math.max(job.getAttempts() - 1, 0));
+        job.setLockedBy(null);
+        job.setLockedAt(null);
+        job.setNextRunAt(LocalDateTime.now());
+    }
+
+    private void wakeUpAfterCommit() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    worker.wakeUp();
+                }
+            });
+        } else {
+            worker.wakeUp();
+        }
+    }
+
+    private static String truncate(String message) {
+        return message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message;
+    }
+}
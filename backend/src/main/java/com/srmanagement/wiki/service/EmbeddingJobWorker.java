@@ -0,0 +1,180 @@
+package com.srmanagement.wiki.service;
+
+import com.srmanagement.wiki.service.EmbeddingJobService.ClaimedJob;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 임베딩 작업 큐 워커
+ * - 정해진 수의 워커 스레드(embeddingJobExecutor)만큼만 작업을 선점하여 실행
+ * - 리소스 변경 커밋 직후(AFTER_COMMIT) 깨어나고, 놓친 작업은 주기적 폴링으로 처리
+ * - 임베딩 로직은 기존 서비스 메서드 그대로 사용 (작업 하나 = 트랜잭션 하나)
+ * - 일괄 임베딩이 같은 리소스를 저장 중이면 작업을 잠시 미룸 ({@link EmbeddingResourceGuard})
+ */
+@Component
+@Slf4j
+public class EmbeddingJobWorker {
+
+    /** 일괄 임베딩과 같은 리소스가 겹쳤을 때 재실행 대기 시간 */
+    private static final Duration POSTPONE_DELAY = Duration.ofSeconds(10);
+
+    private final EmbeddingJobService jobService;
+    private final AiSearchService aiSearchService;
+    private final ContentEmbeddingService contentEmbeddingService;
+    private final EmbeddingResourceGuard resourceGuard;
+    private final Executor executor;
+    private final TaskScheduler scheduler;
+    private final Semaphore permits;
+    private final Duration lease;
+
+    /** 워커 식별자 (여러 인스턴스 운영 시 선점 주체 구분) */
+    private final String owner = ManagementFactory.getRuntimeMXBean().getName();
+
+    /** 예약된 dispatch가 있으면 추가 예약 생략 */
+    private final AtomicBoolean dispatchScheduled = new AtomicBoolean();
+
+    public EmbeddingJobWorker(EmbeddingJobService jobService,
+                              AiSearchService aiSearchService,
+                              ContentEmbeddingService contentEmbeddingService,
+                              EmbeddingResourceGuard resourceGuard,
+                              @Qualifier("embeddingJobExecutor") Executor executor,
+                              TaskScheduler scheduler,
+                              @Value("${wiki.embedding.queue.workers:2}") int workers,
+                              @Value("${wiki.embedding.queue.lease-minutes:30}") long leaseMinutes) {
+        this.jobService = jobService;
+        this.aiSearchService = aiSearchService;
+        this.contentEmbeddingService = contentEmbeddingService;
+        this.resourceGuard = resourceGuard;
+        this.executor = executor;
+        this.scheduler = scheduler;
+        this.permits = new Semaphore(Math.max(workers, 1));
+        this.lease = Duration.ofMinutes(leaseMinutes);
+    }
+
+    /**
+     * 워커 깨우기 (작업 등록 커밋 후, 작업 완료 후)
+     * - 스케줄러 스레드에서 dispatch 실행 (호출 스레드는 대기하지 않음)
+     */
+    public void wakeUp() {
+        if (dispatchScheduled.compareAndSet(false, true)) {
+            scheduler.schedule(this::dispatch, Instant.now());
+        }
+    }
+
+    /**
+     * 리소스 변경 커밋 후 워커 깨우기 (작업은 커밋 직전 같은 트랜잭션에서 등록됨)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onResourceChanged(ResourceChangedEvent event) {
+        if (event.change() != ResourceChangedEvent.Change.DELETED) {
+            wakeUp();
+        }
+    }
+
+    /**
+     * 주기적 폴링 (재시도 시각 도래, 다른 인스턴스에서 등록한 작업, 깨우기 누락 대비)
+     */
+    @Scheduled(initialDelayString = "${wiki.embedding.queue.poll-interval-ms:2000}",
+               fixedDelayString = "${wiki.embedding.queue.poll-interval-ms:2000}")
+    public void poll() {
+        dispatch();
+    }
+
+    /**
+     * 임대 만료 작업 복구
+     */
+    @Scheduled(initialDelay = 60_000, fixedDelay = 60_000)
+    public void recoverExpired() {
+        try {
+            jobService.recoverExpired(lease);
+        } catch (Exception e) {
+            log.error("임베딩 작업 임대 만료 복구 실패", e);
+        }
+    }
+
+    /**
+     * 빈 워커 수만큼 작업을 선점하여 실행
+     */
+    void dispatch() {
+        dispatchScheduled.set(false);
+
+        int available = permits.drainPermits();
+        if (available == 0) {
+            return;
+        }
+
+        List<ClaimedJob> jobs;
+        try {
+            jobs = jobService.claim(available, owner);
+        } catch (Exception e) {
+            permits.release(available);
+            log.error("임베딩 작업 선점 실패", e);
+            return;
+        }
+
+        // 선점하지 못한 만큼 반환
+        permits.release(available - jobs.size());
+        for (ClaimedJob job : jobs) {
+            executor.execute(() -> run(job));
+        }
+    }
+
+    private void run(ClaimedJob job) {
+        long startTime = System.currentTimeMillis();
+        if (!resourceGuard.tryAcquire(job.resourceType(), job.resourceId())) {
+            postpone(job);
+            return;
+        }
+        try {
+            switch (job.resourceType()) {
+                case WIKI -> aiSearchService.generateEmbeddingsWithProgress(job.resourceId());
+                case SR -> contentEmbeddingService.generateSrEmbedding(job.resourceId());
+                case SURVEY -> contentEmbeddingService.generateSurveyEmbedding(job.resourceId());
+            }
+            jobService.complete(job.id());
+            log.debug("임베딩 작업 완료: {}:{} (jobId={}, {}ms)",
+                    job.resourceType(), job.resourceId(), job.id(), System.currentTimeMillis() - startTime);
+        } catch (Exception e) {
+            try {
+                jobService.fail(job.id(), e);
+            } catch (Exception failError) {
+                // 상태 기록 실패 시 임대 만료 후 복구됨
+                log.error("임베딩 작업 실패 기록 오류: jobId={}", job.id(), failError);
+            }
+        } finally {
+            resourceGuard.release(job.resourceType(), job.resourceId());
+            permits.release();
+            wakeUp();
+        }
+    }
+
+    /**
+     * 일괄 임베딩이 같은 리소스를 저장 중이면 시도 횟수 증가 없이 뒤로 미룸
+     */
+    private void postpone(ClaimedJob job) {
+        try {
+            jobService.postpone(job.id(), POSTPONE_DELAY);
+            log.debug("일괄 임베딩 저장 중, 임베딩 작업 연기: {}:{} (jobId={})",
+                    job.resourceType(), job.resourceId(), job.id());
+        } catch (Exception e) {
+            // 상태 기록 실패 시 임대 만료 후 복구됨
+            log.error("임베딩 작업 연기 기록 오류: jobId={}", job.id(), e);
+        } finally {
+            permits.release();
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.srmanagement.wiki.service;
+
+import com.srmanagement.wiki.entity.ContentEmbedding.ResourceType;
+import com.srmanagement.wiki.entity.EmbeddingJob;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 리소스별 임베딩 저장 상호 배제 (임베딩 작업 큐 워커 ↔ 일괄 임베딩 그룹)
+ * - 같은 리소스의 "기존 청크 삭제 → 새 청크 저장"이 동시에 실행되면 READ COMMITTED에서 두 청크 집합이 모두 남으므로
+ *   한쪽이 저장하는 동안 다른 쪽은 건너뜀 (큐 작업은 잠시 뒤로 미루고, 일괄 임베딩은 큐 작업에 맡김)
+ * - 인스턴스 내 보호 (다른 인스턴스의 큐 워커가 실행 중인 리소스는 일괄 임베딩이 RUNNING 작업 조회로 제외)
+ */
+@Component
+public class EmbeddingResourceGuard {
+
+    private final Set<String> inProgress = ConcurrentHashMap.newKeySet();
+
+    /**
+     * 리소스 저장 권한 획득
+     *
+     * @return 다른 스레드가 같은 리소스를 저장 중이면 false
+     */
+    public boolean tryAcquire(ResourceType resourceType, Long resourceId) {
+        return inProgress.add(EmbeddingJob.pendingKeyOf(resourceType, resourceId));
+    }
+
+    public void release(ResourceType resourceType, Long resourceId) {
+        inProgress.remove(EmbeddingJob.pendingKeyOf(resourceType, resourceId));
+    }
+}
@@ -0,0 +1,555 @@
+package com.srmanagement.wiki.service;
+
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.function.IntPredicate;
+import java.util.function.IntToDoubleFunction;
+
+/**
+ * HNSW (Hierarchical Navigable Small World) 근사 최근접 이웃 그래프
+ * - 노드는 {@link VectorIndex}의 슬롯 번호를 그대로 사용 (벡터는 인덱스 슬랩에 보관)
+ * - 유사도는 호출자가 제공 (값이 클수록 가까움)
+ * - 증분 삽입 / 삭제 지원 (삭제 시 이웃 노드의 연결을 주변 후보로 복구)
+ * - 삭제 노드를 가리키는 단방향 연결은 {@link #purge}로 정리 (정리 전에는 삭제 노드 번호를 재사용하지 않아야 함)
+ *
+ * 스레드 안전하지 않음: {@link VectorIndex}의 락 안에서만 사용
+ */
+public class HnswGraph {
+
+    /**
+     * 슬롯 간 유사도
+     */
+    @FunctionalInterface
+    public interface SlotSimilarity {
+        double between(int slotA, int slotB);
+    }
+
+    /**
+     * HNSW 설정
+     *
+     * @param m 노드당 최대 연결 수 (레이어 0은 2배)
+     * @param efConstruction 삽입 시 후보 탐색 폭
+     * @param efSearch 검색 시 후보 탐색 폭 (topK보다 작으면 topK 사용)
+     */
+    public record Config(int m, int efConstruction, int efSearch) {
+        public Config {
+            if (m < 2 || efConstruction < 1 || efSearch < 1) {
+                throw new IllegalArgumentException(String.format(
+                        "HNSW 설정이 올바르지 않습니다: m=%d, efConstruction=%d, efSearch=%d", m, efConstruction, efSearch));
+            }
+        }
+    }
+
+    private final Config config;
+    private final int maxLinks0;
+    private final double levelMultiplier;
+    private final SlotSimilarity similarity;
+    private final Random random = new Random(42);
+
+    /** 노드별 레벨 (-1이면 그래프에 없음) */
+    private int[] levels = new int[0];
+
+    /** 노드별/레벨별 이웃 목록 ([0]은 개수, 이후 이웃 슬롯) */
+    private int[][][] links = new int[0][][];
+
+    private int entryPoint = -1;
+    private int maxLevel = -1;
+    private int size = 0;
+
+    public HnswGraph(Config config, SlotSimilarity similarity) {
+        this.config = config;
+        this.maxLinks0 = config.m() * 2;
+        this.levelMultiplier = 1.0 / Math.log(config.m());
+        this.similarity = similarity;
+    }
+
+    public Config getConfig() {
+        return config;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 노드 수용량 확장 (인덱스 슬롯 배열과 함께 확장)
+     */
+    public void ensureCapacity(int capacity) {
+        if (capacity <= levels.length) {
+            return;
+        }
+        int oldLength = levels.length;
+        levels = Arrays.copyOf(levels, capacity);
+        Arrays.fill(levels, oldLength, capacity, -1);
+        links = Arrays.copyOf(links, capacity);
+    }
+
+    /**
+     * 노드 삽입 (슬롯 벡터가 이미 인덱스에 기록되어 있어야 함)
+     */
+    public void insert(int node) {
+        ensureCapacity(node + 1);
+        if (levels[node] >= 0) {
+            delete(node);
+        }
+
+        int level = randomLevel();
+        levels[node] = level;
+        links[node] = new int[level + 1][];
+        for (int l = 0; l <= level; l++) {
+            links[node][l] = new int[maxLinks(l) + 1];
+        }
+        size++;
+
+        if (entryPoint < 0) {
+            entryPoint = node;
+            maxLevel = level;
+            return;
+        }
+
+        IntToDoubleFunction toNode = other -> similarity.between(node, other);
+        int current = entryPoint;
+        double currentScore = toNode.applyAsDouble(current);
+        for (int l = maxLevel; l > level; l--) {
+            current = greedySearch(toNode, current, currentScore, l, node);
+            currentScore = toNode.applyAsDouble(current);
+        }
+
+        List<Candidate> entryPoints = List.of(new Candidate(current, currentScore));
+        for (int l = Math.min(level, maxLevel); l >= 0; l--) {
+            List<Candidate> found = searchLayer(toNode, entryPoints, config.efConstruction(), l, null, node);
+            List<Candidate> selected = selectNeighbors(found, config.m());
+            for (Candidate neighbor : selected) {
+                addLink(node, neighbor.node, l);
+                connectBack(neighbor.node, node, l);
+            }
+            entryPoints = found;
+        }
+
+        if (level > maxLevel) {
+            entryPoint = node;
+            maxLevel = level;
+        }
+    }
+
+    /**
+     * 노드 삭제
+     * - 삭제 노드를 이웃 목록에서 제거하고, 연결이 끊긴 이웃은 삭제 노드의 이웃 중에서 재선택
+     * - 삭제 노드가 모르는 단방향 역참조는 남으며 검색 시 건너뜀
+     *   (같은 노드 번호를 다른 벡터에 재사용하기 전에 {@link #purge}로 정리해야 함)
+     */
+    public void delete(int node) {
+        if (node >= levels.length || levels[node] < 0) {
+            return;
+        }
+        int level = levels[node];
+        int[][] nodeLinks = links[node];
+        levels[node] = -1;
+        links[node] = null;
+        size--;
+
+        for (int l = 0; l <= level; l++) {
+            int[] removed = nodeLinks[l];
+            for (int i = 1; i <= removed[0]; i++) {
+                int neighbor = removed[i];
+                if (!hasLevel(neighbor, l) || !removeLink(neighbor, node, l)) {
+                    continue;
+                }
+                repair(neighbor, removed, l);
+            }
+        }
+
+        if (node == entryPoint) {
+            electEntryPoint(nodeLinks);
+        }
+    }
+
+    /**
+     * 삭제된 노드를 가리키는 연결 일괄 제거 (삭제 노드 번호 재사용 전 호출)
+     * - 전체 노드를 한 번 순회 (삭제가 쌓였을 때 모아서 실행)
+     *
+     * @param deleted 삭제된 노드 (그래프에 남아 있는 노드는 무시)
+     */
+    public void purge(BitSet deleted) {
+        for (int node = 0; node < levels.length; node++) {
+            for (int l = 0; l <= levels[node]; l++) {
+                int[] current = links[node][l];
+                int kept = 0;
+                for (int i = 1; i <= current[0]; i++) {
+                    int neighbor = current[i];
+                    if (!deleted.get(neighbor) || hasLevel(neighbor, 0)) {
+                        current[++kept] = neighbor;
+                    }
+                }
+                current[0] = kept;
+            }
+        }
+    }
+
+    /**
+     * 근사 Top-K 검색
+     *
+     * @param toQuery 질문 벡터와 슬롯 간 유사도
+     * @param topK 반환할 최대 개수
+     * @param ef 탐색 폭 (topK보다 작으면 topK 사용)
+     * @param accept 결과 포함 여부 (null이면 전체, 탐색 경로에는 영향 없음)
+     * @return 유사도 내림차순 결과
+     */
+    public List<Candidate> search(IntToDoubleFunction toQuery, int topK, int ef, IntPredicate accept) {
+        if (entryPoint < 0 || topK <= 0) {
+            return List.of();
+        }
+        int current = entryPoint;
+        double currentScore = toQuery.applyAsDouble(current);
+        for (int l = maxLevel; l > 0; l--) {
+            current = greedySearch(toQuery, current, currentScore, l, -1);
+            currentScore = toQuery.applyAsDouble(current);
+        }
+
+        List<Candidate> found = searchLayer(toQuery, List.of(new Candidate(current, currentScore)),
+                Math.max(ef, topK), 0, accept, -1);
+        return found.size() > topK ? new ArrayList<>(found.subList(0, topK)) : found;
+    }
+
+    /**
+     * 그래프 구조 기록 (스냅샷 저장용)
+     * - 형식: entryPoint, maxLevel, size, 노드별 [레벨, 레벨별 [이웃 수, 이웃...]]
+     *
+     * @param nodeCount 기록할 노드 수 (인덱스 슬롯 수)
+     */
+    public void writeTo(DataOutput out, int nodeCount) throws IOException {
+        out.writeInt(entryPoint);
+        out.writeInt(maxLevel);
+        out.writeInt(size);
+        for (int node = 0; node < nodeCount; node++) {
+            int level = node < levels.length ? levels[node] : -1;
+            out.writeInt(level);
+            for (int l = 0; l <= level; l++) {
+                int[] nodeLinks = links[node][l];
+                for (int i = 0; i <= nodeLinks[0]; i++) {
+                    out.writeInt(nodeLinks[i]);
+                }
+            }
+        }
+    }
+
+    /**
+     * 그래프 구조 복원 (기존 구조는 대체됨, {@link #writeTo}와 같은 설정이어야 함)
+     *
+     * @param in 스냅샷 버퍼 (현재 위치부터 읽음)
+     * @param nodeCount 기록된 노드 수
+     */
+    public void readFrom(ByteBuffer in, int nodeCount) {
+        int[] restoredLevels = new int[nodeCount];
+        int[][][] restoredLinks = new int[nodeCount][][];
+        int restoredEntryPoint = in.getInt();
+        int restoredMaxLevel = in.getInt();
+        int restoredSize = in.getInt();
+        for (int node = 0; node < nodeCount; node++) {
+            int level = in.getInt();
+            restoredLevels[node] = level;
+            if (level < 0) {
+                continue;
+            }
+            restoredLinks[node] = new int[level + 1][];
+            for (int l = 0; l <= level; l++) {
+                int count = in.getInt();
+                if (count < 0 || count > maxLinks(l)) {
+                    throw new IllegalStateException(String.format(
+                            "HNSW 스냅샷 연결 수가 설정과 맞지 않습니다: node=%d, level=%d, links=%d", node, l, count));
+                }
+                int[] nodeLinks = new int[maxLinks(l) + 1];
+                nodeLinks[0] = count;
+                for (int i = 1; i <= count; i++) {
+                    nodeLinks[i] = in.getInt();
+                }
+                restoredLinks[node][l] = nodeLinks;
+            }
+        }
+        levels = restoredLevels;
+        links = restoredLinks;
+        entryPoint = restoredEntryPoint;
+        maxLevel = restoredMaxLevel;
+        size = restoredSize;
+    }
+
+    /**
+     * 상위 레이어 탐욕 탐색 (가장 가까운 노드 1개)
+     *
+     * @param exclude 탐색에서 제외할 노드 (삽입 중인 자기 자신, 없으면 -1)
+     */
+    private int greedySearch(IntToDoubleFunction score, int start, double startScore, int level, int exclude) {
+        int current = start;
+        double best = startScore;
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            int[] neighbors = links[current][level];
+            for (int i = 1; i <= neighbors[0]; i++) {
+                int candidate = neighbors[i];
+                if (candidate == exclude || !hasLevel(candidate, level)) {
+                    continue;
+                }
+                double s = score.applyAsDouble(candidate);
+                if (s > best) {
+                    best = s;
+                    current = candidate;
+                    changed = true;
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * 레이어 내 best-first 탐색
+     *
+     * @param accept 결과 포함 조건 (null이면 전체)
+     * @param exclude 탐색에서 제외할 노드 (삽입 중인 자기 자신, 없으면 -1)
+     * @return 유사도 내림차순 결과 (최대 ef개)
+     */
+    private List<Candidate> searchLayer(IntToDoubleFunction score, List<Candidate> entryPoints, int ef,
+                                        int level, IntPredicate accept, int exclude) {
+        BitSet visited = new BitSet(levels.length);
+        if (exclude >= 0) {
+            visited.set(exclude);
+        }
+        PriorityQueue<Candidate> candidates = new PriorityQueue<>(Comparator.comparingDouble(Candidate::score).reversed());
+        PriorityQueue<Candidate> results = new PriorityQueue<>(Comparator.comparingDouble(Candidate::score));
+
+        for (Candidate entry : entryPoints) {
+            if (visited.get(entry.node) || !hasLevel(entry.node, level)) {
+                continue;
+            }
+            visited.set(entry.node);
+            candidates.add(entry);
+            offer(results, entry, ef, accept);
+        }
+
+        while (!candidates.isEmpty()) {
+            Candidate closest = candidates.poll();
+            if (results.size() >= ef && closest.score < results.peek().score) {
+                break;
+            }
+            int[] neighbors = links[closest.node][level];
+            for (int i = 1; i <= neighbors[0]; i++) {
+                int neighbor = neighbors[i];
+                if (visited.get(neighbor)) {
+                    continue;
+                }
+                visited.set(neighbor);
+                if (!hasLevel(neighbor, level)) {
+                    continue;
+                }
+                double s = score.applyAsDouble(neighbor);
+                if (results.size() < ef || s > results.peek().score) {
+                    Candidate candidate = new Candidate(neighbor, s);
+                    candidates.add(candidate);
+                    offer(results, candidate, ef, accept);
+                }
+            }
+        }
+
+        List<Candidate> sorted = new ArrayList<>(results);
+        sorted.sort(Comparator.comparingDouble(Candidate::score).reversed());
+        return sorted;
+    }
+
+    private static void offer(PriorityQueue<Candidate> results, Candidate candidate, int ef, IntPredicate accept) {
+        if (accept != null && !accept.test(candidate.node)) {
+            return;
+        }
+        results.add(candidate);
+        if (results.size() > ef) {
+            results.poll();
+        }
+    }
+
+    /**
+     * 이웃 선택 휴리스틱 (다양한 방향의 이웃 우선, 부족하면 가까운 순으로 채움)
+     *
+     * @param candidates 유사도 내림차순 후보
+     */
+    private List<Candidate> selectNeighbors(List<Candidate> candidates, int max) {
+        if (candidates.size() <= max) {
+            return candidates;
+        }
+        List<Candidate> selected = new ArrayList<>(max);
+        List<Candidate> pruned = new ArrayList<>();
+        for (Candidate candidate : candidates) {
+            if (selected.size() >= max) {
+                break;
+            }
+            boolean diverse = true;
+            for (Candidate chosen : selected) {
+                if (similarity.between(candidate.node, chosen.node) > candidate.score) {
+                    diverse = false;
+                    break;
+                }
+            }
+            if (diverse) {
+                selected.add(candidate);
+            } else {
+                pruned.add(candidate);
+            }
+        }
+        for (int i = 0; i < pruned.size() && selected.size() < max; i++) {
+            selected.add(pruned.get(i));
+        }
+        return selected;
+    }
+
+    /**
+     * 역방향 연결 추가 (최대 연결 수 초과 시 휴리스틱으로 축소)
+     */
+    private void connectBack(int from, int to, int level) {
+        int[] current = links[from][level];
+        int max = maxLinks(level);
+        if (contains(current, to)) {
+            return;
+        }
+        if (current[0] < max) {
+            addLink(from, to, level);
+            return;
+        }
+        List<Candidate> candidates = new ArrayList<>(max + 1);
+        candidates.add(new Candidate(to, similarity.between(from, to)));
+        for (int i = 1; i <= current[0]; i++) {
+            candidates.add(new Candidate(current[i], similarity.between(from, current[i])));
+        }
+        candidates.sort(Comparator.comparingDouble(Candidate::score).reversed());
+        setLinks(from, level, selectNeighbors(candidates, max));
+    }
+
+    /**
+     * 삭제된 노드와의 연결이 끊긴 이웃의 연결 복구
+     */
+    private void repair(int node, int[] deletedNeighbors, int level) {
+        int[] current = links[node][level];
+        List<Candidate> candidates = new ArrayList<>(current[0] + deletedNeighbors[0]);
+        BitSet seen = new BitSet();
+        seen.set(node);
+        for (int i = 1; i <= current[0]; i++) {
+            seen.set(current[i]);
+            candidates.add(new Candidate(current[i], similarity.between(node, current[i])));
+        }
+        for (int i = 1; i <= deletedNeighbors[0]; i++) {
+            int candidate = deletedNeighbors[i];
+            if (seen.get(candidate) || !hasLevel(candidate, level)) {
+                continue;
+            }
+            seen.set(candidate);
+            candidates.add(new Candidate(candidate, similarity.between(node, candidate)));
+        }
+        candidates.sort(Comparator.comparingDouble(Candidate::score).reversed());
+        setLinks(node, level, selectNeighbors(candidates, maxLinks(level)));
+    }
+
+    /**
+     * 진입점 재선정
+     * - 삭제된 진입점의 이웃 중 레벨이 가장 높은 노드 (최상위 레이어 노드는 서로 연결되어 있으므로 대부분 여기서 결정)
+     * - 이웃이 모두 없을 때만 전체 노드 순회
+     *
+     * @param deletedLinks 삭제된 진입점의 레벨별 이웃 목록
+     */
+    private void electEntryPoint(int[][] deletedLinks) {
+        entryPoint = -1;
+        maxLevel = -1;
+        for (int l = deletedLinks.length - 1; l >= 0 && entryPoint < 0; l--) {
+            int[] neighbors = deletedLinks[l];
+            for (int i = 1; i <= neighbors[0]; i++) {
+                int neighbor = neighbors[i];
+                if (hasLevel(neighbor, l) && levels[neighbor] > maxLevel) {
+                    maxLevel = levels[neighbor];
+                    entryPoint = neighbor;
+                }
+            }
+        }
+        if (entryPoint >= 0 || size == 0) {
+            return;
+        }
+        for (int node = 0; node < levels.length; node++) {
+            if (levels[node] > maxLevel) {
+                maxLevel = levels[node];
+                entryPoint = node;
+            }
+        }
+    }
+
+    /**
+     * 연결 추가 (이미 있으면 무시)
+     */
+    private void addLink(int from, int to, int level) {
+        int[] current = links[from][level];
+        if (!contains(current, to)) {
+            current[++current[0]] = to;
+        }
+    }
+
+    /**
+     * 노드의 레벨별 이웃 (테스트용 복사본, 그래프에 없거나 레벨이 낮으면 빈 배열)
+     */
+    int[] neighbors(int node, int level) {
+        if (!hasLevel(node, level)) {
+            return new int[0];
+        }
+        int[] current = links[node][level];
+        return Arrays.copyOfRange(current, 1, current[0] + 1);
+    }
+
+    private static boolean contains(int[] neighbors, int node) {
+        for (int i = 1; i <= neighbors[0]; i++) {
+            if (neighbors[i] == node) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean removeLink(int from, int to, int level) {
+        int[] current = links[from][level];
+        for (int i = 1; i <= current[0]; i++) {
+            if (current[i] == to) {
+                current[i] = current[current[0]];
+                current[0]--;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void setLinks(int node, int level, List<Candidate> neighbors) {
+        int[] current = links[node][level];
+        current[0] = neighbors.size();
+        for (int i = 0; i < neighbors.size(); i++) {
+            current[i + 1] = neighbors.get(i).node;
+        }
+    }
+
+    private boolean hasLevel(int node, int level) {
+        return node < levels.length && levels[node] >= level;
+    }
+
+    private int maxLinks(int level) {
+        return level == 0 ? maxLinks0 : config.m();
+    }
+
+    private int randomLevel() {
+        double r = 1.0 - random.nextDouble();
+        return (int) Math.floor(-Math.log(r) * levelMultiplier);
+    }
+
+    /**
+     * 탐색 후보 (슬롯 + 유사도)
+     */
+    public record Candidate(int node, double score) {
+    }
+}
@@ -0,0 +1,287 @@
+package com.srmanagement.wiki.service;
+
+import com.srmanagement.wiki.entity.LlmUsage;
+import com.srmanagement.wiki.entity.LlmUsage.Purpose;
+import com.srmanagement.wiki.repository.LlmUsageRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.ai.chat.metadata.ChatResponseMetadata;
+import org.springframework.ai.chat.metadata.Usage;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * LLM 호출 사용량 기록/집계 서비스
+ * - AI 검색 답변, 문서 요약, PDF 구조 보정 호출마다 Ollama가 보고한 토큰 수/처리 시간을 llm_usage에 저장
+ * - Micrometer: llm.tokens{purpose, type=prompt|generated}
+ * - 관리자 리포트: 용도별 분당 토큰 수, 지연시간 백분위수, 분 단위 추이
+ * - 실패한 호출은 기록하지 않음 (실패/타임아웃은 ollama.call.failures 참고)
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class LlmUsageService {
+
+    /** 리포트 최대 조회 기간 (분) */
+    private static final int MAX_REPORT_MINUTES = 24 * 60;
+
+    private static final Pattern GENERATE_FIELD = Pattern.compile(
+            "\"(prompt_eval_count|eval_count|prompt_eval_duration|eval_duration|load_duration|total_duration)\"\\s*:\\s*(\\d+)");
+
+    private final LlmUsageRepository usageRepository;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${wiki.llm-usage.enabled:true}")
+    private boolean enabled;
+
+    @Value("${wiki.llm-usage.retention-days:90}")
+    private int retentionDays;
+
+    /**
+     * LLM 응답 1건의 토큰 수/처리 시간 (Ollama 보고값, 보고하지 않은 항목은 null)
+     *
+     * @param promptTokens prompt_eval_count
+     * @param generatedTokens eval_count
+     * @param promptEvalMs prompt_eval_duration
+     * @param evalMs eval_duration
+     * @param loadMs load_duration
+     * @param totalMs total_duration
+     */
+    public record TokenUsage(String model, Long promptTokens, Long generatedTokens,
+                             Long promptEvalMs, Long evalMs, Long loadMs, Long totalMs) {
+
+        public static final TokenUsage EMPTY = new TokenUsage(null, null, null, null, null, null, null);
+
+        /**
+         * ChatResponse 메타데이터에서 추출 (스트리밍은 마지막 조각에만 값이 있음)
+         */
+        public static TokenUsage of(ChatResponse response) {
+            ChatResponseMetadata metadata = response != null ? response.getMetadata() : null;
+            if (metadata == null) {
+                return EMPTY;
+            }
+            Usage usage = metadata.getUsage();
+            return new TokenUsage(
+                    metadata.getModel(),
+                    usage != null ? positive(usage.getPromptTokens()) : null,
+                    usage != null ? positive(usage.getGenerationTokens()) : null,
+                    millis(metadata.get("prompt-eval-duration")),
+                    millis(metadata.get("eval-duration")),
+                    millis(metadata.get("load-duration")),
+                    millis(metadata.get("total-duration")));
+        }
+
+        /**
+         * Ollama /api/generate 응답 JSON에서 추출 (Vision 호출)
+         */
+        public static TokenUsage ofGenerateResponse(String model, String json) {
+            if (json == null) {
+                return EMPTY;
+            }
+            Map<String, Long> fields = new HashMap<>();
+            Matcher matcher = GENERATE_FIELD.matcher(json);
+            while (matcher.find()) {
+                fields.put(matcher.group(1), Long.parseLong(matcher.group(2)));
+            }
+            return new TokenUsage(model,
+                    positive(fields.get("prompt_eval_count")),
+                    positive(fields.get("eval_count")),
+                    millis(fields.get("prompt_eval_duration")),
+                    millis(fields.get("eval_duration")),
+                    millis(fields.get("load_duration")),
+                    millis(fields.get("total_duration")));
+        }
+
+        public boolean isEmpty() {
+            return promptTokens == null && generatedTokens == null && totalMs == null;
+        }
+
+        private static Long positive(Number value) {
+            return value != null && value.longValue() > 0 ? value.longValue() : null;
+        }
+
+        /**
+         * Ollama 처리 시간(나노초) → 밀리초
+         * - ChatResponse 메타데이터의 Duration은 응답 JSON의 나노초 정수를 Jackson이 초로 역직렬화한 값
+         *   (정수 → Duration.ofSeconds), 따라서 getSeconds()가 곧 원래 나노초 값
+         */
+        private static Long millis(Object value) {
+            if (value instanceof Duration duration) {
+                return TimeUnit.NANOSECONDS.toMillis(duration.getSeconds());
+            }
+            if (value instanceof Number number) {
+                return TimeUnit.NANOSECONDS.toMillis(number.longValue());
+            }
+            return null;
+        }
+    }
+
+    /**
+     * 용도별 집계
+     *
+     * @param purpose 호출 용도 (ALL: 전체)
+     * @param promptTokensPerMinute 조회 기간 평균 분당 프롬프트 토큰 수
+     * @param generationTokensPerSecond 생성 속도 (생성 토큰 합 / eval_duration 합)
+     * @param maxPromptTokens 가장 큰 프롬프트 토큰 수
+     */
+    public record PurposeSummary(String purpose, long calls, long promptTokens, long generatedTokens,
+                                 double promptTokensPerMinute, double generatedTokensPerMinute,
+                                 double avgLatencyMs, long p50LatencyMs, long p95LatencyMs, long maxLatencyMs,
+                                 double generationTokensPerSecond, long maxPromptTokens) {
+    }
+
+    /**
+     * 분 단위 집계 (호출이 있었던 분만)
+     */
+    public record MinuteBucket(LocalDateTime minute, long calls, long promptTokens, long generatedTokens,
+                               double avgLatencyMs, long maxLatencyMs) {
+    }
+
+    /**
+     * LLM 사용량 리포트
+     *
+     * @param purposes 전체(ALL) + 용도별 집계
+     * @param timeline 분 단위 추이 (시간순)
+     */
+    public record UsageReport(LocalDateTime from, LocalDateTime to, int minutes,
+                              List<PurposeSummary> purposes, List<MinuteBucket> timeline) {
+    }
+
+    /**
+     * 호출 사용량 저장 (비동기, 실패해도 호출 흐름에 영향 없음)
+     *
+     * @param purpose 호출 용도
+     * @param usage Ollama 보고 토큰 수/처리 시간
+     * @param latencyMs 호출 지연시간 (서버 측정)
+     * @param resourceId 관련 리소스 ID (없으면 null)
+     */
+    @Async
+    @Transactional
+    public void recordAsync(Purpose purpose, TokenUsage usage, long latencyMs, Long resourceId) {
+        if (!enabled) {
+            return;
+        }
+        try {
+            countTokens(purpose, "prompt", usage.promptTokens());
+            countTokens(purpose, "generated", usage.generatedTokens());
+            usageRepository.save(LlmUsage.builder()
+                    .purpose(purpose)
+                    .model(usage.model())
+                    .resourceId(resourceId)
+                    .promptTokens(usage.promptTokens())
+                    .generatedTokens(usage.generatedTokens())
+                    .promptEvalMs(usage.promptEvalMs())
+                    .evalMs(usage.evalMs())
+                    .loadMs(usage.loadMs())
+                    .totalMs(usage.totalMs())
+                    .latencyMs(latencyMs)
+                    .build());
+        } catch (Exception e) {
+            log.warn("LLM 사용량 저장 실패: purpose={}, {}", purpose, e.getMessage());
+        }
+    }
+
+    private void countTokens(Purpose purpose, String type, Long tokens) {
+        if (tokens == null) {
+            return;
+        }
+        Counter.builder("llm.tokens")
+                .description("LLM 토큰 수 (Ollama 보고값)")
+                .tag("purpose", purpose.name().toLowerCase(Locale.ROOT))
+                .tag("type", type)
+                .register(meterRegistry)
+                .increment(tokens);
+    }
+
+    /**
+     * 최근 N분 사용량 리포트
+     *
+     * @param minutes 조회 기간 (1 ~ 1440분)
+     */
+    @Transactional(readOnly = true)
+    public UsageReport getReport(int minutes) {
+        int window = Math.max(1, Math.min(minutes, MAX_REPORT_MINUTES));
+        LocalDateTime to = LocalDateTime.now();
+        LocalDateTime from = to.minusMinutes(window);
+        List<LlmUsage> usages = usageRepository.findByCreatedAtGreaterThanEqualOrderByCreatedAtAsc(from);
+
+        Map<Purpose, List<LlmUsage>> byPurpose = new EnumMap<>(Purpose.class);
+        Map<LocalDateTime, List<LlmUsage>> byMinute = new TreeMap<>();
+        for (LlmUsage usage : usages) {
+            byPurpose.computeIfAbsent(usage.getPurpose(), p -> new ArrayList<>()).add(usage);
+            byMinute.computeIfAbsent(usage.getCreatedAt().truncatedTo(ChronoUnit.MINUTES), m -> new ArrayList<>()).add(usage);
+        }
+
+        List<PurposeSummary> purposes = new ArrayList<>();
+        purposes.add(summarize("ALL", usages, window));
+        byPurpose.forEach((purpose, list) -> purposes.add(summarize(purpose.name(), list, window)));
+
+        List<MinuteBucket> timeline = new ArrayList<>();
+        byMinute.forEach((minute, list) -> timeline.add(new MinuteBucket(minute, list.size(),
+                sum(list, LlmUsage::getPromptTokens), sum(list, LlmUsage::getGeneratedTokens),
+                list.stream().mapToLong(LlmUsage::getLatencyMs).average().orElse(0),
+                list.stream().mapToLong(LlmUsage::getLatencyMs).max().orElse(0))));
+
+        return new UsageReport(from, to, window, purposes, timeline);
+    }
+
+    private static PurposeSummary summarize(String purpose, List<LlmUsage> usages, int minutes) {
+        long promptTokens = sum(usages, LlmUsage::getPromptTokens);
+        long generatedTokens = sum(usages, LlmUsage::getGeneratedTokens);
+        long evalMs = sum(usages, LlmUsage::getEvalMs);
+        long[] latencies = usages.stream().mapToLong(LlmUsage::getLatencyMs).sorted().toArray();
+        return new PurposeSummary(purpose, usages.size(), promptTokens, generatedTokens,
+                (double) promptTokens / minutes, (double) generatedTokens / minutes,
+                latencies.length > 0 ? (double) sum(usages, LlmUsage::getLatencyMs) / latencies.length : 0,
+                percentile(latencies, 0.5), percentile(latencies, 0.95),
+                latencies.length > 0 ? latencies[latencies.length - 1] : 0,
+                evalMs > 0 ? generatedTokens * 1000.0 / evalMs : 0,
+                usages.stream().map(LlmUsage::getPromptTokens).filter(Objects::nonNull).mapToLong(Long::longValue).max().orElse(0));
+    }
+
+    private static long sum(List<LlmUsage> usages, Function<LlmUsage, Long> field) {
+        return usages.stream().map(field).filter(Objects::nonNull).mapToLong(Long::longValue).sum();
+    }
+
+    private static long percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+
+    /**
+     * 보관 기간이 지난 사용량 정리 (1시간마다)
+     */
+    @Scheduled(fixedDelayString = "${wiki.llm-usage.cleanup-interval-ms:3600000}", initialDelay = 60_000)
+    @Transactional
+    public void cleanup() {
+        int deleted = usageRepository.deleteByCreatedAtBefore(LocalDateTime.now().minusDays(retentionDays));
+        if (deleted > 0) {
+            log.info("LLM 사용량 정리: {}건 삭제 ({}일 이전)", deleted, retentionDays);
+        }
+    }
+}
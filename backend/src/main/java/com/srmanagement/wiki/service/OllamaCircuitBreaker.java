@@ -0,0 +1,144 @@
+package com.srmanagement.wiki.service;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Ollama 호출용 서킷 브레이커 (연속 실패 횟수 기준)
+ * - CLOSED: 정상 호출, 연속 실패가 failureThreshold에 도달하면 OPEN
+ * - OPEN: openDuration 동안 호출 즉시 거부 (요청 스레드/워커가 응답 없는 서버를 기다리지 않음)
+ * - HALF_OPEN: 시험 호출 1건만 허용, 성공하면 CLOSED, 실패하면 다시 OPEN
+ * - 헬스 체크 실패 시 즉시 OPEN, 헬스 체크 성공 시 OPEN → HALF_OPEN (대기 시간 전이라도 시험 호출 허용)
+ */
+public class OllamaCircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    /**
+     * 브레이커 상태 스냅샷 (상태 조회 API용)
+     *
+     * @param retryAt OPEN 상태일 때 시험 호출을 허용할 시각
+     */
+    public record Snapshot(String name, State state, int consecutiveFailures, Instant openedAt,
+                           Instant retryAt, String lastError, long rejectedCalls) {
+    }
+
+    private final String name;
+    private final int failureThreshold;
+    private final Duration openDuration;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private Instant openedAt;
+    private boolean trialInFlight;
+    private String lastError;
+    private long rejectedCalls;
+
+    public OllamaCircuitBreaker(String name, int failureThreshold, Duration openDuration) {
+        this.name = name;
+        this.failureThreshold = Math.max(1, failureThreshold);
+        this.openDuration = openDuration;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * 호출 허가 (거부 시 false, 허가되면 결과를 onSuccess/onFailure/release 중 하나로 반드시 통지)
+     */
+    public synchronized boolean tryAcquire() {
+        if (state == State.OPEN && !Instant.now().isBefore(openedAt.plus(openDuration))) {
+            state = State.HALF_OPEN;
+        }
+        if (state == State.OPEN || (state == State.HALF_OPEN && trialInFlight)) {
+            rejectedCalls++;
+            return false;
+        }
+        if (state == State.HALF_OPEN) {
+            trialInFlight = true;
+        }
+        return true;
+    }
+
+    /**
+     * 호출 성공
+     *
+     * @return OPEN/HALF_OPEN에서 CLOSED로 복구되었으면 true
+     */
+    public synchronized boolean onSuccess() {
+        boolean recovered = state != State.CLOSED;
+        trialInFlight = false;
+        consecutiveFailures = 0;
+        state = State.CLOSED;
+        return recovered;
+    }
+
+    /**
+     * 호출 실패 (타임아웃, 연결 실패, 서버 오류)
+     *
+     * @return 이번 실패로 OPEN 되었으면 true
+     */
+    public synchronized boolean onFailure(String error) {
+        trialInFlight = false;
+        consecutiveFailures++;
+        lastError = error;
+        if (state != State.OPEN && (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold)) {
+            open();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * 결과와 무관하게 끝난 호출 (호출자 중단, 동시 실행 한도 초과 등 - 실패로 세지 않음)
+     */
+    public synchronized void release() {
+        trialInFlight = false;
+    }
+
+    /**
+     * 헬스 체크 실패: 즉시 OPEN
+     *
+     * @return 이번 헬스 체크로 OPEN 되었으면 true
+     */
+    public synchronized boolean probeFailed(String error) {
+        lastError = error;
+        if (state == State.OPEN) {
+            return false;
+        }
+        open();
+        return true;
+    }
+
+    /**
+     * 헬스 체크 성공: OPEN이면 시험 호출 허용
+     */
+    public synchronized void probeSucceeded() {
+        if (state == State.OPEN) {
+            state = State.HALF_OPEN;
+        }
+    }
+
+    public synchronized Snapshot snapshot() {
+        return new Snapshot(name, state, consecutiveFailures, openedAt,
+                state == State.OPEN ? openedAt.plus(openDuration) : null, lastError, rejectedCalls);
+    }
+
+    /**
+     * 시험 호출까지 남은 시간 (초, 오류 메시지용)
+     */
+    public synchronized long secondsUntilRetry() {
+        if (state != State.OPEN) {
+            return 0;
+        }
+        return Math.max(1, Duration.between(Instant.now(), openedAt.plus(openDuration)).toSeconds());
+    }
+
+    private void open() {
+        state = State.OPEN;
+        openedAt = Instant.now();
+    }
+}
@@ -0,0 +1,462 @@
+package com.srmanagement.wiki.service;
+
+import com.srmanagement.exception.CustomException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.prompt.Prompt;
+import org.springframework.ai.embedding.EmbeddingResponse;
+import org.springframework.ai.ollama.OllamaChatModel;
+import org.springframework.ai.ollama.OllamaEmbeddingModel;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestClient;
+import reactor.core.publisher.Flux;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Ollama 호출 보호 계층 (OllamaChatModel / OllamaEmbeddingModel 공통 진입점)
+ * - 작업 유형별 타임아웃: 호출은 ollamaCallExecutor에서 실행하고 호출 스레드는 타임아웃까지만 대기
+ * - 서킷 브레이커(채팅/임베딩 별도): 연속 실패 시 OPEN, OPEN 동안 즉시 503 응답
+ * - 헬스 체크: 주기적으로 /api/tags 조회 (서버 응답 여부, 설정된 모델 존재 여부)
+ * - 기동 시 모델 로드(warm-up): 첫 사용자 질문이 모델 로딩 시간을 기다리지 않도록
+ * - 지연시간 백분위수: Micrometer ollama.call{operation} (p50/p95/p99)
+ */
+@Service
+@Slf4j
+public class OllamaGateway {
+
+    private static final String TIMER_NAME = "ollama.call";
+    private static final String FAILURE_COUNTER_NAME = "ollama.call.failures";
+    private static final double[] PERCENTILES = {0.5, 0.95, 0.99};
+
+    /**
+     * Ollama 작업 유형 (타임아웃, 서킷 브레이커, 지연시간 집계 단위)
+     */
+    public enum Operation {
+        CHAT("chat", true),                      // AI 검색 답변 (동기)
+        CHAT_STREAM("chat-stream", true),        // AI 검색 답변 (스트리밍, 조각 간 대기 기준)
+        BACKGROUND_CHAT("background-chat", true), // 문서 요약, PDF 구조 보정
+        EMBEDDING("embedding", false),           // 문서/SR/현황조사 임베딩 배치
+        QUERY_EMBEDDING("query-embedding", false); // 검색 질문 임베딩
+
+        private final String tag;
+        private final boolean chat;
+
+        Operation(String tag, boolean chat) {
+            this.tag = tag;
+            this.chat = chat;
+        }
+
+        public String tag() {
+            return tag;
+        }
+    }
+
+    /**
+     * 작업 유형별 호출 통계
+     *
+     * @param timeoutSeconds 적용 중인 타임아웃
+     * @param count 최근 완료 호출 수 (실패 포함)
+     * @param p50Ms 지연시간 백분위수 (최근 약 2분 기준, 호출이 없으면 0)
+     * @param timeouts 누적 타임아웃 수
+     * @param errors 누적 오류 수 (연결 실패, 서버 오류)
+     * @param rejected 누적 거부 수 (브레이커 OPEN, 동시 실행 한도 초과)
+     */
+    public record OperationStats(String operation, long timeoutSeconds, long count, double meanMs,
+                                 double p50Ms, double p95Ms, double p99Ms, double maxMs,
+                                 long timeouts, long errors, long rejected) {
+    }
+
+    /**
+     * Ollama 연결 상태
+     *
+     * @param healthy 마지막 헬스 체크 성공 여부 (체크 전이면 null)
+     * @param missingModels 설정되어 있지만 Ollama에 없는 모델
+     * @param warmedUp 기동 시 모델 로드 완료 여부
+     */
+    public record Status(String baseUrl, String chatModel, String embeddingModel,
+                         Boolean healthy, Instant lastProbeAt, String lastProbeError, List<String> missingModels,
+                         boolean warmedUp, List<OllamaCircuitBreaker.Snapshot> breakers,
+                         List<OperationStats> operations) {
+    }
+
+    private final OllamaChatModel chatModel;
+    private final OllamaEmbeddingModel embeddingModel;
+    private final AsyncTaskExecutor executor;
+    private final TaskScheduler scheduler;
+    private final MeterRegistry meterRegistry;
+
+    private final String baseUrl;
+    private final String chatModelName;
+    private final String embeddingModelName;
+    private final boolean warmUpEnabled;
+    private final Map<Operation, Duration> timeouts = new EnumMap<>(Operation.class);
+    private final Map<Operation, Timer> timers = new EnumMap<>(Operation.class);
+    private final OllamaCircuitBreaker chatBreaker;
+    private final OllamaCircuitBreaker embeddingBreaker;
+    private final RestClient probeClient;
+    private final RestClient warmUpClient;
+
+    private volatile Boolean healthy;
+    private volatile Instant lastProbeAt;
+    private volatile String lastProbeError;
+    private volatile List<String> missingModels = List.of();
+    private volatile boolean warmedUp;
+
+    public OllamaGateway(OllamaChatModel chatModel,
+                         OllamaEmbeddingModel embeddingModel,
+                         @Qualifier("ollamaCallExecutor") AsyncTaskExecutor executor,
+                         TaskScheduler scheduler,
+                         MeterRegistry meterRegistry,
+                         @Value("${spring.ai.ollama.base-url:http://localhost:11434}") String baseUrl,
+                         @Value("${spring.ai.ollama.chat.options.model:}") String chatModelName,
+                         @Value("${spring.ai.ollama.embedding.options.model:}") String embeddingModelName,
+                         @Value("${wiki.ollama.connect-timeout-seconds:5}") long connectTimeoutSeconds,
+                         @Value("${wiki.ollama.timeout.chat-seconds:120}") long chatSeconds,
+                         @Value("${wiki.ollama.timeout.stream-idle-seconds:60}") long streamIdleSeconds,
+                         @Value("${wiki.ollama.timeout.background-chat-seconds:600}") long backgroundChatSeconds,
+                         @Value("${wiki.ollama.timeout.embedding-seconds:120}") long embeddingSeconds,
+                         @Value("${wiki.ollama.timeout.query-embedding-seconds:10}") long queryEmbeddingSeconds,
+                         @Value("${wiki.ollama.circuit-breaker.failure-threshold:5}") int failureThreshold,
+                         @Value("${wiki.ollama.circuit-breaker.open-seconds:30}") long openSeconds,
+                         @Value("${wiki.ollama.warm-up.enabled:true}") boolean warmUpEnabled) {
+        this.chatModel = chatModel;
+        this.embeddingModel = embeddingModel;
+        this.executor = executor;
+        this.scheduler = scheduler;
+        this.meterRegistry = meterRegistry;
+        this.baseUrl = baseUrl;
+        this.chatModelName = chatModelName;
+        this.embeddingModelName = embeddingModelName;
+        this.warmUpEnabled = warmUpEnabled;
+
+        timeouts.put(Operation.CHAT, Duration.ofSeconds(chatSeconds));
+        timeouts.put(Operation.CHAT_STREAM, Duration.ofSeconds(streamIdleSeconds));
+        timeouts.put(Operation.BACKGROUND_CHAT, Duration.ofSeconds(backgroundChatSeconds));
+        timeouts.put(Operation.EMBEDDING, Duration.ofSeconds(embeddingSeconds));
+        timeouts.put(Operation.QUERY_EMBEDDING, Duration.ofSeconds(queryEmbeddingSeconds));
+        for (Operation operation : Operation.values()) {
+            timers.put(operation, Timer.builder(TIMER_NAME)
+                    .description("Ollama 호출 시간 (실패 포함)")
+                    .tag("operation", operation.tag())
+                    .publishPercentiles(PERCENTILES)
+                    .register(meterRegistry));
+        }
+
+        this.chatBreaker = new OllamaCircuitBreaker("chat", failureThreshold, Duration.ofSeconds(openSeconds));
+        this.embeddingBreaker = new OllamaCircuitBreaker("embedding", failureThreshold, Duration.ofSeconds(openSeconds));
+
+        Duration connectTimeout = Duration.ofSeconds(connectTimeoutSeconds);
+        this.probeClient = restClient(connectTimeout, connectTimeout.plusSeconds(5));
+        this.warmUpClient = restClient(connectTimeout, Duration.ofSeconds(backgroundChatSeconds));
+    }
+
+    /**
+     * 채팅 호출 (동기)
+     *
+     * @param operation CHAT 또는 BACKGROUND_CHAT
+     */
+    public ChatResponse call(Prompt prompt, Operation operation) {
+        return execute(operation, () -> chatModel.call(prompt));
+    }
+
+    /**
+     * 채팅 호출 (스트리밍)
+     * - 첫 조각 및 조각 간 대기가 stream-idle 타임아웃을 넘으면 실패
+     * - 구독 취소(클라이언트 연결 종료 등)는 실패로 세지 않음
+     */
+    public Flux<ChatResponse> stream(Prompt prompt) {
+        Operation operation = Operation.CHAT_STREAM;
+        Duration timeout = timeouts.get(operation);
+        return Flux.defer(() -> {
+            acquire(operation);
+            long start = System.nanoTime();
+            return chatModel.stream(prompt)
+                    .timeout(timeout)
+                    .doOnComplete(() -> succeeded(operation, start))
+                    .doOnError(e -> failed(operation, start, e))
+                    .doOnCancel(() -> {
+                        breakerOf(operation).release();
+                        record(operation, start);
+                    })
+                    .onErrorMap(TimeoutException.class, e -> timeoutException(operation));
+        });
+    }
+
+    /**
+     * 임베딩 호출
+     *
+     * @param operation EMBEDDING 또는 QUERY_EMBEDDING
+     */
+    public EmbeddingResponse embed(List<String> texts, Operation operation) {
+        return execute(operation, () -> embeddingModel.embedForResponse(texts));
+    }
+
+    /**
+     * 서킷 브레이커 확인 → 전용 스레드에서 호출 → 타임아웃까지 대기
+     */
+    private <T> T execute(Operation operation, Supplier<T> call) {
+        acquire(operation);
+        long start = System.nanoTime();
+
+        Future<T> future;
+        try {
+            future = executor.submit(call::get);
+        } catch (TaskRejectedException e) {
+            breakerOf(operation).release();
+            rejected(operation);
+            throw new CustomException("AI 서버 동시 요청이 많습니다. 잠시 후 다시 시도해주세요.",
+                    HttpStatus.SERVICE_UNAVAILABLE, "OLLAMA_BUSY");
+        }
+
+        try {
+            T result = future.get(timeouts.get(operation).toMillis(), TimeUnit.MILLISECONDS);
+            succeeded(operation, start);
+            return result;
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            failed(operation, start, e);
+            throw timeoutException(operation);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            failed(operation, start, cause);
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new RuntimeException("Ollama 호출 실패: " + cause.getMessage(), cause);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            breakerOf(operation).release();
+            record(operation, start);
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Ollama 호출 대기 중 중단되었습니다", e);
+        }
+    }
+
+    private void acquire(Operation operation) {
+        OllamaCircuitBreaker breaker = breakerOf(operation);
+        if (!breaker.tryAcquire()) {
+            rejected(operation);
+            throw new CustomException(String.format(
+                    "AI 서버(Ollama) 응답이 없어 요청을 일시 차단했습니다. 약 %d초 후 다시 시도해주세요.",
+                    breaker.secondsUntilRetry()), HttpStatus.SERVICE_UNAVAILABLE, "OLLAMA_UNAVAILABLE");
+        }
+    }
+
+    private void succeeded(Operation operation, long start) {
+        record(operation, start);
+        if (breakerOf(operation).onSuccess()) {
+            log.info("✅ Ollama {} 서킷 브레이커 복구 (CLOSED)", breakerOf(operation).getName());
+        }
+    }
+
+    private void failed(Operation operation, long start, Throwable error) {
+        record(operation, start);
+        boolean timeout = error instanceof TimeoutException;
+        failureCounter(operation, timeout ? "timeout" : "error").increment();
+        String message = timeout ? "timeout (" + timeouts.get(operation).toSeconds() + "s)" : String.valueOf(error.getMessage());
+        OllamaCircuitBreaker breaker = breakerOf(operation);
+        if (breaker.onFailure(operation.tag() + ": " + message)) {
+            log.warn("⛔ Ollama {} 서킷 브레이커 OPEN - 연속 실패, 마지막 오류: {}", breaker.getName(), message);
+        }
+    }
+
+    private void rejected(Operation operation) {
+        failureCounter(operation, "rejected").increment();
+    }
+
+    private void record(Operation operation, long start) {
+        timers.get(operation).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+
+    private Counter failureCounter(Operation operation, String reason) {
+        return Counter.builder(FAILURE_COUNTER_NAME)
+                .description("Ollama 호출 실패/거부 수")
+                .tag("operation", operation.tag())
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    private CustomException timeoutException(Operation operation) {
+        return new CustomException(String.format("AI 서버(Ollama) 응답 시간이 초과되었습니다 (%d초).",
+                timeouts.get(operation).toSeconds()), HttpStatus.GATEWAY_TIMEOUT, "OLLAMA_TIMEOUT");
+    }
+
+    private OllamaCircuitBreaker breakerOf(Operation operation) {
+        return operation.chat ? chatBreaker : embeddingBreaker;
+    }
+
+    /**
+     * 헬스 체크 (서버 응답 + 설정된 모델 존재 여부)
+     * - 실패 시 두 브레이커 모두 OPEN (요청이 타임아웃까지 기다리지 않도록)
+     * - 성공 시 OPEN 브레이커는 시험 호출 허용
+     */
+    @Scheduled(fixedDelayString = "${wiki.ollama.health-probe.interval-ms:30000}", initialDelay = 10_000)
+    public void probe() {
+        try {
+            Map<?, ?> tags = probeClient.get().uri("/api/tags").retrieve().body(Map.class);
+            List<String> installed = new ArrayList<>();
+            if (tags != null && tags.get("models") instanceof List<?> models) {
+                for (Object model : models) {
+                    if (model instanceof Map<?, ?> info && info.get("name") != null) {
+                        installed.add(info.get("name").toString());
+                    }
+                }
+            }
+            List<String> missing = new ArrayList<>();
+            for (String model : List.of(chatModelName, embeddingModelName)) {
+                if (!model.isBlank() && installed.stream().noneMatch(name -> sameModel(name, model))) {
+                    missing.add(model);
+                }
+            }
+            if (!missing.equals(missingModels) && !missing.isEmpty()) {
+                log.warn("Ollama에 설정된 모델이 없습니다: {}", missing);
+            }
+            missingModels = missing;
+            if (Boolean.FALSE.equals(healthy)) {
+                log.info("✅ Ollama 헬스 체크 복구: {}", baseUrl);
+            }
+            healthy = true;
+            lastProbeError = null;
+            chatBreaker.probeSucceeded();
+            embeddingBreaker.probeSucceeded();
+        } catch (Exception e) {
+            if (!Boolean.FALSE.equals(healthy)) {
+                log.warn("⛔ Ollama 헬스 체크 실패: {} - {}", baseUrl, e.getMessage());
+            }
+            healthy = false;
+            lastProbeError = e.getMessage();
+            chatBreaker.probeFailed("health probe: " + e.getMessage());
+            embeddingBreaker.probeFailed("health probe: " + e.getMessage());
+        } finally {
+            lastProbeAt = Instant.now();
+        }
+    }
+
+    /**
+     * 기동 후 모델 로드 (백그라운드, 기동을 지연시키지 않음)
+     * - 채팅 모델: 프롬프트 없는 /api/generate 요청 (Ollama는 모델만 메모리에 올리고 응답)
+     * - 임베딩 모델: 짧은 텍스트 1건 임베딩
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void scheduleWarmUp() {
+        if (warmUpEnabled) {
+            scheduler.schedule(this::warmUp, Instant.now());
+        }
+    }
+
+    private void warmUp() {
+        long start = System.currentTimeMillis();
+        try {
+            if (!chatModelName.isBlank()) {
+                warmUpClient.post().uri("/api/generate")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .body(Map.of("model", chatModelName))
+                        .retrieve()
+                        .toBodilessEntity();
+            }
+            embed(List.of("warm-up"), Operation.EMBEDDING);
+            warmedUp = true;
+            log.info("🔥 Ollama 모델 로드 완료: chat={}, embedding={}, {}ms",
+                    chatModelName, embeddingModelName, System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            log.warn("Ollama 모델 로드(warm-up) 실패 - 첫 요청 시 로드됨: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 백그라운드 임베딩 가능 여부 (헬스 체크 실패 또는 임베딩 브레이커가 닫혀 있지 않으면 false)
+     */
+    public boolean isEmbeddingAvailable() {
+        return !Boolean.FALSE.equals(healthy)
+                && embeddingBreaker.snapshot().state() == OllamaCircuitBreaker.State.CLOSED;
+    }
+
+    /**
+     * 연결 상태, 서킷 브레이커, 작업별 지연시간 백분위수
+     */
+    public Status getStatus() {
+        List<OperationStats> operations = new ArrayList<>();
+        for (Operation operation : Operation.values()) {
+            HistogramSnapshot snapshot = timers.get(operation).takeSnapshot();
+            operations.add(new OperationStats(
+                    operation.tag(),
+                    timeouts.get(operation).toSeconds(),
+                    snapshot.count(),
+                    snapshot.mean(TimeUnit.MILLISECONDS),
+                    percentile(snapshot, 0.5),
+                    percentile(snapshot, 0.95),
+                    percentile(snapshot, 0.99),
+                    snapshot.max(TimeUnit.MILLISECONDS),
+                    failureCount(operation, "timeout"),
+                    failureCount(operation, "error"),
+                    failureCount(operation, "rejected")));
+        }
+        return new Status(baseUrl, chatModelName, embeddingModelName, healthy, lastProbeAt, lastProbeError,
+                missingModels, warmedUp, List.of(chatBreaker.snapshot(), embeddingBreaker.snapshot()), operations);
+    }
+
+    private static double percentile(HistogramSnapshot snapshot, double percentile) {
+        for (ValueAtPercentile value : snapshot.percentileValues()) {
+            if (value.percentile() == percentile) {
+                return value.value(TimeUnit.MILLISECONDS);
+            }
+        }
+        return 0;
+    }
+
+    private long failureCount(Operation operation, String reason) {
+        Counter counter = meterRegistry.find(FAILURE_COUNTER_NAME)
+                .tag("operation", operation.tag())
+                .tag("reason", reason)
+                .counter();
+        return counter != null ? (long) counter.count() : 0;
+    }
+
+    /**
+     * 태그 생략 모델명은 :latest와 같은 모델로 취급
+     */
+    private static boolean sameModel(String installed, String configured) {
+        return Objects.equals(installed, configured)
+                || Objects.equals(installed, configured + ":latest")
+                || Objects.equals(installed + ":latest", configured);
+    }
+
+    private RestClient restClient(Duration connectTimeout, Duration readTimeout) {
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(
+                HttpClient.newBuilder().connectTimeout(connectTimeout).build());
+        requestFactory.setReadTimeout(readTimeout);
+        return RestClient.builder()
+                .baseUrl(baseUrl)
+                .requestFactory(requestFactory)
+                .build();
+    }
+}
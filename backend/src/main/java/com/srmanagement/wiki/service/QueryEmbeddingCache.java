@@ -0,0 +1,148 @@
+package com.srmanagement.wiki.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.text.Normalizer;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * 질문 임베딩 캐시
+ * - 같은 질문(공백/문장부호/대소문자 차이 무시)은 Ollama 호출 없이 캐시된 벡터 사용
+ * - 크기/TTL 제한, 적중/미스 통계 (Micrometer: cache.gets{cache=queryEmbedding})
+ * - 임베딩 모델 설정은 재기동 시에만 바뀌고 캐시는 메모리에만 있으므로 모델 변경에 따른 무효화 불필요
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class QueryEmbeddingCache {
+
+    private static final String CACHE_NAME = "queryEmbedding";
+
+    private static final Pattern PUNCTUATION = Pattern.compile("\\p{P}+");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final OllamaGateway ollamaGateway;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${wiki.query-embedding-cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${wiki.query-embedding-cache.max-size:1000}")
+    private long maxSize;
+
+    @Value("${wiki.query-embedding-cache.ttl-minutes:60}")
+    private long ttlMinutes;
+
+    /** 캐시 항목을 만든 임베딩 모델명 (통계 표시용) */
+    @Value("${spring.ai.ollama.embedding.options.model:unknown}")
+    private String model;
+
+    private Cache<String, float[]> cache;
+
+    @PostConstruct
+    public void init() {
+        cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttlMinutes, TimeUnit.MINUTES)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        log.info("질문 임베딩 캐시 설정 - enabled: {}, maxSize: {}, ttl: {}분, model: {}",
+                enabled, maxSize, ttlMinutes, model);
+    }
+
+    /**
+     * 질문 임베딩 조회 (캐시 미스 시 Ollama 호출)
+     *
+     * @param question 사용자 질문
+     * @return 임베딩 벡터 (호출자별 복사본)
+     */
+    public float[] embed(String question) {
+        String key = normalize(question);
+        if (!enabled || key.isEmpty()) {
+            return compute(question);
+        }
+
+        return cache.get(key, k -> compute(question)).clone();
+    }
+
+    /**
+     * 질문 임베딩이 캐시되어 있는지 (통계 반영 없음, AI 검색 단계 기록용)
+     */
+    public boolean isCached(String question) {
+        String key = normalize(question);
+        return enabled && !key.isEmpty() && cache.asMap().containsKey(key);
+    }
+
+    /**
+     * 캐시 키용 질문 정규화
+     * - 유니코드 호환 정규화(NFKC), 소문자 변환
+     * - 문장부호 제거, 연속 공백은 하나로
+     */
+    static String normalize(String question) {
+        if (question == null) {
+            return "";
+        }
+        String normalized = Normalizer.normalize(question, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        normalized = PUNCTUATION.matcher(normalized).replaceAll(" ");
+        return WHITESPACE.matcher(normalized).replaceAll(" ").trim();
+    }
+
+    /**
+     * 캐시 전체 무효화
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
+        log.info("질문 임베딩 캐시 초기화");
+    }
+
+    /**
+     * 캐시 통계
+     */
+    public Stats getStats() {
+        CacheStats stats = cache.stats();
+        return new Stats(
+                enabled,
+                model,
+                cache.estimatedSize(),
+                maxSize,
+                ttlMinutes,
+                stats.hitCount(),
+                stats.missCount(),
+                stats.hitRate(),
+                stats.evictionCount()
+        );
+    }
+
+    private float[] compute(String question) {
+        return ollamaGateway.embed(List.of(question), OllamaGateway.Operation.QUERY_EMBEDDING).getResults().get(0).getOutput();
+    }
+
+    /**
+     * 캐시 통계 응답
+     */
+    public record Stats(
+            boolean enabled,
+            String model,
+            long size,
+            long maxSize,
+            long ttlMinutes,
+            long hitCount,
+            long missCount,
+            double hitRate,
+            long evictionCount
+    ) {
+    }
+}
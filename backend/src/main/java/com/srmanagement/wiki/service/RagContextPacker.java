@@ -0,0 +1,261 @@
+package com.srmanagement.wiki.service;
+
+import com.srmanagement.wiki.dto.AiSearchResponse;
+import com.srmanagement.wiki.util.TokenEstimator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.UnaryOperator;
+
+/**
+ * RAG 프롬프트 컨텍스트 패킹
+ * - 같은 리소스의 인접 청크는 하나로 합치고 청크 간 겹침 영역(이전 고정 길이 분할 청크) 제거
+ * - 거의 같은 내용의 청크는 유사도가 높은 것 하나만 사용 (단어 3-gram Jaccard)
+ * - 유사도 순으로 토큰 예산(wiki.rag.context.token-budget)을 채우고 초과분은 제외
+ * - 패킹 전/후 예상 프롬프트 토큰 수를 응답 메타데이터로 제공
+ */
+@Component
+@Slf4j
+public class RagContextPacker {
+
+    /** 겹침 영역으로 인정할 최소 길이 (우연히 같은 짧은 문자열 제외) */
+    private static final int MIN_OVERLAP_MATCH = 20;
+
+    /** 이전 고정 길이 분할(2000자)의 청크 간 겹침 길이 (재임베딩 전 청크용, 구조 기반 청크는 겹침 없음) */
+    private static final int LEGACY_OVERLAP_LENGTH = 200;
+
+    /** 예산 부족 시 잘라서라도 넣을 최소 남은 토큰 수 */
+    private static final int MIN_PARTIAL_TOKENS = 100;
+
+    private static final int SHINGLE_SIZE = 3;
+
+    @Value("${wiki.rag.context.packing-enabled:true}")
+    private boolean enabled;
+
+    @Value("${wiki.rag.context.token-budget:3000}")
+    private int tokenBudget;
+
+    @Value("${wiki.rag.context.duplicate-threshold:0.85}")
+    private double duplicateThreshold;
+
+    /**
+     * 검색된 청크
+     *
+     * @param resourceKey 리소스 식별 키 (리소스 타입-ID)
+     * @param header 컨텍스트 블록 제목 줄 (예: "## [Wiki 문서] 제목")
+     * @param chunkIndex 리소스 내 청크 순번
+     * @param content 청크 본문
+     * @param score 유사도 점수
+     */
+    public record Chunk(String resourceKey, String header, int chunkIndex, String content, double score) {
+    }
+
+    /**
+     * 패킹 결과
+     *
+     * @param prompt LLM 프롬프트 (패킹된 컨텍스트 포함)
+     * @param resourceKeys 컨텍스트에 포함된 리소스 키 (참고 문서 표시용)
+     * @param stats 패킹 통계
+     */
+    public record Packed(String prompt, Set<String> resourceKeys, AiSearchResponse.ContextStats stats) {
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 청크 목록을 토큰 예산 안의 컨텍스트로 패킹
+     *
+     * @param chunks 유사도 순 청크
+     * @param promptTemplate 컨텍스트 → 전체 프롬프트
+     * @return 프롬프트와 패킹 통계
+     */
+    public Packed pack(List<Chunk> chunks, UnaryOperator<String> promptTemplate) {
+        String originalPrompt = promptTemplate.apply(render(chunks.stream()
+                .map(c -> new Block(c.resourceKey(), c.header(), c.content(), c.score()))
+                .toList()));
+        int originalTokens = TokenEstimator.estimate(originalPrompt);
+
+        if (!enabled) {
+            Set<String> keys = new LinkedHashSet<>();
+            chunks.forEach(c -> keys.add(c.resourceKey()));
+            return new Packed(originalPrompt, keys, AiSearchResponse.ContextStats.builder()
+                    .packingEnabled(false)
+                    .candidateChunks(chunks.size())
+                    .blocks(chunks.size())
+                    .originalPromptTokens(originalTokens)
+                    .packedPromptTokens(originalTokens)
+                    .reductionPercent(0.0)
+                    .build());
+        }
+
+        // 1. 거의 같은 내용의 청크 제거 (유사도 높은 청크 우선 유지)
+        List<Chunk> kept = new ArrayList<>();
+        List<Set<String>> keptShingles = new ArrayList<>();
+        for (Chunk chunk : chunks.stream().sorted(Comparator.comparingDouble(Chunk::score).reversed()).toList()) {
+            Set<String> shingles = shingles(chunk.content());
+            if (keptShingles.stream().noneMatch(s -> jaccard(s, shingles) >= duplicateThreshold)) {
+                kept.add(chunk);
+                keptShingles.add(shingles);
+            }
+        }
+        int duplicates = chunks.size() - kept.size();
+
+        // 2. 같은 리소스의 연속된 청크를 하나의 블록으로 병합 (겹침 영역 제거)
+        Map<String, List<Chunk>> byResource = new LinkedHashMap<>();
+        for (Chunk chunk : kept) {
+            byResource.computeIfAbsent(chunk.resourceKey(), k -> new ArrayList<>()).add(chunk);
+        }
+        List<Block> blocks = new ArrayList<>();
+        for (List<Chunk> group : byResource.values()) {
+            group.sort(Comparator.comparingInt(Chunk::chunkIndex));
+            Chunk first = group.get(0);
+            StringBuilder content = new StringBuilder(first.content());
+            double score = first.score();
+            for (int i = 1; i < group.size(); i++) {
+                Chunk chunk = group.get(i);
+                if (chunk.chunkIndex() == group.get(i - 1).chunkIndex() + 1) {
+                    content.append(stripOverlap(group.get(i - 1).content(), chunk.content()));
+                    score = Math.max(score, chunk.score());
+                } else {
+                    blocks.add(new Block(first.resourceKey(), first.header(), content.toString(), score));
+                    content = new StringBuilder(chunk.content());
+                    score = chunk.score();
+                }
+            }
+            blocks.add(new Block(first.resourceKey(), first.header(), content.toString(), score));
+        }
+        int merged = kept.size() - blocks.size();
+
+        // 3. 유사도 순으로 토큰 예산 채우기 (프롬프트 템플릿/질문 토큰 제외한 컨텍스트 기준)
+        blocks.sort(Comparator.comparingDouble(Block::score).reversed());
+        List<Block> packed = new ArrayList<>();
+        int used = 0;
+        int overBudget = 0;
+        int truncated = 0;
+        for (Block block : blocks) {
+            int tokens = TokenEstimator.estimate(block.render());
+            if (used + tokens <= tokenBudget) {
+                packed.add(block);
+                used += tokens;
+            } else if (tokenBudget - used >= MIN_PARTIAL_TOKENS) {
+                Block partial = block.truncate(tokenBudget - used);
+                packed.add(partial);
+                used += TokenEstimator.estimate(partial.render());
+                truncated++;
+            } else {
+                overBudget++;
+            }
+        }
+
+        String prompt = promptTemplate.apply(render(packed));
+        int packedTokens = TokenEstimator.estimate(prompt);
+        Set<String> keys = new LinkedHashSet<>();
+        packed.forEach(b -> keys.add(b.resourceKey()));
+
+        AiSearchResponse.ContextStats stats = AiSearchResponse.ContextStats.builder()
+                .packingEnabled(true)
+                .candidateChunks(chunks.size())
+                .duplicateChunks(duplicates)
+                .mergedChunks(merged)
+                .blocks(packed.size())
+                .overBudgetBlocks(overBudget)
+                .truncatedBlocks(truncated)
+                .tokenBudget(tokenBudget)
+                .originalPromptTokens(originalTokens)
+                .packedPromptTokens(packedTokens)
+                .reductionPercent(originalTokens > 0
+                        ? Math.round(1000.0 * (originalTokens - packedTokens) / originalTokens) / 10.0 : 0.0)
+                .build();
+
+        log.debug("컨텍스트 패킹: 청크 {}개 → 블록 {}개 (중복 {}, 병합 {}, 예산 초과 {}, 잘림 {}), 프롬프트 ~{} → ~{} 토큰",
+                chunks.size(), packed.size(), duplicates, merged, overBudget, truncated, originalTokens, packedTokens);
+        return new Packed(prompt, keys, stats);
+    }
+
+    /**
+     * 다음 청크 앞부분 중 이전 청크 끝과 겹치는 영역 제거
+     * - 청크 분할 시 trim으로 겹침 길이가 조금씩 달라지므로 가장 긴 접미사/접두사 일치를 찾음
+     */
+    static String stripOverlap(String previous, String next) {
+        int max = Math.min(Math.min(previous.length(), next.length()), LEGACY_OVERLAP_LENGTH);
+        for (int length = max; length >= MIN_OVERLAP_MATCH; length--) {
+            if (previous.regionMatches(previous.length() - length, next, 0, length)) {
+                return next.substring(length);
+            }
+        }
+        // 겹침을 찾지 못하면 줄바꿈으로 구분해서 그대로 연결
+        return "\n" + next;
+    }
+
+    private static String render(List<Block> blocks) {
+        StringBuilder context = new StringBuilder();
+        for (Block block : blocks) {
+            context.append(block.render());
+        }
+        return context.toString();
+    }
+
+    private static Set<String> shingles(String text) {
+        String[] words = Arrays.stream(text.toLowerCase(Locale.ROOT).split("\\s+"))
+                .filter(w -> !w.isEmpty())
+                .toArray(String[]::new);
+        Set<String> shingles = new HashSet<>();
+        if (words.length < SHINGLE_SIZE) {
+            shingles.add(String.join(" ", words));
+            return shingles;
+        }
+        for (int i = 0; i + SHINGLE_SIZE <= words.length; i++) {
+            shingles.add(String.join(" ", Arrays.copyOfRange(words, i, i + SHINGLE_SIZE)));
+        }
+        return shingles;
+    }
+
+    private static double jaccard(Set<String> a, Set<String> b) {
+        if (a.isEmpty() || b.isEmpty()) {
+            return 0.0;
+        }
+        Set<String> smaller = a.size() <= b.size() ? a : b;
+        Set<String> larger = smaller == a ? b : a;
+        int intersection = 0;
+        for (String s : smaller) {
+            if (larger.contains(s)) {
+                intersection++;
+            }
+        }
+        return (double) intersection / (a.size() + b.size() - intersection);
+    }
+
+    /**
+     * 컨텍스트 블록 (같은 리소스의 연속된 청크 병합 결과)
+     */
+    private record Block(String resourceKey, String header, String content, double score) {
+
+        String render() {
+            return header + "\n" + content + "\n\n";
+        }
+
+        /**
+         * 남은 토큰 예산에 맞게 본문 자르기
+         */
+        Block truncate(int maxTokens) {
+            String cut = content;
+            while (!cut.isEmpty() && TokenEstimator.estimate(header + "\n" + cut + "...\n\n") > maxTokens) {
+                cut = cut.substring(0, (int) (cut.length() * 0.9));
+            }
+            return new Block(resourceKey, header, cut + "...", score);
+        }
+    }
+}
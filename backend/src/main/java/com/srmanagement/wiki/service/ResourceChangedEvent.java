@@ -0,0 +1,41 @@
+package com.srmanagement.wiki.service;
+
+import com.srmanagement.wiki.entity.ContentEmbedding.ResourceType;
+
+/**
+ * 검색 대상 리소스 변경 이벤트 (Wiki 문서, SR, 현황조사 저장/삭제 트랜잭션에서 발행)
+ * - 임베딩 작업 등록은 커밋 직전 같은 트랜잭션에서 처리 ({@link EmbeddingJobService})
+ * - 워커는 커밋 후 깨어나므로 커밋되지 않은 데이터로 임베딩하지 않음 ({@link EmbeddingJobWorker})
+ *
+ * @param resourceType 리소스 타입
+ * @param resourceId 리소스 ID
+ * @param change 변경 유형
+ * @param bulk 일괄 등록 여부 (낮은 우선순위로 임베딩)
+ */
+public record ResourceChangedEvent(ResourceType resourceType, Long resourceId, Change change, boolean bulk) {
+
+    /**
+     * 변경 유형
+     */
+    public enum Change {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+    public static ResourceChangedEvent created(ResourceType resourceType, Long resourceId) {
+        return new ResourceChangedEvent(resourceType, resourceId, Change.CREATED, false);
+    }
+
+    public static ResourceChangedEvent bulkCreated(ResourceType resourceType, Long resourceId) {
+        return new ResourceChangedEvent(resourceType, resourceId, Change.CREATED, true);
+    }
+
+    public static ResourceChangedEvent updated(ResourceType resourceType, Long resourceId) {
+        return new ResourceChangedEvent(resourceType, resourceId, Change.UPDATED, false);
+    }
+
+    public static ResourceChangedEvent deleted(ResourceType resourceType, Long resourceId) {
+        return new ResourceChangedEvent(resourceType, resourceId, Change.DELETED, false);
+    }
+}
@@ -0,0 +1,217 @@
+package com.srmanagement.wiki.service;
+
+import com.srmanagement.wiki.entity.ContentEmbedding.ResourceType;
+import com.srmanagement.wiki.entity.EmbeddingJob;
+import com.srmanagement.wiki.repository.ContentEmbeddingRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 오래된/누락 임베딩 감지 및 백그라운드 보충
+ * - 리소스 테이블(wiki_document, sr, open_api_survey)과 content_embedding을 집합 쿼리로 비교
+ *   (임베딩 없음, 또는 청크의 sourceUpdatedAt이 원본 updatedAt보다 이전)
+ * - 주기마다 batch-size 건까지만 임베딩 작업 큐에 최저 우선순위로 등록 → 편집/수동 요청이 항상 먼저 처리됨
+ * - 큐 대기 작업이 max-queue-pending 이상이거나 Ollama 임베딩 호출이 불가하면 이번 주기는 건너뜀
+ * - 같은 리소스는 cooldown 동안 다시 등록하지 않음 (임베딩 후에도 조건이 남는 리소스의 반복 등록 방지)
+ * - Micrometer: embedding.stale.backlog{type=WIKI|SR|SURVEY} (주기마다 갱신)
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class StaleEmbeddingService {
+
+    private static final List<ResourceType> TYPES = List.of(ResourceType.WIKI, ResourceType.SR, ResourceType.SURVEY);
+
+    private final ContentEmbeddingRepository embeddingRepository;
+    private final EmbeddingJobService jobService;
+    private final OllamaGateway ollamaGateway;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${wiki.embedding.stale-backfill.enabled:true}")
+    private boolean enabled;
+
+    @Value("${wiki.embedding.stale-backfill.batch-size:20}")
+    private int batchSize;
+
+    @Value("${wiki.embedding.stale-backfill.max-queue-pending:20}")
+    private long maxQueuePending;
+
+    @Value("${wiki.embedding.stale-backfill.cooldown-minutes:60}")
+    private long cooldownMinutes;
+
+    private final Map<ResourceType, AtomicLong> backlog = new EnumMap<>(ResourceType.class);
+
+    /** 최근 등록한 리소스 (pendingKey → 등록 시각 ms) */
+    private final Map<String, Long> recentlyEnqueued = new ConcurrentHashMap<>();
+
+    private volatile LocalDateTime lastRunAt;
+    private volatile int lastEnqueued;
+    private volatile String lastSkipReason;
+
+    /**
+     * 오래된/누락 임베딩 현황
+     *
+     * @param backlog 리소스 타입별 임베딩이 없거나 오래된 리소스 수 (마지막 주기 기준)
+     * @param lastEnqueued 마지막 주기에 작업 큐에 등록한 리소스 수
+     * @param lastSkipReason 마지막 주기를 건너뛴 사유 (실행했으면 null)
+     */
+    public record Stats(boolean enabled, Map<ResourceType, Long> backlog, long total,
+                        LocalDateTime lastRunAt, int lastEnqueued, String lastSkipReason,
+                        int batchSize, long maxQueuePending) {
+    }
+
+    @PostConstruct
+    public void init() {
+        for (ResourceType type : TYPES) {
+            AtomicLong count = new AtomicLong();
+            backlog.put(type, count);
+            Gauge.builder("embedding.stale.backlog", count, AtomicLong::get)
+                    .description("임베딩이 없거나 오래된 리소스 수")
+                    .tag("type", type.name())
+                    .register(meterRegistry);
+        }
+        log.info("오래된 임베딩 보충 설정 - enabled: {}, batchSize: {}, maxQueuePending: {}, cooldown: {}분",
+                enabled, batchSize, maxQueuePending, cooldownMinutes);
+    }
+
+    /**
+     * 주기 실행 (백로그 갱신 → 여유가 있으면 보충 등록)
+     */
+    @Scheduled(fixedDelayString = "${wiki.embedding.stale-backfill.interval-ms:60000}", initialDelay = 120_000)
+    public void scheduledBackfill() {
+        try {
+            refreshBacklog();
+            if (enabled) {
+                backfill();
+            }
+        } catch (Exception e) {
+            log.warn("오래된 임베딩 보충 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 즉시 1회 실행 (관리자 요청, enabled 설정과 무관)
+     */
+    public Stats runNow() {
+        refreshBacklog();
+        backfill();
+        return getStats();
+    }
+
+    /**
+     * 타입별 백로그 수 갱신 (집합 COUNT 쿼리 3회)
+     */
+    public void refreshBacklog() {
+        backlog.get(ResourceType.WIKI).set(embeddingRepository.countStaleWiki());
+        backlog.get(ResourceType.SR).set(embeddingRepository.countStaleSr());
+        backlog.get(ResourceType.SURVEY).set(embeddingRepository.countStaleSurvey());
+    }
+
+    /**
+     * 오래된/누락 리소스를 최대 batch-size 건 작업 큐에 등록 (타입별 번갈아가며)
+     */
+    private synchronized void backfill() {
+        lastRunAt = LocalDateTime.now();
+        lastEnqueued = 0;
+        lastSkipReason = null;
+
+        if (backlog.values().stream().mapToLong(AtomicLong::get).sum() == 0) {
+            return;
+        }
+        if (!ollamaGateway.isEmbeddingAvailable()) {
+            lastSkipReason = "Ollama 임베딩 호출 불가 (헬스 체크 실패 또는 서킷 브레이커 OPEN)";
+            return;
+        }
+        long pending = jobService.getStats().pending();
+        int budget = (int) Math.min(batchSize, maxQueuePending - pending);
+        if (budget <= 0) {
+            lastSkipReason = "임베딩 작업 큐 대기 " + pending + "건 (한도 " + maxQueuePending + "건)";
+            return;
+        }
+
+        pruneCooldown();
+        Map<ResourceType, Iterator<Long>> candidates = new EnumMap<>(ResourceType.class);
+        for (ResourceType type : TYPES) {
+            // 쿨다운 중인 리소스를 건너뛰어도 예산을 채울 수 있도록 여유 있게 조회
+            candidates.put(type, findStaleIds(type, budget + recentlyEnqueued.size()).iterator());
+        }
+
+        List<String> enqueued = new ArrayList<>();
+        boolean remaining = true;
+        while (enqueued.size() < budget && remaining) {
+            remaining = false;
+            for (ResourceType type : TYPES) {
+                Long resourceId = nextCandidate(type, candidates.get(type));
+                if (resourceId == null) {
+                    continue;
+                }
+                remaining = true;
+                jobService.enqueue(type, resourceId, EmbeddingJob.PRIORITY_BACKFILL);
+                String key = EmbeddingJob.pendingKeyOf(type, resourceId);
+                recentlyEnqueued.put(key, System.currentTimeMillis());
+                enqueued.add(key);
+                if (enqueued.size() >= budget) {
+                    break;
+                }
+            }
+        }
+
+        lastEnqueued = enqueued.size();
+        if (!enqueued.isEmpty()) {
+            log.info("🔄 오래된 임베딩 보충 등록: {}건 (백로그 WIKI {}, SR {}, SURVEY {})", enqueued.size(),
+                    backlog.get(ResourceType.WIKI).get(), backlog.get(ResourceType.SR).get(),
+                    backlog.get(ResourceType.SURVEY).get());
+        }
+    }
+
+    private Long nextCandidate(ResourceType type, Iterator<Long> iterator) {
+        while (iterator.hasNext()) {
+            Long resourceId = iterator.next();
+            if (!recentlyEnqueued.containsKey(EmbeddingJob.pendingKeyOf(type, resourceId))) {
+                return resourceId;
+            }
+        }
+        return null;
+    }
+
+    private List<Long> findStaleIds(ResourceType type, int limit) {
+        PageRequest page = PageRequest.of(0, limit);
+        return switch (type) {
+            case WIKI -> embeddingRepository.findStaleWikiIds(page);
+            case SR -> embeddingRepository.findStaleSrIds(page);
+            case SURVEY -> embeddingRepository.findStaleSurveyIds(page);
+        };
+    }
+
+    private void pruneCooldown() {
+        long expiredBefore = System.currentTimeMillis() - TimeUnit.MINUTES.toMillis(cooldownMinutes);
+        recentlyEnqueued.values().removeIf(enqueuedAt -> enqueuedAt < expiredBefore);
+    }
+
+    /**
+     * 현황 조회
+     */
+    public Stats getStats() {
+        Map<ResourceType, Long> counts = new EnumMap<>(ResourceType.class);
+        backlog.forEach((type, count) -> counts.put(type, count.get()));
+        return new Stats(enabled, counts, counts.values().stream().mapToLong(Long::longValue).sum(),
+                lastRunAt, lastEnqueued, lastSkipReason, batchSize, maxQueuePending);
+    }
+}
@@ -1,5 +1,6 @@
 package com.srmanagement.wiki.service;
 
+import com.srmanagement.wiki.entity.LlmUsage;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -8,7 +9,6 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.ai.chat.model.ChatResponse;
 import org.springframework.ai.chat.prompt.Prompt;
-import org.springframework.ai.ollama.OllamaChatModel;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
@@ -34,7 +34,8 @@ import java.util.regex.Pattern;
 @RequiredArgsConstructor
 public class StructureEnhancementService {
 
-    private final OllamaChatModel chatModel;
+    private final OllamaGateway ollamaGateway;
+    private final LlmUsageService llmUsageService;
 
     @Value("${wiki.pandoc.enabled:false}")
     private boolean pandocEnabled;
@@ -495,7 +496,7 @@ public class StructureEnhancementService {
 
         try {
             Prompt prompt = new Prompt(promptText);
-            ChatResponse response = chatModel.call(prompt);
+            ChatResponse response = callChat(prompt);
             String result = response.getResult().getOutput().getContent().trim();
 
             // 결과에서 마크다운 표만 추출
@@ -509,6 +510,17 @@ public class StructureEnhancementService {
         }
     }
 
+    /**
+     * 구조 보정용 LLM 호출 (토큰 사용량 기록)
+     */
+    private ChatResponse callChat(Prompt prompt) {
+        long start = System.currentTimeMillis();
+        ChatResponse response = ollamaGateway.call(prompt, OllamaGateway.Operation.BACKGROUND_CHAT);
+        llmUsageService.recordAsync(LlmUsage.Purpose.STRUCTURE_ENHANCEMENT, LlmUsageService.TokenUsage.of(response),
+                System.currentTimeMillis() - start, null);
+        return response;
+    }
+
     /**
      * AI 응답에서 마크다운 표만 추출
      */
@@ -708,7 +720,7 @@ public class StructureEnhancementService {
 
         try {
             Prompt prompt = new Prompt(promptText);
-            ChatResponse response = chatModel.call(prompt);
+            ChatResponse response = callChat(prompt);
             String result = response.getResult().getOutput().getContent().trim();
 
             if ("NO_CHANGE".equals(result) || result.contains("NO_CHANGE")) {
@@ -759,6 +771,7 @@ public class StructureEnhancementService {
 
         try {
             // PDF → Markdown 변환 명령
+            long start = System.currentTimeMillis();
             ProcessBuilder pb = new ProcessBuilder(
                     pandocPath,
                     pdfPath,
@@ -815,6 +828,7 @@ public class StructureEnhancementService {
      */
     public boolean isPandocAvailable() {
         try {
+            long start = System.currentTimeMillis();
             ProcessBuilder pb = new ProcessBuilder(pandocPath, "--version");
             Process process = pb.start();
             boolean completed = process.waitFor(5, TimeUnit.SECONDS);
@@ -994,6 +1008,7 @@ public class StructureEnhancementService {
             String apiUrl = ollamaBaseUrl + "/api/generate";
             log.debug("Ollama Vision API 호출: {}", apiUrl);
 
+            long start = System.currentTimeMillis();
             ProcessBuilder pb = new ProcessBuilder(
                     "curl", "-s", "-X", "POST",
                     apiUrl,
@@ -1021,6 +1036,10 @@ public class StructureEnhancementService {
 
             // JSON 응답에서 response 필드 추출
             String response = output.toString();
+            LlmUsageService.TokenUsage usage = LlmUsageService.TokenUsage.ofGenerateResponse(visionModel, response);
+            if (!usage.isEmpty()) {
+                llmUsageService.recordAsync(LlmUsage.Purpose.VISION, usage, System.currentTimeMillis() - start, null);
+            }
             if (response.contains("\"response\":")) {
                 int start = response.indexOf("\"response\":\"") + 12;
                 int end = response.indexOf("\"", start);
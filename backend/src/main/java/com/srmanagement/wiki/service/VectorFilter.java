@@ -0,0 +1,138 @@
+package com.srmanagement.wiki.service;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * 벡터 검색 메타데이터 필터
+ * - 필드 내 값은 OR, 필드 간에는 AND
+ * - {@link VectorIndex}가 필드/값별 비트맵으로 후보 슬롯을 먼저 좁힌 뒤 유사도 계산
+ * - 새 필터 필드는 {@link Field}에 항목을 추가하면 인덱스 비트맵이 자동 생성됨
+ *
+ * 불변 객체 (and 호출 시 새 필터 반환)
+ */
+public final class VectorFilter {
+
+    private static final VectorFilter NONE = new VectorFilter(new EnumMap<>(Field.class));
+
+    /**
+     * 필터 가능한 청크 메타데이터 필드
+     */
+    public enum Field {
+        RESOURCE_TYPE(VectorIndex.Entry::resourceType),
+        CATEGORY(VectorIndex.Entry::category),
+        CATEGORY_ID(entry -> entry.categoryId() != null ? entry.categoryId().toString() : null),
+        STATUS(VectorIndex.Entry::status);
+
+        private final Function<VectorIndex.Entry, String> extractor;
+
+        Field(Function<VectorIndex.Entry, String> extractor) {
+            this.extractor = extractor;
+        }
+
+        /**
+         * 청크의 필드 값 (없으면 null)
+         */
+        public String valueOf(VectorIndex.Entry entry) {
+            return extractor.apply(entry);
+        }
+    }
+
+    private final Map<Field, Set<String>> conditions;
+
+    private VectorFilter(Map<Field, Set<String>> conditions) {
+        this.conditions = conditions;
+    }
+
+    /**
+     * 필터 없음 (전체 검색)
+     */
+    public static VectorFilter none() {
+        return NONE;
+    }
+
+    /**
+     * 필드 조건 추가 (values가 null 또는 비어 있으면 조건 없음으로 간주)
+     *
+     * @param field 필드
+     * @param values 허용 값 목록 (toString 값으로 비교)
+     */
+    public VectorFilter and(Field field, Collection<?> values) {
+        if (values == null || values.isEmpty()) {
+            return this;
+        }
+        Set<String> normalized = new LinkedHashSet<>();
+        for (Object value : values) {
+            if (value != null) {
+                normalized.add(value instanceof Enum<?> e ? e.name() : value.toString());
+            }
+        }
+        if (normalized.isEmpty()) {
+            return this;
+        }
+        Map<Field, Set<String>> merged = new EnumMap<>(Field.class);
+        merged.putAll(conditions);
+        Set<String> existing = merged.get(field);
+        if (existing != null) {
+            // 같은 필드를 두 번 지정하면 교집합
+            normalized.retainAll(existing);
+        }
+        merged.put(field, Collections.unmodifiableSet(normalized));
+        return new VectorFilter(merged);
+    }
+
+    /**
+     * 단일 값 조건 추가 (value가 null이면 조건 없음)
+     */
+    public VectorFilter and(Field field, Object value) {
+        return value == null ? this : and(field, Collections.singletonList(value));
+    }
+
+    public boolean isEmpty() {
+        return conditions.isEmpty();
+    }
+
+    /**
+     * 필드별 허용 값
+     */
+    public Map<Field, Set<String>> conditions() {
+        return Collections.unmodifiableMap(conditions);
+    }
+
+    /**
+     * 단일 청크 조건 검사 (비트맵을 쓰지 않는 경로용)
+     */
+    public boolean test(VectorIndex.Entry entry) {
+        for (Map.Entry<Field, Set<String>> condition : conditions.entrySet()) {
+            String value = condition.getKey().valueOf(entry);
+            if (value == null || !condition.getValue().contains(value)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        return o instanceof VectorFilter other && conditions.equals(other.conditions);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(conditions);
+    }
+
+    @Override
+    public String toString() {
+        return conditions.isEmpty() ? "none" : conditions.toString();
+    }
+}
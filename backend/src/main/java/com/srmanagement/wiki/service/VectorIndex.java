@@ -0,0 +1,1353 @@
+package com.srmanagement.wiki.service;
+
+import com.srmanagement.wiki.util.ScalarSimilarityKernel;
+import com.srmanagement.wiki.util.SimilarityKernel;
+import com.srmanagement.wiki.util.SimilarityKernels;
+import org.roaringbitmap.FastAggregation;
+import org.roaringbitmap.IntIterator;
+import org.roaringbitmap.RoaringBitmap;
+
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.IntPredicate;
+import java.util.function.IntToDoubleFunction;
+
+/**
+ * 메모리 상주 벡터 인덱스
+ * - 모든 청크 벡터를 힙 밖의 고정 크기 세그먼트(슬랩)에 연속 저장
+ *   (FLOAT32: L2 정규화 float, INT8: 정규화 벡터의 차원별 스케일 양자화 코드)
+ *   (스냅샷 복원 시 파일 매핑을 복사 없이 세그먼트로 사용, 새 세그먼트는 direct 버퍼로 할당)
+ * - 질문 벡터도 정규화하므로 코사인 유사도 = 내적 ({@link SimilarityKernel}로 계산)
+ * - 슬롯 단위로 메타데이터(임베딩 ID, 리소스 유형/ID, 카테고리, 상태) 관리
+ * - 메타데이터 필드/값별 슬롯 비트맵 유지 ({@link VectorFilter}는 비트맵 교집합으로 후보를 좁힌 뒤 계산)
+ * - 리소스 단위 교체/삭제 지원 (임베딩 재생성 시 사용)
+ * - 스냅샷 기록/복원 지원 (벡터 슬랩, 메타데이터, HNSW 그래프를 그대로 저장하여 재기동 시 즉시 복원)
+ * - Top-K 코사인 유사도 검색
+ *   (HNSW 설정 시 청크 수가 임계값 이상이면 근사 검색, 미만이면 전수 검색)
+ *   (전수 검색은 후보가 많으면 샤드로 나눠 ForkJoin 풀에서 병렬 계산, 샤드별 Top-K 힙을 마지막에 병합)
+ *   (INT8 모드는 정수 내적으로 후보를 고른 뒤 원본 float 벡터로 재정렬)
+ *
+ * 스레드 안전: 검색은 읽기 락, 변경은 쓰기 락으로 보호
+ */
+public class VectorIndex {
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    /** 세그먼트당 슬롯 수 (슬롯 → 세그먼트/오프셋은 시프트/마스크로 계산) */
+    private static final int SEGMENT_SHIFT = 10;
+    private static final int SEGMENT_SLOTS = 1 << SEGMENT_SHIFT;
+    private static final int SEGMENT_MASK = SEGMENT_SLOTS - 1;
+
+    /** 슬랩 바이트 순서 (스냅샷 파일에도 같은 순서로 기록하여 매핑한 그대로 사용) */
+    private static final ByteOrder SLAB_ORDER = ByteOrder.LITTLE_ENDIAN;
+
+    /** 차원별 스케일 산정에 필요한 최소 샘플 수 (미만이면 전체 차원 공통 스케일 사용) */
+    private static final int MIN_CALIBRATION_SAMPLES = 100;
+
+    /** 보정 샘플 범위를 넘는 값에 대비한 여유 배율 */
+    private static final float CALIBRATION_HEADROOM = 1.25f;
+
+    /** 삭제 슬롯 정리 기준 (이 수 이상이면서 슬롯 수의 1/10 이상일 때 HNSW 연결 정리 후 재사용) */
+    private static final int MIN_TOMBSTONES_TO_PURGE = 1024;
+
+    /**
+     * 벡터 저장 정밀도
+     */
+    public enum Precision {
+        FLOAT32,  // float 원본 (4 bytes/차원)
+        INT8      // 차원별 스케일 int8 양자화 (1 byte/차원)
+    }
+
+    /**
+     * 원본 float 벡터 조회 (INT8 모드 재정렬용)
+     */
+    @FunctionalInterface
+    public interface ExactVectorLoader {
+        /**
+         * @param embeddingIds 임베딩 ID 목록
+         * @return 임베딩 ID → 원본 벡터 (없는 ID는 생략 가능)
+         */
+        Map<Long, float[]> load(Collection<Long> embeddingIds);
+    }
+
+    /**
+     * 인덱스 옵션
+     *
+     * @param hnswConfig HNSW 설정 (null이면 전수 검색만 사용)
+     * @param exactSearchThreshold 청크 수가 이 값 미만이면 HNSW 대신 전수 검색
+     * @param precision 벡터 저장 정밀도
+     * @param rerankCandidates INT8 모드에서 원본 벡터로 재정렬할 후보 수
+     * @param exactVectorLoader INT8 모드 재정렬용 원본 벡터 조회 (null이면 재정렬 생략)
+     * @param kernel 내적 연산 커널
+     * @param parallelScan 전수 검색 병렬 설정 (null이면 단일 스레드)
+     */
+    public record Options(HnswGraph.Config hnswConfig, int exactSearchThreshold, Precision precision,
+                          int rerankCandidates, ExactVectorLoader exactVectorLoader, SimilarityKernel kernel,
+                          ParallelScan parallelScan) {
+
+        public static Options flat(SimilarityKernel kernel) {
+            return new Options(null, 0, Precision.FLOAT32, 0, null, kernel, null);
+        }
+
+        public Options withParallelScan(ParallelScan parallelScan) {
+            return new Options(hnswConfig, exactSearchThreshold, precision, rerankCandidates, exactVectorLoader,
+                    kernel, parallelScan);
+        }
+    }
+
+    /**
+     * 전수 검색 병렬 설정
+     *
+     * @param pool 샤드 계산용 ForkJoin 풀 (병렬도 = 최대 샤드 수)
+     * @param minShardSize 샤드당 최소 후보 수 (후보가 적으면 분할 비용이 더 커서 단일 스레드)
+     */
+    public record ParallelScan(ForkJoinPool pool, int minShardSize) {
+
+        /**
+         * 후보 수에 따른 샤드 수
+         */
+        int shardCount(int candidates) {
+            if (pool == null || minShardSize <= 0) {
+                return 1;
+            }
+            return Math.max(1, Math.min(pool.getParallelism(), candidates / minShardSize));
+        }
+    }
+
+    private final String name;
+    private final Options options;
+    private final SimilarityKernel kernel;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /** 벡터 차원 (첫 번째 벡터 추가 시 결정) */
+    private int dimension = -1;
+
+    /**
+     * 슬롯별 벡터 세그먼트 (힙 밖, 세그먼트마다 SEGMENT_SLOTS 슬롯, 세그먼트 안 (slot & SEGMENT_MASK) * dimension 오프셋)
+     * - FLOAT32: 정규화 벡터, INT8: 양자화 코드
+     */
+    private ByteBuffer[] segments = new ByteBuffer[0];
+
+    /** FLOAT32 모드 세그먼트의 float 뷰 */
+    private FloatBuffer[] floatSegments = new FloatBuffer[0];
+
+    /** 앞에서부터 스냅샷 파일 매핑을 복사 없이 사용하는 세그먼트 수 */
+    private int mappedSegments = 0;
+
+    /** 차원별 양자화 스케일 (INT8 모드, 보정 전에는 null) */
+    private float[] scales;
+
+    /** 차원별 스케일 제곱 (INT8 슬롯 간 유사도 계산용) */
+    private float[] scalesSquared;
+
+    /** 슬롯별 벡터 L2 노름 (FLOAT32는 1 또는 0, INT8 모드는 역양자화 벡터 기준) */
+    private float[] norms = new float[0];
+
+    /** 슬롯별 메타데이터 (null이면 빈 슬롯) */
+    private Entry[] entries = new Entry[0];
+
+    /** 사용된 최대 슬롯 수 (high-water mark) */
+    private int slotCount = 0;
+
+    /** 유효 슬롯 수 */
+    private int liveCount = 0;
+
+    /** 재사용 가능한 빈 슬롯 */
+    private final Deque<Integer> freeSlots = new ArrayDeque<>();
+
+    /** HNSW 사용 시 삭제 후 아직 재사용할 수 없는 슬롯 (다른 노드의 연결 정리 전) */
+    private final BitSet tombstones = new BitSet();
+
+    /** 리소스 키(유형:ID) → 슬롯 목록 */
+    private final Map<String, List<Integer>> slotsByResource = new HashMap<>();
+
+    /** 필드 → 값 → 슬롯 비트맵 (필터 후보 축소용) */
+    private final Map<VectorFilter.Field, Map<String, RoaringBitmap>> postings = new EnumMap<>(VectorFilter.Field.class);
+
+    /** HNSW 그래프 (슬롯 번호를 노드로 사용) */
+    private HnswGraph graph;
+
+    public VectorIndex(String name) {
+        this(name, Options.flat(ScalarSimilarityKernel.INSTANCE));
+    }
+
+    /**
+     * @param name 인덱스 이름 (로그용)
+     * @param options 인덱스 옵션
+     */
+    public VectorIndex(String name, Options options) {
+        this.name = name;
+        this.options = options;
+        this.kernel = options.kernel() != null ? options.kernel() : ScalarSimilarityKernel.INSTANCE;
+        this.graph = newGraph();
+    }
+
+    /**
+     * 리소스의 모든 청크를 교체 (기존 청크 삭제 후 추가)
+     *
+     * @param resourceType 리소스 유형
+     * @param resourceId 리소스 ID
+     * @param newEntries 청크 메타데이터 목록
+     * @param vectors 청크 벡터 목록 (newEntries와 같은 순서)
+     */
+    public void replaceResource(String resourceType, long resourceId, List<Entry> newEntries, List<float[]> vectors) {
+        if (newEntries.size() != vectors.size()) {
+            throw new IllegalArgumentException("메타데이터와 벡터 개수가 일치하지 않습니다");
+        }
+        lock.writeLock().lock();
+        try {
+            ensureCalibrated(vectors);
+            removeResourceInternal(resourceKey(resourceType, resourceId));
+            for (int i = 0; i < newEntries.size(); i++) {
+                addInternal(newEntries.get(i), vectors.get(i));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 단일 청크 추가 (초기 적재용)
+     */
+    public void add(Entry entry, float[] vector) {
+        lock.writeLock().lock();
+        try {
+            ensureCalibrated(List.of(vector));
+            addInternal(entry, vector);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * INT8 양자화 스케일 보정 (비어 있는 인덱스에서만 적용)
+     * - 정규화된 샘플의 차원별 최대 절댓값 기준 스케일 산정
+     * - 샘플이 적으면 전체 차원 공통 스케일 사용
+     *
+     * @param sample 보정용 벡터 샘플
+     */
+    public void calibrate(List<float[]> sample) {
+        lock.writeLock().lock();
+        try {
+            if (options.precision() != Precision.INT8 || liveCount > 0 || sample.isEmpty()) {
+                return;
+            }
+            int dim = sample.get(0).length;
+            float[] maxAbs = new float[dim];
+            float globalMaxAbs = 0f;
+            for (float[] raw : sample) {
+                if (raw.length != dim) {
+                    continue;
+                }
+                float[] vector = SimilarityKernels.normalize(raw);
+                for (int d = 0; d < dim; d++) {
+                    float abs = Math.abs(vector[d]);
+                    if (abs > maxAbs[d]) {
+                        maxAbs[d] = abs;
+                    }
+                    if (abs > globalMaxAbs) {
+                        globalMaxAbs = abs;
+                    }
+                }
+            }
+
+            float[] newScales = new float[dim];
+            for (int d = 0; d < dim; d++) {
+                float range = sample.size() >= MIN_CALIBRATION_SAMPLES ? maxAbs[d] : globalMaxAbs;
+                newScales[d] = range > 0f ? range * CALIBRATION_HEADROOM / 127f : 1f;
+            }
+            scales = newScales;
+            scalesSquared = new float[dim];
+            for (int d = 0; d < dim; d++) {
+                scalesSquared[d] = scales[d] * scales[d];
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * INT8 양자화 스케일 보정 여부 (FLOAT32 모드는 항상 true)
+     */
+    public boolean isCalibrated() {
+        lock.readLock().lock();
+        try {
+            return options.precision() != Precision.INT8 || scales != null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 리소스의 모든 청크 삭제
+     */
+    public void removeResource(String resourceType, long resourceId) {
+        lock.writeLock().lock();
+        try {
+            removeResourceInternal(resourceKey(resourceType, resourceId));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 특정 리소스 유형의 모든 청크 삭제
+     */
+    public void removeResourceType(String resourceType) {
+        lock.writeLock().lock();
+        try {
+            String prefix = resourceType + ":";
+            List<String> keys = slotsByResource.keySet().stream()
+                    .filter(key -> key.startsWith(prefix))
+                    .toList();
+            keys.forEach(this::removeResourceInternal);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Top-K 코사인 유사도 검색
+     * - HNSW 사용 가능하면 근사 검색, 아니면 전수 검색
+     * - INT8 모드는 후보를 넓게 뽑은 뒤 원본 벡터로 재정렬
+     *
+     * @param query 질문 벡터
+     * @param topK 반환할 최대 개수
+     * @param threshold 최소 유사도
+     * @param filter 메타데이터 필터 (null 또는 비어 있으면 전체)
+     * @return 유사도 내림차순 결과
+     */
+    public List<Hit> search(float[] query, int topK, double threshold, VectorFilter filter) {
+        List<Hit> candidates;
+        lock.readLock().lock();
+        try {
+            RoaringBitmap allowed = allowedSlots(filter);
+            // 필터 후보가 적으면 그래프 탐색보다 후보 전수 계산이 빠르고 정확함
+            int reachable = allowed != null ? allowed.getCardinality() : liveCount;
+            boolean useGraph = graph != null && reachable >= options.exactSearchThreshold();
+            candidates = useGraph
+                    ? graphSearchInternal(query, candidateCount(topK), firstPassThreshold(threshold), allowed,
+                            Math.max(options.hnswConfig().efSearch(), candidateCount(topK)))
+                    : scanInternal(query, candidateCount(topK), firstPassThreshold(threshold), allowed);
+        } finally {
+            lock.readLock().unlock();
+        }
+        return rerank(query, candidates, topK, threshold);
+    }
+
+    /**
+     * 전수 검색 (HNSW 미사용, INT8 모드는 재정렬 포함)
+     */
+    public List<Hit> exactSearch(float[] query, int topK, double threshold, VectorFilter filter) {
+        List<Hit> candidates;
+        lock.readLock().lock();
+        try {
+            candidates = scanInternal(query, candidateCount(topK), firstPassThreshold(threshold), allowedSlots(filter));
+        } finally {
+            lock.readLock().unlock();
+        }
+        return rerank(query, candidates, topK, threshold);
+    }
+
+    /**
+     * HNSW 근사 검색 (HNSW 미설정 시 전수 검색, INT8 모드는 재정렬 포함)
+     *
+     * @param ef 탐색 폭
+     */
+    public List<Hit> approximateSearch(float[] query, int topK, double threshold, VectorFilter filter, int ef) {
+        List<Hit> candidates;
+        lock.readLock().lock();
+        try {
+            RoaringBitmap allowed = allowedSlots(filter);
+            candidates = graph != null
+                    ? graphSearchInternal(query, candidateCount(topK), firstPassThreshold(threshold), allowed,
+                            Math.max(ef, candidateCount(topK)))
+                    : scanInternal(query, candidateCount(topK), firstPassThreshold(threshold), allowed);
+        } finally {
+            lock.readLock().unlock();
+        }
+        return rerank(query, candidates, topK, threshold);
+    }
+
+    /**
+     * 저장 정밀도 그대로의 전수 검색 (재정렬 없음, 양자화 품질 측정용)
+     */
+    public List<Hit> firstPassSearch(float[] query, int topK, VectorFilter filter) {
+        lock.readLock().lock();
+        try {
+            return scanInternal(query, topK, -1.0, allowedSlots(filter));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 필터 조건에 해당하는 청크 수 (비트맵 교집합 크기)
+     */
+    public int count(VectorFilter filter) {
+        lock.readLock().lock();
+        try {
+            RoaringBitmap allowed = allowedSlots(filter);
+            return allowed != null ? allowed.getCardinality() : liveCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 필터 적용 후 검색 대상 수와 HNSW 근사 검색 사용 여부 (검색 계획 설명용, {@link #search}와 같은 판단)
+     */
+    public Plan plan(VectorFilter filter) {
+        lock.readLock().lock();
+        try {
+            RoaringBitmap allowed = allowedSlots(filter);
+            int reachable = allowed != null ? allowed.getCardinality() : liveCount;
+            boolean useGraph = graph != null && reachable >= options.exactSearchThreshold();
+            return new Plan(reachable, useGraph);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * HNSW 사용 여부
+     */
+    public boolean isHnswEnabled() {
+        return options.hnswConfig() != null;
+    }
+
+    public Precision getPrecision() {
+        return options.precision();
+    }
+
+    /**
+     * 유효 슬롯 중 임의 벡터 샘플 (검색 품질 측정용 질문 벡터, 정규화 벡터 / INT8 모드는 역양자화 벡터)
+     */
+    public List<float[]> sampleVectors(int count, long seed) {
+        lock.readLock().lock();
+        try {
+            List<float[]> samples = new ArrayList<>(Math.min(count, liveCount));
+            if (liveCount == 0) {
+                return samples;
+            }
+            Random random = new Random(seed);
+            int attempts = 0;
+            while (samples.size() < count && attempts < count * 20) {
+                attempts++;
+                int slot = random.nextInt(slotCount);
+                if (entries[slot] != null) {
+                    samples.add(vectorOf(slot));
+                }
+            }
+            return samples;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 현재 인덱스를 다른 옵션으로 복제 (양자화 비교 측정용)
+     * - INT8 인덱스를 FLOAT32로 복제하면 역양자화 벡터가 사용되므로 원본과 다름
+     */
+    public VectorIndex copyAs(String copyName, Options copyOptions) {
+        List<Entry> copiedEntries = new ArrayList<>();
+        List<float[]> copiedVectors = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            for (int slot = 0; slot < slotCount; slot++) {
+                if (entries[slot] != null) {
+                    copiedEntries.add(entries[slot]);
+                    copiedVectors.add(vectorOf(slot));
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        VectorIndex copy = new VectorIndex(copyName, copyOptions);
+        copy.calibrate(copiedVectors);
+        for (int i = 0; i < copiedEntries.size(); i++) {
+            copy.add(copiedEntries.get(i), copiedVectors.get(i));
+        }
+        return copy;
+    }
+
+    /**
+     * 전체 삭제 (INT8 스케일 보정도 초기화)
+     */
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            dimension = -1;
+            segments = new ByteBuffer[0];
+            floatSegments = new FloatBuffer[0];
+            mappedSegments = 0;
+            scales = null;
+            scalesSquared = null;
+            norms = new float[0];
+            entries = new Entry[0];
+            slotCount = 0;
+            liveCount = 0;
+            freeSlots.clear();
+            tombstones.clear();
+            slotsByResource.clear();
+            postings.clear();
+            graph = newGraph();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 인덱스 상태 기록 (스냅샷 저장용, 읽기 락 유지)
+     * - 형식: 옵션(정밀도, HNSW m/efConstruction), 차원, 슬롯 수,
+     *   [INT8 스케일], 벡터 슬랩(little-endian, 세그먼트 순서대로 연속), 노름, 슬롯별 메타데이터, [HNSW 그래프]
+     *
+     * @return 기록한 내용의 지문 (같은 읽기 락 안에서 계산)
+     */
+    public Fingerprint writeTo(DataOutput out) throws IOException {
+        lock.readLock().lock();
+        try {
+            HnswGraph.Config hnswConfig = options.hnswConfig();
+            out.writeInt(options.precision().ordinal());
+            out.writeInt(hnswConfig != null ? hnswConfig.m() : 0);
+            out.writeInt(hnswConfig != null ? hnswConfig.efConstruction() : 0);
+            out.writeInt(dimension);
+            out.writeInt(slotCount);
+            if (options.precision() == Precision.INT8) {
+                out.writeBoolean(scales != null);
+                if (scales != null) {
+                    out.writeInt(scales.length);
+                    for (float scale : scales) {
+                        out.writeFloat(scale);
+                    }
+                }
+            }
+            int slotBytes = Math.max(dimension, 0) * valueBytes();
+            for (int segment = 0; segment * SEGMENT_SLOTS < slotCount; segment++) {
+                int slots = Math.min(SEGMENT_SLOTS, slotCount - segment * SEGMENT_SLOTS);
+                writeBytes(out, segments[segment], slots * slotBytes);
+            }
+            writeFloats(out, norms, slotCount);
+
+            for (int slot = 0; slot < slotCount; slot++) {
+                Entry entry = entries[slot];
+                out.writeBoolean(entry != null);
+                if (entry == null) {
+                    continue;
+                }
+                out.writeLong(entry.embeddingId());
+                writeString(out, entry.resourceType());
+                out.writeLong(entry.resourceId());
+                out.writeInt(entry.chunkIndex());
+                out.writeBoolean(entry.categoryId() != null);
+                if (entry.categoryId() != null) {
+                    out.writeLong(entry.categoryId());
+                }
+                writeString(out, entry.category());
+                writeString(out, entry.status());
+            }
+
+            out.writeBoolean(graph != null);
+            if (graph != null) {
+                graph.writeTo(out, slotCount);
+            }
+            return fingerprintInternal();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 스냅샷에서 인덱스 상태 복원 (기존 내용은 대체됨)
+     * - 정밀도/HNSW 설정이 현재 옵션과 다르면 예외 (호출자는 DB 재적재로 대체)
+     * - 쓰기 가능한 버퍼(PRIVATE 매핑)면 슬롯이 가득 찬 세그먼트는 복사 없이 버퍼를 그대로 사용
+     *   (이후 슬롯 재사용으로 바뀌는 페이지만 프로세스 전용 복사본이 되고 파일은 바뀌지 않음)
+     *
+     * @param in 스냅샷 버퍼 (현재 위치부터 읽음)
+     * @throws IllegalStateException 옵션 불일치 또는 손상된 스냅샷
+     */
+    public void readFrom(ByteBuffer in) {
+        HnswGraph.Config hnswConfig = options.hnswConfig();
+        int snapshotPrecision = in.getInt();
+        int snapshotM = in.getInt();
+        int snapshotEfConstruction = in.getInt();
+        if (snapshotPrecision != options.precision().ordinal()
+                || snapshotM != (hnswConfig != null ? hnswConfig.m() : 0)
+                || snapshotEfConstruction != (hnswConfig != null ? hnswConfig.efConstruction() : 0)) {
+            throw new IllegalStateException(String.format(
+                    "[%s] 스냅샷 옵션이 현재 설정과 다릅니다: precision=%d, m=%d, efConstruction=%d",
+                    name, snapshotPrecision, snapshotM, snapshotEfConstruction));
+        }
+
+        int restoredDimension = in.getInt();
+        int restoredSlotCount = in.getInt();
+        // 빈 인덱스는 첫 추가 시 차원에 맞춰 확장되도록 수용량 0 유지
+        int capacity = restoredDimension < 0 ? 0 : Math.max(INITIAL_CAPACITY, restoredSlotCount);
+
+        float[] restoredScales = null;
+        if (options.precision() == Precision.INT8 && in.get() != 0) {
+            restoredScales = new float[in.getInt()];
+            in.asFloatBuffer().get(restoredScales);
+            in.position(in.position() + restoredScales.length * Float.BYTES);
+        }
+        int slotBytes = Math.max(restoredDimension, 0) * valueBytes();
+        int segmentCount = slotBytes == 0 ? 0 : (restoredSlotCount + SEGMENT_MASK) >>> SEGMENT_SHIFT;
+        ByteBuffer[] restoredSegments = new ByteBuffer[segmentCount];
+        int restoredMapped = 0;
+        for (int segment = 0; segment < segmentCount; segment++) {
+            int slots = Math.min(SEGMENT_SLOTS, restoredSlotCount - segment * SEGMENT_SLOTS);
+            int bytes = slots * slotBytes;
+            if (slots == SEGMENT_SLOTS && !in.isReadOnly()) {
+                restoredSegments[segment] = in.slice(in.position(), bytes).order(SLAB_ORDER);
+                restoredMapped++;
+            } else {
+                // 마지막 세그먼트는 남은 슬롯을 채울 수 있도록 새로 할당하여 복사
+                restoredSegments[segment] = allocateSegment(SEGMENT_SLOTS * slotBytes);
+                restoredSegments[segment].put(0, in, in.position(), bytes);
+            }
+            in.position(in.position() + bytes);
+        }
+        float[] restoredNorms = new float[capacity];
+        in.asFloatBuffer().get(restoredNorms, 0, restoredSlotCount);
+        in.position(in.position() + restoredSlotCount * Float.BYTES);
+
+        Entry[] restoredEntries = new Entry[capacity];
+        for (int slot = 0; slot < restoredSlotCount; slot++) {
+            if (in.get() == 0) {
+                continue;
+            }
+            long embeddingId = in.getLong();
+            String resourceType = readString(in);
+            long resourceId = in.getLong();
+            int chunkIndex = in.getInt();
+            Long categoryId = in.get() != 0 ? in.getLong() : null;
+            String category = readString(in);
+            String status = readString(in);
+            restoredEntries[slot] = new Entry(embeddingId, resourceType, resourceId, chunkIndex,
+                    categoryId, category, status);
+        }
+
+        HnswGraph restoredGraph = newGraph();
+        boolean hasGraph = in.get() != 0;
+        if (hasGraph != (restoredGraph != null)) {
+            throw new IllegalStateException(String.format("[%s] 스냅샷 HNSW 그래프 유무가 현재 설정과 다릅니다", name));
+        }
+        if (restoredGraph != null) {
+            restoredGraph.readFrom(in, restoredSlotCount);
+            restoredGraph.ensureCapacity(capacity);
+            // 기록 시점에 정리 대기 중이던 삭제 슬롯은 빈 슬롯으로 복원되므로 연결을 정리한 뒤 재사용
+            BitSet emptySlots = new BitSet(restoredSlotCount);
+            for (int slot = 0; slot < restoredSlotCount; slot++) {
+                if (restoredEntries[slot] == null) {
+                    emptySlots.set(slot);
+                }
+            }
+            restoredGraph.purge(emptySlots);
+        }
+
+        lock.writeLock().lock();
+        try {
+            dimension = restoredDimension;
+            segments = new ByteBuffer[0];
+            floatSegments = new FloatBuffer[0];
+            for (ByteBuffer segment : restoredSegments) {
+                addSegment(segment);
+            }
+            mappedSegments = restoredMapped;
+            scales = restoredScales;
+            scalesSquared = null;
+            if (scales != null) {
+                scalesSquared = new float[scales.length];
+                for (int d = 0; d < scales.length; d++) {
+                    scalesSquared[d] = scales[d] * scales[d];
+                }
+            }
+            norms = restoredNorms;
+            entries = restoredEntries;
+            slotCount = restoredSlotCount;
+            liveCount = 0;
+            freeSlots.clear();
+            tombstones.clear();
+            slotsByResource.clear();
+            postings.clear();
+            for (int slot = 0; slot < restoredSlotCount; slot++) {
+                Entry entry = entries[slot];
+                if (entry == null) {
+                    freeSlots.push(slot);
+                    continue;
+                }
+                liveCount++;
+                updatePostings(entry, slot, true);
+                slotsByResource.computeIfAbsent(resourceKey(entry.resourceType(), entry.resourceId()),
+                        key -> new ArrayList<>()).add(slot);
+            }
+            graph = restoredGraph;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 유효 청크 수
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return liveCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 인덱스 내용 지문 (임베딩 ID 기준, DB의 같은 집계와 비교하여 스냅샷 최신 여부 판단)
+     */
+    public Fingerprint fingerprint() {
+        lock.readLock().lock();
+        try {
+            return fingerprintInternal();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Fingerprint fingerprintInternal() {
+        long maxId = 0L;
+        long idSum = 0L;
+        for (int slot = 0; slot < slotCount; slot++) {
+            Entry entry = entries[slot];
+            if (entry != null) {
+                maxId = Math.max(maxId, entry.embeddingId());
+                idSum += entry.embeddingId();
+            }
+        }
+        return new Fingerprint(liveCount, maxId, idSum);
+    }
+
+    /**
+     * 벡터 차원 (비어 있으면 -1)
+     */
+    public int dimension() {
+        lock.readLock().lock();
+        try {
+            return dimension;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 벡터 저장 크기 (bytes, 힙 밖 세그먼트 + 힙의 노름/스케일)
+     */
+    public long vectorBytes() {
+        lock.readLock().lock();
+        try {
+            long bytes = (long) segments.length * segmentBytes() + (long) norms.length * Float.BYTES;
+            if (scales != null) {
+                bytes += (long) scales.length * Float.BYTES * 2;
+            }
+            return bytes;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 벡터 저장 크기 중 스냅샷 파일 매핑을 그대로 사용하는 부분 (bytes, 나머지는 direct 버퍼)
+     */
+    public long mappedVectorBytes() {
+        lock.readLock().lock();
+        try {
+            return (long) mappedSegments * segmentBytes();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getKernelName() {
+        return kernel.name();
+    }
+
+    private List<Hit> graphSearchInternal(float[] query, int topK, double threshold,
+                                          RoaringBitmap allowed, int ef) {
+        IntToDoubleFunction scorer = queryScorer(query, topK);
+        if (scorer == null || (allowed != null && allowed.isEmpty())) {
+            return List.of();
+        }
+
+        IntPredicate accept = allowed != null ? allowed::contains : null;
+        List<HnswGraph.Candidate> candidates = graph.search(scorer, topK, ef, accept);
+
+        List<Hit> hits = new ArrayList<>(candidates.size());
+        for (HnswGraph.Candidate candidate : candidates) {
+            Entry entry = entries[candidate.node()];
+            if (entry != null && candidate.score() >= threshold) {
+                hits.add(new Hit(entry, candidate.score()));
+            }
+        }
+        return hits;
+    }
+
+    private List<Hit> scanInternal(float[] query, int topK, double threshold, RoaringBitmap allowed) {
+        IntToDoubleFunction scorer = queryScorer(query, topK);
+        if (scorer == null || (allowed != null && allowed.isEmpty())) {
+            return List.of();
+        }
+
+        // 필터가 있으면 비트맵에 포함된 슬롯만 계산
+        int candidates = allowed != null ? allowed.getCardinality() : slotCount;
+        int shards = options.parallelScan() != null ? options.parallelScan().shardCount(candidates) : 1;
+        PriorityQueue<Hit> heap;
+        if (shards <= 1) {
+            heap = newHeap(topK);
+            if (allowed == null) {
+                scanRange(heap, 0, slotCount, scorer, topK, threshold);
+            } else {
+                IntIterator slots = allowed.getIntIterator();
+                while (slots.hasNext()) {
+                    offer(heap, slots.next(), scorer, topK, threshold);
+                }
+            }
+        } else {
+            heap = parallelScan(shards, allowed, scorer, topK, threshold);
+        }
+
+        List<Hit> hits = new ArrayList<>(heap);
+        hits.sort(Comparator.comparingDouble(Hit::score).reversed());
+        return hits;
+    }
+
+    /**
+     * 샤드별 병렬 전수 계산 후 Top-K 병합
+     * - 호출 스레드가 읽기 락을 잡고 모든 샤드 완료까지 대기하므로 샤드 계산 중 인덱스 변경 없음
+     */
+    private PriorityQueue<Hit> parallelScan(int shards, RoaringBitmap allowed, IntToDoubleFunction scorer,
+                                            int topK, double threshold) {
+        int[] slots = allowed != null ? allowed.toArray() : null;
+        int total = slots != null ? slots.length : slotCount;
+
+        List<ForkJoinTask<PriorityQueue<Hit>>> tasks = new ArrayList<>(shards);
+        for (int shard = 0; shard < shards; shard++) {
+            int from = (int) ((long) total * shard / shards);
+            int to = (int) ((long) total * (shard + 1) / shards);
+            tasks.add(options.parallelScan().pool().submit(() -> {
+                PriorityQueue<Hit> shardHeap = newHeap(topK);
+                if (slots == null) {
+                    scanRange(shardHeap, from, to, scorer, topK, threshold);
+                } else {
+                    for (int i = from; i < to; i++) {
+                        offer(shardHeap, slots[i], scorer, topK, threshold);
+                    }
+                }
+                return shardHeap;
+            }));
+        }
+
+        // 샤드별 Top-K (최대 K × 샤드 수)만 병합
+        PriorityQueue<Hit> merged = newHeap(topK);
+        for (ForkJoinTask<PriorityQueue<Hit>> task : tasks) {
+            for (Hit hit : task.join()) {
+                if (merged.size() < topK) {
+                    merged.add(hit);
+                } else if (hit.score() > merged.peek().score()) {
+                    merged.poll();
+                    merged.add(hit);
+                }
+            }
+        }
+        return merged;
+    }
+
+    /**
+     * 크기 K의 최소 힙 (상위 K개만 유지, 전체 정렬 불필요)
+     */
+    private static PriorityQueue<Hit> newHeap(int topK) {
+        return new PriorityQueue<>(topK + 1, Comparator.comparingDouble(Hit::score));
+    }
+
+    private void scanRange(PriorityQueue<Hit> heap, int from, int to, IntToDoubleFunction scorer,
+                           int topK, double threshold) {
+        for (int slot = from; slot < to; slot++) {
+            offer(heap, slot, scorer, topK, threshold);
+        }
+    }
+
+    private void offer(PriorityQueue<Hit> heap, int slot, IntToDoubleFunction scorer, int topK, double threshold) {
+        Entry entry = entries[slot];
+        if (entry == null || norms[slot] == 0f) {
+            return;
+        }
+        double score = scorer.applyAsDouble(slot);
+        if (score < threshold) {
+            return;
+        }
+        if (heap.size() < topK) {
+            heap.add(new Hit(entry, score));
+        } else if (score > heap.peek().score()) {
+            heap.poll();
+            heap.add(new Hit(entry, score));
+        }
+    }
+
+    /**
+     * 질문 벡터 → 슬롯 유사도 함수 (검색 불가 시 null)
+     * - FLOAT32: 정규화 벡터 내적 (= 코사인)
+     * - INT8: 정규화된 질문 벡터를 슬롯 스케일에 맞춰 int8로 양자화한 뒤 정수 내적
+     */
+    private IntToDoubleFunction queryScorer(float[] query, int topK) {
+        if (liveCount == 0 || topK <= 0) {
+            return null;
+        }
+        if (query.length != dimension) {
+            throw new IllegalArgumentException(String.format(
+                    "[%s] 벡터 차원이 일치하지 않습니다: index=%d, query=%d", name, dimension, query.length));
+        }
+        if (norm(query, 0, query.length) == 0f) {
+            return null;
+        }
+        float[] unitQuery = SimilarityKernels.normalize(query);
+
+        if (options.precision() == Precision.FLOAT32) {
+            FloatBuffer[] vectors = floatSegments;
+            return slot -> norms[slot] == 0f
+                    ? -1.0
+                    : kernel.dot(unitQuery, 0, vectors[slot >>> SEGMENT_SHIFT], offsetOf(slot), dimension);
+        }
+
+        // q·x ≈ Σ (q_d * s_d) * c_d → (q_d * s_d)를 int8로 양자화하여 정수 내적
+        float maxAbs = 0f;
+        for (int d = 0; d < dimension; d++) {
+            maxAbs = Math.max(maxAbs, Math.abs(unitQuery[d] * scales[d]));
+        }
+        if (maxAbs == 0f) {
+            return null;
+        }
+        float queryScale = maxAbs / 127f;
+        byte[] queryCodes = new byte[dimension];
+        for (int d = 0; d < dimension; d++) {
+            queryCodes[d] = (byte) Math.round(unitQuery[d] * scales[d] / queryScale);
+        }
+        ByteBuffer[] codes = segments;
+        return slot -> norms[slot] == 0f
+                ? -1.0
+                : kernel.dot(queryCodes, 0, codes[slot >>> SEGMENT_SHIFT], offsetOf(slot), dimension)
+                        * (double) queryScale / norms[slot];
+    }
+
+    /**
+     * INT8 모드 재정렬 (원본 float 벡터 기준 정확한 코사인 유사도)
+     * - 락 밖에서 수행 (원본 벡터 조회가 DB 접근일 수 있음)
+     */
+    private List<Hit> rerank(float[] query, List<Hit> candidates, int topK, double threshold) {
+        if (!isReranking() || candidates.isEmpty()) {
+            return trim(candidates, topK, threshold);
+        }
+
+        Map<Long, float[]> exactVectors = options.exactVectorLoader().load(
+                candidates.stream().map(hit -> hit.entry().embeddingId()).toList());
+        float[] unitQuery = SimilarityKernels.normalize(query);
+
+        List<Hit> reranked = new ArrayList<>(candidates.size());
+        for (Hit candidate : candidates) {
+            float[] exact = exactVectors.get(candidate.entry().embeddingId());
+            if (exact == null || exact.length != query.length) {
+                reranked.add(candidate);
+                continue;
+            }
+            // 정규화 이전에 저장된 벡터도 있으므로 노름으로 나눔
+            float exactNorm = norm(exact, 0, exact.length);
+            double score = exactNorm == 0f ? -1.0 : kernel.dot(unitQuery, 0, exact, 0, exact.length) / exactNorm;
+            reranked.add(new Hit(candidate.entry(), score));
+        }
+        reranked.sort(Comparator.comparingDouble(Hit::score).reversed());
+        return trim(reranked, topK, threshold);
+    }
+
+    private static List<Hit> trim(List<Hit> hits, int topK, double threshold) {
+        List<Hit> trimmed = new ArrayList<>(Math.min(topK, hits.size()));
+        for (Hit hit : hits) {
+            if (trimmed.size() >= topK) {
+                break;
+            }
+            if (hit.score() >= threshold) {
+                trimmed.add(hit);
+            }
+        }
+        return trimmed;
+    }
+
+    /**
+     * 1차 후보 수 (INT8 재정렬 시 topK보다 넓게)
+     */
+    private int candidateCount(int topK) {
+        return isReranking() ? Math.max(topK, options.rerankCandidates()) : topK;
+    }
+
+    /**
+     * 1차 후보 최소 유사도 (INT8 재정렬 시 근사 점수로 후보를 버리지 않음)
+     */
+    private double firstPassThreshold(double threshold) {
+        return isReranking() ? -1.0 : threshold;
+    }
+
+    private boolean isReranking() {
+        return options.precision() == Precision.INT8 && options.exactVectorLoader() != null;
+    }
+
+    private void ensureCalibrated(List<float[]> vectors) {
+        if (options.precision() == Precision.INT8 && scales == null) {
+            calibrate(vectors);
+        }
+    }
+
+    private void addInternal(Entry entry, float[] vector) {
+        if (dimension < 0) {
+            dimension = vector.length;
+        } else if (vector.length != dimension) {
+            throw new IllegalArgumentException(String.format(
+                    "[%s] 벡터 차원이 일치하지 않습니다: index=%d, vector=%d (embeddingId=%d)",
+                    name, dimension, vector.length, entry.embeddingId()));
+        }
+        if (options.precision() == Precision.INT8 && scales.length != dimension) {
+            throw new IllegalArgumentException(String.format(
+                    "[%s] 양자화 스케일 차원이 일치하지 않습니다: scales=%d, vector=%d",
+                    name, scales.length, vector.length));
+        }
+
+        int slot = freeSlots.isEmpty() ? slotCount++ : freeSlots.pop();
+        ensureCapacity(slot + 1);
+
+        int offset = offsetOf(slot);
+        float[] unit = SimilarityKernels.normalize(vector);
+        if (options.precision() == Precision.FLOAT32) {
+            floatSegments[slot >>> SEGMENT_SHIFT].put(offset, unit, 0, dimension);
+            norms[slot] = norm(unit, 0, dimension) == 0f ? 0f : 1f;
+        } else {
+            ByteBuffer codes = segments[slot >>> SEGMENT_SHIFT];
+            double sum = 0.0;
+            for (int d = 0; d < dimension; d++) {
+                int code = Math.round(unit[d] / scales[d]);
+                code = Math.max(-127, Math.min(127, code));
+                codes.put(offset + d, (byte) code);
+                double dequantized = code * (double) scales[d];
+                sum += dequantized * dequantized;
+            }
+            norms[slot] = (float) Math.sqrt(sum);
+        }
+        entries[slot] = entry;
+        liveCount++;
+        updatePostings(entry, slot, true);
+        if (graph != null) {
+            graph.insert(slot);
+        }
+
+        slotsByResource.computeIfAbsent(resourceKey(entry.resourceType(), entry.resourceId()),
+                key -> new ArrayList<>()).add(slot);
+    }
+
+    private void removeResourceInternal(String key) {
+        List<Integer> slots = slotsByResource.remove(key);
+        if (slots == null) {
+            return;
+        }
+        for (int slot : slots) {
+            updatePostings(entries[slot], slot, false);
+            entries[slot] = null;
+            norms[slot] = 0f;
+            liveCount--;
+            if (graph != null) {
+                // 다른 노드에 남은 단방향 연결이 새 벡터를 가리키지 않도록 정리 전까지 재사용하지 않음
+                graph.delete(slot);
+                tombstones.set(slot);
+            } else {
+                freeSlots.push(slot);
+            }
+        }
+        int pending = tombstones.cardinality();
+        if (pending >= MIN_TOMBSTONES_TO_PURGE && pending >= slotCount / 10) {
+            purgeTombstones();
+        }
+    }
+
+    /**
+     * 삭제 슬롯을 가리키는 HNSW 연결을 정리하고 빈 슬롯으로 반환
+     */
+    private void purgeTombstones() {
+        graph.purge(tombstones);
+        for (int slot = tombstones.nextSetBit(0); slot >= 0; slot = tombstones.nextSetBit(slot + 1)) {
+            freeSlots.push(slot);
+        }
+        tombstones.clear();
+    }
+
+    private void updatePostings(Entry entry, int slot, boolean add) {
+        for (VectorFilter.Field field : VectorFilter.Field.values()) {
+            String value = field.valueOf(entry);
+            if (value == null) {
+                continue;
+            }
+            Map<String, RoaringBitmap> byValue = postings.computeIfAbsent(field, key -> new HashMap<>());
+            if (add) {
+                byValue.computeIfAbsent(value, key -> new RoaringBitmap()).add(slot);
+            } else {
+                RoaringBitmap bitmap = byValue.get(value);
+                if (bitmap != null) {
+                    bitmap.remove(slot);
+                    if (bitmap.isEmpty()) {
+                        byValue.remove(value);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * 필터 조건에 해당하는 슬롯 비트맵 (필터 없음이면 null)
+     * - 필드 내 값 비트맵은 합집합, 필드 간에는 교집합
+     */
+    private RoaringBitmap allowedSlots(VectorFilter filter) {
+        if (filter == null || filter.isEmpty()) {
+            return null;
+        }
+        RoaringBitmap result = null;
+        for (Map.Entry<VectorFilter.Field, Set<String>> condition : filter.conditions().entrySet()) {
+            Map<String, RoaringBitmap> byValue = postings.getOrDefault(condition.getKey(), Map.of());
+            List<RoaringBitmap> matched = new ArrayList<>(condition.getValue().size());
+            for (String value : condition.getValue()) {
+                RoaringBitmap bitmap = byValue.get(value);
+                if (bitmap != null) {
+                    matched.add(bitmap);
+                }
+            }
+            if (matched.isEmpty()) {
+                return new RoaringBitmap();
+            }
+            RoaringBitmap union = matched.size() == 1 ? matched.get(0) : FastAggregation.or(matched.iterator());
+            // 인덱스 내부 비트맵은 변경하지 않도록 and는 새 객체 반환
+            result = result == null ? union : RoaringBitmap.and(result, union);
+            if (result.isEmpty()) {
+                return result;
+            }
+        }
+        return result;
+    }
+
+    private void ensureCapacity(int requiredSlots) {
+        // 벡터는 세그먼트 단위로 추가 (기존 세그먼트는 복사하지 않음)
+        while ((long) segments.length * SEGMENT_SLOTS < requiredSlots) {
+            addSegment(allocateSegment(segmentBytes()));
+        }
+        if (requiredSlots <= entries.length) {
+            return;
+        }
+        int newCapacity = Math.max(INITIAL_CAPACITY, entries.length);
+        while (newCapacity < requiredSlots) {
+            newCapacity += newCapacity >> 1;
+        }
+        norms = Arrays.copyOf(norms, newCapacity);
+        entries = Arrays.copyOf(entries, newCapacity);
+        if (graph != null) {
+            graph.ensureCapacity(newCapacity);
+        }
+    }
+
+    private void addSegment(ByteBuffer segment) {
+        int count = segments.length;
+        segments = Arrays.copyOf(segments, count + 1);
+        segments[count] = segment;
+        if (options.precision() == Precision.FLOAT32) {
+            floatSegments = Arrays.copyOf(floatSegments, count + 1);
+            floatSegments[count] = segment.asFloatBuffer();
+        }
+    }
+
+    private static ByteBuffer allocateSegment(int bytes) {
+        return ByteBuffer.allocateDirect(bytes).order(SLAB_ORDER);
+    }
+
+    /**
+     * 차원 값 하나의 저장 크기 (FLOAT32: 4, INT8: 1)
+     */
+    private int valueBytes() {
+        return options.precision() == Precision.FLOAT32 ? Float.BYTES : 1;
+    }
+
+    private int segmentBytes() {
+        return SEGMENT_SLOTS * Math.max(dimension, 0) * valueBytes();
+    }
+
+    /**
+     * 세그먼트 안에서 슬롯 벡터의 시작 위치 (값 단위)
+     */
+    private int offsetOf(int slot) {
+        return (slot & SEGMENT_MASK) * dimension;
+    }
+
+    private HnswGraph newGraph() {
+        return options.hnswConfig() != null ? new HnswGraph(options.hnswConfig(), this::slotSimilarity) : null;
+    }
+
+    /**
+     * 슬롯 간 코사인 유사도 (HNSW 그래프 구성용)
+     */
+    private double slotSimilarity(int slotA, int slotB) {
+        if (norms[slotA] == 0f || norms[slotB] == 0f) {
+            return -1.0;
+        }
+        int offsetA = offsetOf(slotA);
+        int offsetB = offsetOf(slotB);
+        if (options.precision() == Precision.FLOAT32) {
+            return kernel.dot(floatSegments[slotA >>> SEGMENT_SHIFT], offsetA,
+                    floatSegments[slotB >>> SEGMENT_SHIFT], offsetB, dimension);
+        }
+        ByteBuffer codesA = segments[slotA >>> SEGMENT_SHIFT];
+        ByteBuffer codesB = segments[slotB >>> SEGMENT_SHIFT];
+        float sum = 0f;
+        for (int i = 0; i < dimension; i++) {
+            sum += scalesSquared[i] * (codesA.get(offsetA + i) * codesB.get(offsetB + i));
+        }
+        return sum / ((double) norms[slotA] * norms[slotB]);
+    }
+
+    /**
+     * 슬롯 벡터 복사본 (INT8 모드는 역양자화)
+     */
+    private float[] vectorOf(int slot) {
+        int offset = offsetOf(slot);
+        float[] vector = new float[dimension];
+        if (options.precision() == Precision.FLOAT32) {
+            floatSegments[slot >>> SEGMENT_SHIFT].get(offset, vector, 0, dimension);
+            return vector;
+        }
+        ByteBuffer codes = segments[slot >>> SEGMENT_SHIFT];
+        for (int d = 0; d < dimension; d++) {
+            vector[d] = codes.get(offset + d) * scales[d];
+        }
+        return vector;
+    }
+
+    private static float norm(float[] vector, int offset, int length) {
+        double sum = 0.0;
+        for (int i = offset; i < offset + length; i++) {
+            sum += (double) vector[i] * vector[i];
+        }
+        return (float) Math.sqrt(sum);
+    }
+
+    /**
+     * float 배열 일괄 기록 (요소별 writeFloat 대신 버퍼 단위 변환)
+     */
+    private static void writeFloats(DataOutput out, float[] values, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(1 << 16);
+        int chunk = buffer.capacity() / Float.BYTES;
+        for (int offset = 0; offset < length; offset += chunk) {
+            int count = Math.min(chunk, length - offset);
+            buffer.clear();
+            buffer.asFloatBuffer().put(values, offset, count);
+            out.write(buffer.array(), 0, count * Float.BYTES);
+        }
+    }
+
+    /**
+     * 버퍼 앞부분 일괄 기록 (절대 위치로 읽으므로 동시 검색의 버퍼 위치에 영향 없음)
+     */
+    private static void writeBytes(DataOutput out, ByteBuffer source, int length) throws IOException {
+        byte[] chunk = new byte[Math.min(length, 1 << 16)];
+        for (int offset = 0; offset < length; offset += chunk.length) {
+            int count = Math.min(chunk.length, length - offset);
+            source.get(offset, chunk, 0, count);
+            out.write(chunk, 0, count);
+        }
+    }
+
+    private static void writeString(DataOutput out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer in) {
+        int length = in.getInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static String resourceKey(String resourceType, long resourceId) {
+        return resourceType + ":" + resourceId;
+    }
+
+    /**
+     * 청크 메타데이터
+     *
+     * @param embeddingId 임베딩 엔티티 ID
+     * @param resourceType 리소스 유형 (WIKI, SR, SURVEY)
+     * @param resourceId 리소스 ID
+     * @param chunkIndex 청크 순서
+     * @param categoryId 카테고리 ID (Wiki 전용, 없으면 null)
+     * @param category 카테고리/분류 이름
+     * @param status 상태
+     */
+    public record Entry(long embeddingId, String resourceType, long resourceId, int chunkIndex,
+                        Long categoryId, String category, String status) {
+    }
+
+    /**
+     * 인덱스 내용 지문
+     * - 임베딩 행은 수정 없이 삭제 후 새 ID로 추가되므로 (개수, 최대 ID, ID 합계)로 내용 변경을 판별
+     *
+     * @param count 청크 수
+     * @param maxId 최대 임베딩 ID (비어 있으면 0)
+     * @param idSum 임베딩 ID 합계 (비어 있으면 0)
+     */
+    public record Fingerprint(long count, long maxId, long idSum) {
+    }
+
+    /**
+     * 검색 결과 (메타데이터 + 유사도)
+     */
+    public record Hit(Entry entry, double score) {
+    }
+
+    /**
+     * 검색 계획
+     *
+     * @param candidates 필터 적용 후 검색 대상 청크 수
+     * @param approximate HNSW 근사 검색 사용 여부
+     */
+    public record Plan(int candidates, boolean approximate) {
+    }
+}
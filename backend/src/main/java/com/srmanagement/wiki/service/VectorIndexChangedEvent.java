@@ -0,0 +1,18 @@
+package com.srmanagement.wiki.service;
+
+/**
+ * 벡터 인덱스 변경 이벤트 (커밋 후 인덱스에 반영된 시점에 발행)
+ *
+ * @param indexName 인덱스 이름 (content, wiki)
+ * @param resourceType 변경된 리소스 타입 (null이면 인덱스 전체 재적재)
+ * @param resourceId 변경된 리소스 ID (null이면 리소스 타입 전체)
+ */
+public record VectorIndexChangedEvent(String indexName, String resourceType, Long resourceId) {
+
+    /**
+     * 인덱스 전체 변경 여부
+     */
+    public boolean isFullReload() {
+        return resourceType == null;
+    }
+}
@@ -0,0 +1,877 @@
+package com.srmanagement.wiki.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.srmanagement.util.EmbeddingVectorCodec;
+import com.srmanagement.wiki.entity.ContentEmbedding;
+import com.srmanagement.wiki.entity.ContentEmbedding.ResourceType;
+import com.srmanagement.wiki.entity.WikiDocumentEmbedding;
+import com.srmanagement.wiki.repository.ContentEmbeddingRepository;
+import com.srmanagement.wiki.repository.WikiDocumentEmbeddingRepository;
+import com.srmanagement.wiki.util.SimilarityKernel;
+import com.srmanagement.wiki.util.SimilarityKernels;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * 벡터 인덱스 서비스
+ * - 애플리케이션 시작 시 content_embedding / wiki_document_embedding 벡터를 한 번만 적재
+ * - 임베딩 생성/삭제 시 트랜잭션 커밋 후 인덱스 반영
+ * - 재적재는 새 인덱스에 적재한 뒤 참조를 한 번에 교체 (적재 중에도 기존 인덱스로 검색)
+ * - AI 검색은 JSON 파싱 없이 메모리 인덱스에서 Top-K 조회
+ * - 통합 검색 인덱스는 HNSW 근사 검색 지원 (wiki.vector-index.hnsw.*)
+ * - 통합 검색 인덱스는 INT8 양자화 저장 지원 (wiki.vector-index.precision)
+ *   원본 벡터는 재정렬 시 DB에서 지연 조회 (크기 제한 캐시)
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class VectorIndexService {
+
+    private static final int LOAD_PAGE_SIZE = 500;
+
+    /** 스냅샷 파일 구분용 인덱스 이름 */
+    static final String CONTENT_INDEX = "content";
+    static final String WIKI_INDEX = "wiki";
+
+    private final ContentEmbeddingRepository contentEmbeddingRepository;
+    private final WikiDocumentEmbeddingRepository wikiEmbeddingRepository;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${wiki.vector-index.hnsw.enabled:true}")
+    private boolean hnswEnabled;
+
+    @Value("${wiki.vector-index.hnsw.m:16}")
+    private int hnswM;
+
+    @Value("${wiki.vector-index.hnsw.ef-construction:100}")
+    private int hnswEfConstruction;
+
+    @Value("${wiki.vector-index.hnsw.ef-search:64}")
+    private int hnswEfSearch;
+
+    @Value("${wiki.vector-index.hnsw.exact-search-threshold:2000}")
+    private int exactSearchThreshold;
+
+    @Value("${wiki.vector-index.precision:FLOAT32}")
+    private VectorIndex.Precision precision;
+
+    @Value("${wiki.vector-index.rerank-candidates:200}")
+    private int rerankCandidates;
+
+    @Value("${wiki.vector-index.exact-vector-cache-size:10000}")
+    private int exactVectorCacheSize;
+
+    @Value("${wiki.vector-index.kernel:auto}")
+    private String kernelPreference;
+
+    @Value("${wiki.vector-index.scan.parallelism:0}")
+    private int scanParallelism;
+
+    @Value("${wiki.vector-index.scan.min-shard-size:16384}")
+    private int scanMinShardSize;
+
+    @Value("${wiki.vector-index.snapshot.enabled:true}")
+    private boolean snapshotEnabled;
+
+    @Value("${wiki.vector-index.snapshot.path:./data/vector-index}")
+    private String snapshotPath;
+
+    /** 내적 연산 커널 (auto: Vector API 사용 가능 시 SIMD) */
+    private SimilarityKernel kernel;
+
+    /** 전수 검색 병렬 설정 (병렬도 1이면 null) */
+    private VectorIndex.ParallelScan parallelScan;
+
+    /** INT8 재정렬용 원본 벡터 캐시 (임베딩 ID → 벡터) */
+    private Cache<Long, float[]> exactVectorCache;
+
+    /** HNSW 설정 (비활성화 시 null) */
+    private HnswGraph.Config hnswConfig;
+
+    /** 통합 검색용 인덱스 (Wiki, SR, Survey, 재적재 시 교체) */
+    private volatile VectorIndex contentIndex;
+
+    /** Wiki 전용 검색용 인덱스 (기존 호환, 재적재 시 교체) */
+    private volatile VectorIndex wikiIndex;
+
+    /** 인덱스별 마지막으로 스냅샷에 기록한 내용 지문 (변경이 없으면 다시 기록하지 않음) */
+    private final Map<String, VectorIndex.Fingerprint> savedFingerprints = new ConcurrentHashMap<>();
+
+    private final Object loadMonitor = new Object();
+    private volatile boolean loaded = false;
+
+    /** 마지막 적재 시 스냅샷에서 복원했는지 여부 */
+    private volatile boolean restoredFromSnapshot = false;
+
+    /** 적재 중 발생한 변경 (적재한 새 인덱스에 재적용 후 교체) */
+    private final List<Mutation> pendingMutations = new ArrayList<>();
+    private boolean recording = false;
+
+    @PostConstruct
+    public void init() {
+        hnswConfig = hnswEnabled
+                ? new HnswGraph.Config(hnswM, hnswEfConstruction, hnswEfSearch)
+                : null;
+        exactVectorCache = Caffeine.newBuilder()
+                .maximumSize(exactVectorCacheSize)
+                .build();
+        kernel = SimilarityKernels.select(kernelPreference);
+        parallelScan = createParallelScan();
+        contentIndex = newContentIndex();
+        wikiIndex = newWikiIndex();
+        log.info("벡터 인덱스 설정 - precision: {}, hnsw: {}, kernel: {}, scan parallelism: {}",
+                precision, hnswConfig != null ? hnswConfig : "disabled", kernel.name(),
+                parallelScan != null ? parallelScan.pool().getParallelism() : 1);
+    }
+
+    private VectorIndex newContentIndex() {
+        return new VectorIndex(CONTENT_INDEX, new VectorIndex.Options(
+                hnswConfig, exactSearchThreshold, precision, rerankCandidates, this::loadExactContentVectors, kernel,
+                parallelScan));
+    }
+
+    private VectorIndex newWikiIndex() {
+        return new VectorIndex(WIKI_INDEX, VectorIndex.Options.flat(kernel).withParallelScan(parallelScan));
+    }
+
+    /**
+     * 전수 검색 전용 ForkJoin 풀 생성
+     * - parallelism 0이면 CPU 코어 수, 1이면 단일 스레드 (풀 생성 안 함)
+     * - 공용 풀과 분리하여 다른 parallel stream 작업과 서로 지연시키지 않음
+     */
+    private VectorIndex.ParallelScan createParallelScan() {
+        int parallelism = scanParallelism > 0 ? scanParallelism : Runtime.getRuntime().availableProcessors();
+        if (parallelism <= 1) {
+            return null;
+        }
+        ForkJoinPool.ForkJoinWorkerThreadFactory threadFactory = pool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName("VectorScan-" + thread.getPoolIndex());
+            thread.setDaemon(true);
+            return thread;
+        };
+        return new VectorIndex.ParallelScan(
+                new ForkJoinPool(parallelism, threadFactory, null, false), scanMinShardSize);
+    }
+
+    /**
+     * 애플리케이션 기동 완료 시 인덱스 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        ensureLoaded();
+    }
+
+    /**
+     * 종료 시 스냅샷 저장 (다음 기동 시 DB 재적재 생략)
+     */
+    @PreDestroy
+    public void onShutdown() {
+        if (loaded) {
+            saveSnapshots();
+        }
+        if (parallelScan != null) {
+            parallelScan.pool().shutdown();
+        }
+    }
+
+    /**
+     * 인덱스 재구성 (스냅샷 무시, DB에서 전체 재적재)
+     * - 적재가 끝날 때까지 기존 인덱스로 검색하고 완료 후 교체
+     */
+    public void rebuild() {
+        synchronized (loadMonitor) {
+            load(false);
+            loaded = true;
+        }
+    }
+
+    /**
+     * 현재 인덱스를 스냅샷 파일로 저장
+     * - 내용 지문을 함께 기록 (커밋 후 반영이 끝나지 않은 변경이 있으면 다음 기동 시 DB 지문과 달라 재적재)
+     *
+     * @return 저장한 인덱스 수
+     */
+    public int saveSnapshots() {
+        if (!snapshotEnabled) {
+            return 0;
+        }
+        int saved = 0;
+        saved += saveSnapshot(contentIndex) ? 1 : 0;
+        saved += saveSnapshot(wikiIndex) ? 1 : 0;
+        return saved;
+    }
+
+    /**
+     * 통합 검색 (ContentEmbedding)
+     *
+     * @param query 질문 벡터
+     * @param topK 최대 결과 수
+     * @param threshold 최소 유사도
+     * @param filter 메타데이터 필터 (리소스 타입, 카테고리, 상태 / null이면 전체)
+     */
+    public List<VectorIndex.Hit> searchContent(float[] query, int topK, double threshold, VectorFilter filter) {
+        ensureLoaded();
+        return contentIndex.search(query, topK, threshold, filter);
+    }
+
+    /**
+     * 통합 검색 계획 (필터 적용 후 대상 청크 수, HNSW 사용 여부)
+     */
+    public SearchPlan planContent(VectorFilter filter) {
+        ensureLoaded();
+        return SearchPlan.of(contentIndex, filter);
+    }
+
+    /**
+     * Wiki 전용 검색 계획 (필터 적용 후 대상 청크 수, HNSW 사용 여부)
+     */
+    public SearchPlan planWiki(VectorFilter filter) {
+        ensureLoaded();
+        return SearchPlan.of(wikiIndex, filter);
+    }
+
+    /**
+     * Wiki 전용 검색 (WikiDocumentEmbedding)
+     *
+     * @param query 질문 벡터
+     * @param topK 최대 결과 수
+     * @param threshold 최소 유사도
+     * @param filter 메타데이터 필터 (카테고리 ID 등 / null이면 전체)
+     */
+    public List<VectorIndex.Hit> searchWiki(float[] query, int topK, double threshold, VectorFilter filter) {
+        ensureLoaded();
+        return wikiIndex.search(query, topK, threshold, filter);
+    }
+
+    /**
+     * 리소스의 ContentEmbedding 청크를 인덱스에 반영 (커밋 후)
+     * - 기존 청크는 모두 교체됨 (빈 목록이면 삭제와 동일)
+     */
+    public void indexContentResource(ResourceType resourceType, Long resourceId,
+                                     List<ContentEmbedding> chunks, List<float[]> vectors) {
+        List<VectorIndex.Entry> entries = chunks.stream()
+                .map(this::toEntry)
+                .toList();
+        List<float[]> vectorsCopy = List.copyOf(vectors);
+        afterCommit(() -> {
+            applyMutation(CONTENT_INDEX, index -> index.replaceResource(resourceType.name(), resourceId,
+                    entries, vectorsCopy));
+            publishChange(CONTENT_INDEX, resourceType, resourceId);
+        });
+    }
+
+    /**
+     * 리소스의 ContentEmbedding 청크를 인덱스에서 제거 (커밋 후)
+     */
+    public void removeContentResource(ResourceType resourceType, Long resourceId) {
+        afterCommit(() -> {
+            applyMutation(CONTENT_INDEX, index -> index.removeResource(resourceType.name(), resourceId));
+            publishChange(CONTENT_INDEX, resourceType, resourceId);
+        });
+    }
+
+    /**
+     * 리소스 타입의 ContentEmbedding 청크를 인덱스에서 모두 제거 (커밋 후)
+     */
+    public void removeContentResourceType(ResourceType resourceType) {
+        afterCommit(() -> {
+            applyMutation(CONTENT_INDEX, index -> index.removeResourceType(resourceType.name()));
+            publishChange(CONTENT_INDEX, resourceType, null);
+        });
+    }
+
+    /**
+     * Wiki 문서의 WikiDocumentEmbedding 청크를 인덱스에 반영 (커밋 후)
+     */
+    public void indexWikiDocument(Long documentId, List<WikiDocumentEmbedding> chunks, List<float[]> vectors) {
+        List<VectorIndex.Entry> entries = chunks.stream()
+                .map(this::toEntry)
+                .toList();
+        List<float[]> vectorsCopy = List.copyOf(vectors);
+        afterCommit(() -> {
+            applyMutation(WIKI_INDEX, index -> index.replaceResource(ResourceType.WIKI.name(), documentId,
+                    entries, vectorsCopy));
+            publishChange(WIKI_INDEX, ResourceType.WIKI, documentId);
+        });
+    }
+
+    /**
+     * 인덱스 통계
+     */
+    public IndexStats getStats() {
+        return new IndexStats(
+                loaded,
+                restoredFromSnapshot,
+                contentIndex.isHnswEnabled(),
+                contentIndex.getPrecision().name(),
+                contentIndex.getKernelName(),
+                contentIndex.size(),
+                wikiIndex.size(),
+                contentIndex.dimension(),
+                contentIndex.vectorBytes() + wikiIndex.vectorBytes(),
+                contentIndex.mappedVectorBytes() + wikiIndex.mappedVectorBytes()
+        );
+    }
+
+    /**
+     * 통합 검색 인덱스의 HNSW recall@K / 지연시간 측정
+     * - 인덱스에 저장된 청크 벡터를 질문 벡터로 샘플링
+     * - 전수 검색 결과를 정답으로 하여 ef 값별 recall@K 계산
+     *
+     * @param sampleSize 샘플 질문 수
+     * @param topK K
+     * @param efValues 측정할 ef 값 목록
+     */
+    public HnswReport evaluateContentIndex(int sampleSize, int topK, List<Integer> efValues) {
+        ensureLoaded();
+        VectorIndex index = contentIndex;
+        List<float[]> queries = index.sampleVectors(sampleSize, System.nanoTime());
+        if (queries.isEmpty()) {
+            return new HnswReport(index.size(), index.isHnswEnabled(), hnswM, hnswEfConstruction,
+                    0, topK, new LatencyStats(0, 0), List.of());
+        }
+
+        // 정답 (전수 검색)
+        List<Set<Long>> truth = new ArrayList<>(queries.size());
+        long[] exactNanos = new long[queries.size()];
+        for (int i = 0; i < queries.size(); i++) {
+            long start = System.nanoTime();
+            List<VectorIndex.Hit> hits = index.exactSearch(queries.get(i), topK, -1.0, null);
+            exactNanos[i] = System.nanoTime() - start;
+            truth.add(embeddingIds(hits));
+        }
+
+        List<EfResult> results = new ArrayList<>();
+        for (int ef : efValues) {
+            long[] nanos = new long[queries.size()];
+            double recallSum = 0.0;
+            for (int i = 0; i < queries.size(); i++) {
+                long start = System.nanoTime();
+                List<VectorIndex.Hit> hits = index.approximateSearch(queries.get(i), topK, -1.0, null, ef);
+                nanos[i] = System.nanoTime() - start;
+
+                Set<Long> expected = truth.get(i);
+                if (!expected.isEmpty()) {
+                    long matched = hits.stream().filter(hit -> expected.contains(hit.entry().embeddingId())).count();
+                    recallSum += (double) matched / expected.size();
+                } else {
+                    recallSum += 1.0;
+                }
+            }
+            LatencyStats latency = latencyStats(nanos);
+            results.add(new EfResult(ef, recallSum / queries.size(), latency.avgMs(), latency.p95Ms()));
+        }
+
+        HnswReport report = new HnswReport(index.size(), index.isHnswEnabled(), hnswM, hnswEfConstruction,
+                queries.size(), topK, latencyStats(exactNanos), results);
+        log.info("HNSW 측정 결과 - chunks: {}, exact: {}ms, {}", report.indexSize(),
+                String.format("%.3f", report.exact().avgMs()), results);
+        return report;
+    }
+
+    /**
+     * 통합 검색 인덱스 FLOAT32 / INT8 비교 측정 (메모리, 지연시간, Top-K 일치율)
+     * - 현재 FLOAT32 모드: 운영 인덱스를 INT8로 복제하여 비교
+     * - 현재 INT8 모드: DB에서 FLOAT32 인덱스를 임시로 적재하여 비교
+     * - 두 인덱스 모두 전수 검색 기준 (HNSW 영향 제외)
+     *
+     * @param sampleSize 샘플 질문 수
+     * @param topK K
+     */
+    public QuantizationReport evaluateQuantization(int sampleSize, int topK) {
+        ensureLoaded();
+        VectorIndex index = contentIndex;
+        VectorIndex.Options int8Options = new VectorIndex.Options(
+                null, 0, VectorIndex.Precision.INT8, rerankCandidates, this::loadExactContentVectors, kernel,
+                parallelScan);
+
+        VectorIndex floatIndex;
+        VectorIndex int8Index;
+        if (index.getPrecision() == VectorIndex.Precision.FLOAT32) {
+            floatIndex = index;
+            int8Index = index.copyAs("content-int8-benchmark", int8Options);
+        } else {
+            floatIndex = new VectorIndex("content-float32-benchmark",
+                    VectorIndex.Options.flat(kernel).withParallelScan(parallelScan));
+            loadContentIndex(floatIndex);
+            int8Index = index;
+        }
+
+        List<float[]> queries = floatIndex.sampleVectors(sampleSize, System.nanoTime());
+        long[] floatNanos = new long[queries.size()];
+        long[] int8Nanos = new long[queries.size()];
+        double firstPassOverlap = 0.0;
+        double rerankedOverlap = 0.0;
+        for (int i = 0; i < queries.size(); i++) {
+            float[] query = queries.get(i);
+
+            long start = System.nanoTime();
+            Set<Long> expected = embeddingIds(floatIndex.exactSearch(query, topK, -1.0, null));
+            floatNanos[i] = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            List<VectorIndex.Hit> reranked = int8Index.exactSearch(query, topK, -1.0, null);
+            int8Nanos[i] = System.nanoTime() - start;
+
+            List<VectorIndex.Hit> firstPass = int8Index.firstPassSearch(query, topK, null);
+            firstPassOverlap += overlap(expected, firstPass);
+            rerankedOverlap += overlap(expected, reranked);
+        }
+
+        int samples = Math.max(queries.size(), 1);
+        QuantizationReport report = new QuantizationReport(
+                floatIndex.size(),
+                floatIndex.dimension(),
+                floatIndex.vectorBytes(),
+                int8Index.vectorBytes(),
+                queries.size(),
+                topK,
+                rerankCandidates,
+                latencyStats(floatNanos),
+                latencyStats(int8Nanos),
+                firstPassOverlap / samples,
+                rerankedOverlap / samples);
+        log.info("양자화 측정 결과 - {}", report);
+        return report;
+    }
+
+    private static double overlap(Set<Long> expected, List<VectorIndex.Hit> hits) {
+        if (expected.isEmpty()) {
+            return 1.0;
+        }
+        long matched = hits.stream().filter(hit -> expected.contains(hit.entry().embeddingId())).count();
+        return (double) matched / expected.size();
+    }
+
+    private static Set<Long> embeddingIds(List<VectorIndex.Hit> hits) {
+        Set<Long> ids = new HashSet<>();
+        for (VectorIndex.Hit hit : hits) {
+            ids.add(hit.entry().embeddingId());
+        }
+        return ids;
+    }
+
+    private static LatencyStats latencyStats(long[] nanos) {
+        long[] sorted = nanos.clone();
+        Arrays.sort(sorted);
+        double avg = Arrays.stream(sorted).average().orElse(0) / 1_000_000.0;
+        int p95Index = Math.max(0, (int) Math.ceil(sorted.length * 0.95) - 1);
+        double p95 = sorted.length > 0 ? sorted[p95Index] / 1_000_000.0 : 0;
+        return new LatencyStats(avg, p95);
+    }
+
+    private void ensureLoaded() {
+        if (loaded) {
+            return;
+        }
+        synchronized (loadMonitor) {
+            if (!loaded) {
+                load(snapshotEnabled);
+                loaded = true;
+            }
+        }
+    }
+
+    /**
+     * 전체 벡터 적재
+     * - 스냅샷의 내용 지문이 DB 집계(청크 수, 최대 ID, ID 합계)와 같으면 스냅샷에서 복원 (벡터 조회 없음)
+     * - 아니면 DB에서 적재 (바이너리 컬럼 우선, 레거시 JSON은 적재 시 한 번만 파싱) 후 스냅샷 갱신
+     *
+     * - 새 인덱스에 적재하고 적재 중 커밋된 변경을 재적용한 뒤 참조 교체 (검색은 교체 전까지 기존 인덱스 사용)
+     *
+     * @param useSnapshot 스냅샷 복원 시도 여부
+     */
+    private void load(boolean useSnapshot) {
+        long startTime = System.currentTimeMillis();
+        synchronized (pendingMutations) {
+            recording = true;
+            pendingMutations.clear();
+        }
+
+        VectorIndex freshContent = newContentIndex();
+        VectorIndex freshWiki = newWikiIndex();
+        boolean contentRebuilt = false;
+        boolean wikiRebuilt = false;
+        boolean completed = false;
+        try {
+            // 지문은 기록 시작 후 조회 (이후 커밋된 변경은 재적용 대상)
+            VectorIndex.Fingerprint contentBase = useSnapshot
+                    ? dbFingerprint(CONTENT_INDEX, contentEmbeddingRepository::fingerprint) : null;
+            VectorIndex.Fingerprint wikiBase = useSnapshot
+                    ? dbFingerprint(WIKI_INDEX, wikiEmbeddingRepository::fingerprint) : null;
+
+            int modelId = EmbeddingVectorCodec.currentModelId();
+            boolean contentRestored = contentBase != null && VectorIndexSnapshot.restore(
+                    snapshotFile(CONTENT_INDEX), contentBase, modelId, freshContent);
+            if (contentRestored) {
+                savedFingerprints.put(CONTENT_INDEX, contentBase);
+            } else {
+                freshContent.clear();
+                loadContentIndex(freshContent);
+                contentRebuilt = true;
+            }
+            boolean wikiRestored = wikiBase != null && VectorIndexSnapshot.restore(
+                    snapshotFile(WIKI_INDEX), wikiBase, modelId, freshWiki);
+            if (wikiRestored) {
+                savedFingerprints.put(WIKI_INDEX, wikiBase);
+            } else {
+                freshWiki.clear();
+                loadWikiIndex(freshWiki);
+                wikiRebuilt = true;
+            }
+
+            // 적재 중 커밋된 변경을 새 인덱스에 재적용한 뒤 교체 (교체 전 변경은 기존 인덱스에도 반영되어 있음)
+            synchronized (pendingMutations) {
+                for (Mutation mutation : pendingMutations) {
+                    mutation.change().accept(CONTENT_INDEX.equals(mutation.indexName()) ? freshContent : freshWiki);
+                }
+                contentIndex = freshContent;
+                wikiIndex = freshWiki;
+                pendingMutations.clear();
+                recording = false;
+            }
+            completed = true;
+            restoredFromSnapshot = contentRestored && wikiRestored;
+            eventPublisher.publishEvent(new VectorIndexChangedEvent(CONTENT_INDEX, null, null));
+            eventPublisher.publishEvent(new VectorIndexChangedEvent(WIKI_INDEX, null, null));
+
+            log.info("✅ 벡터 인덱스 적재 완료 - content: {}개 ({}), wiki: {}개 ({}), {}ms",
+                    freshContent.size(), contentRestored ? "snapshot" : "db",
+                    freshWiki.size(), wikiRestored ? "snapshot" : "db",
+                    System.currentTimeMillis() - startTime);
+        } finally {
+            if (!completed) {
+                // 적재 실패 시 기존 인덱스 유지 (적재 중 변경은 기존 인덱스에 이미 반영됨)
+                synchronized (pendingMutations) {
+                    pendingMutations.clear();
+                    recording = false;
+                }
+            }
+        }
+
+        // DB에서 다시 적재한 인덱스는 다음 기동을 위해 스냅샷 갱신
+        if (snapshotEnabled) {
+            if (contentRebuilt) {
+                saveSnapshot(freshContent);
+            }
+            if (wikiRebuilt) {
+                saveSnapshot(freshWiki);
+            }
+        }
+    }
+
+    private boolean saveSnapshot(VectorIndex index) {
+        if (index.fingerprint().equals(savedFingerprints.get(index.getName()))) {
+            return false;
+        }
+        long startTime = System.currentTimeMillis();
+        try {
+            VectorIndex.Fingerprint fingerprint = VectorIndexSnapshot.write(snapshotFile(index.getName()),
+                    EmbeddingVectorCodec.currentModelId(), index);
+            savedFingerprints.put(index.getName(), fingerprint);
+            log.info("💾 벡터 인덱스 스냅샷 저장 - {}: {}개, {}, {}ms",
+                    index.getName(), fingerprint.count(), fingerprint, System.currentTimeMillis() - startTime);
+            return true;
+        } catch (IOException e) {
+            log.error("벡터 인덱스 스냅샷 저장 실패: {}", index.getName(), e);
+            return false;
+        }
+    }
+
+    private Path snapshotFile(String indexName) {
+        return VectorIndexSnapshot.pathOf(Paths.get(snapshotPath), indexName);
+    }
+
+    /**
+     * DB 임베딩 테이블 지문 (조회 실패 시 null, 호출자는 DB에서 재적재)
+     *
+     * @param query [청크 수, 최대 ID, ID 합계] 집계 (빈 테이블이면 최대 ID/합계는 null)
+     */
+    private VectorIndex.Fingerprint dbFingerprint(String indexName, Supplier<List<Object[]>> query) {
+        try {
+            Object[] row = query.get().get(0);
+            return new VectorIndex.Fingerprint(
+                    ((Number) row[0]).longValue(),
+                    row[1] != null ? ((Number) row[1]).longValue() : 0L,
+                    row[2] != null ? ((Number) row[2]).longValue() : 0L);
+        } catch (RuntimeException e) {
+            log.warn("벡터 인덱스 지문 조회 실패: {} ({})", indexName, e.getMessage());
+            return null;
+        }
+    }
+
+    private int loadContentIndex(VectorIndex target) {
+        int count = 0;
+        long lastId = 0L;
+        while (true) {
+            List<Object[]> rows = contentEmbeddingRepository.findIndexRowsAfter(lastId, PageRequest.of(0, LOAD_PAGE_SIZE));
+            if (rows.isEmpty()) {
+                break;
+            }
+            List<VectorIndex.Entry> pageEntries = new ArrayList<>(rows.size());
+            List<float[]> pageVectors = new ArrayList<>(rows.size());
+            for (Object[] row : rows) {
+                long id = (Long) row[0];
+                lastId = id;
+                float[] vector = readVector(id, (float[]) row[6], (String) row[7]);
+                if (vector == null) {
+                    continue;
+                }
+                pageEntries.add(new VectorIndex.Entry(
+                        id,
+                        ((ResourceType) row[1]).name(),
+                        (Long) row[2],
+                        (Integer) row[3],
+                        null,
+                        (String) row[4],
+                        (String) row[5]));
+                pageVectors.add(vector);
+            }
+
+            // INT8 모드: 첫 페이지 벡터로 양자화 스케일 보정
+            if (!target.isCalibrated()) {
+                target.calibrate(pageVectors);
+            }
+            for (int i = 0; i < pageEntries.size(); i++) {
+                try {
+                    target.add(pageEntries.get(i), pageVectors.get(i));
+                    count++;
+                } catch (IllegalArgumentException e) {
+                    log.warn("벡터 인덱스 적재 제외: {}", e.getMessage());
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * INT8 재정렬용 원본 벡터 조회 (캐시 → DB)
+     */
+    private Map<Long, float[]> loadExactContentVectors(Collection<Long> embeddingIds) {
+        Map<Long, float[]> vectors = new HashMap<>(exactVectorCache.getAllPresent(embeddingIds));
+        List<Long> missing = embeddingIds.stream()
+                .filter(id -> !vectors.containsKey(id))
+                .toList();
+        if (missing.isEmpty()) {
+            return vectors;
+        }
+        for (Object[] row : contentEmbeddingRepository.findVectorsByIdIn(missing)) {
+            Long id = (Long) row[0];
+            float[] vector = readVector(id, (float[]) row[1], (String) row[2]);
+            if (vector != null) {
+                vectors.put(id, vector);
+                exactVectorCache.put(id, vector);
+            }
+        }
+        return vectors;
+    }
+
+    private int loadWikiIndex(VectorIndex target) {
+        int count = 0;
+        long lastId = 0L;
+        while (true) {
+            List<Object[]> rows = wikiEmbeddingRepository.findIndexRowsAfter(lastId, PageRequest.of(0, LOAD_PAGE_SIZE));
+            if (rows.isEmpty()) {
+                break;
+            }
+            for (Object[] row : rows) {
+                long id = (Long) row[0];
+                lastId = id;
+                float[] vector = readVector(id, (float[]) row[5], (String) row[6]);
+                if (vector == null) {
+                    continue;
+                }
+                VectorIndex.Entry entry = new VectorIndex.Entry(
+                        id,
+                        ResourceType.WIKI.name(),
+                        (Long) row[1],
+                        (Integer) row[2],
+                        (Long) row[3],
+                        (String) row[4],
+                        null);
+                try {
+                    target.add(entry, vector);
+                    count++;
+                } catch (IllegalArgumentException e) {
+                    log.warn("벡터 인덱스 적재 제외: {}", e.getMessage());
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 바이너리 벡터 우선, 백필 전 레거시 행은 JSON 파싱
+     */
+    private float[] readVector(long embeddingId, float[] binary, String json) {
+        if (binary != null) {
+            return binary;
+        }
+        if (json == null) {
+            log.warn("임베딩 벡터 없음: embeddingId={}", embeddingId);
+            return null;
+        }
+        try {
+            return objectMapper.readValue(json, float[].class);
+        } catch (JsonProcessingException e) {
+            log.error("임베딩 역직렬화 실패: embeddingId={}", embeddingId, e);
+            return null;
+        }
+    }
+
+    private VectorIndex.Entry toEntry(ContentEmbedding embedding) {
+        return new VectorIndex.Entry(
+                embedding.getId(),
+                embedding.getResourceType().name(),
+                embedding.getResourceId(),
+                embedding.getChunkIndex(),
+                null,
+                embedding.getCategory(),
+                embedding.getStatus());
+    }
+
+    private VectorIndex.Entry toEntry(WikiDocumentEmbedding embedding) {
+        return new VectorIndex.Entry(
+                embedding.getId(),
+                ResourceType.WIKI.name(),
+                embedding.getDocumentId(),
+                embedding.getChunkIndex(),
+                embedding.getCategoryId(),
+                embedding.getCategoryName(),
+                null);
+    }
+
+    /**
+     * 트랜잭션 커밋 후 인덱스 변경 적용 (롤백 시 반영하지 않음)
+     */
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    /**
+     * 인덱스 변경 이벤트 발행 (AI 답변 캐시 무효화 등)
+     */
+    private void publishChange(String indexName, ResourceType resourceType, Long resourceId) {
+        eventPublisher.publishEvent(new VectorIndexChangedEvent(indexName, resourceType.name(), resourceId));
+    }
+
+    /**
+     * 현재 인덱스에 변경 적용 (적재 중이면 새 인덱스에 재적용하도록 기록)
+     * - 교체와 같은 락 안에서 적용하므로 교체 직전 인덱스에만 반영되고 유실되는 변경이 없음
+     */
+    private void applyMutation(String indexName, Consumer<VectorIndex> change) {
+        synchronized (pendingMutations) {
+            if (recording) {
+                pendingMutations.add(new Mutation(indexName, change));
+            }
+            change.accept(CONTENT_INDEX.equals(indexName) ? contentIndex : wikiIndex);
+        }
+    }
+
+    /**
+     * 인덱스 변경 (적재 중 기록용)
+     */
+    private record Mutation(String indexName, Consumer<VectorIndex> change) {
+    }
+
+    /**
+     * 벡터 인덱스 통계 DTO
+     * - vectorBytes: 벡터 저장 크기 (힙 밖), mappedVectorBytes: 그중 스냅샷 파일 매핑을 그대로 사용하는 크기
+     */
+    public record IndexStats(boolean loaded, boolean restoredFromSnapshot, boolean hnswEnabled,
+                             String precision, String kernel,
+                             int contentChunks, int wikiChunks, int dimension, long vectorBytes,
+                             long mappedVectorBytes) {
+    }
+
+    /**
+     * 검색 계획 (AI 검색 단계 기록/설명용)
+     *
+     * @param candidates 필터 적용 후 검색 대상 청크 수
+     * @param approximate HNSW 근사 검색 사용 여부 (false면 대상 전수 계산)
+     */
+    public record SearchPlan(String index, int indexSize, int candidates, boolean approximate, String precision) {
+
+        static SearchPlan of(VectorIndex index, VectorFilter filter) {
+            VectorIndex.Plan plan = index.plan(filter);
+            return new SearchPlan(index.getName(), index.size(), plan.candidates(), plan.approximate(),
+                    index.getPrecision().name());
+        }
+    }
+
+    /**
+     * HNSW 측정 결과 DTO
+     */
+    public record HnswReport(int indexSize, boolean hnswEnabled, int m, int efConstruction,
+                             int sampleSize, int topK, LatencyStats exact, List<EfResult> results) {
+    }
+
+    /**
+     * ef 값별 recall@K / 지연시간
+     */
+    public record EfResult(int ef, double recallAtK, double avgMs, double p95Ms) {
+    }
+
+    /**
+     * 양자화 비교 측정 결과 DTO
+     *
+     * @param float32Bytes FLOAT32 벡터 메모리 (bytes)
+     * @param int8Bytes INT8 벡터 메모리 (bytes, 재정렬 캐시 제외)
+     * @param float32 FLOAT32 전수 검색 지연시간
+     * @param int8 INT8 1차 검색 + 재정렬 지연시간
+     * @param firstPassOverlap INT8 1차 검색 결과의 Top-K 일치율
+     * @param rerankedOverlap INT8 재정렬 결과의 Top-K 일치율
+     */
+    public record QuantizationReport(int chunks, int dimension, long float32Bytes, long int8Bytes,
+                                     int sampleSize, int topK, int rerankCandidates,
+                                     LatencyStats float32, LatencyStats int8,
+                                     double firstPassOverlap, double rerankedOverlap) {
+    }
+
+    /**
+     * 검색 지연시간 (평균 / p95, 밀리초)
+     */
+    public record LatencyStats(double avgMs, double p95Ms) {
+    }
+}
@@ -0,0 +1,138 @@
+package com.srmanagement.wiki.service;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 벡터 인덱스 스냅샷 파일
+ * - 재기동 시 DB 전체 조회 없이 인덱스를 복원하기 위한 파일 (인덱스별 1개)
+ * - 읽기는 FileChannel.map(PRIVATE)으로 매핑하고 벡터 슬랩은 복사 없이 인덱스 세그먼트로 사용
+ *   (벡터는 힙 밖 페이지 캐시에 있고, 복원 후 수정된 페이지만 프로세스 전용 복사본이 되며 파일은 바뀌지 않음)
+ * - 쓰기는 임시 파일 기록 후 원자적 교체 (기록 중 중단되어도 기존 스냅샷 유지)
+ * - 최신 여부는 인덱스 내용 지문({@link VectorIndex.Fingerprint})을 기동 시 DB 집계와 비교하여 판단
+ *   (임베딩 저장 트랜잭션에서 별도 행을 갱신하지 않음)
+ *
+ * 파일 형식 (big-endian, 벡터 슬랩만 little-endian):
+ * <pre>
+ * [0..3]    매직 넘버 'VIDX'
+ * [4..7]    포맷 버전 (3)
+ * [8..11]   임베딩 모델 ID
+ * [12..]    인덱스 본문 ({@link VectorIndex#writeTo})
+ * [끝 28]   내용 지문 (청크 수, 최대 임베딩 ID, 임베딩 ID 합계: long × 3)
+ * [끝 4]    종료 마커 'VEND'
+ * </pre>
+ */
+@Slf4j
+public final class VectorIndexSnapshot {
+
+    private static final int MAGIC = 0x56494458;      // 'VIDX'
+    private static final int END_MARKER = 0x56454E44; // 'VEND'
+    private static final int FORMAT_VERSION = 3;
+    private static final int HEADER_BYTES = 12;
+    private static final int TRAILER_BYTES = Long.BYTES * 3 + Integer.BYTES;
+    private static final String FILE_SUFFIX = ".vidx";
+
+    private VectorIndexSnapshot() {
+    }
+
+    /**
+     * 인덱스 스냅샷 파일 경로
+     */
+    public static Path pathOf(Path directory, String indexName) {
+        return directory.resolve(indexName + FILE_SUFFIX);
+    }
+
+    /**
+     * 스냅샷 기록
+     *
+     * @param file 스냅샷 파일
+     * @param modelId 임베딩 모델 ID
+     * @param index 기록할 인덱스
+     * @return 기록한 내용의 지문
+     */
+    public static VectorIndex.Fingerprint write(Path file, int modelId, VectorIndex index) throws IOException {
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        VectorIndex.Fingerprint fingerprint;
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp), 1 << 16))) {
+            out.writeInt(MAGIC);
+            out.writeInt(FORMAT_VERSION);
+            out.writeInt(modelId);
+            fingerprint = index.writeTo(out);
+            out.writeLong(fingerprint.count());
+            out.writeLong(fingerprint.maxId());
+            out.writeLong(fingerprint.idSum());
+            out.writeInt(END_MARKER);
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return fingerprint;
+    }
+
+    /**
+     * 스냅샷 복원 (내용 지문과 모델 ID가 모두 일치할 때만)
+     *
+     * @param file 스냅샷 파일
+     * @param expected 현재 DB 임베딩 테이블 지문
+     * @param modelId 현재 임베딩 모델 ID
+     * @param target 복원할 인덱스
+     * @return 복원 여부 (false면 호출자가 DB에서 재적재)
+     */
+    public static boolean restore(Path file, VectorIndex.Fingerprint expected, int modelId, VectorIndex target) {
+        if (!Files.isRegularFile(file)) {
+            log.info("[{}] 벡터 인덱스 스냅샷 없음: {}", target.getName(), file);
+            return false;
+        }
+        // PRIVATE 매핑은 쓰기 권한으로 열어야 함 (기록은 매핑 안에서만 일어나고 파일에는 반영되지 않음)
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                log.warn("[{}] 스냅샷이 2GB를 초과하여 매핑할 수 없습니다: {} bytes", target.getName(), channel.size());
+                return false;
+            }
+            if (channel.size() < HEADER_BYTES + TRAILER_BYTES) {
+                log.warn("[{}] 스냅샷 형식이 올바르지 않습니다: {}", target.getName(), file);
+                return false;
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.PRIVATE, 0, channel.size());
+
+            if (buffer.getInt() != MAGIC || buffer.getInt() != FORMAT_VERSION) {
+                log.warn("[{}] 스냅샷 형식이 올바르지 않습니다: {}", target.getName(), file);
+                return false;
+            }
+            int trailer = buffer.limit() - TRAILER_BYTES;
+            if (buffer.getInt(buffer.limit() - Integer.BYTES) != END_MARKER) {
+                log.warn("[{}] 스냅샷 종료 마커가 없습니다 (손상된 파일): {}", target.getName(), file);
+                return false;
+            }
+            int snapshotModelId = buffer.getInt();
+            VectorIndex.Fingerprint fingerprint = new VectorIndex.Fingerprint(
+                    buffer.getLong(trailer), buffer.getLong(trailer + Long.BYTES), buffer.getLong(trailer + Long.BYTES * 2));
+            if (!fingerprint.equals(expected) || snapshotModelId != modelId) {
+                log.info("[{}] 스냅샷이 최신이 아닙니다 - snapshot: {}, db: {}, model: {}/{}",
+                        target.getName(), fingerprint, expected, snapshotModelId, modelId);
+                return false;
+            }
+
+            target.readFrom(buffer);
+            if (buffer.position() != trailer) {
+                target.clear();
+                log.warn("[{}] 스냅샷 본문 길이가 맞지 않습니다 (손상된 파일): {}", target.getName(), file);
+                return false;
+            }
+            return true;
+        } catch (IOException | RuntimeException e) {
+            // 손상된 파일 (버퍼 범위 초과, 잘못된 길이 등)
+            target.clear();
+            log.warn("[{}] 스냅샷 복원 실패: {}", target.getName(), e.toString());
+            return false;
+        }
+    }
+}
@@ -6,6 +6,7 @@ import com.srmanagement.repository.SrRepository;
 import com.srmanagement.repository.UserRepository;
 import com.srmanagement.wiki.dto.WikiDocumentRequest;
 import com.srmanagement.wiki.dto.WikiDocumentResponse;
+import com.srmanagement.wiki.entity.ContentEmbedding.ResourceType;
 import com.srmanagement.wiki.entity.WikiCategory;
 import com.srmanagement.wiki.entity.WikiDocument;
 import com.srmanagement.wiki.entity.WikiVersion;
@@ -15,6 +16,7 @@ import com.srmanagement.wiki.repository.WikiVersionRepository;
 import com.srmanagement.wiki.util.MarkdownTocGenerator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -33,7 +35,7 @@ public class WikiDocumentService {
     private final WikiCategoryRepository wikiCategoryRepository;
     private final UserRepository userRepository;
     private final SrRepository srRepository;
-    private final AiSearchService aiSearchService;
+    private final ApplicationEventPublisher eventPublisher;
     private final WikiNotificationService notificationService;
 
     @Transactional
@@ -86,9 +88,9 @@ public class WikiDocumentService {
                 .build();
         wikiVersionRepository.save(firstVersion);
 
-        // 비동기로 임베딩 자동 생성
-        log.info("Wiki document created with ID: {}, 비동기 임베딩 생성 시작", savedDocument.getId());
-        aiSearchService.generateEmbeddingsAsync(savedDocument.getId());
+        // 문서 생성 이벤트 (임베딩 작업 등록, 커밋 후 워커가 처리)
+        log.info("Wiki document created with ID: {}, 임베딩 작업 등록", savedDocument.getId());
+        eventPublisher.publishEvent(ResourceChangedEvent.created(ResourceType.WIKI, savedDocument.getId()));
 
         // 알림 발송
         notificationService.notifyDocumentCreated(savedDocument, user);
@@ -155,9 +157,9 @@ public class WikiDocumentService {
             wikiVersionRepository.save(newVersion);
             log.info("Created new version {} for document {}", newVersion.getVersion(), id);
 
-            // 비동기로 임베딩 재생성
-            log.info("문서 내용 변경됨: documentId={}, 비동기 임베딩 재생성 시작", savedDocument.getId());
-            aiSearchService.generateEmbeddingsAsync(savedDocument.getId());
+            // 문서 변경 이벤트 (임베딩 재생성 작업 등록, 커밋 후 워커가 처리)
+            log.info("문서 내용 변경됨: documentId={}, 임베딩 작업 등록", savedDocument.getId());
+            eventPublisher.publishEvent(ResourceChangedEvent.updated(ResourceType.WIKI, savedDocument.getId()));
 
             // 알림 발송
             notificationService.notifyDocumentUpdated(savedDocument, user);
@@ -181,6 +183,7 @@ public class WikiDocumentService {
         User documentCreator = document.getCreatedBy();
 
         wikiDocumentRepository.deleteById(id);
+        eventPublisher.publishEvent(ResourceChangedEvent.deleted(ResourceType.WIKI, id));
         log.info("Wiki document deleted: {}", id);
 
         // 알림 발송
@@ -200,6 +203,7 @@ public class WikiDocumentService {
         }
 
         wikiDocumentRepository.deleteById(id);
+        eventPublisher.publishEvent(ResourceChangedEvent.deleted(ResourceType.WIKI, id));
         log.info("Wiki document deleted: {}", id);
     }
 
@@ -0,0 +1,234 @@
+package com.srmanagement.wiki.service;
+
+import com.srmanagement.util.EmbeddingVectorCodec;
+import com.srmanagement.wiki.entity.ContentEmbedding;
+import com.srmanagement.wiki.entity.ContentEmbedding.ResourceType;
+import com.srmanagement.wiki.entity.WikiDocument;
+import com.srmanagement.wiki.entity.WikiDocumentEmbedding;
+import com.srmanagement.wiki.repository.ContentEmbeddingRepository;
+import com.srmanagement.wiki.repository.WikiDocumentEmbeddingRepository;
+import com.srmanagement.wiki.repository.WikiDocumentRepository;
+import com.srmanagement.wiki.util.ChunkHash;
+import com.srmanagement.wiki.util.MarkdownChunker;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Wiki 문서 단일 임베딩 파이프라인
+ * - 제목 + 내용을 한 번만 청크 분할하고 청크당 한 번만 임베딩 (배치 요청은 {@link EmbeddingBatcher})
+ * - 같은 벡터로 wiki_document_embedding (Wiki 전용 검색)과 content_embedding (통합 검색)을 함께 기록
+ * - 두 벡터 인덱스 모두 커밋 후 반영
+ * - 임베딩 요청은 트랜잭션 밖에서 수행하고 조회/저장만 각각 짧은 트랜잭션으로 처리 (임베딩 동안 DB 연결 점유 없음)
+ * - 재임베딩 시 내용이 같은 청크(해시 일치)는 기존 벡터 재사용
+ * - 저장 시 문서 행을 잠그고 다시 확인 (임베딩 도중 삭제된 문서의 청크는 저장하지 않음)
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class WikiEmbeddingPipeline {
+
+    private final WikiDocumentRepository documentRepository;
+    private final WikiDocumentEmbeddingRepository wikiEmbeddingRepository;
+    private final ContentEmbeddingRepository contentEmbeddingRepository;
+    private final EmbeddingBatcher embeddingBatcher;
+    private final VectorIndexService vectorIndexService;
+
+    @Value("${wiki.embedding.chunk-max-tokens:400}")
+    private int chunkMaxTokens;
+
+    // 조회/저장 트랜잭션 적용용 (같은 클래스 내부 호출은 프록시를 거치지 않음)
+    @Autowired
+    @Lazy
+    private WikiEmbeddingPipeline self;
+
+    /**
+     * 임베딩 대상 문서 (청크 분할 완료 시점의 문서 정보)
+     */
+    public record Source(
+            Long documentId,
+            String title,
+            Long categoryId,
+            String categoryName,
+            LocalDateTime sourceUpdatedAt,
+            int contentLength,
+            List<String> chunks,
+            List<String> sectionPaths
+    ) implements EmbeddingBatcher.Source {
+
+        @Override
+        public String label() {
+            return title;
+        }
+    }
+
+    /**
+     * 진행 상황 리스너 (SSE 진행률 전송용)
+     */
+    public interface ProgressListener {
+
+        ProgressListener NONE = new ProgressListener() {
+        };
+
+        /**
+         * 청크 분할 완료 (임베딩 시작 전)
+         */
+        default void onStart(Source source) {
+        }
+
+        /**
+         * 임베딩 배치 1회 완료
+         *
+         * @param completedChunks 지금까지 완료한 청크 수
+         * @param batchElapsedMs 배치 처리 시간
+         */
+        default void onProgress(Source source, int completedChunks, long batchElapsedMs) {
+        }
+    }
+
+    /**
+     * Wiki 문서 임베딩 생성
+     * - 트랜잭션 밖에서 호출해야 임베딩 동안 DB 연결을 점유하지 않음
+     *
+     * @param documentId Wiki 문서 ID
+     * @return 생성된 청크 수
+     */
+    public int embed(Long documentId) {
+        return embed(documentId, ProgressListener.NONE);
+    }
+
+    /**
+     * Wiki 문서 임베딩 생성 (진행 상황 통지)
+     * - 실패는 예외로만 전달 (실패 통지는 호출자가 한 곳에서 처리)
+     *
+     * @param documentId Wiki 문서 ID
+     * @param listener 진행 상황 리스너
+     * @return 생성된 청크 수
+     */
+    public int embed(Long documentId, ProgressListener listener) {
+        Source source = self.prepare(documentId);
+        listener.onStart(source);
+        log.info("📊 [문서 {}] 임베딩 생성 시작 - 총 {}개 청크로 분할됨", documentId, source.chunks().size());
+
+        List<float[]> vectors = embeddingBatcher.embed(source.chunks(), self.reusableVectors(documentId),
+                (completed, total, elapsedMs) -> listener.onProgress(source, completed, elapsedMs));
+
+        return self.save(source, vectors);
+    }
+
+    /**
+     * 문서 조회 후 제목 + 내용을 한 번만 청크로 분할 (마크다운 구조 기준, 청크별 섹션 경로 포함)
+     * - 일괄 생성 시 여러 문서의 청크를 한 배치로 묶기 위해 저장과 분리
+     */
+    @Transactional(readOnly = true)
+    public Source prepare(Long documentId) {
+        WikiDocument document = documentRepository.findById(documentId)
+                .orElseThrow(() -> new RuntimeException("문서를 찾을 수 없습니다: " + documentId));
+
+        String content = document.getContent() != null ? document.getContent() : "";
+        String fullContent = document.getTitle() + "\n\n" + content;
+        List<MarkdownChunker.Chunk> chunks = MarkdownChunker.split(fullContent, chunkMaxTokens);
+
+        return new Source(
+                documentId,
+                document.getTitle(),
+                document.getCategory() != null ? document.getCategory().getId() : null,
+                document.getCategory() != null ? document.getCategory().getName() : null,
+                document.getUpdatedAt(),
+                content.length(),
+                MarkdownChunker.texts(chunks),
+                MarkdownChunker.sectionPaths(chunks)
+        );
+    }
+
+    /**
+     * 재사용 가능한 기존 청크 벡터 (청크 해시 → 벡터, 현재 임베딩 모델로 생성된 것만)
+     */
+    @Transactional(readOnly = true)
+    public Map<String, float[]> reusableVectors(Long documentId) {
+        return EmbeddingBatcher.reusableVectors(
+                wikiEmbeddingRepository.findReusableVectors(documentId, EmbeddingVectorCodec.currentModelId()));
+    }
+
+    /**
+     * 임베딩 결과를 두 저장소에 기록 (같은 벡터 공유)
+     * - 문서 행을 잠근 뒤 저장 (임베딩 도중 삭제된 문서면 기존 청크만 지우고 저장하지 않음)
+     *
+     * @param source 청크 분할된 문서
+     * @param vectors 청크 순서와 같은 정규화 벡터
+     * @return 저장된 청크 수
+     */
+    @Transactional
+    public int save(Source source, List<float[]> vectors) {
+        Long documentId = source.documentId();
+        List<String> chunks = source.chunks();
+        if (vectors.size() != chunks.size()) {
+            throw new IllegalArgumentException(String.format(
+                    "청크와 벡터 개수가 다릅니다: 청크 %d개, 벡터 %d개", chunks.size(), vectors.size()));
+        }
+        if (documentRepository.findByIdForUpdate(documentId).isEmpty()) {
+            log.info("[문서 {}] 임베딩 도중 삭제된 문서 - 청크 저장 생략", documentId);
+            chunks = List.of();
+            vectors = List.of();
+        }
+
+        // 1. 기존 임베딩 삭제 (두 저장소 모두)
+        wikiEmbeddingRepository.deleteByDocumentId(documentId);
+        contentEmbeddingRepository.deleteByResourceTypeAndResourceId(ResourceType.WIKI, documentId);
+
+        // 2. 청크별로 두 저장소에 같은 벡터 저장
+        // sourceUpdatedAt에 청크 분할 시점 문서의 updatedAt 저장 (최신 여부 판단용)
+        List<WikiDocumentEmbedding> wikiChunks = new ArrayList<>(chunks.size());
+        List<ContentEmbedding> contentChunks = new ArrayList<>(chunks.size());
+        int modelId = EmbeddingVectorCodec.currentModelId();
+        for (int i = 0; i < chunks.size(); i++) {
+            String chunk = chunks.get(i);
+            String contentHash = ChunkHash.of(chunk);
+            float[] embeddingArray = vectors.get(i);
+
+            wikiChunks.add(wikiEmbeddingRepository.save(WikiDocumentEmbedding.builder()
+                    .documentId(documentId)
+                    .content(chunk)
+                    .embeddingData(embeddingArray)
+                    .contentHash(contentHash)
+                    .embeddingModelId(modelId)
+                    .sectionPath(source.sectionPaths().get(i))
+                    .chunkIndex(i)
+                    .documentTitle(source.title())
+                    .categoryId(source.categoryId())
+                    .categoryName(source.categoryName())
+                    .sourceDocumentUpdatedAt(source.sourceUpdatedAt())
+                    .build()));
+
+            contentChunks.add(contentEmbeddingRepository.save(ContentEmbedding.builder()
+                    .resourceType(ResourceType.WIKI)
+                    .resourceId(documentId)
+                    .resourceIdentifier(source.title())
+                    .title(source.title())
+                    .content(chunk)
+                    .embeddingData(embeddingArray)
+                    .contentHash(contentHash)
+                    .embeddingModelId(modelId)
+                    .sectionPath(source.sectionPaths().get(i))
+                    .chunkIndex(i)
+                    .category(source.categoryName())
+                    .sourceUpdatedAt(source.sourceUpdatedAt())
+                    .build()));
+        }
+
+        // 3. 벡터 인덱스 반영 (커밋 후, 기존 청크 교체)
+        vectorIndexService.indexWikiDocument(documentId, wikiChunks, vectors);
+        vectorIndexService.indexContentResource(ResourceType.WIKI, documentId, contentChunks, vectors);
+
+        return chunks.size();
+    }
+}
@@ -0,0 +1,34 @@
+package com.srmanagement.wiki.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 임베딩 청크 해시 유틸리티
+ * - 청크 텍스트의 SHA-256 (16진수 64자)
+ * - 재임베딩 시 해시와 임베딩 모델 ID가 같은 청크는 기존 벡터 재사용
+ */
+public final class ChunkHash {
+
+    public static final int LENGTH = 64;
+
+    private ChunkHash() {
+    }
+
+    /**
+     * 청크 텍스트 해시
+     *
+     * @param chunk 임베딩 대상 청크 (임베딩 모델에 전달되는 텍스트 그대로)
+     * @return SHA-256 16진수 문자열
+     */
+    public static String of(String chunk) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(chunk.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다", e);
+        }
+    }
+}
@@ -0,0 +1,365 @@
+package com.srmanagement.wiki.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 마크다운 구조 기반 임베딩 청크 분할 유틸리티 (Wiki/SR/현황조사 임베딩 공통)
+ * - 제목, 코드 펜스, 표, 목록, 문단을 블록으로 나누고 블록 중간에서는 자르지 않음
+ * - 청크 크기는 문자 수가 아닌 추정 토큰 수({@link TokenEstimator}) 기준
+ * - 제목에서 새 청크를 시작하되, 너무 작은 섹션은 다음 섹션과 합침
+ * - 각 청크에 섹션 경로(예: "설치 > 요구사항") 부여
+ * - 토큰 예산을 넘는 블록만 줄 단위로 분할 (코드 펜스는 조각마다 펜스를, 표는 머리글 행을 다시 붙임)
+ *
+ * 제목 인식은 {@link MarkdownTocGenerator}와 같은 규칙 사용 (코드 펜스 안의 # 줄은 제외)
+ */
+public final class MarkdownChunker {
+
+    public static final int DEFAULT_MAX_TOKENS = 400; // 청크 최대 토큰 수 (추정치)
+
+    private static final int MIN_MAX_TOKENS = 32;
+    private static final int MAX_SECTION_PATH_LENGTH = 500; // section_path 컬럼 길이
+    private static final String PATH_SEPARATOR = " > ";
+    private static final Pattern FENCE_PATTERN = Pattern.compile("^\\s{0,3}(`{3,}|~{3,})");
+    private static final Pattern LIST_ITEM_PATTERN = Pattern.compile("^\\s*([-*+]|\\d{1,9}[.)])\\s+");
+    private static final Pattern TABLE_DELIMITER_PATTERN = Pattern.compile("^\\s*\\|?\\s*:?-+:?\\s*(\\|\\s*:?-+:?\\s*)*\\|?\\s*$");
+    private static final Pattern IMAGE_ONLY_PATTERN = Pattern.compile("^\\s*!\\[[^\\]]*]\\([^)]*\\)\\s*$");
+
+    private MarkdownChunker() {
+    }
+
+    /**
+     * 섹션 경로가 붙은 청크
+     *
+     * @param text 임베딩할 청크 텍스트
+     * @param sectionPath 청크가 속한 섹션 경로 (제목 없는 영역이면 빈 문자열)
+     */
+    public record Chunk(String text, String sectionPath) {
+    }
+
+    private enum BlockType {
+        HEADING, CODE, TABLE, LIST, PARAGRAPH
+    }
+
+    private record Block(BlockType type, List<String> lines, List<String> path, int tokens) {
+
+        Block(BlockType type, List<String> lines, List<String> path) {
+            this(type, lines, path, TokenEstimator.estimate(String.join("\n", lines)));
+        }
+
+        String text() {
+            return String.join("\n", lines);
+        }
+    }
+
+    /**
+     * 기본 토큰 예산으로 청크 분할
+     */
+    public static List<Chunk> split(String markdown) {
+        return split(markdown, DEFAULT_MAX_TOKENS);
+    }
+
+    /**
+     * 마크다운을 구조 단위로 청크 분할
+     *
+     * @param markdown 원본 텍스트 (마크다운이 아니면 문단 단위로 분할)
+     * @param maxTokens 청크 최대 토큰 수 (추정치)
+     * @return 청크 목록 (null 또는 빈 텍스트면 빈 목록)
+     */
+    public static List<Chunk> split(String markdown, int maxTokens) {
+        List<Chunk> chunks = new ArrayList<>();
+        if (markdown == null || markdown.isBlank()) {
+            return chunks;
+        }
+
+        int budget = Math.max(MIN_MAX_TOKENS, maxTokens);
+        Packer packer = new Packer(budget, chunks);
+        for (Block block : parse(markdown)) {
+            // 섹션 경계: 앞 섹션이 충분히 크면 새 청크 시작 (작은 섹션은 다음 섹션과 합침)
+            if (block.type() == BlockType.HEADING && packer.tokens >= budget / 4) {
+                packer.flush();
+            }
+            if (block.tokens() <= budget) {
+                packer.add(block);
+                continue;
+            }
+            // 예산을 넘는 블록: 현재 청크의 남은 공간부터 채우도록 첫 조각 크기 조정
+            int remaining = budget - packer.tokens - 1;
+            if (remaining < budget / 4) {
+                packer.flush();
+                remaining = budget;
+            }
+            for (Block piece : splitBlock(block, remaining, budget)) {
+                packer.add(piece);
+            }
+        }
+        packer.flush();
+        return chunks;
+    }
+
+    /**
+     * 청크 텍스트 목록
+     */
+    public static List<String> texts(List<Chunk> chunks) {
+        return chunks.stream().map(Chunk::text).toList();
+    }
+
+    /**
+     * 청크 섹션 경로 목록 (청크 순서 동일)
+     */
+    public static List<String> sectionPaths(List<Chunk> chunks) {
+        return chunks.stream().map(Chunk::sectionPath).toList();
+    }
+
+    /**
+     * 줄 단위로 블록 분리 (빈 줄과 이미지만 있는 줄은 제외)
+     */
+    private static List<Block> parse(String markdown) {
+        List<String> lines = Arrays.asList(MarkdownTocGenerator.removeExistingToc(markdown).split("\\R", -1));
+        List<Block> blocks = new ArrayList<>();
+        String[] headings = new String[7];
+        List<String> path = List.of();
+
+        int i = 0;
+        while (i < lines.size()) {
+            String line = lines.get(i);
+            if (line.isBlank() || IMAGE_ONLY_PATTERN.matcher(line).matches()) {
+                i++;
+                continue;
+            }
+
+            // 코드 펜스: 닫는 펜스까지 (없으면 문서 끝까지) 한 블록
+            Matcher fence = FENCE_PATTERN.matcher(line);
+            if (fence.find()) {
+                String marker = fence.group(1);
+                int end = i + 1;
+                while (end < lines.size() && !isClosingFence(lines.get(end), marker)) {
+                    end++;
+                }
+                int last = Math.min(end, lines.size() - 1);
+                blocks.add(new Block(BlockType.CODE, lines.subList(i, last + 1), path));
+                i = last + 1;
+                continue;
+            }
+
+            // 제목: 같은 레벨 이하의 기존 제목을 교체하고 섹션 경로 갱신
+            MarkdownTocGenerator.Heading heading = MarkdownTocGenerator.parseHeading(line);
+            if (heading != null) {
+                headings[heading.level()] = heading.text();
+                for (int level = heading.level() + 1; level < headings.length; level++) {
+                    headings[level] = null;
+                }
+                path = Arrays.stream(headings).filter(h -> h != null).toList();
+                blocks.add(new Block(BlockType.HEADING, List.of(line), path));
+                i++;
+                continue;
+            }
+
+            BlockType type = isTableRow(line) ? BlockType.TABLE
+                    : LIST_ITEM_PATTERN.matcher(line).find() ? BlockType.LIST
+                    : BlockType.PARAGRAPH;
+            int end = i + 1;
+            while (end < lines.size() && continues(type, lines.get(end))) {
+                end++;
+            }
+            blocks.add(new Block(type, lines.subList(i, end), path));
+            i = end;
+        }
+        return blocks;
+    }
+
+    /**
+     * 다음 줄이 같은 블록에 이어지는지 여부 (빈 줄, 제목, 코드 펜스에서는 항상 종료)
+     */
+    private static boolean continues(BlockType type, String line) {
+        if (line.isBlank() || FENCE_PATTERN.matcher(line).find() || MarkdownTocGenerator.parseHeading(line) != null) {
+            return false;
+        }
+        return switch (type) {
+            case TABLE -> isTableRow(line);
+            // 목록 항목의 이어지는 줄(들여쓰기/지연 연속)은 같은 목록으로 취급
+            case LIST -> !isTableRow(line);
+            default -> !isTableRow(line) && !LIST_ITEM_PATTERN.matcher(line).find();
+        };
+    }
+
+    private static boolean isClosingFence(String line, String marker) {
+        String trimmed = line.trim();
+        return trimmed.startsWith(marker) && trimmed.chars().allMatch(c -> c == marker.charAt(0));
+    }
+
+    private static boolean isTableRow(String line) {
+        return line.trim().startsWith("|");
+    }
+
+    /**
+     * 토큰 예산을 넘는 블록을 줄 단위로 분할
+     * - 코드 펜스: 조각마다 여는/닫는 펜스를 붙여 코드 블록 유지
+     * - 표: 조각마다 머리글 행(+구분선)을 다시 붙임
+     * - 한 줄이 예산을 넘으면 공백/마침표 위치에서 자름
+     *
+     * @param firstBudget 첫 조각 토큰 수 (현재 청크의 남은 공간)
+     * @param budget 이후 조각 토큰 수
+     */
+    private static List<Block> splitBlock(Block block, int firstBudget, int budget) {
+        List<String> lines = block.lines();
+        List<String> head = List.of();
+        List<String> tail = List.of();
+        List<String> body = lines;
+
+        if (block.type() == BlockType.CODE) {
+            String marker = FENCE_PATTERN.matcher(lines.get(0)).results().findFirst()
+                    .map(m -> m.group(1)).orElse("```");
+            boolean closed = lines.size() > 1 && isClosingFence(lines.get(lines.size() - 1), marker);
+            head = List.of(lines.get(0));
+            tail = List.of(closed ? lines.get(lines.size() - 1) : marker);
+            body = lines.subList(1, closed ? lines.size() - 1 : lines.size());
+        } else if (block.type() == BlockType.TABLE && lines.size() > 2
+                && TABLE_DELIMITER_PATTERN.matcher(lines.get(1)).matches()) {
+            head = lines.subList(0, 2);
+            body = lines.subList(2, lines.size());
+        }
+
+        int overhead = lineTokens(head) + lineTokens(tail);
+        if (overhead > budget / 2) {
+            // 머리글/펜스가 너무 크면 반복하지 않고 일반 줄로 취급
+            head = List.of();
+            tail = List.of();
+            body = lines;
+            overhead = 0;
+        }
+
+        List<Block> pieces = new ArrayList<>();
+        List<String> current = new ArrayList<>();
+        int used = overhead;
+        int limit = firstBudget;
+        for (String line : body) {
+            int tokens = TokenEstimator.estimate(line) + 1;
+            if (overhead + tokens > budget) {
+                if (!current.isEmpty()) {
+                    pieces.add(piece(block, head, current, tail));
+                    current = new ArrayList<>();
+                }
+                int firstMax = (pieces.isEmpty() ? limit : budget) - overhead - 1;
+                for (String part : splitLine(line, Math.max(1, firstMax), budget - overhead - 1)) {
+                    pieces.add(piece(block, head, List.of(part), tail));
+                }
+                used = overhead;
+                limit = budget;
+                continue;
+            }
+            if (used + tokens > limit && !current.isEmpty()) {
+                pieces.add(piece(block, head, current, tail));
+                current = new ArrayList<>();
+                used = overhead;
+                limit = budget;
+            }
+            current.add(line);
+            used += tokens;
+        }
+        if (!current.isEmpty()) {
+            pieces.add(piece(block, head, current, tail));
+        }
+        return pieces;
+    }
+
+    private static Block piece(Block block, List<String> head, List<String> body, List<String> tail) {
+        List<String> lines = new ArrayList<>(head.size() + body.size() + tail.size());
+        lines.addAll(head);
+        lines.addAll(body);
+        lines.addAll(tail);
+        return new Block(block.type(), lines, block.path());
+    }
+
+    private static int lineTokens(List<String> lines) {
+        return lines.isEmpty() ? 0 : TokenEstimator.estimate(String.join("\n", lines)) + 1;
+    }
+
+    /**
+     * 예산을 넘는 한 줄을 공백/마침표 위치에서 분할 (찾지 못하면 예산 위치에서 자름)
+     *
+     * @param firstMaxTokens 첫 조각 토큰 수
+     * @param maxTokens 이후 조각 토큰 수
+     */
+    private static List<String> splitLine(String line, int firstMaxTokens, int maxTokens) {
+        List<String> parts = new ArrayList<>();
+        String rest = line;
+        int limit = firstMaxTokens;
+        while (TokenEstimator.estimate(rest) > limit) {
+            int end = Math.max(1, TokenEstimator.prefixLength(rest, limit));
+            int breakPoint = Math.max(rest.lastIndexOf(' ', end - 1), rest.lastIndexOf('.', end - 1));
+            if (breakPoint > end / 2) {
+                end = breakPoint + 1;
+            }
+            parts.add(rest.substring(0, end).trim());
+            rest = rest.substring(end);
+            limit = maxTokens;
+        }
+        if (!rest.isBlank()) {
+            parts.add(rest.trim());
+        }
+        return parts;
+    }
+
+    /**
+     * 블록을 토큰 예산 안에서 청크로 모음 (청크 섹션 경로는 포함 블록 경로의 공통 접두사)
+     */
+    private static final class Packer {
+
+        private final int budget;
+        private final List<Chunk> chunks;
+        private final List<Block> blocks = new ArrayList<>();
+        private int tokens;
+
+        private Packer(int budget, List<Chunk> chunks) {
+            this.budget = budget;
+            this.chunks = chunks;
+        }
+
+        private void add(Block block) {
+            int separator = blocks.isEmpty() ? 0 : 1;
+            if (tokens + separator + block.tokens() > budget) {
+                flush();
+                separator = 0;
+            }
+            blocks.add(block);
+            tokens += separator + block.tokens();
+        }
+
+        private void flush() {
+            if (blocks.isEmpty()) {
+                return;
+            }
+            StringBuilder text = new StringBuilder();
+            List<String> path = blocks.get(0).path();
+            for (Block block : blocks) {
+                if (!text.isEmpty()) {
+                    text.append("\n\n");
+                }
+                text.append(block.text());
+                path = commonPrefix(path, block.path());
+            }
+            String chunk = text.toString().trim();
+            String sectionPath = String.join(PATH_SEPARATOR, path);
+            if (sectionPath.length() > MAX_SECTION_PATH_LENGTH) {
+                sectionPath = sectionPath.substring(0, MAX_SECTION_PATH_LENGTH);
+            }
+            if (!chunk.isEmpty()) {
+                chunks.add(new Chunk(chunk, sectionPath));
+            }
+            blocks.clear();
+            tokens = 0;
+        }
+
+        private static List<String> commonPrefix(List<String> a, List<String> b) {
+            int length = 0;
+            while (length < a.size() && length < b.size() && a.get(length).equals(b.get(length))) {
+                length++;
+            }
+            return a.subList(0, length);
+        }
+    }
+}
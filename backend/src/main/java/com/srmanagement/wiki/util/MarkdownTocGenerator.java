@@ -52,10 +52,24 @@ public class MarkdownTocGenerator {
         return result;
     }
 
+    /**
+     * 한 줄이 제목(# ~ ######)이면 제목 정보 반환 (임베딩 청크 분할 시 섹션 경로 계산용)
+     *
+     * @param line 마크다운 한 줄
+     * @return 제목 정보 (제목이 아니면 null)
+     */
+    public static Heading parseHeading(String line) {
+        Matcher matcher = HEADING_PATTERN.matcher(line);
+        if (!matcher.matches()) {
+            return null;
+        }
+        return new Heading(matcher.group(1).length(), matcher.group(2).trim());
+    }
+
     /**
      * 기존 목차 제거
      */
-    private static String removeExistingToc(String markdown) {
+    static String removeExistingToc(String markdown) {
         Pattern tocPattern = Pattern.compile(
             Pattern.quote(TOC_MARKER) + ".*?" + Pattern.quote(TOC_END_MARKER),
             Pattern.DOTALL
@@ -141,6 +155,12 @@ public class MarkdownTocGenerator {
                content.substring(insertPosition);
     }
 
+    /**
+     * 제목 (레벨 1~6, 제목 텍스트)
+     */
+    public record Heading(int level, String text) {
+    }
+
     /**
      * 제목 정보 클래스
      */
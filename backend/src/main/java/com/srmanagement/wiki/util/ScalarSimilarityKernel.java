@@ -0,0 +1,122 @@
+package com.srmanagement.wiki.util;
+
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
+
+/**
+ * 스칼라 유사도 커널 (4-way 언롤링)
+ * - 누산기를 분리하여 JIT의 명령 수준 병렬화 유도
+ * - Vector API를 사용할 수 없는 환경의 기본 구현
+ */
+public final class ScalarSimilarityKernel implements SimilarityKernel {
+
+    public static final ScalarSimilarityKernel INSTANCE = new ScalarSimilarityKernel();
+
+    private ScalarSimilarityKernel() {
+    }
+
+    @Override
+    public String name() {
+        return "scalar";
+    }
+
+    @Override
+    public float dot(float[] a, int aOffset, float[] b, int bOffset, int length) {
+        float s0 = 0f;
+        float s1 = 0f;
+        float s2 = 0f;
+        float s3 = 0f;
+        int i = 0;
+        int bound = length & ~3;
+        for (; i < bound; i += 4) {
+            s0 += a[aOffset + i] * b[bOffset + i];
+            s1 += a[aOffset + i + 1] * b[bOffset + i + 1];
+            s2 += a[aOffset + i + 2] * b[bOffset + i + 2];
+            s3 += a[aOffset + i + 3] * b[bOffset + i + 3];
+        }
+        for (; i < length; i++) {
+            s0 += a[aOffset + i] * b[bOffset + i];
+        }
+        return (s0 + s1) + (s2 + s3);
+    }
+
+    @Override
+    public float dot(float[] a, int aOffset, FloatBuffer b, int bIndex, int length) {
+        float s0 = 0f;
+        float s1 = 0f;
+        float s2 = 0f;
+        float s3 = 0f;
+        int i = 0;
+        int bound = length & ~3;
+        for (; i < bound; i += 4) {
+            s0 += a[aOffset + i] * b.get(bIndex + i);
+            s1 += a[aOffset + i + 1] * b.get(bIndex + i + 1);
+            s2 += a[aOffset + i + 2] * b.get(bIndex + i + 2);
+            s3 += a[aOffset + i + 3] * b.get(bIndex + i + 3);
+        }
+        for (; i < length; i++) {
+            s0 += a[aOffset + i] * b.get(bIndex + i);
+        }
+        return (s0 + s1) + (s2 + s3);
+    }
+
+    @Override
+    public float dot(FloatBuffer a, int aIndex, FloatBuffer b, int bIndex, int length) {
+        float s0 = 0f;
+        float s1 = 0f;
+        float s2 = 0f;
+        float s3 = 0f;
+        int i = 0;
+        int bound = length & ~3;
+        for (; i < bound; i += 4) {
+            s0 += a.get(aIndex + i) * b.get(bIndex + i);
+            s1 += a.get(aIndex + i + 1) * b.get(bIndex + i + 1);
+            s2 += a.get(aIndex + i + 2) * b.get(bIndex + i + 2);
+            s3 += a.get(aIndex + i + 3) * b.get(bIndex + i + 3);
+        }
+        for (; i < length; i++) {
+            s0 += a.get(aIndex + i) * b.get(bIndex + i);
+        }
+        return (s0 + s1) + (s2 + s3);
+    }
+
+    @Override
+    public int dot(byte[] a, int aOffset, byte[] b, int bOffset, int length) {
+        int s0 = 0;
+        int s1 = 0;
+        int s2 = 0;
+        int s3 = 0;
+        int i = 0;
+        int bound = length & ~3;
+        for (; i < bound; i += 4) {
+            s0 += a[aOffset + i] * b[bOffset + i];
+            s1 += a[aOffset + i + 1] * b[bOffset + i + 1];
+            s2 += a[aOffset + i + 2] * b[bOffset + i + 2];
+            s3 += a[aOffset + i + 3] * b[bOffset + i + 3];
+        }
+        for (; i < length; i++) {
+            s0 += a[aOffset + i] * b[bOffset + i];
+        }
+        return s0 + s1 + s2 + s3;
+    }
+
+    @Override
+    public int dot(byte[] a, int aOffset, ByteBuffer b, int bIndex, int length) {
+        int s0 = 0;
+        int s1 = 0;
+        int s2 = 0;
+        int s3 = 0;
+        int i = 0;
+        int bound = length & ~3;
+        for (; i < bound; i += 4) {
+            s0 += a[aOffset + i] * b.get(bIndex + i);
+            s1 += a[aOffset + i + 1] * b.get(bIndex + i + 1);
+            s2 += a[aOffset + i + 2] * b.get(bIndex + i + 2);
+            s3 += a[aOffset + i + 3] * b.get(bIndex + i + 3);
+        }
+        for (; i < length; i++) {
+            s0 += a[aOffset + i] * b.get(bIndex + i);
+        }
+        return s0 + s1 + s2 + s3;
+    }
+}
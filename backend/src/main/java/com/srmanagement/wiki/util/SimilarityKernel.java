@@ -0,0 +1,49 @@
+package com.srmanagement.wiki.util;
+
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
+
+/**
+ * 벡터 유사도 연산 커널
+ * - 벡터는 L2 정규화되어 있다고 가정 (코사인 유사도 = 내적)
+ * - 인덱스 슬랩은 힙 밖 버퍼이므로 버퍼 버전도 제공 (버퍼 위치는 절대 인덱스, position 변경 없음)
+ * - 구현: {@link ScalarSimilarityKernel} (기본), {@code VectorApiSimilarityKernel} (SIMD, vector-api 프로필 빌드 시 포함)
+ */
+public interface SimilarityKernel {
+
+    /**
+     * 커널 이름 (로그/통계용)
+     */
+    String name();
+
+    /**
+     * float 벡터 내적
+     *
+     * @param a 벡터 A 배열
+     * @param aOffset 벡터 A 시작 위치
+     * @param b 벡터 B 배열
+     * @param bOffset 벡터 B 시작 위치
+     * @param length 차원 수
+     */
+    float dot(float[] a, int aOffset, float[] b, int bOffset, int length);
+
+    /**
+     * float 벡터 내적 (벡터 B는 버퍼)
+     */
+    float dot(float[] a, int aOffset, FloatBuffer b, int bIndex, int length);
+
+    /**
+     * float 벡터 내적 (두 벡터 모두 버퍼, HNSW 그래프 구성용)
+     */
+    float dot(FloatBuffer a, int aIndex, FloatBuffer b, int bIndex, int length);
+
+    /**
+     * int8 벡터 정수 내적 (양자화 인덱스용)
+     */
+    int dot(byte[] a, int aOffset, byte[] b, int bOffset, int length);
+
+    /**
+     * int8 벡터 정수 내적 (벡터 B는 버퍼)
+     */
+    int dot(byte[] a, int aOffset, ByteBuffer b, int bIndex, int length);
+}
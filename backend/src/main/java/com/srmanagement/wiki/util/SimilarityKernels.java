@@ -0,0 +1,79 @@
+package com.srmanagement.wiki.util;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 유사도 커널 선택 및 벡터 정규화 유틸리티
+ * - auto: Vector API 모듈과 SIMD 커널 클래스(vector-api 프로필 빌드)가 있으면 SIMD 커널, 없으면 스칼라 커널
+ * - vector: SIMD 커널 (불가하면 스칼라 커널로 대체)
+ * - scalar: 스칼라 커널
+ */
+@Slf4j
+public final class SimilarityKernels {
+
+    private static final String VECTOR_MODULE = "jdk.incubator.vector";
+    private static final String VECTOR_KERNEL_CLASS = "com.srmanagement.wiki.util.VectorApiSimilarityKernel";
+
+    private SimilarityKernels() {
+    }
+
+    /**
+     * 설정값으로 커널 선택
+     *
+     * @param preference auto, vector, scalar
+     */
+    public static SimilarityKernel select(String preference) {
+        if ("scalar".equalsIgnoreCase(preference)) {
+            return ScalarSimilarityKernel.INSTANCE;
+        }
+        SimilarityKernel vectorKernel = loadVectorKernel();
+        if (vectorKernel != null) {
+            return vectorKernel;
+        }
+        if ("vector".equalsIgnoreCase(preference)) {
+            log.warn("Vector API 커널을 사용할 수 없어 스칼라 커널로 대체합니다 (빌드: mvn -Pvector-api, JVM 옵션: --add-modules {})",
+                    VECTOR_MODULE);
+        }
+        return ScalarSimilarityKernel.INSTANCE;
+    }
+
+    /**
+     * L2 정규화된 벡터 복사본 (영벡터는 그대로 복사)
+     */
+    public static float[] normalize(float[] vector) {
+        double sum = 0.0;
+        for (float value : vector) {
+            sum += (double) value * value;
+        }
+        float[] normalized = vector.clone();
+        if (sum == 0.0) {
+            return normalized;
+        }
+        float inverse = (float) (1.0 / Math.sqrt(sum));
+        for (int i = 0; i < normalized.length; i++) {
+            normalized[i] *= inverse;
+        }
+        return normalized;
+    }
+
+    /**
+     * Vector API 커널 로드 (모듈 미포함, 커널 미포함 빌드 또는 초기화 실패 시 null)
+     * - 클래스를 리플렉션으로 로드하여 모듈/클래스가 없어도 애플리케이션 기동에 영향 없음
+     */
+    private static SimilarityKernel loadVectorKernel() {
+        if (ModuleLayer.boot().findModule(VECTOR_MODULE).isEmpty()) {
+            return null;
+        }
+        try {
+            return (SimilarityKernel) Class.forName(VECTOR_KERNEL_CLASS)
+                    .getDeclaredConstructor()
+                    .newInstance();
+        } catch (ClassNotFoundException e) {
+            log.info("Vector API 커널이 포함되지 않은 빌드입니다 (mvn -Pvector-api로 빌드 시 사용 가능)");
+            return null;
+        } catch (ReflectiveOperationException | LinkageError e) {
+            log.warn("Vector API 커널 초기화 실패: {}", e.toString());
+            return null;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.srmanagement.wiki.util;
+
+/**
+ * 토큰 수 추정 유틸리티 (토크나이저 없이 근사)
+ * - ASCII(영문/숫자/공백 등) 약 4자당 1토큰, 한글 등 그 외 문자는 약 1.5자당 1토큰
+ * - 청크 분할({@link MarkdownChunker})과 RAG 컨텍스트 토큰 예산 계산에 공통 사용
+ */
+public final class TokenEstimator {
+
+    // 1토큰 = 12단위 (ASCII 1자 = 3단위, 그 외 1자 = 8단위)
+    private static final int UNITS_PER_TOKEN = 12;
+    private static final int ASCII_UNITS = 3;
+    private static final int OTHER_UNITS = 8;
+
+    private TokenEstimator() {
+    }
+
+    /**
+     * 텍스트의 추정 토큰 수
+     */
+    public static int estimate(String text) {
+        if (text == null || text.isEmpty()) {
+            return 0;
+        }
+        long units = 0;
+        for (int i = 0; i < text.length(); i++) {
+            units += text.charAt(i) < 128 ? ASCII_UNITS : OTHER_UNITS;
+        }
+        return (int) ((units + UNITS_PER_TOKEN - 1) / UNITS_PER_TOKEN);
+    }
+
+    /**
+     * 추정 토큰 수가 maxTokens 이하인 가장 긴 접두사 길이
+     *
+     * @param text 텍스트
+     * @param maxTokens 최대 토큰 수
+     * @return 접두사 길이 (문자 수)
+     */
+    public static int prefixLength(String text, int maxTokens) {
+        long limit = (long) maxTokens * UNITS_PER_TOKEN;
+        long units = 0;
+        for (int i = 0; i < text.length(); i++) {
+            units += text.charAt(i) < 128 ? ASCII_UNITS : OTHER_UNITS;
+            if (units > limit) {
+                return i;
+            }
+        }
+        return text.length();
+    }
+}
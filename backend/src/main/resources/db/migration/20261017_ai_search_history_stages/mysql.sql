@@ -0,0 +1,22 @@
+-- Migration: Add stage timing columns to AI search history
+-- Date: 2026-10-17
+-- MySQL용
+-- Description: AI 검색 단계별 소요 시간(질문 임베딩/벡터 검색/본문 조회/컨텍스트 구성/LLM 생성)과
+--              처리 규모(검색 대상 청크 수, 프롬프트 문자 수, 생성 토큰 수) 저장
+-- 기존 행과 캐시된 답변 이력은 NULL
+
+ALTER TABLE ai_search_history ADD COLUMN embed_time_ms BIGINT;
+
+ALTER TABLE ai_search_history ADD COLUMN score_time_ms BIGINT;
+
+ALTER TABLE ai_search_history ADD COLUMN load_time_ms BIGINT;
+
+ALTER TABLE ai_search_history ADD COLUMN pack_time_ms BIGINT;
+
+ALTER TABLE ai_search_history ADD COLUMN generate_time_ms BIGINT;
+
+ALTER TABLE ai_search_history ADD COLUMN chunks_scanned INT;
+
+ALTER TABLE ai_search_history ADD COLUMN prompt_chars INT;
+
+ALTER TABLE ai_search_history ADD COLUMN generated_tokens BIGINT;
@@ -0,0 +1,18 @@
+-- Rollback: Remove stage timing columns from AI search history
+-- Date: 2026-10-17
+
+ALTER TABLE ai_search_history DROP COLUMN embed_time_ms;
+
+ALTER TABLE ai_search_history DROP COLUMN score_time_ms;
+
+ALTER TABLE ai_search_history DROP COLUMN load_time_ms;
+
+ALTER TABLE ai_search_history DROP COLUMN pack_time_ms;
+
+ALTER TABLE ai_search_history DROP COLUMN generate_time_ms;
+
+ALTER TABLE ai_search_history DROP COLUMN chunks_scanned;
+
+ALTER TABLE ai_search_history DROP COLUMN prompt_chars;
+
+ALTER TABLE ai_search_history DROP COLUMN generated_tokens;
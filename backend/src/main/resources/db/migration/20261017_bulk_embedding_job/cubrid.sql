@@ -0,0 +1,27 @@
+-- Migration: Add bulk embedding job table
+-- Date: 2026-10-17
+-- CUBRID용
+-- Description: 일괄 임베딩 작업 (리소스 타입 전체 재임베딩, ID 오름차순 페이지마다 커서/카운터 저장)
+--              일시 정지/재개/취소, 실행 인스턴스 종료 시 생존 신호(heartbeat_at) 만료 후 커서 다음부터 이어서 실행
+
+CREATE SERIAL bulk_embedding_job_id_seq START WITH 1;
+
+CREATE TABLE IF NOT EXISTS bulk_embedding_job (
+    id BIGINT DEFAULT bulk_embedding_job_id_seq.NEXT_VALUE PRIMARY KEY,
+    resource_type VARCHAR(20) NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    last_processed_id BIGINT NOT NULL DEFAULT 0,
+    total_count INT NOT NULL DEFAULT 0,
+    processed_count INT NOT NULL DEFAULT 0,
+    success_count INT NOT NULL DEFAULT 0,
+    failure_count INT NOT NULL DEFAULT 0,
+    chunk_count BIGINT NOT NULL DEFAULT 0,
+    locked_by VARCHAR(100),
+    heartbeat_at TIMESTAMP,
+    last_error VARCHAR(1000),
+    finished_at TIMESTAMP,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX idx_bulk_embedding_job_type ON bulk_embedding_job(resource_type, status);
@@ -0,0 +1,6 @@
+-- Rollback: Remove bulk embedding job table
+-- Date: 2026-10-17
+
+-- CUBRID는 DROP SERIAL bulk_embedding_job_id_seq; 도 함께 실행
+
+DROP TABLE bulk_embedding_job;
@@ -0,0 +1,13 @@
+-- Migration: Add binary embedding column to embedding tables
+-- Date: 2026-10-17
+-- CUBRID용
+-- Description: 임베딩 벡터를 JSON TEXT 대신 바이너리(헤더 + little-endian float32)로 저장
+-- 기존 데이터는 애플리케이션 기동 후 백그라운드 백필로 변환됨 (wiki.embedding.backfill.*)
+-- 참고: 길이를 지정하지 않은 BIT VARYING은 최대 길이(1,073,741,823 bits) 사용
+--       (BLOB은 외부 파일 저장이라 행마다 읽는 벡터 컬럼에는 사용하지 않음)
+
+ALTER TABLE content_embedding ADD COLUMN embedding_data BIT VARYING;
+ALTER TABLE content_embedding MODIFY embedding_vector STRING NULL;
+
+ALTER TABLE wiki_document_embedding ADD COLUMN embedding_data BIT VARYING;
+ALTER TABLE wiki_document_embedding MODIFY embedding_vector STRING NULL;
@@ -0,0 +1,13 @@
+-- Migration: Add binary embedding column to embedding tables
+-- Date: 2026-10-17
+-- H2 Database용
+-- Description: 임베딩 벡터를 JSON TEXT 대신 바이너리(헤더 + little-endian float32)로 저장
+--              embedding_data: 신규 바이너리 컬럼 (768차원 기준 약 3KB, 길이 미지정 시 최대 1GB)
+--              embedding_vector: 레거시 JSON 컬럼 (NULL 허용으로 변경)
+-- 기존 데이터는 애플리케이션 기동 후 백그라운드 백필로 변환됨 (wiki.embedding.backfill.*)
+
+ALTER TABLE content_embedding ADD COLUMN IF NOT EXISTS embedding_data VARBINARY;
+ALTER TABLE content_embedding ALTER COLUMN embedding_vector SET NULL;
+
+ALTER TABLE wiki_document_embedding ADD COLUMN IF NOT EXISTS embedding_data VARBINARY;
+ALTER TABLE wiki_document_embedding ALTER COLUMN embedding_vector SET NULL;
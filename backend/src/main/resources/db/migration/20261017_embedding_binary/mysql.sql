@@ -0,0 +1,16 @@
+-- Migration: Add binary embedding column to embedding tables
+-- Date: 2026-10-17
+-- MySQL용
+-- Description: 임베딩 벡터를 JSON TEXT 대신 바이너리(헤더 + little-endian float32)로 저장
+-- 기존 데이터는 애플리케이션 기동 후 백그라운드 백필로 변환됨 (wiki.embedding.backfill.*)
+-- 참고: VARBINARY는 행 크기 제한(65,535 bytes)에 걸리므로 차원 수 제한이 없는 LONGBLOB 사용
+
+ALTER TABLE content_embedding ADD COLUMN embedding_data LONGBLOB;
+ALTER TABLE content_embedding MODIFY embedding_vector TEXT NULL;
+
+ALTER TABLE wiki_document_embedding ADD COLUMN embedding_data LONGBLOB;
+ALTER TABLE wiki_document_embedding MODIFY embedding_vector TEXT NULL;
+
+-- 백필 완료 후 테이블 공간 회수 (선택)
+-- OPTIMIZE TABLE content_embedding;
+-- OPTIMIZE TABLE wiki_document_embedding;
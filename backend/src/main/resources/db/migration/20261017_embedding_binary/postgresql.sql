@@ -0,0 +1,15 @@
+-- Migration: Add binary embedding column to embedding tables
+-- Date: 2026-10-17
+-- PostgreSQL용
+-- Description: 임베딩 벡터를 JSON TEXT 대신 바이너리(헤더 + little-endian float32)로 저장
+-- 기존 데이터는 애플리케이션 기동 후 백그라운드 백필로 변환됨 (wiki.embedding.backfill.*)
+
+ALTER TABLE content_embedding ADD COLUMN IF NOT EXISTS embedding_data BYTEA;
+ALTER TABLE content_embedding ALTER COLUMN embedding_vector DROP NOT NULL;
+
+ALTER TABLE wiki_document_embedding ADD COLUMN IF NOT EXISTS embedding_data BYTEA;
+ALTER TABLE wiki_document_embedding ALTER COLUMN embedding_vector DROP NOT NULL;
+
+-- 백필 완료 후 테이블 공간 회수 (선택)
+-- VACUUM FULL content_embedding;
+-- VACUUM FULL wiki_document_embedding;
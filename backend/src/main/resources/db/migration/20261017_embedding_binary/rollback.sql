@@ -0,0 +1,17 @@
+-- Rollback: Remove binary embedding column from embedding tables
+-- Date: 2026-10-17
+
+-- 주의: 백필로 JSON 컬럼이 NULL 처리된 행은 벡터가 유실됨
+-- 롤백 후 해당 문서/리소스의 임베딩을 재생성해야 함
+
+DELETE FROM content_embedding WHERE embedding_vector IS NULL;
+DELETE FROM wiki_document_embedding WHERE embedding_vector IS NULL;
+
+ALTER TABLE content_embedding DROP COLUMN embedding_data;
+ALTER TABLE wiki_document_embedding DROP COLUMN embedding_data;
+
+-- NOT NULL 제약 복원 (DB별 문법)
+-- MySQL:      ALTER TABLE content_embedding MODIFY embedding_vector TEXT NOT NULL;
+-- PostgreSQL: ALTER TABLE content_embedding ALTER COLUMN embedding_vector SET NOT NULL;
+-- H2:         ALTER TABLE content_embedding ALTER COLUMN embedding_vector SET NOT NULL;
+-- (wiki_document_embedding 동일)
@@ -0,0 +1,12 @@
+-- Migration: Add chunk hash and embedding model columns to embedding tables
+-- Date: 2026-10-17
+-- PostgreSQL용
+-- Description: 임베딩 청크별 텍스트 해시(SHA-256)와 임베딩 모델 ID 저장
+--              재임베딩 시 해시와 모델 ID가 같은 청크는 기존 벡터를 재사용하고 바뀐 청크만 임베딩 요청
+-- 기존 행은 NULL (다음 재임베딩 때 전체 임베딩 후 채워짐)
+
+ALTER TABLE content_embedding ADD COLUMN IF NOT EXISTS content_hash VARCHAR(64);
+ALTER TABLE content_embedding ADD COLUMN IF NOT EXISTS embedding_model_id INT;
+
+ALTER TABLE wiki_document_embedding ADD COLUMN IF NOT EXISTS content_hash VARCHAR(64);
+ALTER TABLE wiki_document_embedding ADD COLUMN IF NOT EXISTS embedding_model_id INT;
@@ -0,0 +1,10 @@
+-- Rollback: Remove chunk hash and embedding model columns from embedding tables
+-- Date: 2026-10-17
+
+-- 롤백 후에는 재임베딩 시 모든 청크를 다시 임베딩함 (기존 동작)
+
+ALTER TABLE content_embedding DROP COLUMN content_hash;
+ALTER TABLE content_embedding DROP COLUMN embedding_model_id;
+
+ALTER TABLE wiki_document_embedding DROP COLUMN content_hash;
+ALTER TABLE wiki_document_embedding DROP COLUMN embedding_model_id;
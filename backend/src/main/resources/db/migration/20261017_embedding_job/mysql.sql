@@ -0,0 +1,24 @@
+-- Migration: Add embedding job queue table
+-- Date: 2026-10-17
+-- MySQL용
+-- Description: 임베딩 작업 큐 (리소스 저장 트랜잭션에서 함께 기록, 워커가 조건부 UPDATE로 선점)
+--              같은 리소스의 대기 작업은 pending_key(UNIQUE)로 하나로 합침, 실패 시 next_run_at 백오프 후 재시도
+
+CREATE TABLE IF NOT EXISTS embedding_job (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    resource_type VARCHAR(20) NOT NULL,
+    resource_id BIGINT NOT NULL,
+    priority INT NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    pending_key VARCHAR(50),
+    attempts INT NOT NULL DEFAULT 0,
+    next_run_at TIMESTAMP NOT NULL,
+    locked_by VARCHAR(100),
+    locked_at TIMESTAMP,
+    last_error VARCHAR(1000),
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    INDEX idx_embedding_job_runnable (status, next_run_at),
+    UNIQUE INDEX uk_embedding_job_pending_key (pending_key),
+    INDEX idx_embedding_job_resource (resource_type, resource_id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
@@ -0,0 +1,7 @@
+-- Rollback: Remove embedding job queue table
+-- Date: 2026-10-17
+
+-- 롤백 전 대기 중인 작업이 있으면 관리자 패널에서 리소스 타입별 일괄 임베딩을 다시 실행해야 함
+-- CUBRID는 DROP SERIAL embedding_job_id_seq; 도 함께 실행
+
+DROP TABLE embedding_job;
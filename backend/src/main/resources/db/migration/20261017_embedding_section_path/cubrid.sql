@@ -0,0 +1,10 @@
+-- Migration: Add section path column to embedding tables
+-- Date: 2026-10-17
+-- CUBRID용
+-- Description: 임베딩 청크가 속한 마크다운 섹션 경로 저장 (예: "설치 > 요구사항")
+--              청크 분할이 고정 길이(2000자)에서 마크다운 구조(제목/표/코드/목록) + 토큰 예산 기준으로 변경됨
+-- 기존 행은 NULL (다음 재임베딩 때 채워짐)
+
+ALTER TABLE content_embedding ADD COLUMN section_path VARCHAR(500);
+
+ALTER TABLE wiki_document_embedding ADD COLUMN section_path VARCHAR(500);
@@ -0,0 +1,8 @@
+-- Rollback: Remove section path column from embedding tables
+-- Date: 2026-10-17
+
+-- 롤백 후에도 구조 기반 청크 분할은 유지됨 (섹션 경로만 저장하지 않음, 애플리케이션도 함께 롤백 필요)
+
+ALTER TABLE content_embedding DROP COLUMN section_path;
+
+ALTER TABLE wiki_document_embedding DROP COLUMN section_path;
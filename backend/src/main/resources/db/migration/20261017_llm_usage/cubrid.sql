@@ -0,0 +1,31 @@
+-- Migration: Add LLM usage table and token columns to AI search history
+-- Date: 2026-10-17
+-- CUBRID용
+-- Description: LLM 호출별 토큰 수/처리 시간(Ollama 보고값) 기록 테이블 (AI 검색, 문서 요약, PDF 구조 보정)
+--              AI 검색 이력에 프롬프트 토큰 수, 프롬프트 처리/토큰 생성 시간 추가 (기존 행은 NULL)
+
+CREATE SERIAL llm_usage_id_seq START WITH 1;
+
+CREATE TABLE IF NOT EXISTS llm_usage (
+    id BIGINT DEFAULT llm_usage_id_seq.NEXT_VALUE PRIMARY KEY,
+    purpose VARCHAR(30) NOT NULL,
+    model VARCHAR(100),
+    resource_id BIGINT,
+    prompt_tokens BIGINT,
+    generated_tokens BIGINT,
+    prompt_eval_ms BIGINT,
+    eval_ms BIGINT,
+    load_ms BIGINT,
+    total_ms BIGINT,
+    latency_ms BIGINT NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX idx_llm_usage_created ON llm_usage(created_at);
+CREATE INDEX idx_llm_usage_purpose ON llm_usage(purpose, created_at);
+
+ALTER TABLE ai_search_history ADD COLUMN prompt_tokens BIGINT;
+
+ALTER TABLE ai_search_history ADD COLUMN prompt_eval_ms BIGINT;
+
+ALTER TABLE ai_search_history ADD COLUMN eval_ms BIGINT;
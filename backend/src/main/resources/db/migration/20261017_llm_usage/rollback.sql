@@ -0,0 +1,12 @@
+-- Rollback: Remove LLM usage table and token columns from AI search history
+-- Date: 2026-10-17
+
+-- CUBRID는 DROP SERIAL llm_usage_id_seq; 도 함께 실행
+
+DROP TABLE llm_usage;
+
+ALTER TABLE ai_search_history DROP COLUMN prompt_tokens;
+
+ALTER TABLE ai_search_history DROP COLUMN prompt_eval_ms;
+
+ALTER TABLE ai_search_history DROP COLUMN eval_ms;
@@ -0,0 +1,113 @@
+package com.srmanagement.wiki.service;
+
+import com.srmanagement.wiki.entity.ContentEmbedding.ResourceType;
+import com.srmanagement.wiki.entity.EmbeddingJob;
+import com.srmanagement.wiki.repository.EmbeddingJobRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 임베딩 작업 등록 테스트 (H2, 같은 리소스의 동시 등록)
+ */
+@DataJpaTest(properties = "spring.sql.init.mode=never")
+@Import(EmbeddingJobService.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class EmbeddingJobServiceTest {
+
+    private static final long RESOURCE_ID = 7L;
+
+    @Autowired
+    private EmbeddingJobService jobService;
+
+    @Autowired
+    private EmbeddingJobRepository jobRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @MockBean
+    private EmbeddingJobWorker worker;
+
+    @AfterEach
+    void cleanUp() {
+        jobRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("같은 리소스를 연속 등록하면 대기 작업 하나로 합치고 높은 우선순위를 유지")
+    void mergesSequentialChanges() {
+        inTransaction(() -> jobService.onResourceChanged(
+                ResourceChangedEvent.updated(ResourceType.WIKI, RESOURCE_ID)));
+        inTransaction(() -> jobService.onResourceChanged(
+                ResourceChangedEvent.bulkCreated(ResourceType.WIKI, RESOURCE_ID)));
+
+        List<EmbeddingJob> jobs = jobRepository.findAll();
+        assertThat(jobs).hasSize(1);
+        assertThat(jobs.get(0).getPriority()).isEqualTo(EmbeddingJob.PRIORITY_EDIT);
+    }
+
+    @Test
+    @DisplayName("다른 트랜잭션이 등록 중인 리소스를 동시에 등록해도 두 리소스 저장 트랜잭션이 모두 커밋")
+    void concurrentChangesBothCommit() throws Exception {
+        CountDownLatch firstRegistered = new CountDownLatch(1);
+
+        // 첫 트랜잭션: 작업 행을 INSERT한 뒤 커밋하지 않고 잠시 대기
+        CompletableFuture<Void> first = CompletableFuture.runAsync(() -> inTransaction(() -> {
+            jobService.onResourceChanged(ResourceChangedEvent.bulkCreated(ResourceType.SR, RESOURCE_ID));
+            firstRegistered.countDown();
+            sleep(300);
+        }));
+        // 두 번째 트랜잭션: 잠금 조회로는 아직 커밋되지 않은 행이 보이지 않는 상태에서 등록
+        CompletableFuture<Void> second = CompletableFuture.runAsync(() -> {
+            await(firstRegistered);
+            inTransaction(() -> jobService.onResourceChanged(
+                    ResourceChangedEvent.updated(ResourceType.SR, RESOURCE_ID)));
+        });
+
+        first.get(10, TimeUnit.SECONDS);
+        second.get(10, TimeUnit.SECONDS);
+
+        List<EmbeddingJob> jobs = jobRepository.findAll();
+        assertThat(jobs).hasSize(1);
+        assertThat(jobs.get(0).getPendingKey()).isEqualTo(EmbeddingJob.pendingKeyOf(ResourceType.SR, RESOURCE_ID));
+        assertThat(jobs.get(0).getPriority()).isEqualTo(EmbeddingJob.PRIORITY_EDIT);
+    }
+
+    private void inTransaction(Runnable action) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> action.run());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package com.srmanagement.wiki.service;
+
+import com.srmanagement.wiki.util.ScalarSimilarityKernel;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * HNSW 그래프 검색 품질 테스트 (VectorIndex를 통해 삽입/삭제/슬롯 재사용까지 검증)
+ */
+class HnswGraphTest {
+
+    private static final int DIMENSION = 32;
+    private static final int TOP_K = 10;
+    private static final int EF = 100;
+
+    private final Random random = new Random(7);
+    private final Map<Long, Long> embeddingIds = new HashMap<>();
+    private long nextEmbeddingId = 1L;
+
+    @Test
+    @DisplayName("삽입만 한 그래프의 recall@10이 0.9 이상")
+    void recallAfterInsert() {
+        VectorIndex index = newIndex();
+        Map<Long, float[]> resources = new HashMap<>();
+        for (long resourceId = 1; resourceId <= 2000; resourceId++) {
+            put(index, resources, resourceId);
+        }
+
+        assertThat(recall(index, 100)).isGreaterThanOrEqualTo(0.9);
+    }
+
+    @Test
+    @DisplayName("삭제/재삽입을 반복해도 recall@10이 유지되고 삭제된 청크는 검색되지 않음")
+    void recallAfterDeleteCycles() {
+        VectorIndex index = newIndex();
+        Map<Long, float[]> resources = new HashMap<>();
+        for (long resourceId = 1; resourceId <= 2000; resourceId++) {
+            put(index, resources, resourceId);
+        }
+
+        // 라운드마다 30% 교체 (삭제 슬롯 정리 기준을 넘겨 슬롯 재사용까지 발생)
+        Set<Long> removedEmbeddingIds = new HashSet<>();
+        for (int round = 0; round < 5; round++) {
+            List<Long> ids = new ArrayList<>(resources.keySet());
+            for (int i = 0; i < ids.size() * 3 / 10; i++) {
+                long resourceId = ids.get(random.nextInt(ids.size()));
+                removedEmbeddingIds.add(embeddingIds.get(resourceId));
+                put(index, resources, resourceId);
+            }
+        }
+
+        assertThat(index.size()).isEqualTo(resources.size());
+        assertThat(recall(index, 100)).isGreaterThanOrEqualTo(0.9);
+        for (int i = 0; i < 50; i++) {
+            for (VectorIndex.Hit hit : index.approximateSearch(randomVector(), TOP_K, -1.0, null, EF)) {
+                assertThat(removedEmbeddingIds).doesNotContain(hit.entry().embeddingId());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("진입점을 포함해 대부분을 삭제해도 남은 노드를 검색")
+    void searchAfterDeletingMostNodes() {
+        VectorIndex index = newIndex();
+        Map<Long, float[]> resources = new HashMap<>();
+        for (long resourceId = 1; resourceId <= 500; resourceId++) {
+            put(index, resources, resourceId);
+        }
+        for (long resourceId = 1; resourceId <= 490; resourceId++) {
+            index.removeResource("SR", resourceId);
+            resources.remove(resourceId);
+        }
+
+        float[] query = resources.get(495L);
+        List<VectorIndex.Hit> hits = index.approximateSearch(query, TOP_K, -1.0, null, EF);
+
+        assertThat(hits).hasSize(10);
+        assertThat(hits.get(0).entry().resourceId()).isEqualTo(495L);
+        assertThat(hits).allMatch(hit -> hit.entry().resourceId() > 490L);
+    }
+
+    @Test
+    @DisplayName("삭제 노드 정리 후 재삽입해도 연결은 살아 있는 노드만 중복 없이 가리킴")
+    void linksStayConsistentAfterPurgeAndReuse() {
+        int capacity = 1000;
+        float[][] vectors = new float[capacity][];
+        HnswGraph graph = new HnswGraph(new HnswGraph.Config(8, 50, 32),
+                (a, b) -> ScalarSimilarityKernel.INSTANCE.dot(vectors[a], 0, vectors[b], 0, DIMENSION));
+        for (int node = 0; node < capacity; node++) {
+            vectors[node] = randomVector();
+            graph.insert(node);
+        }
+
+        for (int round = 0; round < 5; round++) {
+            BitSet deleted = new BitSet();
+            for (int i = 0; i < capacity / 3; i++) {
+                int node = random.nextInt(capacity);
+                graph.delete(node);
+                deleted.set(node);
+            }
+            graph.purge(deleted);
+            assertLinksConsistent(graph, capacity, deleted);
+
+            // 같은 노드 번호를 다른 벡터로 재사용
+            for (int node = deleted.nextSetBit(0); node >= 0; node = deleted.nextSetBit(node + 1)) {
+                vectors[node] = randomVector();
+                graph.insert(node);
+            }
+            assertLinksConsistent(graph, capacity, new BitSet());
+        }
+        assertThat(graph.size()).isEqualTo(capacity);
+    }
+
+    private void assertLinksConsistent(HnswGraph graph, int capacity, BitSet deleted) {
+        for (int node = 0; node < capacity; node++) {
+            for (int level = 0; graph.neighbors(node, level).length > 0; level++) {
+                Set<Integer> seen = new HashSet<>();
+                for (int neighbor : graph.neighbors(node, level)) {
+                    assertThat(neighbor).isNotEqualTo(node);
+                    assertThat(seen.add(neighbor)).isTrue();
+                    assertThat(deleted.get(neighbor)).isFalse();
+                }
+            }
+        }
+    }
+
+    private VectorIndex newIndex() {
+        return new VectorIndex("hnsw-test", new VectorIndex.Options(
+                new HnswGraph.Config(16, 100, 64), 0, VectorIndex.Precision.FLOAT32, 0, null,
+                ScalarSimilarityKernel.INSTANCE, null));
+    }
+
+    /**
+     * 리소스 청크를 새 벡터로 교체 (새 임베딩 ID)
+     */
+    private void put(VectorIndex index, Map<Long, float[]> resources, long resourceId) {
+        float[] vector = randomVector();
+        VectorIndex.Entry entry = new VectorIndex.Entry(nextEmbeddingId++, "SR", resourceId, 0, null, null, null);
+        index.replaceResource("SR", resourceId, List.of(entry), List.of(vector));
+        resources.put(resourceId, vector);
+        embeddingIds.put(resourceId, entry.embeddingId());
+    }
+
+    private double recall(VectorIndex index, int queries) {
+        double sum = 0.0;
+        for (int i = 0; i < queries; i++) {
+            float[] query = randomVector();
+            Set<Long> expected = new HashSet<>();
+            for (VectorIndex.Hit hit : index.exactSearch(query, TOP_K, -1.0, null)) {
+                expected.add(hit.entry().embeddingId());
+            }
+            long matched = index.approximateSearch(query, TOP_K, -1.0, null, EF).stream()
+                    .filter(hit -> expected.contains(hit.entry().embeddingId()))
+                    .count();
+            sum += (double) matched / expected.size();
+        }
+        return sum / queries;
+    }
+
+    private float[] randomVector() {
+        float[] vector = new float[DIMENSION];
+        for (int d = 0; d < DIMENSION; d++) {
+            vector[d] = (float) random.nextGaussian();
+        }
+        return vector;
+    }
+}
@@ -0,0 +1,86 @@
+package com.srmanagement.wiki.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.function.UnaryOperator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * RAG 컨텍스트 패킹 테스트 (겹침 제거, 중복 제거, 인접 청크 병합, 토큰 예산)
+ */
+class RagContextPackerTest {
+
+    private static final UnaryOperator<String> TEMPLATE = context -> "질문\n" + context;
+
+    @Test
+    @DisplayName("이전 청크 끝과 겹치는 다음 청크 앞부분을 제거")
+    void stripOverlapRemovesSharedRegion() {
+        String shared = "겹치는 영역은 이전 청크의 마지막 부분입니다";
+        String previous = "앞 내용 " + shared;
+        String next = shared + " 뒤 내용";
+
+        assertThat(RagContextPacker.stripOverlap(previous, next)).isEqualTo(" 뒤 내용");
+    }
+
+    @Test
+    @DisplayName("짧은 우연한 일치는 겹침으로 보지 않고 줄바꿈으로 연결")
+    void stripOverlapIgnoresShortMatch() {
+        assertThat(RagContextPacker.stripOverlap("문장 끝 abc", "abc 다음 문장")).isEqualTo("\nabc 다음 문장");
+    }
+
+    @Test
+    @DisplayName("거의 같은 청크는 유사도가 높은 것 하나만 남김")
+    void removesNearDuplicates() {
+        String text = "서버 재기동 절차는 먼저 애플리케이션을 중지하고 로그를 백업한 뒤 다시 시작하는 순서로 진행합니다";
+        RagContextPacker packer = packer(3000);
+
+        RagContextPacker.Packed packed = packer.pack(List.of(
+                new RagContextPacker.Chunk("WIKI-1", "## [Wiki 문서] 운영", 0, text, 0.9),
+                new RagContextPacker.Chunk("WIKI-2", "## [Wiki 문서] 운영 사본", 0, text + " 입니다", 0.8)), TEMPLATE);
+
+        assertThat(packed.stats().getDuplicateChunks()).isEqualTo(1);
+        assertThat(packed.resourceKeys()).containsExactly("WIKI-1");
+    }
+
+    @Test
+    @DisplayName("같은 리소스의 연속 청크는 하나의 블록으로 합침")
+    void mergesAdjacentChunks() {
+        RagContextPacker packer = packer(3000);
+
+        RagContextPacker.Packed packed = packer.pack(List.of(
+                new RagContextPacker.Chunk("SR-7", "## [SR] 장애", 1, "두 번째 청크는 원인 분석 내용을 담고 있습니다", 0.7),
+                new RagContextPacker.Chunk("SR-7", "## [SR] 장애", 0, "첫 번째 청크는 장애 현상 설명입니다", 0.9)), TEMPLATE);
+
+        assertThat(packed.stats().getMergedChunks()).isEqualTo(1);
+        assertThat(packed.stats().getBlocks()).isEqualTo(1);
+        assertThat(packed.prompt()).contains("첫 번째 청크는 장애 현상 설명입니다\n두 번째 청크는 원인 분석 내용을 담고 있습니다");
+    }
+
+    @Test
+    @DisplayName("토큰 예산을 넘는 블록은 유사도가 낮은 것부터 제외")
+    void dropsLowScoreBlocksOverBudget() {
+        String longText = "긴 본문 ".repeat(150);
+        RagContextPacker packer = packer(200);
+
+        RagContextPacker.Packed packed = packer.pack(List.of(
+                new RagContextPacker.Chunk("WIKI-1", "## [Wiki 문서] 첫째", 0, longText + "첫째", 0.9),
+                new RagContextPacker.Chunk("WIKI-2", "## [Wiki 문서] 둘째", 0, "다른 주제 " + longText, 0.5)), TEMPLATE);
+
+        assertThat(packed.resourceKeys()).containsExactly("WIKI-1");
+        assertThat(packed.stats().getOverBudgetBlocks()).isEqualTo(1);
+        assertThat(packed.stats().getTruncatedBlocks()).isEqualTo(1);
+        assertThat(packed.stats().getPackedPromptTokens()).isLessThan(packed.stats().getOriginalPromptTokens());
+    }
+
+    private static RagContextPacker packer(int tokenBudget) {
+        RagContextPacker packer = new RagContextPacker();
+        ReflectionTestUtils.setField(packer, "enabled", true);
+        ReflectionTestUtils.setField(packer, "tokenBudget", tokenBudget);
+        ReflectionTestUtils.setField(packer, "duplicateThreshold", 0.85);
+        return packer;
+    }
+}
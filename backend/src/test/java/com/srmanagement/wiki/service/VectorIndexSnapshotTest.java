@@ -0,0 +1,174 @@
+package com.srmanagement.wiki.service;
+
+import com.srmanagement.wiki.util.ScalarSimilarityKernel;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 벡터 인덱스 스냅샷 저장/복원 테스트
+ */
+class VectorIndexSnapshotTest {
+
+    private static final int DIMENSION = 16;
+    private static final int MODEL_ID = 3;
+
+    @TempDir
+    Path tempDir;
+
+    private final Random random = new Random(11);
+
+    @Test
+    @DisplayName("지문과 모델이 같으면 HNSW 그래프까지 복원되어 같은 검색 결과를 반환")
+    void roundTripWithGraph() throws IOException {
+        VectorIndex index = newIndex(hnswOptions());
+        fill(index, 300);
+        Path file = VectorIndexSnapshot.pathOf(tempDir, index.getName());
+
+        VectorIndex.Fingerprint written = VectorIndexSnapshot.write(file, MODEL_ID, index);
+        VectorIndex restored = newIndex(hnswOptions());
+
+        assertThat(written).isEqualTo(index.fingerprint());
+        assertThat(VectorIndexSnapshot.restore(file, index.fingerprint(), MODEL_ID, restored)).isTrue();
+        assertThat(restored.size()).isEqualTo(index.size());
+        assertThat(restored.fingerprint()).isEqualTo(index.fingerprint());
+        assertSameResults(index, restored);
+    }
+
+    @Test
+    @DisplayName("INT8 인덱스는 양자화 스케일과 코드가 그대로 복원됨")
+    void roundTripInt8() throws IOException {
+        VectorIndex.Options options = new VectorIndex.Options(null, 0, VectorIndex.Precision.INT8, 0, null,
+                ScalarSimilarityKernel.INSTANCE, null);
+        VectorIndex index = newIndex(options);
+        index.calibrate(List.of(randomVector(), randomVector(), randomVector()));
+        fill(index, 200);
+        Path file = VectorIndexSnapshot.pathOf(tempDir, index.getName());
+
+        VectorIndexSnapshot.write(file, MODEL_ID, index);
+        VectorIndex restored = newIndex(options);
+
+        assertThat(VectorIndexSnapshot.restore(file, index.fingerprint(), MODEL_ID, restored)).isTrue();
+        assertThat(restored.isCalibrated()).isTrue();
+        assertThat(restored.getPrecision()).isEqualTo(VectorIndex.Precision.INT8);
+        assertSameResults(index, restored);
+    }
+
+    @Test
+    @DisplayName("복원한 벡터는 파일 매핑을 그대로 사용하고, 복원 후 변경은 파일에 반영되지 않음")
+    void restoredVectorsStayMapped() throws IOException {
+        VectorIndex index = newIndex(hnswOptions());
+        fill(index, 2500);
+        Path file = VectorIndexSnapshot.pathOf(tempDir, index.getName());
+        VectorIndexSnapshot.write(file, MODEL_ID, index);
+        byte[] written = Files.readAllBytes(file);
+
+        VectorIndex restored = newIndex(hnswOptions());
+        assertThat(VectorIndexSnapshot.restore(file, index.fingerprint(), MODEL_ID, restored)).isTrue();
+        // 슬롯이 가득 찬 세그먼트 2개(1024 슬롯씩)는 매핑 사용, 마지막 세그먼트만 복사
+        assertThat(restored.mappedVectorBytes()).isEqualTo(2L * 1024 * DIMENSION * Float.BYTES);
+        assertSameResults(index, restored);
+
+        // 매핑된 슬롯 재사용 + 새 슬롯 추가
+        restored.removeResource("SR", 1L);
+        restored.replaceResource("SR", 3000L, List.of(entry(3000L, 3000L)), List.of(randomVector()));
+        restored.replaceResource("SR", 3001L, List.of(entry(3001L, 3001L)), List.of(randomVector()));
+
+        VectorIndex again = newIndex(hnswOptions());
+        assertThat(Files.readAllBytes(file)).isEqualTo(written);
+        assertThat(VectorIndexSnapshot.restore(file, index.fingerprint(), MODEL_ID, again)).isTrue();
+        assertSameResults(index, again);
+    }
+
+    @Test
+    @DisplayName("스냅샷 저장 후 청크가 바뀌면 지문 불일치로 복원하지 않음")
+    void rejectsStaleFingerprint() throws IOException {
+        VectorIndex index = newIndex(hnswOptions());
+        fill(index, 100);
+        Path file = VectorIndexSnapshot.pathOf(tempDir, index.getName());
+        VectorIndex.Fingerprint written = VectorIndexSnapshot.write(file, MODEL_ID, index);
+
+        // 임베딩 재생성: 같은 리소스가 새 임베딩 ID로 교체됨
+        index.replaceResource("SR", 5L, List.of(entry(1000L, 5L)), List.of(randomVector()));
+        VectorIndex restored = newIndex(hnswOptions());
+
+        assertThat(index.fingerprint()).isNotEqualTo(written);
+        assertThat(VectorIndexSnapshot.restore(file, index.fingerprint(), MODEL_ID, restored)).isFalse();
+        assertThat(restored.size()).isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("임베딩 모델이 바뀌면 복원하지 않음")
+    void rejectsOtherModel() throws IOException {
+        VectorIndex index = newIndex(hnswOptions());
+        fill(index, 50);
+        Path file = VectorIndexSnapshot.pathOf(tempDir, index.getName());
+        VectorIndexSnapshot.write(file, MODEL_ID, index);
+        VectorIndex restored = newIndex(hnswOptions());
+
+        assertThat(VectorIndexSnapshot.restore(file, index.fingerprint(), MODEL_ID + 1, restored)).isFalse();
+        assertThat(restored.size()).isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("잘린 파일과 없는 파일은 복원하지 않음")
+    void rejectsTruncatedOrMissingFile() throws IOException {
+        VectorIndex index = newIndex(hnswOptions());
+        fill(index, 50);
+        Path file = VectorIndexSnapshot.pathOf(tempDir, index.getName());
+        VectorIndexSnapshot.write(file, MODEL_ID, index);
+        byte[] bytes = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(bytes, bytes.length / 2));
+        VectorIndex restored = newIndex(hnswOptions());
+
+        assertThat(VectorIndexSnapshot.restore(file, index.fingerprint(), MODEL_ID, restored)).isFalse();
+        assertThat(VectorIndexSnapshot.restore(tempDir.resolve("missing.vidx"), index.fingerprint(), MODEL_ID,
+                restored)).isFalse();
+        assertThat(restored.size()).isEqualTo(0);
+    }
+
+    private void assertSameResults(VectorIndex expected, VectorIndex actual) {
+        for (int i = 0; i < 20; i++) {
+            float[] query = randomVector();
+            List<VectorIndex.Hit> expectedHits = expected.search(query, 10, -1.0, null);
+            List<VectorIndex.Hit> actualHits = actual.search(query, 10, -1.0, null);
+            assertThat(actualHits).isEqualTo(expectedHits);
+        }
+    }
+
+    private VectorIndex.Options hnswOptions() {
+        return new VectorIndex.Options(new HnswGraph.Config(8, 50, 32), 0, VectorIndex.Precision.FLOAT32, 0, null,
+                ScalarSimilarityKernel.INSTANCE, null);
+    }
+
+    private VectorIndex newIndex(VectorIndex.Options options) {
+        return new VectorIndex("snapshot-test", options);
+    }
+
+    private void fill(VectorIndex index, int resources) {
+        for (long resourceId = 1; resourceId <= resources; resourceId++) {
+            index.replaceResource("SR", resourceId, List.of(entry(resourceId, resourceId)), List.of(randomVector()));
+        }
+    }
+
+    private VectorIndex.Entry entry(long embeddingId, long resourceId) {
+        return new VectorIndex.Entry(embeddingId, "SR", resourceId, 0, 1L, "카테고리", "OPEN");
+    }
+
+    private float[] randomVector() {
+        float[] vector = new float[DIMENSION];
+        for (int d = 0; d < DIMENSION; d++) {
+            vector[d] = (float) random.nextGaussian();
+        }
+        return vector;
+    }
+}
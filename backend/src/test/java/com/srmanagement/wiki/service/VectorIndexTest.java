@@ -0,0 +1,120 @@
+package com.srmanagement.wiki.service;
+
+import com.srmanagement.wiki.util.ScalarSimilarityKernel;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * 벡터 인덱스 정밀도(INT8 양자화/재정렬) 테스트
+ */
+class VectorIndexTest {
+
+    private static final int DIMENSION = 64;
+    private static final int RESOURCES = 500;
+
+    private final Random random = new Random(5);
+    private final Map<Long, float[]> vectors = new HashMap<>();
+
+    @Test
+    @DisplayName("INT8 양자화 검색 결과가 FLOAT32 전수 검색과 거의 같음")
+    void int8MatchesFloat32() {
+        VectorIndex exact = newIndex(VectorIndex.Precision.FLOAT32, null);
+        VectorIndex quantized = newIndex(VectorIndex.Precision.INT8, null);
+        quantized.calibrate(sample());
+        fill(exact, quantized);
+
+        double overlap = 0.0;
+        for (int i = 0; i < 50; i++) {
+            float[] query = randomVector();
+            Set<Long> expected = embeddingIds(exact.search(query, 10, -1.0, null));
+            List<VectorIndex.Hit> hits = quantized.search(query, 10, -1.0, null);
+            overlap += hits.stream().filter(hit -> expected.contains(hit.entry().embeddingId())).count() / 10.0;
+        }
+        assertThat(overlap / 50).isGreaterThanOrEqualTo(0.8);
+
+        // 저장된 벡터 자신으로 검색하면 1위, 유사도는 양자화 오차 안에서 1
+        float[] stored = vectors.get(42L);
+        VectorIndex.Hit top = quantized.search(stored, 1, -1.0, null).get(0);
+        assertThat(top.entry().embeddingId()).isEqualTo(42L);
+        assertThat(top.score()).isCloseTo(1.0, within(0.02));
+    }
+
+    @Test
+    @DisplayName("INT8 재정렬은 원본 벡터 유사도로 점수를 바꿈")
+    void int8RerankUsesExactScores() {
+        VectorIndex exact = newIndex(VectorIndex.Precision.FLOAT32, null);
+        VectorIndex reranked = newIndex(VectorIndex.Precision.INT8, ids -> {
+            Map<Long, float[]> found = new HashMap<>();
+            ids.forEach(id -> found.put(id, vectors.get(id)));
+            return found;
+        });
+        reranked.calibrate(sample());
+        fill(exact, reranked);
+
+        for (int i = 0; i < 20; i++) {
+            float[] query = randomVector();
+            VectorIndex.Hit expected = exact.search(query, 1, -1.0, null).get(0);
+            VectorIndex.Hit actual = reranked.search(query, 1, -1.0, null).get(0);
+            assertThat(actual.entry()).isEqualTo(expected.entry());
+            assertThat(actual.score()).isCloseTo(expected.score(), within(1e-5));
+        }
+    }
+
+    @Test
+    @DisplayName("보정 전 INT8 인덱스는 미보정 상태로 보고됨")
+    void int8RequiresCalibration() {
+        VectorIndex quantized = newIndex(VectorIndex.Precision.INT8, null);
+
+        assertThat(quantized.isCalibrated()).isFalse();
+        quantized.calibrate(sample());
+        assertThat(quantized.isCalibrated()).isTrue();
+    }
+
+    private VectorIndex newIndex(VectorIndex.Precision precision, VectorIndex.ExactVectorLoader loader) {
+        return new VectorIndex("precision-test", new VectorIndex.Options(null, 0, precision,
+                loader != null ? 50 : 0, loader, ScalarSimilarityKernel.INSTANCE, null));
+    }
+
+    private void fill(VectorIndex... indexes) {
+        for (long id = 1; id <= RESOURCES; id++) {
+            float[] vector = vectors.computeIfAbsent(id, k -> randomVector());
+            VectorIndex.Entry entry = new VectorIndex.Entry(id, "WIKI", id, 0, null, null, null);
+            for (VectorIndex index : indexes) {
+                index.replaceResource("WIKI", id, List.of(entry), List.of(vector));
+            }
+        }
+    }
+
+    private List<float[]> sample() {
+        List<float[]> sample = new ArrayList<>();
+        for (long id = 1; id <= RESOURCES; id++) {
+            sample.add(vectors.computeIfAbsent(id, k -> randomVector()));
+        }
+        return sample;
+    }
+
+    private static Set<Long> embeddingIds(List<VectorIndex.Hit> hits) {
+        Set<Long> ids = new HashSet<>();
+        hits.forEach(hit -> ids.add(hit.entry().embeddingId()));
+        return ids;
+    }
+
+    private float[] randomVector() {
+        float[] vector = new float[DIMENSION];
+        for (int d = 0; d < DIMENSION; d++) {
+            vector[d] = (float) random.nextGaussian();
+        }
+        return vector;
+    }
+}
@@ -0,0 +1,132 @@
+package com.srmanagement.wiki.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 마크다운 구조 기반 청크 분할 테스트
+ */
+class MarkdownChunkerTest {
+
+    private static final int BUDGET = 64;
+
+    @Test
+    @DisplayName("빈 텍스트는 청크가 없음")
+    void emptyText() {
+        assertThat(MarkdownChunker.split(null)).isEmpty();
+        assertThat(MarkdownChunker.split("  \n\n ")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("큰 섹션은 제목에서 나뉘고 청크마다 섹션 경로가 붙음")
+    void splitsAtHeadingsWithSectionPath() {
+        String markdown = "# 설치\n\n" + paragraph("설치 개요", 30) + "\n\n"
+                + "## 요구사항\n\n" + paragraph("요구사항 설명", 30) + "\n\n"
+                + "# 운영\n\n" + paragraph("운영 절차", 30);
+
+        List<MarkdownChunker.Chunk> chunks = MarkdownChunker.split(markdown, BUDGET);
+
+        assertThat(MarkdownChunker.sectionPaths(chunks)).contains("설치", "설치 > 요구사항", "운영");
+        MarkdownChunker.Chunk requirements = chunks.stream()
+                .filter(chunk -> chunk.text().startsWith("## 요구사항"))
+                .findFirst().orElseThrow();
+        assertThat(requirements.sectionPath()).isEqualTo("설치 > 요구사항");
+        assertThat(requirements.text()).doesNotContain("운영 절차");
+    }
+
+    @Test
+    @DisplayName("작은 섹션은 다음 섹션과 합쳐지고 경로는 공통 상위 섹션")
+    void mergesSmallSections() {
+        String markdown = "# 가이드\n\n## 하나\n\n짧은 내용\n\n## 둘\n\n짧은 내용 2";
+
+        List<MarkdownChunker.Chunk> chunks = MarkdownChunker.split(markdown, BUDGET);
+
+        assertThat(chunks).hasSize(1);
+        assertThat(chunks.get(0).sectionPath()).isEqualTo("가이드");
+    }
+
+    @Test
+    @DisplayName("코드 펜스 안의 # 줄은 제목으로 보지 않고 펜스를 자르지 않음")
+    void keepsCodeFenceTogether() {
+        String markdown = "# 스크립트\n\n```bash\n# 주석이지 제목이 아님\necho hello\n```\n\n본문";
+
+        List<MarkdownChunker.Chunk> chunks = MarkdownChunker.split(markdown, BUDGET);
+
+        assertThat(MarkdownChunker.sectionPaths(chunks)).containsExactly("스크립트");
+        assertThat(chunks.get(0).text()).contains("```bash\n# 주석이지 제목이 아님\necho hello\n```");
+    }
+
+    @Test
+    @DisplayName("예산을 넘는 코드 펜스는 조각마다 여는/닫는 펜스가 붙음")
+    void splitsLongCodeFenceWithFences() {
+        StringBuilder code = new StringBuilder("```java\n");
+        for (int i = 0; i < 60; i++) {
+            code.append("int value").append(i).append(" = compute(").append(i).append(");\n");
+        }
+        code.append("```");
+
+        List<MarkdownChunker.Chunk> chunks = MarkdownChunker.split(code.toString(), BUDGET);
+
+        assertThat(chunks.size()).isGreaterThan(1);
+        for (MarkdownChunker.Chunk chunk : chunks) {
+            assertThat(chunk.text()).startsWith("```java\n");
+            assertThat(chunk.text()).endsWith("\n```");
+            assertThat(TokenEstimator.estimate(chunk.text())).isLessThanOrEqualTo(BUDGET);
+        }
+        String joined = String.join("\n", MarkdownChunker.texts(chunks));
+        for (int i = 0; i < 60; i++) {
+            assertThat(joined).contains("int value" + i + " = compute(" + i + ");");
+        }
+    }
+
+    @Test
+    @DisplayName("예산을 넘는 표는 조각마다 머리글 행과 구분선이 붙음")
+    void splitsLongTableWithHeader() {
+        StringBuilder table = new StringBuilder("| 이름 | 값 |\n|---|---|\n");
+        for (int i = 0; i < 40; i++) {
+            table.append("| 항목").append(i).append(" | 설정값 ").append(i).append(" |\n");
+        }
+
+        List<MarkdownChunker.Chunk> chunks = MarkdownChunker.split(table.toString(), BUDGET);
+
+        assertThat(chunks.size()).isGreaterThan(1);
+        for (MarkdownChunker.Chunk chunk : chunks) {
+            assertThat(chunk.text()).startsWith("| 이름 | 값 |\n|---|---|\n");
+            assertThat(TokenEstimator.estimate(chunk.text())).isLessThanOrEqualTo(BUDGET);
+        }
+    }
+
+    @Test
+    @DisplayName("표 행과 문단은 서로 다른 블록으로 나뉘어 표가 중간에 끊기지 않음")
+    void keepsSmallTableWhole() {
+        String markdown = "설명 문단\n| a | b |\n|---|---|\n| 1 | 2 |\n\n다음 문단";
+
+        List<MarkdownChunker.Chunk> chunks = MarkdownChunker.split(markdown, BUDGET);
+
+        assertThat(chunks).hasSize(1);
+        assertThat(chunks.get(0).text()).contains("설명 문단\n\n| a | b |\n|---|---|\n| 1 | 2 |");
+    }
+
+    @Test
+    @DisplayName("모든 청크가 토큰 예산 이내")
+    void respectsTokenBudget() {
+        String markdown = "# 긴 문서\n\n" + paragraph("아주 긴 문장이 계속 이어집니다", 200);
+
+        List<MarkdownChunker.Chunk> chunks = MarkdownChunker.split(markdown, BUDGET);
+
+        assertThat(chunks.size()).isGreaterThan(1);
+        assertThat(chunks).allMatch(chunk -> TokenEstimator.estimate(chunk.text()) <= BUDGET);
+    }
+
+    private static String paragraph(String sentence, int repeat) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < repeat; i++) {
+            text.append(sentence).append(' ').append(i).append(". ");
+        }
+        return text.toString().trim();
+    }
+}
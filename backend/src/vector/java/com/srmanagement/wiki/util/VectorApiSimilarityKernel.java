@@ -0,0 +1,114 @@
+package com.srmanagement.wiki.util;
+
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShape;
+import jdk.incubator.vector.VectorSpecies;
+
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
+
+/**
+ * JDK Vector API(SIMD) 유사도 커널
+ * - 인큐베이터 모듈을 사용하므로 기본 빌드에서 제외 ({@code mvn -Pvector-api}로 빌드할 때만 포함)
+ * - 실행 시 {@code --add-modules jdk.incubator.vector} 필요
+ * - 직접 참조하지 말고 {@link SimilarityKernels}를 통해 사용 (모듈이 없으면 스칼라 커널로 대체)
+ * - 버퍼 벡터는 스레드별 작업 배열로 일괄 복사한 뒤 배열 내적 (버퍼 적재 API는 JDK 버전마다 달라 사용하지 않음)
+ */
+public final class VectorApiSimilarityKernel implements SimilarityKernel {
+
+    private static final VectorSpecies<Float> FLOAT_SPECIES = FloatVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Integer> INT_SPECIES = IntVector.SPECIES_PREFERRED;
+
+    /** int 레인 수와 같은 레인 수의 byte 종(species), 64비트 미만이면 null (스칼라 처리) */
+    private static final VectorSpecies<Byte> BYTE_SPECIES = INT_SPECIES.length() * Byte.SIZE >= 64
+            ? VectorSpecies.of(byte.class, VectorShape.forBitSize(INT_SPECIES.length() * Byte.SIZE))
+            : null;
+
+    /** 버퍼 벡터 복사용 작업 배열 (스레드별, 차원 수만큼 확장) */
+    private static final ThreadLocal<float[][]> FLOAT_SCRATCH = ThreadLocal.withInitial(() -> new float[2][0]);
+    private static final ThreadLocal<byte[][]> BYTE_SCRATCH = ThreadLocal.withInitial(() -> new byte[1][0]);
+
+    public VectorApiSimilarityKernel() {
+    }
+
+    @Override
+    public String name() {
+        return "vector-api(" + FLOAT_SPECIES.vectorBitSize() + "bit)";
+    }
+
+    @Override
+    public float dot(float[] a, int aOffset, float[] b, int bOffset, int length) {
+        FloatVector acc = FloatVector.zero(FLOAT_SPECIES);
+        int i = 0;
+        int bound = FLOAT_SPECIES.loopBound(length);
+        for (; i < bound; i += FLOAT_SPECIES.length()) {
+            FloatVector va = FloatVector.fromArray(FLOAT_SPECIES, a, aOffset + i);
+            FloatVector vb = FloatVector.fromArray(FLOAT_SPECIES, b, bOffset + i);
+            acc = va.fma(vb, acc);
+        }
+        float sum = acc.reduceLanes(VectorOperators.ADD);
+        for (; i < length; i++) {
+            sum += a[aOffset + i] * b[bOffset + i];
+        }
+        return sum;
+    }
+
+    @Override
+    public float dot(float[] a, int aOffset, FloatBuffer b, int bIndex, int length) {
+        float[] copy = floatScratch(0, length);
+        b.get(bIndex, copy, 0, length);
+        return dot(a, aOffset, copy, 0, length);
+    }
+
+    @Override
+    public float dot(FloatBuffer a, int aIndex, FloatBuffer b, int bIndex, int length) {
+        float[] copyA = floatScratch(0, length);
+        float[] copyB = floatScratch(1, length);
+        a.get(aIndex, copyA, 0, length);
+        b.get(bIndex, copyB, 0, length);
+        return dot(copyA, 0, copyB, 0, length);
+    }
+
+    @Override
+    public int dot(byte[] a, int aOffset, byte[] b, int bOffset, int length) {
+        if (BYTE_SPECIES == null) {
+            return ScalarSimilarityKernel.INSTANCE.dot(a, aOffset, b, bOffset, length);
+        }
+        IntVector acc = IntVector.zero(INT_SPECIES);
+        int i = 0;
+        int bound = BYTE_SPECIES.loopBound(length);
+        for (; i < bound; i += BYTE_SPECIES.length()) {
+            IntVector va = (IntVector) ByteVector.fromArray(BYTE_SPECIES, a, aOffset + i)
+                    .convertShape(VectorOperators.B2I, INT_SPECIES, 0);
+            IntVector vb = (IntVector) ByteVector.fromArray(BYTE_SPECIES, b, bOffset + i)
+                    .convertShape(VectorOperators.B2I, INT_SPECIES, 0);
+            acc = acc.add(va.mul(vb));
+        }
+        int sum = acc.reduceLanes(VectorOperators.ADD);
+        for (; i < length; i++) {
+            sum += a[aOffset + i] * b[bOffset + i];
+        }
+        return sum;
+    }
+
+    @Override
+    public int dot(byte[] a, int aOffset, ByteBuffer b, int bIndex, int length) {
+        byte[][] scratch = BYTE_SCRATCH.get();
+        if (scratch[0].length < length) {
+            scratch[0] = new byte[length];
+        }
+        b.get(bIndex, scratch[0], 0, length);
+        return dot(a, aOffset, scratch[0], 0, length);
+    }
+
+    private static float[] floatScratch(int slot, int length) {
+        float[][] scratch = FLOAT_SCRATCH.get();
+        if (scratch[slot].length < length) {
+            scratch[slot] = new float[length];
+        }
+        return scratch[slot];
+    }
+}
@@ -93,12 +93,17 @@ const AiSearchBox: React.FC<AiSearchBoxProps> = ({ onDocumentClick, onSrClick, o
         useUnifiedSearch: true,
       };
 
-      const response = await aiSearchService.search(request);
+      // 참고 문서를 먼저 표시하고 답변은 생성되는 대로 이어서 표시
+      const response = await aiSearchService.searchStream(request, {
+        onSources: (sources) => setResult({ answer: '', sources, processingTimeMs: 0 }),
+        onToken: (content) =>
+          setResult(prev => (prev ? { ...prev, answer: prev.answer + content } : prev)),
+      });
       setResult(response);
       refreshHistoryAfterSearch();
     } catch (err: any) {
       console.error('AI 검색 실패:', err);
-      setError(err.response?.data?.message || '검색 중 오류가 발생했습니다');
+      setError(err.response?.data?.message || err.message || '검색 중 오류가 발생했습니다');
     } finally {
       setIsSearching(false);
     }
@@ -304,7 +309,14 @@ const AiSearchBox: React.FC<AiSearchBoxProps> = ({ onDocumentClick, onSrClick, o
               </ReactMarkdown>
             </div>
             <p style={styles.processingTime}>
-              처리 시간: {(result.processingTimeMs / 1000).toFixed(2)}초
+              {isSearching ? (
+                '답변 생성 중...'
+              ) : (
+                <>
+                  처리 시간: {(result.processingTimeMs / 1000).toFixed(2)}초
+                  {result.cached && ' (캐시된 답변)'}
+                </>
+              )}
             </p>
           </div>
 
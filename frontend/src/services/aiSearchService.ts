@@ -1,5 +1,6 @@
 import api from './api';
-import { AiSearchRequest, AiSearchResponse, EmbeddingStatusResponse, EmbeddingProgressEvent, SummaryResponse, EmbeddingStats, AiSearchHistoryResponse, Page, BulkEmbeddingProgressEvent, BulkEmbeddingStartResponse, ResourceType, SrEmbeddingStatusResponse, SurveyEmbeddingStatusResponse } from '../types/aiSearch';
+import { getAccessToken } from '../utils/tokenUtils';
+import { AiSearchRequest, AiSearchResponse, EmbeddingStatusResponse, EmbeddingProgressEvent, SummaryResponse, EmbeddingStats, AiSearchHistoryResponse, Page, BulkEmbeddingProgressEvent, BulkEmbeddingStartResponse, ResourceType, SrEmbeddingStatusResponse, SurveyEmbeddingStatusResponse, AiSearchStreamHandlers, SourceDocument, AiSearchStreamCompleted } from '../types/aiSearch';
 
 /**
  * AI 검색 서비스
@@ -13,6 +14,115 @@ class AiSearchService {
     return response.data;
   }
 
+  /**
+   * AI 기반 자연어 검색 (답변 스트리밍, SSE)
+   * - sources → token (여러 번) → done 순서로 콜백 호출
+   * - POST 요청 + 인증 헤더가 필요하므로 EventSource 대신 fetch 스트림을 직접 파싱
+   * - fetch는 api 인터셉터를 거치지 않으므로 401이면 일반 검색(search)으로 대체
+   *   (인터셉터가 토큰 갱신 후 재시도, 갱신 실패 시 로그인 화면으로 이동)
+   *
+   * @returns 전체 답변 (이력 저장과 같은 내용)
+   */
+  async searchStream(
+    request: AiSearchRequest,
+    handlers: AiSearchStreamHandlers = {},
+    signal?: AbortSignal
+  ): Promise<AiSearchResponse> {
+    const token = getAccessToken();
+    const response = await fetch('/api/wiki/search/ai/stream', {
+      method: 'POST',
+      headers: {
+        'Content-Type': 'application/json',
+        Accept: 'text/event-stream',
+        ...(token ? { Authorization: `Bearer ${token}` } : {}),
+      },
+      body: JSON.stringify(request),
+      signal,
+    });
+    if (response.status === 401) {
+      return this.searchWithoutStream(request, handlers);
+    }
+    if (!response.ok || !response.body) {
+      throw new Error(`AI 검색 실패: ${response.status} ${response.statusText}`);
+    }
+
+    const result: AiSearchResponse = { answer: '', sources: [], processingTimeMs: 0 };
+    const reader = response.body.getReader();
+    const decoder = new TextDecoder();
+    let buffer = '';
+
+    const handleEvent = (event: string, data: string) => {
+      switch (event) {
+        case 'sources':
+          result.sources = JSON.parse(data) as SourceDocument[];
+          handlers.onSources?.(result.sources);
+          break;
+        case 'token': {
+          const { content } = JSON.parse(data) as { content: string };
+          result.answer += content;
+          handlers.onToken?.(content);
+          break;
+        }
+        case 'done': {
+          const completed = JSON.parse(data) as AiSearchStreamCompleted;
+          result.processingTimeMs = completed.processingTimeMs;
+          result.retrievalTimeMs = completed.retrievalTimeMs;
+          result.generationTimeMs = completed.generationTimeMs;
+          result.cached = completed.cached;
+          result.context = completed.context;
+          handlers.onDone?.(completed);
+          break;
+        }
+        case 'error':
+          throw new Error((JSON.parse(data) as { message: string }).message);
+      }
+    };
+
+    // SSE 프레임 파싱 (빈 줄로 구분, event:/data: 필드)
+    for (;;) {
+      const { done, value } = await reader.read();
+      if (done) break;
+      buffer += decoder.decode(value, { stream: true });
+
+      let boundary: number;
+      while ((boundary = buffer.search(/\r?\n\r?\n/)) >= 0) {
+        const frame = buffer.slice(0, boundary);
+        buffer = buffer.slice(boundary).replace(/^\r?\n\r?\n/, '');
+
+        let event = 'message';
+        const data: string[] = [];
+        for (const line of frame.split(/\r?\n/)) {
+          if (line.startsWith('event:')) event = line.slice(6).trim();
+          else if (line.startsWith('data:')) data.push(line.slice(5).replace(/^ /, ''));
+        }
+        if (data.length > 0) handleEvent(event, data.join('\n'));
+      }
+    }
+
+    return result;
+  }
+
+  /**
+   * 스트리밍 대신 일반 검색 후 같은 콜백 순서(sources → token → done)로 전달
+   */
+  private async searchWithoutStream(
+    request: AiSearchRequest,
+    handlers: AiSearchStreamHandlers
+  ): Promise<AiSearchResponse> {
+    const result = await this.search(request);
+    handlers.onSources?.(result.sources);
+    if (result.answer) handlers.onToken?.(result.answer);
+    handlers.onDone?.({
+      processingTimeMs: result.processingTimeMs,
+      retrievalTimeMs: result.retrievalTimeMs ?? 0,
+      generationTimeMs: result.generationTimeMs,
+      sourceCount: result.sources.length,
+      cached: result.cached,
+      context: result.context,
+    });
+    return result;
+  }
+
   /**
    * 문서 임베딩 생성 (동기 - 수동 트리거)
    */
@@ -201,7 +311,7 @@ class AiSearchService {
           if (progress.status === 'COMPLETED') {
             if (intervalId) clearInterval(intervalId);
             onComplete?.(progress);
-          } else if (progress.status === 'FAILED') {
+          } else if (progress.status === 'FAILED' || progress.status === 'PAUSED' || progress.status === 'CANCELLED') {
             if (intervalId) clearInterval(intervalId);
             onError?.(new Error(progress.message || '일괄 임베딩 생성 실패'));
           }
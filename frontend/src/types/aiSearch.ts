@@ -22,6 +22,51 @@ export interface AiSearchResponse {
   answer: string;
   sources: SourceDocument[];
   processingTimeMs: number;
+  cached?: boolean; // 캐시된 답변 여부
+  retrievalTimeMs?: number; // 참고 문서 검색 시간
+  generationTimeMs?: number; // LLM 답변 생성 시간
+  context?: ContextStats; // 프롬프트 컨텍스트 패킹 통계
+}
+
+/**
+ * 프롬프트 컨텍스트 패킹 통계 (토큰 수는 추정치)
+ */
+export interface ContextStats {
+  packingEnabled: boolean;
+  candidateChunks: number;
+  duplicateChunks?: number;
+  mergedChunks?: number;
+  blocks: number;
+  overBudgetBlocks?: number;
+  truncatedBlocks?: number;
+  tokenBudget?: number;
+  originalPromptTokens: number;
+  packedPromptTokens: number;
+  reductionPercent: number;
+  llmPromptTokens?: number;
+}
+
+/**
+ * AI 검색 스트리밍 완료 이벤트 (SSE done)
+ */
+export interface AiSearchStreamCompleted {
+  processingTimeMs: number;
+  retrievalTimeMs: number;
+  firstTokenMs?: number;
+  generationTimeMs?: number;
+  sourceCount: number;
+  cached?: boolean;
+  historyId?: number;
+  context?: ContextStats;
+}
+
+/**
+ * AI 검색 스트리밍 콜백
+ */
+export interface AiSearchStreamHandlers {
+  onSources?: (sources: SourceDocument[]) => void;
+  onToken?: (content: string) => void;
+  onDone?: (completed: AiSearchStreamCompleted) => void;
 }
 
 /**
@@ -121,8 +166,9 @@ export interface Page<T> {
  * 일괄 임베딩 진행률 이벤트
  */
 export interface BulkEmbeddingProgressEvent {
+  jobId?: number;
   resourceType: ResourceType;
-  status: 'STARTED' | 'IN_PROGRESS' | 'COMPLETED' | 'FAILED';
+  status: 'STARTED' | 'IN_PROGRESS' | 'PAUSED' | 'CANCELLED' | 'COMPLETED' | 'FAILED';
   currentIndex: number;
   totalCount: number;
   successCount: number;
@@ -139,8 +185,9 @@ export interface BulkEmbeddingProgressEvent {
  */
 export interface BulkEmbeddingStartResponse {
   message: string;
+  jobId?: number;
   totalCount?: number;
-  status: 'STARTED' | 'IN_PROGRESS';
+  status: 'STARTED' | 'IN_PROGRESS' | 'PAUSED';
 }
 
 /**